@@ -21,8 +21,10 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterators;
 import java.util.UUID;
@@ -32,13 +34,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.folio.bulkops.batch.jobs.processidentifiers.DuplicationCheckerFactory;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStoreFactory;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.BulkOperationsEntity;
 import org.folio.bulkops.domain.dto.OperationStatusType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.exception.ServerErrorException;
 import org.folio.bulkops.repository.BulkOperationRepository;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.bulkops.service.ErrorService;
+import org.folio.bulkops.service.JsonRecordIndexService;
+import org.folio.bulkops.service.MarcRecordIndexService;
 import org.folio.bulkops.util.Utils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.job.JobExecution;
@@ -55,6 +62,11 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
   private final BulkOperationRepository bulkOperationRepository;
   private final ErrorService errorService;
   private final ObjectMapper objectMapper;
+  private final JsonRecordIndexService jsonRecordIndexService;
+  private final MarcRecordIndexService marcRecordIndexService;
+  private final DuplicationCheckerFactory duplicationCheckerFactory;
+  private final MarcRecordStoreFactory marcRecordStoreFactory;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
   @Override
   public void beforeJob(@NotNull JobExecution jobExecution) {
@@ -63,7 +75,12 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
 
   @Override
   public void afterJob(@NotNull JobExecution jobExecution) {
-    processJobUpdate(jobExecution, true);
+    try {
+      processJobUpdate(jobExecution, true);
+    } finally {
+      duplicationCheckerFactory.release(jobExecution);
+      marcRecordStoreFactory.release(jobExecution);
+    }
   }
 
   @SneakyThrows
@@ -116,9 +133,31 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
               }
 
               bulkOperationRepository.save(bulkOperation);
+              if (after) {
+                recordMatching(jobExecution, bulkOperation);
+              }
             });
   }
 
+  private void recordMatching(JobExecution jobExecution, BulkOperation bulkOperation) {
+    if (nonNull(jobExecution.getStartTime())) {
+      var endTime =
+          Objects.requireNonNullElseGet(jobExecution.getEndTime(), LocalDateTime::now);
+      var succeeded = COMPLETED.equals(jobExecution.getStatus());
+      bulkOperationMetrics.record(
+          BulkOperationMetrics.MATCH,
+          bulkOperation.getEntityType(),
+          Duration.between(jobExecution.getStartTime(), endTime),
+          succeeded);
+      if (succeeded) {
+        bulkOperationMetrics.countRecords(
+            BulkOperationMetrics.MATCH,
+            bulkOperation.getEntityType(),
+            bulkOperation.getMatchedNumOfRecords());
+      }
+    }
+  }
+
   private void populateUsedTenants(BulkOperation bulkOperation) {
     if (bulkOperation.getEntityType() == org.folio.bulkops.domain.dto.EntityType.ITEM
         || bulkOperation.getEntityType()
@@ -190,6 +229,10 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
           bulkOperation.setLinkToMatchedRecordsCsvFile(csvFileName);
 
           var jsonFileName = storageFileBase + ".json";
+          var tmpJsonPath = Path.of(tmpFileName + ".json");
+          if (Files.exists(tmpJsonPath)) {
+            jsonRecordIndexService.indexLocalFile(tmpJsonPath, jsonFileName);
+          }
           moveFileToStorage(jsonFileName, tmpFileName + ".json");
           bulkOperation.setLinkToMatchedRecordsJsonFile(jsonFileName);
         }
@@ -201,6 +244,7 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
       var marcFileName = marcFileBase + ".mrc";
 
       if (Files.exists(Path.of(tmpMarcName))) {
+        marcRecordIndexService.indexLocalFile(Path.of(tmpMarcName), marcFileName);
         moveFileToStorage(marcFileName, tmpMarcName);
         bulkOperation.setLinkToMatchedRecordsMarcFile(marcFileName);
       }
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStore;
 import org.folio.bulkops.client.SrsClient;
 import org.folio.bulkops.domain.bean.BulkOperationsEntity;
 import org.folio.bulkops.domain.bean.ExtendedInstance;
@@ -30,12 +31,26 @@ public class MarcAsListStringsWriter<T extends BulkOperationsEntity>
   private final SrsClient srsClient;
   private final MarcAsStringWriter<String> delegateToStringWriter;
   private final JsonToMarcConverter jsonToMarcConverter;
+  private final MarcRecordStore marcRecords;
 
   public MarcAsListStringsWriter(
       String outputFileName, SrsClient srsClient, JsonToMarcConverter jsonToMarcConverter) {
+    this(outputFileName, srsClient, jsonToMarcConverter, null);
+  }
+
+  /**
+   * @param marcRecords records stored by the processor, taken instead of fetching them from SRS
+   *     again; records missing there are fetched
+   */
+  public MarcAsListStringsWriter(
+      String outputFileName,
+      SrsClient srsClient,
+      JsonToMarcConverter jsonToMarcConverter,
+      MarcRecordStore marcRecords) {
     super(new PassThroughLineAggregator<>());
     this.srsClient = srsClient;
     this.jsonToMarcConverter = jsonToMarcConverter;
+    this.marcRecords = marcRecords;
     delegateToStringWriter = new MarcAsStringWriter<>(outputFileName);
   }
 
@@ -97,6 +112,10 @@ public class MarcAsListStringsWriter<T extends BulkOperationsEntity>
   }
 
   private List<String> getMarcContent(String id) throws Exception {
+    var stored = nonNull(marcRecords) ? marcRecords.take(id) : Optional.<String>empty();
+    if (stored.isPresent()) {
+      return List.of(stored.get());
+    }
     List<String> mrcRecords = new ArrayList<>();
     var srsRecords = srsClient.getMarc(id, "INSTANCE", true).get("sourceRecords");
     if (srsRecords.isEmpty()) {
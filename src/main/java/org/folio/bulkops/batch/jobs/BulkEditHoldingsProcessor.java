@@ -17,6 +17,7 @@ import static org.folio.bulkops.util.SearchIdentifierTypeResolver.getSearchIdent
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,11 +30,13 @@ import org.folio.bulkops.client.SearchClient;
 import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.domain.bean.ExtendedHoldingsRecord;
 import org.folio.bulkops.domain.bean.ExtendedHoldingsRecordCollection;
+import org.folio.bulkops.domain.bean.HoldingsRecord;
 import org.folio.bulkops.domain.bean.HoldingsRecordCollection;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.dto.BatchIdsDto;
 import org.folio.bulkops.domain.dto.BatchIdsDto.IdentifierTypeEnum;
 import org.folio.bulkops.domain.dto.ConsortiumHolding;
+import org.folio.bulkops.domain.dto.ConsortiumHoldingCollection;
 import org.folio.bulkops.domain.dto.ErrorType;
 import org.folio.bulkops.domain.dto.IdentifierType;
 import org.folio.bulkops.exception.BulkEditException;
@@ -49,6 +52,7 @@ import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -58,7 +62,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Log4j2
 public class BulkEditHoldingsProcessor
-    implements ItemProcessor<ItemIdentifier, List<ExtendedHoldingsRecord>>, EntityExtractor {
+    implements ItemProcessor<ItemIdentifier, List<ExtendedHoldingsRecord>>,
+        ItemReadListener<ItemIdentifier>,
+        EntityExtractor {
   private final HoldingsStorageClient holdingsStorageClient;
   private final HoldingsReferenceService holdingsReferenceService;
   private final SearchClient searchClient;
@@ -79,6 +85,22 @@ public class BulkEditHoldingsProcessor
   @Value("#{jobParameters['identifierType']}")
   private String identifierType;
 
+  @Value("${application.batch.identifiers-batch-size}")
+  private int identifiersBatchSize;
+
+  private IdentifierBatch<HoldingsRecord> holdingsBatch;
+  private IdentifierBatch<ConsortiumHolding> consortiumHoldingsBatch;
+
+  @Override
+  public void afterRead(@NotNull ItemIdentifier itemIdentifier) {
+    if (isCurrentTenantCentral(
+        consortiaService.getCentralTenantId(folioExecutionContext.getTenantId()))) {
+      consortiumHoldingsBatch().add(itemIdentifier.getItemId());
+    } else {
+      holdingsBatch().add(itemIdentifier.getItemId());
+    }
+  }
+
   @SuppressWarnings("unused")
   @Value("#{jobParameters['jobId']}")
   private String jobId;
@@ -131,10 +153,19 @@ public class BulkEditHoldingsProcessor
       // Process central tenant
       var identifierTypeEnum = getSearchIdentifierType(type);
       var consortiumHoldingsCollection =
-          searchClient.getConsortiumHoldingCollection(
-              new BatchIdsDto()
-                  .identifierType(getSearchIdentifierType(type))
-                  .identifierValues(List.of(identifier)));
+          consortiumHoldingsBatch()
+              .lookup(identifier, this::isSingleTenant)
+              .map(
+                  holdings ->
+                      new ConsortiumHoldingCollection()
+                          .holdings(holdings)
+                          .totalRecords(holdings.size()))
+              .orElseGet(
+                  () ->
+                      searchClient.getConsortiumHoldingCollection(
+                          new BatchIdsDto()
+                              .identifierType(getSearchIdentifierType(type))
+                              .identifierValues(List.of(identifier))));
 
       if (consortiumHoldingsCollection != null
           && consortiumHoldingsCollection.getTotalRecords() > 0) {
@@ -202,7 +233,15 @@ public class BulkEditHoldingsProcessor
     } else {
       // Process local tenant case
       checkReadPermissions(folioExecutionContext.getTenantId(), identifier);
-      var holdingsRecordCollection = getHoldingsRecordCollection(type, itemIdentifier);
+      var holdingsRecordCollection =
+          holdingsBatch()
+              .lookup(identifier, holdings -> holdings.size() == 1)
+              .map(
+                  holdings ->
+                      new HoldingsRecordCollection()
+                          .withHoldingsRecords(holdings)
+                          .withTotalRecords(holdings.size()))
+              .orElseGet(() -> getHoldingsRecordCollection(type, itemIdentifier));
 
       var extendedHoldings =
           holdingsRecordCollection.getHoldingsRecords().stream()
@@ -246,6 +285,48 @@ public class BulkEditHoldingsProcessor
     }
   }
 
+  private IdentifierBatch<HoldingsRecord> holdingsBatch() {
+    if (holdingsBatch == null) {
+      var type = IdentifierType.fromValue(identifierType);
+      holdingsBatch =
+          new IdentifierBatch<>(
+              Set.of(ID, HRID).contains(type) ? identifiersBatchSize : 0,
+              ids ->
+                  holdingsStorageClient
+                      .getByQuery(
+                          IdentifierBatch.exactMatchAny(resolveIdentifier(identifierType), ids),
+                          Integer.MAX_VALUE)
+                      .getHoldingsRecords(),
+              holdingsRecord ->
+                  Collections.singletonList(
+                      HRID == type ? holdingsRecord.getHrid() : holdingsRecord.getId()));
+    }
+    return holdingsBatch;
+  }
+
+  private IdentifierBatch<ConsortiumHolding> consortiumHoldingsBatch() {
+    if (consortiumHoldingsBatch == null) {
+      var type = IdentifierType.fromValue(identifierType);
+      consortiumHoldingsBatch =
+          new IdentifierBatch<>(
+              Set.of(ID, HRID).contains(type) ? identifiersBatchSize : 0,
+              ids ->
+                  searchClient
+                      .getConsortiumHoldingCollection(
+                          new BatchIdsDto()
+                              .identifierType(getSearchIdentifierType(type))
+                              .identifierValues(ids))
+                      .getHoldings(),
+              holding ->
+                  Collections.singletonList(HRID == type ? holding.getHrid() : holding.getId()));
+    }
+    return consortiumHoldingsBatch;
+  }
+
+  private boolean isSingleTenant(List<ConsortiumHolding> holdings) {
+    return holdings.stream().map(ConsortiumHolding::getTenantId).distinct().count() == 1;
+  }
+
   private boolean isCurrentTenantCentral(String centralTenantId) {
     return StringUtils.isNotEmpty(centralTenantId)
         && centralTenantId.equals(folioExecutionContext.getTenantId());
@@ -1,6 +1,7 @@
 package org.folio.bulkops.batch.jobs;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
 import static org.folio.bulkops.domain.bean.JobParameterNames.AT_LEAST_ONE_MARC_EXISTS;
 import static org.folio.bulkops.util.BulkEditProcessorHelper.getMatchPattern;
 import static org.folio.bulkops.util.BulkEditProcessorHelper.resolveIdentifier;
@@ -15,14 +16,19 @@ import static org.folio.bulkops.util.Constants.NO_INSTANCE_VIEW_PERMISSIONS;
 import static org.folio.bulkops.util.Constants.NO_MATCH_FOUND_MESSAGE;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.bulkops.batch.jobs.processidentifiers.DuplicationCheckerFactory;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStoreFactory;
 import org.folio.bulkops.client.InstanceClient;
 import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.domain.bean.ExtendedInstance;
 import org.folio.bulkops.domain.bean.Instance;
+import org.folio.bulkops.domain.bean.InstanceCollection;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.domain.dto.ErrorType;
@@ -33,10 +39,12 @@ import org.folio.bulkops.processor.EntityExtractor;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.SrsService;
+import org.folio.bulkops.service.SrsService.MarcJson;
 import org.folio.spring.FolioExecutionContext;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -47,7 +55,9 @@ import org.springframework.stereotype.Component;
 @Log4j2
 @SuppressWarnings("unused")
 public class BulkEditInstanceProcessor
-    implements ItemProcessor<ItemIdentifier, List<ExtendedInstance>>, EntityExtractor {
+    implements ItemProcessor<ItemIdentifier, List<ExtendedInstance>>,
+        ItemReadListener<ItemIdentifier>,
+        EntityExtractor {
   private final InstanceClient instanceClient;
   private final FolioExecutionContext folioExecutionContext;
   private final PermissionsValidator permissionsValidator;
@@ -55,6 +65,7 @@ public class BulkEditInstanceProcessor
   private final DuplicationCheckerFactory duplicationCheckerFactory;
   private final SrsService srsService;
   private final ConsortiaService consortiaService;
+  private final MarcRecordStoreFactory marcRecordStoreFactory;
 
   @SuppressWarnings("unused")
   @Value("#{jobParameters['identifierType']}")
@@ -72,10 +83,30 @@ public class BulkEditInstanceProcessor
   @Value("#{stepExecution.jobExecution}")
   private JobExecution jobExecution = null;
 
+  @Value("${application.batch.identifiers-batch-size}")
+  private int identifiersBatchSize;
+
+  private IdentifierBatch<Instance> instanceBatch;
+
+  /** MARC records of instances resolved in groups for the current chunk, fetched with them. */
+  private final Map<String, MarcJson> prefetchedMarc = new HashMap<>();
+
+  private boolean processing;
+
+  @Override
+  public void afterRead(@NotNull ItemIdentifier itemIdentifier) {
+    if (processing) {
+      prefetchedMarc.clear();
+      processing = false;
+    }
+    instanceBatch().add(itemIdentifier.getItemId());
+  }
+
   @Override
   public List<ExtendedInstance> process(@NotNull ItemIdentifier itemIdentifier)
       throws BulkEditException {
     log.debug("Instance processor current thread: {}", Thread.currentThread().getName());
+    processing = true;
     try {
       boolean hasPermission =
           permissionsValidator.isBulkEditReadPermissionExists(
@@ -137,7 +168,11 @@ public class BulkEditInstanceProcessor
                 getMatchPattern(identifierType),
                 resolveIdentifier(identifierType),
                 itemIdentifier.getItemId());
-        var instances = instanceClient.getInstanceByQuery(query, 1);
+        var instances =
+            instanceBatch()
+                .lookup(itemIdentifier.getItemId(), found -> found.size() == 1)
+                .map(found -> new InstanceCollection().withInstances(found).withTotalRecords(1))
+                .orElseGet(() -> instanceClient.getInstanceByQuery(query, 1));
 
         if (instances.getTotalRecords() > 1) {
           log.error(MULTIPLE_MATCHES_MESSAGE);
@@ -155,19 +190,59 @@ public class BulkEditInstanceProcessor
     };
   }
 
+  private IdentifierBatch<Instance> instanceBatch() {
+    if (instanceBatch == null) {
+      var type = IdentifierType.fromValue(identifierType);
+      instanceBatch =
+          new IdentifierBatch<>(
+              IdentifierType.ID == type || IdentifierType.HRID == type ? identifiersBatchSize : 0,
+              ids -> {
+                var instances =
+                    instanceClient
+                        .getInstanceByQuery(
+                            IdentifierBatch.exactMatchAny(resolveIdentifier(identifierType), ids),
+                            Integer.MAX_VALUE)
+                        .getInstances();
+                prefetchMarc(instances);
+                return instances;
+              },
+              instance ->
+                  Collections.singletonList(
+                      IdentifierType.HRID == type ? instance.getHrid() : instance.getId()));
+    }
+    return instanceBatch;
+  }
+
   private void checkSrsInstance(Instance instance) throws BulkEditException, IOException {
     if (MARC.equals(instance.getSource())) {
       if (!jobExecution.getExecutionContext().containsKey(AT_LEAST_ONE_MARC_EXISTS)) {
         jobExecution.getExecutionContext().put(AT_LEAST_ONE_MARC_EXISTS, true);
       }
       try {
-        srsService.getMarcJsonString(instance.getId());
+        var marcJson = prefetchedMarc.remove(instance.getId());
+        var marcRecord =
+            isNull(marcJson) ? srsService.getMarcJsonString(instance.getId()) : marcJson.get();
+        marcRecordStoreFactory.getMarcRecords(jobExecution).put(instance.getId(), marcRecord);
       } catch (MarcValidationException mve) {
         throw new BulkEditException(mve.getMessage());
       }
     }
   }
 
+  /**
+   * Fetches MARC records of the MARC instances of a group with one request, so that they are
+   * validated without a request per instance. Records failed to be fetched at once are fetched one
+   * by one.
+   */
+  private void prefetchMarc(List<Instance> instances) {
+    var marcInstanceIds =
+        instances.stream()
+            .filter(instance -> MARC.equals(instance.getSource()))
+            .map(Instance::getId)
+            .toList();
+    prefetchedMarc.putAll(srsService.getMarcJsonStrings(marcInstanceIds));
+  }
+
   private void checkIfInstanceIsSharedAndCurrentTenantIsMemberAndThrowExceptionIfYes(
       Instance instance) {
     if (consortiaService.isTenantMember(folioExecutionContext.getTenantId())
@@ -14,7 +14,10 @@ import static org.folio.bulkops.util.Utils.encode;
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -26,9 +29,11 @@ import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.bean.ExtendedItemCollection;
 import org.folio.bulkops.domain.bean.ItemCollection;
+import org.folio.bulkops.domain.bean.Item;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.dto.BatchIdsDto;
 import org.folio.bulkops.domain.dto.ConsortiumItem;
+import org.folio.bulkops.domain.dto.ConsortiumItemCollection;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.domain.dto.ErrorType;
 import org.folio.bulkops.domain.dto.IdentifierType;
@@ -47,6 +52,7 @@ import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -59,7 +65,16 @@ import org.springframework.web.client.ResourceAccessException;
 @Log4j2
 @SuppressWarnings("unused")
 public class BulkEditItemProcessor
-    implements ItemProcessor<ItemIdentifier, ExtendedItemCollection>, EntityExtractor {
+    implements ItemProcessor<ItemIdentifier, ExtendedItemCollection>,
+        ItemReadListener<ItemIdentifier>,
+        EntityExtractor {
+  private static final Set<IdentifierType> BATCHED_IDENTIFIER_TYPES =
+      EnumSet.of(
+          IdentifierType.ID,
+          IdentifierType.BARCODE,
+          IdentifierType.HRID,
+          IdentifierType.HOLDINGS_RECORD_ID);
+
   private final ItemClient itemClient;
   private final ConsortiaService consortiaService;
   private final SearchClient searchClient;
@@ -79,6 +94,22 @@ public class BulkEditItemProcessor
   @Value("#{jobParameters['identifierType']}")
   private String identifierType;
 
+  @Value("${application.batch.identifiers-batch-size}")
+  private int identifiersBatchSize;
+
+  private IdentifierBatch<Item> itemBatch;
+  private IdentifierBatch<ConsortiumItem> consortiumItemBatch;
+
+  @Override
+  public void afterRead(@NotNull ItemIdentifier itemIdentifier) {
+    if (isCurrentTenantCentral(
+        consortiaService.getCentralTenantId(folioExecutionContext.getTenantId()))) {
+      consortiumItemBatch().add(itemIdentifier.getItemId());
+    } else {
+      itemBatch().add(itemIdentifier.getItemId());
+    }
+  }
+
   @Override
   public ExtendedItemCollection process(@NotNull ItemIdentifier itemIdentifier)
       throws BulkEditException {
@@ -106,7 +137,15 @@ public class BulkEditItemProcessor
                 .identifierType(identifierTypeEnum)
                 .identifierValues(List.of(itemIdentifier.getItemId()));
 
-        var consortiumItemCollection = searchClient.getConsortiumItemCollection(batchIdsDto);
+        var consortiumItemCollection =
+            consortiumItemBatch()
+                .lookup(
+                    itemIdentifier.getItemId(),
+                    items -> HOLDINGS_RECORD_ID == identifierTypeEnum || isSingleTenant(items))
+                .map(
+                    items ->
+                        new ConsortiumItemCollection().items(items).totalRecords(items.size()))
+                .orElseGet(() -> searchClient.getConsortiumItemCollection(batchIdsDto));
 
         if (consortiumItemCollection != null) {
           Integer totalRecords = consortiumItemCollection.getTotalRecords();
@@ -144,7 +183,11 @@ public class BulkEditItemProcessor
 
         var query = getMatchPattern(identifierType).formatted(idType, identifier);
         var currentTenantId = folioExecutionContext.getTenantId();
-        var itemCollection = itemClient.getByQuery(query, Integer.MAX_VALUE);
+        var itemCollection =
+            itemBatch()
+                .lookup(itemIdentifier.getItemId(), items -> items.size() <= limit)
+                .map(items -> new ItemCollection().withItems(items).withTotalRecords(items.size()))
+                .orElseGet(() -> itemClient.getByQuery(query, Integer.MAX_VALUE));
 
         if (itemCollection.getItems().size() > limit) {
           log.error(
@@ -251,6 +294,59 @@ public class BulkEditItemProcessor
     }
   }
 
+  private IdentifierBatch<Item> itemBatch() {
+    if (itemBatch == null) {
+      var idType = resolveIdentifier(identifierType);
+      itemBatch =
+          new IdentifierBatch<>(
+              BATCHED_IDENTIFIER_TYPES.contains(IdentifierType.fromValue(identifierType))
+                  ? identifiersBatchSize
+                  : 0,
+              ids ->
+                  itemClient
+                      .getByQuery(IdentifierBatch.exactMatchAny(idType, ids), Integer.MAX_VALUE)
+                      .getItems(),
+              item ->
+                  Collections.singletonList(
+                      switch (IdentifierType.fromValue(identifierType)) {
+                        case BARCODE -> item.getBarcode();
+                        case HRID -> item.getHrid();
+                        case HOLDINGS_RECORD_ID -> item.getHoldingsRecordId();
+                        default -> item.getId();
+                      }));
+    }
+    return itemBatch;
+  }
+
+  private IdentifierBatch<ConsortiumItem> consortiumItemBatch() {
+    if (consortiumItemBatch == null) {
+      var type = IdentifierType.fromValue(identifierType);
+      consortiumItemBatch =
+          new IdentifierBatch<>(
+              BATCHED_IDENTIFIER_TYPES.contains(type) ? identifiersBatchSize : 0,
+              ids ->
+                  searchClient
+                      .getConsortiumItemCollection(
+                          new BatchIdsDto()
+                              .identifierType(getSearchIdentifierType(type))
+                              .identifierValues(ids))
+                      .getItems(),
+              item ->
+                  Collections.singletonList(
+                      switch (type) {
+                        case BARCODE -> item.getBarcode();
+                        case HRID -> item.getHrid();
+                        case HOLDINGS_RECORD_ID -> item.getHoldingsRecordId();
+                        default -> item.getId();
+                      }));
+    }
+    return consortiumItemBatch;
+  }
+
+  private boolean isSingleTenant(List<ConsortiumItem> items) {
+    return items.stream().map(ConsortiumItem::getTenantId).distinct().count() == 1;
+  }
+
   private boolean isCurrentTenantCentral(String centralTenantId) {
     return StringUtils.isNotEmpty(centralTenantId)
         && centralTenantId.equals(folioExecutionContext.getTenantId());
@@ -18,6 +18,7 @@ import static org.folio.bulkops.util.FqmContentFetcher.SHADOW;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -25,6 +26,7 @@ import org.folio.bulkops.batch.jobs.processidentifiers.DuplicationCheckerFactory
 import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.bean.User;
+import org.folio.bulkops.domain.bean.UserCollection;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.domain.dto.ErrorType;
 import org.folio.bulkops.exception.BulkEditException;
@@ -36,6 +38,7 @@ import org.folio.spring.FolioExecutionContext;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -46,11 +49,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Log4j2
 @SuppressWarnings("unused")
-public class BulkEditUserProcessor implements ItemProcessor<ItemIdentifier, User>, EntityExtractor {
+public class BulkEditUserProcessor
+    implements ItemProcessor<ItemIdentifier, User>,
+        ItemReadListener<ItemIdentifier>,
+        EntityExtractor {
   private static final String USER_SEARCH_QUERY =
       "(cql.allRecords=1 NOT type=\"\" or type<>\"shadow\") and %s==\"%s\"";
   private static final String USER_SEARCH_QUERY_CENTRAL_TENANT =
       "(cql.allRecords=1) and %s==\"%s\"";
+  private static final String USER_BATCH_SEARCH_QUERY =
+      "(cql.allRecords=1 NOT type=\"\" or type<>\"shadow\") and %s";
+  private static final String USER_BATCH_SEARCH_QUERY_CENTRAL_TENANT = "(cql.allRecords=1) and %s";
 
   private final UserClient userClient;
   private final DuplicationCheckerFactory duplicationCheckerFactory;
@@ -61,6 +70,11 @@ public class BulkEditUserProcessor implements ItemProcessor<ItemIdentifier, User
   @Value("#{stepExecution.jobExecution}")
   private JobExecution jobExecution;
 
+  @Value("${application.batch.identifiers-batch-size}")
+  private int identifiersBatchSize;
+
+  private IdentifierBatch<User> userBatch;
+
   private final FolioExecutionContext folioExecutionContext;
   private final PermissionsValidator permissionsValidator;
   private final ConsortiaService consortiaService;
@@ -94,7 +108,11 @@ public class BulkEditUserProcessor implements ItemProcessor<ItemIdentifier, User
       var query =
           userSearchQuery.formatted(resolveIdentifier(identifierType), itemIdentifier.getItemId());
 
-      var userCollection = userClient.getByQuery(query, limit);
+      var userCollection =
+          userBatch()
+              .lookup(itemIdentifier.getItemId(), users -> users.size() == limit)
+              .map(users -> new UserCollection().withUsers(users).withTotalRecords(limit))
+              .orElseGet(() -> userClient.getByQuery(query, limit));
 
       if (userCollection.getUsers().isEmpty()) {
         throw new BulkEditException(NO_MATCH_FOUND_MESSAGE, ErrorType.ERROR);
@@ -121,6 +139,39 @@ public class BulkEditUserProcessor implements ItemProcessor<ItemIdentifier, User
     }
   }
 
+  @Override
+  public void afterRead(@NotNull ItemIdentifier itemIdentifier) {
+    userBatch().add(itemIdentifier.getItemId());
+  }
+
+  private IdentifierBatch<User> userBatch() {
+    if (userBatch == null) {
+      var field = resolveIdentifier(identifierType);
+      var query =
+          consortiaService.isTenantCentral(folioExecutionContext.getTenantId())
+              ? USER_BATCH_SEARCH_QUERY_CENTRAL_TENANT
+              : USER_BATCH_SEARCH_QUERY;
+      userBatch =
+          new IdentifierBatch<>(
+              identifiersBatchSize,
+              ids ->
+                  userClient
+                      .getByQuery(
+                          query.formatted(IdentifierBatch.exactMatchAny(field, ids)),
+                          Integer.MAX_VALUE)
+                      .getUsers(),
+              user ->
+                  Collections.singletonList(
+                      switch (field) {
+                        case "barcode" -> user.getBarcode();
+                        case "username" -> user.getUsername();
+                        case "externalSystemId" -> user.getExternalSystemId();
+                        default -> user.getId();
+                      }));
+    }
+    return userBatch;
+  }
+
   private void validateBirthDate(Date birthDate) {
     if (nonNull(birthDate)) {
       var year =
@@ -0,0 +1,112 @@
+package org.folio.bulkops.batch.jobs;
+
+import static java.util.Objects.isNull;
+import static org.folio.bulkops.util.Utils.encode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Identifiers read for the current chunk, resolved in groups with one request per group on the
+ * first lookup of any of them. Chunk-oriented steps read all items of a chunk before processing
+ * them, so identifiers added by an item read listener are complete by then.
+ *
+ * <p>Records returned for a group are fanned out to identifiers by their identifier values. Only
+ * matches accepted by the caller are served from a group, other identifiers are expected to be
+ * resolved one by one as before, so that errors like no or multiple matches are reported exactly
+ * as with requests per identifier.
+ */
+@Log4j2
+public class IdentifierBatch<T> {
+  private final int batchSize;
+  private final Function<List<String>, List<T>> fetcher;
+  private final Function<T, Collection<String>> keysExtractor;
+  private final Set<String> pending = new LinkedHashSet<>();
+  private final Map<String, List<T>> resolved = new HashMap<>();
+
+  /**
+   * @param batchSize max number of identifiers resolved with one request, 0 disables batching
+   * @param fetcher fetches records matching any of the identifiers
+   * @param keysExtractor identifier values of a record the identifiers are matched against
+   */
+  public IdentifierBatch(
+      int batchSize,
+      Function<List<String>, List<T>> fetcher,
+      Function<T, Collection<String>> keysExtractor) {
+    this.batchSize = batchSize;
+    this.fetcher = fetcher;
+    this.keysExtractor = keysExtractor;
+  }
+
+  public void add(String identifier) {
+    if (batchSize > 0 && StringUtils.isNotEmpty(identifier)) {
+      pending.add(identifier);
+    }
+  }
+
+  /**
+   * Returns records matching the identifier if they were resolved with its group and are accepted,
+   * otherwise empty.
+   */
+  public Optional<List<T>> lookup(String identifier, Predicate<List<T>> accepted) {
+    if (pending.contains(identifier)) {
+      resolvePending();
+    }
+    return Optional.ofNullable(resolved.get(normalize(identifier)))
+        .filter(records -> !records.isEmpty())
+        .filter(accepted);
+  }
+
+  /**
+   * Builds an exact match condition of the field on any of the values, e.g. {@code
+   * barcode==("a" or "b")}.
+   */
+  public static String exactMatchAny(String field, List<String> values) {
+    return values.stream()
+        .map(value -> encode(value))
+        .collect(Collectors.joining(" or ", field + "==(", ")"));
+  }
+
+  private void resolvePending() {
+    resolved.clear();
+    for (var group : ListUtils.partition(new ArrayList<>(pending), batchSize)) {
+      var keys = group.stream().map(IdentifierBatch::normalize).collect(Collectors.toSet());
+      try {
+        for (var rec : fetcher.apply(group)) {
+          keysExtractor.apply(rec).stream()
+              .map(IdentifierBatch::normalize)
+              .filter(keys::contains)
+              .distinct()
+              .forEach(key -> resolved.computeIfAbsent(key, k -> new ArrayList<>()).add(rec));
+        }
+      } catch (Exception e) {
+        log.warn(
+            "Failed to resolve {} identifiers at once, resolving them one by one: {}",
+            group.size(),
+            e.getMessage());
+      }
+    }
+    pending.clear();
+  }
+
+  /**
+   * Normalization is at least as lenient as matching of the storage, so that records the storage
+   * matches to an identifier are never missed; extra matches fail the acceptance of the caller.
+   */
+  private static String normalize(String value) {
+    return isNull(value) ? null : StringUtils.stripAccents(value).toLowerCase(Locale.ROOT);
+  }
+}
@@ -22,6 +22,7 @@ import org.folio.bulkops.batch.jobs.BulkEditHoldingsProcessor;
 import org.folio.bulkops.domain.bean.ExtendedHoldingsRecord;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.exception.BulkEditException;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -70,9 +71,11 @@ public class BulkEditHoldingsIdentifiersJobConfig {
       JobRepository jobRepository,
       @Qualifier("bulkEditHoldingsStep") Step bulkEditHoldingsStep,
       Partitioner bulkEditHoldingsPartitioner,
-      BulkEditFileAssembler bulkEditFileAssembler) {
+      BulkEditFileAssembler bulkEditFileAssembler,
+      BulkOperationMetrics bulkOperationMetrics) {
 
-    var partitionHandler = new PerJobPartitionHandler(bulkEditHoldingsStep, numPartitions);
+    var partitionHandler =
+        new PerJobPartitionHandler(bulkEditHoldingsStep, numPartitions, bulkOperationMetrics);
 
     return new StepBuilder("holdingsPartitionStep", jobRepository)
         .partitioner("bulkEditHoldingsStep", bulkEditHoldingsPartitioner)
@@ -109,6 +112,7 @@ public class BulkEditHoldingsIdentifiersJobConfig {
         .skipListener(bulkEditHoldingsSkipListener)
         .writer(writer)
         .listener(listIdentifiersWriteListener)
+        .listener(bulkEditHoldingsProcessor)
         .build();
   }
 
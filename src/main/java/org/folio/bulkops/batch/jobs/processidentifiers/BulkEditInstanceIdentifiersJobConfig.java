@@ -29,8 +29,10 @@ import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.converter.JsonToMarcConverter;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.exception.BulkEditException;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.partition.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
@@ -53,6 +55,7 @@ public class BulkEditInstanceIdentifiersJobConfig {
   private final BulkEditInstanceSkipListener bulkEditInstanceSkipListener;
   private final SrsClient srsClient;
   private final JsonToMarcConverter jsonToMarcConverter;
+  private final MarcRecordStoreFactory marcRecordStoreFactory;
 
   @Value("${application.batch.chunk-size}")
   private int chunkSize;
@@ -80,9 +83,11 @@ public class BulkEditInstanceIdentifiersJobConfig {
       JobRepository jobRepository,
       @Qualifier("bulkEditInstanceStep") Step bulkEditInstanceStep,
       Partitioner bulkEditInstancePartitioner,
-      BulkEditFileAssembler bulkEditFileAssembler) {
+      BulkEditFileAssembler bulkEditFileAssembler,
+      BulkOperationMetrics bulkOperationMetrics) {
 
-    var partitionHandler = new PerJobPartitionHandler(bulkEditInstanceStep, numPartitions);
+    var partitionHandler =
+        new PerJobPartitionHandler(bulkEditInstanceStep, numPartitions, bulkOperationMetrics);
 
     return new StepBuilder("instancePartitionStep", jobRepository)
         .partitioner("bulkEditInstanceStep", bulkEditInstancePartitioner)
@@ -121,6 +126,7 @@ public class BulkEditInstanceIdentifiersJobConfig {
         .skipListener(bulkEditInstanceSkipListener)
         .writer(compositeInstanceListWriter)
         .listener(listIdentifiersWriteListener)
+        .listener(bulkEditInstanceProcessor)
         .build();
   }
 
@@ -132,7 +138,8 @@ public class BulkEditInstanceIdentifiersJobConfig {
       @Value("#{stepExecutionContext['" + TEMP_OUTPUT_JSON_PATH + "']}") String jsonPath,
       @Value("#{stepExecutionContext['" + TEMP_OUTPUT_MARC_PATH + "']}") String marcPath,
       @Value("#{jobParameters['" + BULK_OPERATION_ID + "']}") String bulkOperationId,
-      @Value("#{jobParameters['" + IDENTIFIER_TYPE + "']}") String identifierType) {
+      @Value("#{jobParameters['" + IDENTIFIER_TYPE + "']}") String identifierType,
+      @Value("#{stepExecution.jobExecution}") JobExecution jobExecution) {
 
     var csvWriter =
         new CsvListItemWriter<>(csvPath, ExtendedInstance.class, bulkOperationId, identifierType);
@@ -140,7 +147,11 @@ public class BulkEditInstanceIdentifiersJobConfig {
     var jsonWriter = new JsonListFileWriter<ExtendedInstance>(new FileSystemResource(jsonPath));
 
     var marcWriter =
-        new MarcAsListStringsWriter<ExtendedInstance>(marcPath, srsClient, jsonToMarcConverter);
+        new MarcAsListStringsWriter<ExtendedInstance>(
+            marcPath,
+            srsClient,
+            jsonToMarcConverter,
+            marcRecordStoreFactory.getMarcRecords(jobExecution));
 
     List<ItemWriter<? super List<ExtendedInstance>>> delegates = new ArrayList<>();
     delegates.add(csvWriter);
@@ -24,6 +24,7 @@ import org.folio.bulkops.batch.jobs.BulkEditItemProcessor;
 import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.exception.BulkEditException;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -73,9 +74,11 @@ public class BulkEditItemIdentifiersJobConfig {
       JobRepository jobRepository,
       @Qualifier("bulkEditItemStep") Step bulkEditItemStep,
       Partitioner bulkEditItemPartitioner,
-      BulkEditFileAssembler bulkEditFileAssembler) {
+      BulkEditFileAssembler bulkEditFileAssembler,
+      BulkOperationMetrics bulkOperationMetrics) {
 
-    var partitionHandler = new PerJobPartitionHandler(bulkEditItemStep, numPartitions);
+    var partitionHandler =
+        new PerJobPartitionHandler(bulkEditItemStep, numPartitions, bulkOperationMetrics);
 
     return new StepBuilder("itemPartitionStep", jobRepository)
         .partitioner("bulkEditItemStep", bulkEditItemPartitioner)
@@ -112,6 +115,7 @@ public class BulkEditItemIdentifiersJobConfig {
         .skipListener(bulkEditItemSkipListener)
         .writer(compositeItemListWriter)
         .listener(listIdentifiersWriteListener)
+        .listener(bulkEditItemProcessor)
         .build();
   }
 
@@ -22,6 +22,7 @@ import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.folio.bulkops.domain.bean.User;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.exception.BulkEditException;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -69,9 +70,11 @@ public class BulkEditUserIdentifiersJobConfig {
       JobRepository jobRepository,
       @Qualifier("bulkEditUserStep") Step bulkEditUserStep,
       Partitioner bulkEditUserPartitioner,
-      BulkEditFileAssembler bulkEditFileAssembler) {
+      BulkEditFileAssembler bulkEditFileAssembler,
+      BulkOperationMetrics bulkOperationMetrics) {
 
-    var partitionHandler = new PerJobPartitionHandler(bulkEditUserStep, numPartitions);
+    var partitionHandler =
+        new PerJobPartitionHandler(bulkEditUserStep, numPartitions, bulkOperationMetrics);
 
     return new StepBuilder("userPartitionStep", jobRepository)
         .partitioner("bulkEditUserStep", bulkEditUserPartitioner)
@@ -107,6 +110,7 @@ public class BulkEditUserIdentifiersJobConfig {
         .skipListener(bulkEditUserSkipListener)
         .writer(compositeItemWriter)
         .listener(identifiersWriteListener)
+        .listener(bulkEditUserProcessor)
         .build();
   }
 
@@ -1,46 +1,100 @@
 package org.folio.bulkops.batch.jobs.processidentifiers;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Optional;
+import java.nio.file.Path;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.bulkops.domain.bean.ItemIdentifier;
 import org.springframework.batch.core.job.JobExecution;
-import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Keeps identifiers seen by a job in {@link IdentifierSet}s owned by this component rather than in
+ * the job execution context, so that they are neither serialized with the context nor limited by
+ * the heap. Sets of a job are released once the job completes.
+ */
 @Component
+@Log4j2
 public class DuplicationCheckerFactory {
 
-  @SuppressWarnings("unchecked")
+  @Value("${application.batch.dedup.stripes:64}")
+  private int stripes;
+
+  @Value("${application.batch.dedup.max-in-memory-entries:2000000}")
+  private long maxInMemoryEntries;
+
+  @Value("${application.batch.dedup.spill-directory:}")
+  private String spillDirectory;
+
+  private final Map<Long, JobIdentifiers> identifiersByJob = new ConcurrentHashMap<>();
+
   public Set<ItemIdentifier> getIdentifiersToCheckDuplication(JobExecution jobExecution) {
-    final String key = "identifiersToCheckDuplication";
-    ExecutionContext context = jobExecution.getExecutionContext();
-
-    synchronized (context) {
-      if (!context.containsKey(key)) {
-        context.put(key, Collections.synchronizedSet(new HashSet<>()));
-      }
-      return Collections.synchronizedSet(
-          (Set<ItemIdentifier>)
-              Optional.ofNullable(context.get(key))
-                  .orElse(Collections.synchronizedSet(new HashSet<>())));
-    }
+    return new AddOnlySet<>(
+        identifiersOf(jobExecution).identifiersToCheckDuplication, ItemIdentifier::getItemId);
   }
 
-  @SuppressWarnings("unchecked")
   public Set<String> getFetchedIds(JobExecution jobExecution) {
-    final String key = "fetchedIds";
-    ExecutionContext context = jobExecution.getExecutionContext();
-
-    synchronized (context) {
-      if (!context.containsKey(key)) {
-        context.put(key, Collections.synchronizedSet(new HashSet<>()));
-      }
-      return Collections.synchronizedSet(
-          (Set<String>)
-              Optional.ofNullable(context.get(key))
-                  .orElse(Collections.synchronizedSet(new HashSet<>())));
+    return new AddOnlySet<>(identifiersOf(jobExecution).fetchedIds, Function.identity());
+  }
+
+  /** Releases identifiers of the job, including files they were spilled to. */
+  public void release(JobExecution jobExecution) {
+    var identifiers = identifiersByJob.remove(jobExecution.getId());
+    if (identifiers != null) {
+      log.info(
+          "Releasing identifiers of job execution {}: {} checked for duplication, {} fetched",
+          jobExecution.getId(),
+          identifiers.identifiersToCheckDuplication.size(),
+          identifiers.fetchedIds.size());
+      identifiers.identifiersToCheckDuplication.close();
+      identifiers.fetchedIds.close();
+    }
+  }
+
+  private JobIdentifiers identifiersOf(JobExecution jobExecution) {
+    return identifiersByJob.computeIfAbsent(
+        jobExecution.getId(), id -> new JobIdentifiers(newSet(), newSet()));
+  }
+
+  private IdentifierSet newSet() {
+    return new IdentifierSet(
+        Math.max(1, stripes),
+        maxInMemoryEntries,
+        StringUtils.isBlank(spillDirectory) ? null : Path.of(spillDirectory));
+  }
+
+  private record JobIdentifiers(
+      IdentifierSet identifiersToCheckDuplication, IdentifierSet fetchedIds) {}
+
+  /** Set view supporting additions and size only, which is all the processors need. */
+  private static final class AddOnlySet<T> extends AbstractSet<T> {
+    private final IdentifierSet identifiers;
+    private final Function<T, String> keyExtractor;
+
+    private AddOnlySet(IdentifierSet identifiers, Function<T, String> keyExtractor) {
+      this.identifiers = identifiers;
+      this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public boolean add(T element) {
+      return identifiers.add(keyExtractor.apply(element));
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(Integer.MAX_VALUE, identifiers.size());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      throw new UnsupportedOperationException("Identifiers can only be added");
     }
   }
 }
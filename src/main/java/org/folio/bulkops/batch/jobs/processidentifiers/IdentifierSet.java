@@ -0,0 +1,424 @@
+package org.folio.bulkops.batch.jobs.processidentifiers;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Concurrent add-only set of identifiers with a compact representation: UUIDs are kept as their
+ * two longs, other identifiers (barcodes, HRIDs etc.) as 128-bit digests. Entries are spread over
+ * stripes guarded by their own locks. A stripe holding more entries than its share of the memory
+ * threshold writes them to a sorted run file, which is looked up through a bloom filter and a
+ * binary search over the memory-mapped file.
+ */
+@Log4j2
+public class IdentifierSet implements AutoCloseable {
+  private static final int BLOOM_BITS_PER_ENTRY = 10;
+  private static final int BLOOM_HASHES = 7;
+  private static final int MAX_RUNS_PER_STRIPE = 8;
+  private static final int UUID_LENGTH = 36;
+  private static final int MIN_TABLE_SLOTS = 16;
+  private static final ThreadLocal<MessageDigest> DIGEST =
+      ThreadLocal.withInitial(IdentifierSet::newDigest);
+
+  private final Stripe[] stripes;
+  private final int maxEntriesPerStripe;
+  private final Path spillDirectory;
+  private final AtomicLong size = new AtomicLong();
+  private volatile Path runsDirectory;
+  private volatile boolean closed;
+
+  /**
+   * @param stripes number of independently locked stripes
+   * @param maxEntriesInMemory number of entries kept in memory before stripes spill to disk
+   * @param spillDirectory directory to create run files in, system temp directory if null
+   */
+  public IdentifierSet(int stripes, long maxEntriesInMemory, Path spillDirectory) {
+    this.stripes = new Stripe[Math.max(1, stripes)];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new Stripe();
+    }
+    this.maxEntriesPerStripe =
+        (int) Math.clamp(maxEntriesInMemory / this.stripes.length, 1, Integer.MAX_VALUE / 4);
+    this.spillDirectory = spillDirectory;
+  }
+
+  /**
+   * Adds the identifier.
+   *
+   * @return true if the set did not contain the identifier
+   */
+  public boolean add(String identifier) {
+    if (closed) {
+      throw new IllegalStateException("Identifier set is closed");
+    }
+    long high;
+    long low;
+    var uuid = toUuid(identifier);
+    if (uuid != null) {
+      high = uuid.getMostSignificantBits();
+      low = uuid.getLeastSignificantBits();
+    } else {
+      var digest = DIGEST.get().digest(identifier.getBytes(StandardCharsets.UTF_8));
+      var buffer = ByteBuffer.wrap(digest);
+      high = buffer.getLong();
+      low = buffer.getLong();
+    }
+    var stripe = stripes[(int) ((mix(high ^ low) >>> 1) % stripes.length)];
+    try {
+      if (stripe.add(high, low)) {
+        size.incrementAndGet();
+        return true;
+      }
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public long size() {
+    return size.get();
+  }
+
+  /** Number of entries written to run files. */
+  public long spilledSize() {
+    long spilled = 0;
+    for (var stripe : stripes) {
+      synchronized (stripe) {
+        for (var run : stripe.runs) {
+          spilled += run.size;
+        }
+      }
+    }
+    return spilled;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    for (var stripe : stripes) {
+      synchronized (stripe) {
+        stripe.runs.forEach(Run::delete);
+        stripe.runs.clear();
+        stripe.table = new long[0];
+      }
+    }
+    var directory = runsDirectory;
+    if (directory != null) {
+      try {
+        Files.deleteIfExists(directory);
+      } catch (IOException e) {
+        log.warn("Failed to delete directory {}: {}", directory, e.getMessage());
+      }
+    }
+  }
+
+  private static UUID toUuid(String identifier) {
+    if (identifier.length() != UUID_LENGTH || identifier.charAt(8) != '-') {
+      return null;
+    }
+    try {
+      var uuid = UUID.fromString(identifier);
+      // only the canonical lower case representation is stored as UUID, other spellings are
+      // digested, so that they stay distinct as they were for the set of strings
+      return uuid.toString().equals(identifier) ? uuid : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private static int compare(long high1, long low1, long high2, long low2) {
+    var result = Long.compare(high1, high2);
+    return result != 0 ? result : Long.compare(low1, low2);
+  }
+
+  private Path runsDirectory() throws IOException {
+    var directory = runsDirectory;
+    if (directory == null) {
+      synchronized (this) {
+        directory = runsDirectory;
+        if (directory == null) {
+          directory =
+              spillDirectory == null
+                  ? Files.createTempDirectory("identifiers")
+                  : Files.createTempDirectory(
+                      Files.createDirectories(spillDirectory), "identifiers");
+          runsDirectory = directory;
+        }
+      }
+    }
+    return directory;
+  }
+
+  /**
+   * Open-addressing table of (high, low) pairs. The pair (0, 0) marks an empty slot, so the
+   * identifier it stands for is tracked by a flag.
+   */
+  private final class Stripe {
+    private long[] table = new long[2 * MIN_TABLE_SLOTS];
+    private int entries;
+    private boolean containsZero;
+    private final List<Run> runs = new ArrayList<>();
+
+    private synchronized boolean add(long high, long low) throws IOException {
+      if (closed) {
+        throw new IllegalStateException("Identifier set is closed");
+      }
+      if (high == 0 && low == 0) {
+        var added = !containsZero;
+        containsZero = true;
+        return added;
+      }
+      for (var run : runs) {
+        if (run.contains(high, low)) {
+          return false;
+        }
+      }
+      if (!insert(high, low)) {
+        return false;
+      }
+      if (entries >= maxEntriesPerStripe) {
+        spill();
+      }
+      return true;
+    }
+
+    private boolean insert(long high, long low) {
+      if (2 * (entries + 1) > table.length / 2) {
+        resize(table.length);
+      }
+      var mask = table.length / 2 - 1;
+      var slot = (int) mix(low ^ Long.rotateLeft(high, 17)) & mask;
+      while (table[2 * slot] != 0 || table[2 * slot + 1] != 0) {
+        if (table[2 * slot] == high && table[2 * slot + 1] == low) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[2 * slot] = high;
+      table[2 * slot + 1] = low;
+      entries++;
+      return true;
+    }
+
+    private void resize(int slots) {
+      var old = table;
+      table = new long[2 * slots];
+      entries = 0;
+      for (int i = 0; i < old.length; i += 2) {
+        if (old[i] != 0 || old[i + 1] != 0) {
+          insert(old[i], old[i + 1]);
+        }
+      }
+    }
+
+    private void spill() throws IOException {
+      var pairs = new long[2 * entries];
+      var count = 0;
+      for (int i = 0; i < table.length; i += 2) {
+        if (table[i] != 0 || table[i + 1] != 0) {
+          pairs[count++] = table[i];
+          pairs[count++] = table[i + 1];
+        }
+      }
+      sort(pairs, 0, count / 2 - 1);
+      runs.add(Run.write(runsDirectory(), pairs));
+      table = new long[2 * MIN_TABLE_SLOTS];
+      entries = 0;
+      if (runs.size() > MAX_RUNS_PER_STRIPE) {
+        var merged = Run.merge(runsDirectory(), runs);
+        runs.forEach(Run::delete);
+        runs.clear();
+        runs.add(merged);
+      }
+    }
+  }
+
+  private static void sort(long[] pairs, int from, int to) {
+    while (from < to) {
+      var pivot = from + (to - from) / 2;
+      var pivotHigh = pairs[2 * pivot];
+      var pivotLow = pairs[2 * pivot + 1];
+      var i = from;
+      var j = to;
+      while (i <= j) {
+        while (compare(pairs[2 * i], pairs[2 * i + 1], pivotHigh, pivotLow) < 0) {
+          i++;
+        }
+        while (compare(pairs[2 * j], pairs[2 * j + 1], pivotHigh, pivotLow) > 0) {
+          j--;
+        }
+        if (i <= j) {
+          swap(pairs, i++, j--);
+        }
+      }
+      // recurse into the smaller part to keep the stack shallow
+      if (j - from < to - i) {
+        sort(pairs, from, j);
+        from = i;
+      } else {
+        sort(pairs, i, to);
+        to = j;
+      }
+    }
+  }
+
+  private static void swap(long[] pairs, int i, int j) {
+    var high = pairs[2 * i];
+    var low = pairs[2 * i + 1];
+    pairs[2 * i] = pairs[2 * j];
+    pairs[2 * i + 1] = pairs[2 * j + 1];
+    pairs[2 * j] = high;
+    pairs[2 * j + 1] = low;
+  }
+
+  /** Sorted run of (high, low) pairs mapped from a file, with a bloom filter in front of it. */
+  private static final class Run {
+    private final Path file;
+    private final LongBuffer pairs;
+    private final BitSet bloom;
+    private final int bloomSize;
+    private final long size;
+
+    private Run(Path file, LongBuffer pairs, BitSet bloom, int bloomSize) {
+      this.file = file;
+      this.pairs = pairs;
+      this.bloom = bloom;
+      this.bloomSize = bloomSize;
+      this.size = pairs.limit() / 2L;
+    }
+
+    private static Run write(Path directory, long[] sortedPairs) throws IOException {
+      var file = Files.createTempFile(directory, "run", ".bin");
+      var buffer = ByteBuffer.allocate(sortedPairs.length * Long.BYTES);
+      buffer.asLongBuffer().put(sortedPairs);
+      try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      return open(file, sortedPairs.length / 2);
+    }
+
+    private static Run merge(Path directory, List<Run> runs) throws IOException {
+      var total = 0L;
+      for (var run : runs) {
+        total += run.size;
+      }
+      var merged = new long[Math.toIntExact(2 * total)];
+      var positions = new int[runs.size()];
+      for (int count = 0; count < merged.length; count += 2) {
+        var next = -1;
+        for (int r = 0; r < runs.size(); r++) {
+          if (positions[r] < runs.get(r).size
+              && (next < 0
+                  || compare(
+                          runs.get(r).high(positions[r]),
+                          runs.get(r).low(positions[r]),
+                          runs.get(next).high(positions[next]),
+                          runs.get(next).low(positions[next]))
+                      < 0)) {
+            next = r;
+          }
+        }
+        merged[count] = runs.get(next).high(positions[next]);
+        merged[count + 1] = runs.get(next).low(positions[next]);
+        positions[next]++;
+      }
+      return write(directory, merged);
+    }
+
+    private static Run open(Path file, int size) throws IOException {
+      try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        var pairs = channel.map(READ_ONLY, 0, channel.size()).asLongBuffer();
+        var bloomSize = Math.max(Long.SIZE, size * BLOOM_BITS_PER_ENTRY);
+        var run = new Run(file, pairs, new BitSet(bloomSize), bloomSize);
+        for (int i = 0; i < size; i++) {
+          run.addToBloom(run.high(i), run.low(i));
+        }
+        return run;
+      }
+    }
+
+    private long high(int index) {
+      return pairs.get(2 * index);
+    }
+
+    private long low(int index) {
+      return pairs.get(2 * index + 1);
+    }
+
+    private void addToBloom(long high, long low) {
+      for (int i = 0; i < BLOOM_HASHES; i++) {
+        bloom.set(bloomIndex(high, low, i));
+      }
+    }
+
+    private boolean contains(long high, long low) {
+      for (int i = 0; i < BLOOM_HASHES; i++) {
+        if (!bloom.get(bloomIndex(high, low, i))) {
+          return false;
+        }
+      }
+      var from = 0L;
+      var to = size - 1;
+      while (from <= to) {
+        var middle = (from + to) >>> 1;
+        var result = compare(high((int) middle), low((int) middle), high, low);
+        if (result < 0) {
+          from = middle + 1;
+        } else if (result > 0) {
+          to = middle - 1;
+        } else {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int bloomIndex(long high, long low, int i) {
+      return (int) (((mix(high) + i * mix(low)) >>> 1) % bloomSize);
+    }
+
+    private void delete() {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.warn("Failed to delete file {}: {}", file, e.getMessage());
+      }
+    }
+  }
+}
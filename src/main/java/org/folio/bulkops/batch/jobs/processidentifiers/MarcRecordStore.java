@@ -0,0 +1,124 @@
+package org.folio.bulkops.batch.jobs.processidentifiers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * MARC records of instances validated by the processor of a job, kept until the writer of the job
+ * takes them, so that every record is fetched from SRS once. Records above the memory threshold are
+ * appended to a spill file and read back by their offsets; the file is deleted on close.
+ */
+@Log4j2
+public class MarcRecordStore implements AutoCloseable {
+  private final long maxRecordsInMemory;
+  private final Path spillDirectory;
+  private final Map<String, String> inMemory = new HashMap<>();
+  private final Map<String, Location> spilled = new HashMap<>();
+  private Path spillFile;
+  private FileChannel spillChannel;
+  private boolean closed;
+
+  /**
+   * @param maxRecordsInMemory number of records kept in memory before records spill to disk
+   * @param spillDirectory directory to create the spill file in, system temp directory if null
+   */
+  public MarcRecordStore(long maxRecordsInMemory, Path spillDirectory) {
+    this.maxRecordsInMemory = maxRecordsInMemory;
+    this.spillDirectory = spillDirectory;
+  }
+
+  public synchronized void put(String instanceId, String marcRecord) {
+    if (closed || marcRecord == null) {
+      return;
+    }
+    remove(instanceId);
+    if (inMemory.size() < maxRecordsInMemory) {
+      inMemory.put(instanceId, marcRecord);
+      return;
+    }
+    try {
+      var bytes = ByteBuffer.wrap(marcRecord.getBytes(StandardCharsets.UTF_8));
+      var channel = spillChannel();
+      var offset = channel.size();
+      while (bytes.hasRemaining()) {
+        channel.write(bytes, offset + bytes.position());
+      }
+      spilled.put(instanceId, new Location(offset, bytes.capacity()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill MARC record of instance " + instanceId, e);
+    }
+  }
+
+  /** Removes and returns the record of the instance, empty if it was not stored. */
+  public synchronized Optional<String> take(String instanceId) {
+    var marcRecord = inMemory.remove(instanceId);
+    if (marcRecord != null) {
+      return Optional.of(marcRecord);
+    }
+    var location = spilled.remove(instanceId);
+    if (location == null) {
+      return Optional.empty();
+    }
+    try {
+      var bytes = ByteBuffer.allocate(location.length());
+      while (bytes.hasRemaining()) {
+        if (spillChannel.read(bytes, location.offset() + bytes.position()) < 0) {
+          throw new IOException("Unexpected end of spill file " + spillFile);
+        }
+      }
+      return Optional.of(new String(bytes.array(), StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      log.warn("Failed to read spilled MARC record of instance {}", instanceId, e);
+      return Optional.empty();
+    }
+  }
+
+  public synchronized long size() {
+    return (long) inMemory.size() + spilled.size();
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    inMemory.clear();
+    spilled.clear();
+    if (spillChannel != null) {
+      try {
+        spillChannel.close();
+        Files.deleteIfExists(spillFile);
+      } catch (IOException e) {
+        log.warn("Failed to delete MARC spill file {}", spillFile, e);
+      }
+    }
+  }
+
+  private void remove(String instanceId) {
+    inMemory.remove(instanceId);
+    spilled.remove(instanceId);
+  }
+
+  private FileChannel spillChannel() throws IOException {
+    if (spillChannel == null) {
+      spillFile =
+          spillDirectory == null
+              ? Files.createTempFile("marc-records-", ".mrc")
+              : Files.createTempFile(spillDirectory, "marc-records-", ".mrc");
+      spillChannel =
+          FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      log.info("Spilling MARC records to {}", spillFile);
+    }
+    return spillChannel;
+  }
+
+  private record Location(long offset, int length) {}
+}
@@ -0,0 +1,48 @@
+package org.folio.bulkops.batch.jobs.processidentifiers;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a {@link MarcRecordStore} per job shared by all partitions of the job. Stores are released
+ * once the job completes.
+ */
+@Component
+@Log4j2
+public class MarcRecordStoreFactory {
+
+  @Value("${application.batch.marc-store.max-in-memory-records:5000}")
+  private long maxInMemoryRecords;
+
+  @Value("${application.batch.marc-store.spill-directory:}")
+  private String spillDirectory;
+
+  private final Map<Long, MarcRecordStore> storesByJob = new ConcurrentHashMap<>();
+
+  public MarcRecordStore getMarcRecords(JobExecution jobExecution) {
+    return storesByJob.computeIfAbsent(
+        jobExecution.getId(),
+        id ->
+            new MarcRecordStore(
+                maxInMemoryRecords,
+                StringUtils.isBlank(spillDirectory) ? null : Path.of(spillDirectory)));
+  }
+
+  /** Releases MARC records of the job which were not written, including the spill file. */
+  public void release(JobExecution jobExecution) {
+    var store = storesByJob.remove(jobExecution.getId());
+    if (store != null) {
+      log.info(
+          "Releasing MARC records of job execution {}: {} not written",
+          jobExecution.getId(),
+          store.size());
+      store.close();
+    }
+  }
+}
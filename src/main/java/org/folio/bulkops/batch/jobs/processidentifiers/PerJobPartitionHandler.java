@@ -1,10 +1,13 @@
 package org.folio.bulkops.batch.jobs.processidentifiers;
 
+import static org.folio.bulkops.domain.bean.JobParameterNames.ENTITY_TYPE;
+
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
@@ -24,6 +27,7 @@ public class PerJobPartitionHandler extends AbstractPartitionHandler {
 
   private final Step step;
   private final int threadPoolSize;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
   /**
    * Creates a new handler for the given worker step.
@@ -32,11 +36,14 @@ public class PerJobPartitionHandler extends AbstractPartitionHandler {
    * @param gridAndThreadPoolSize maximum number of partitions (passed to {@link
    *     AbstractPartitionHandler}) and size of the per-job thread pool (in this case should equal
    *     {@code gridSize} so all partitions can run concurrently)
+   * @param bulkOperationMetrics metrics recording the time of each partition
    */
-  public PerJobPartitionHandler(Step step, int gridAndThreadPoolSize) {
+  public PerJobPartitionHandler(
+      Step step, int gridAndThreadPoolSize, BulkOperationMetrics bulkOperationMetrics) {
     this.step = step;
     setGridSize(gridAndThreadPoolSize);
     this.threadPoolSize = gridAndThreadPoolSize;
+    this.bulkOperationMetrics = bulkOperationMetrics;
   }
 
   @Override
@@ -51,6 +58,7 @@ public class PerJobPartitionHandler extends AbstractPartitionHandler {
         FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
     executor.initialize();
 
+    var entityType = managerStepExecution.getJobParameters().getString(ENTITY_TYPE);
     Set<Future<StepExecution>> tasks = new HashSet<>(partitionStepExecutions.size());
     Set<StepExecution> result = new HashSet<>(partitionStepExecutions.size());
 
@@ -59,7 +67,15 @@ public class PerJobPartitionHandler extends AbstractPartitionHandler {
         FutureTask<StepExecution> task =
             new FutureTask<>(
                 () -> {
-                  step.execute(stepExecution);
+                  var sample = bulkOperationMetrics.start();
+                  try {
+                    step.execute(stepExecution);
+                  } finally {
+                    bulkOperationMetrics.recordPartition(
+                        sample,
+                        entityType,
+                        BatchStatus.COMPLETED.equals(stepExecution.getStatus()));
+                  }
                   return stepExecution;
                 });
         try {
@@ -21,6 +21,12 @@ public interface DataImportClient {
   @GetExchange(value = "/uploadUrl", accept = MediaType.APPLICATION_JSON_VALUE)
   UploadUrlResponse getUploadUrl(@RequestParam("filename") String filename);
 
+  @GetExchange(value = "/uploadUrl/subsequent", accept = MediaType.APPLICATION_JSON_VALUE)
+  UploadUrlResponse getUploadUrlForSubsequentPart(
+      @RequestParam("key") String key,
+      @RequestParam("uploadId") String uploadId,
+      @RequestParam("partNumber") int partNumber);
+
   @PostExchange(value = "/uploadDefinitions", accept = MediaType.APPLICATION_JSON_VALUE)
   UploadFileDefinition postUploadDefinition(@RequestBody UploadFileDefinition uploadFileDefinition);
 
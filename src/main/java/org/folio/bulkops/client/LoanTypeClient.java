@@ -13,6 +13,9 @@ public interface LoanTypeClient {
   @GetExchange
   LoanTypeCollection getByQuery(@RequestParam String query);
 
+  @GetExchange
+  LoanTypeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
+
   @GetExchange(value = "/{id}")
   LoanType getLoanTypeById(@PathVariable String id);
 }
@@ -15,6 +15,9 @@ public interface LocationClient {
   @GetExchange
   ItemLocationCollection getByQuery(@RequestParam String query);
 
+  @GetExchange
+  ItemLocationCollection getByQuery(@RequestParam String query, @RequestParam long limit);
+
   @GetExchange(value = "/{id}")
   ItemLocation getLocationById(@PathVariable String id);
 
@@ -14,6 +14,9 @@ public interface MaterialTypeClient {
   @GetExchange
   MaterialTypeCollection getByQuery(@RequestParam String query);
 
+  @GetExchange
+  MaterialTypeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
+
   @GetExchange(value = "/{id}")
   MaterialType getById(@PathVariable String id);
 }
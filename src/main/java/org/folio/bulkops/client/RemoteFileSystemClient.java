@@ -1,47 +1,90 @@
 package org.folio.bulkops.client;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.bulkops.service.MarcRemoteStorageWriter;
+import org.folio.bulkops.util.MarcRecordIndex;
+import org.folio.bulkops.util.MarcRecordIndexingWriter;
 import org.folio.s3.client.FolioS3Client;
 import org.springframework.stereotype.Component;
 
 @Component
+@Log4j2
 @RequiredArgsConstructor
 public class RemoteFileSystemClient {
 
   private static final int DEFAULT_CHAR_BUFFER_SIZE = 16384;
 
   public final FolioS3Client remoteFolioS3Client;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
   public String put(InputStream newFile, String fileNameToBeUpdated) {
-    return remoteFolioS3Client.write(fileNameToBeUpdated, newFile);
+    return timed("write", () -> remoteFolioS3Client.write(fileNameToBeUpdated, newFile));
   }
 
   public int getNumOfLines(String file) {
-    return (int) new BufferedReader(new InputStreamReader(get(file))).lines().count();
+    try (var reader = new BufferedReader(new InputStreamReader(get(file)))) {
+      return (int) reader.lines().count();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   public InputStream get(String fileName) {
-    return remoteFolioS3Client.read(fileName);
+    return bulkOperationMetrics.recordStorageRead("read", () -> remoteFolioS3Client.read(fileName));
+  }
+
+  public boolean exists(String fileName) {
+    return timed("list", () -> remoteFolioS3Client.list(fileName)).stream()
+        .anyMatch(path -> path.endsWith(fileName));
   }
 
   public void remove(String filename) {
-    remoteFolioS3Client.remove(filename);
+    timed(
+        "remove",
+        () -> {
+          remoteFolioS3Client.remove(filename);
+          return null;
+        });
   }
 
   public void remove(String... paths) {
-    remoteFolioS3Client.remove(paths);
+    timed(
+        "remove",
+        () -> {
+          remoteFolioS3Client.remove(paths);
+          return null;
+        });
   }
 
   public Writer writer(String path) {
     return remoteFolioS3Client.getRemoteStorageWriter(path, DEFAULT_CHAR_BUFFER_SIZE);
   }
 
+  /** Writer of the MARC file which also stores {@link MarcRecordIndex} of the file on close. */
   public MarcRemoteStorageWriter marcWriter(String path) {
-    return new MarcRemoteStorageWriter(writer(path));
+    return new MarcRemoteStorageWriter(
+        new MarcRecordIndexingWriter(writer(path), index -> putMarcIndex(path, index)));
+  }
+
+  private void putMarcIndex(String path, MarcRecordIndex index) {
+    try {
+      put(new ByteArrayInputStream(index.toBytes()), path + MarcRecordIndex.INDEX_FILE_SUFFIX);
+    } catch (Exception e) {
+      log.warn("Failed to save index of file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private <T> T timed(String operation, Supplier<T> call) {
+    return bulkOperationMetrics.recordStorage(operation, call);
   }
 }
@@ -15,4 +15,7 @@ public interface StatisticalCodeClient {
 
   @GetExchange
   StatisticalCodeCollection getByQuery(@RequestParam String query);
+
+  @GetExchange
+  StatisticalCodeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
 }
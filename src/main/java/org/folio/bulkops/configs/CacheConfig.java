@@ -1,8 +1,16 @@
 package org.folio.bulkops.configs;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.configs.CacheProperties.CachePolicy;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -10,16 +18,64 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+@Log4j2
+@RequiredArgsConstructor
+public class CacheConfig implements CachingConfigurer {
+  private final CacheProperties cacheProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final MeterRegistry meterRegistry;
+
   @Bean
   public Caffeine caffeineConfig() { // NOSONAR
-    return Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.SECONDS);
+    return builderOf(cacheProperties.getDefaults());
+  }
+
+  @Bean
+  @Override
+  public TenantScopedKeyGenerator keyGenerator() {
+    return new TenantScopedKeyGenerator(folioExecutionContext, folioModuleMetadata);
   }
 
   @Bean
   public CacheManager cacheManager(Caffeine caffeine) { // NOSONAR
-    CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+    CaffeineCacheManager caffeineCacheManager =
+        new CaffeineCacheManager() {
+          @Override
+          protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+            return createCache(name);
+          }
+        };
     caffeineCacheManager.setCaffeine(caffeine);
     return caffeineCacheManager;
   }
+
+  private Cache<Object, Object> createCache(String name) {
+    var policy = cacheProperties.policyOf(name);
+    log.info(
+        "Creating cache {}: expireAfterWrite={}, refreshAfterWrite={}, maximumSize={}",
+        name,
+        policy.getExpireAfterWrite(),
+        policy.getRefreshAfterWrite(),
+        policy.getMaximumSize());
+    var builder = builderOf(policy);
+    Cache<Object, Object> cache =
+        policy.getRefreshAfterWrite() == null
+            ? builder.build()
+            : builder
+                .refreshAfterWrite(policy.getRefreshAfterWrite())
+                .executor(TenantScopedKeyGenerator.refreshExecutor())
+                .build(keyGenerator().reloader());
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    return cache;
+  }
+
+  private Caffeine<Object, Object> builderOf(CachePolicy policy) {
+    var builder =
+        Caffeine.newBuilder().recordStats().expireAfterWrite(policy.getExpireAfterWrite());
+    if (policy.getMaximumSize() != null) {
+      builder.maximumSize(policy.getMaximumSize());
+    }
+    return builder;
+  }
 }
@@ -0,0 +1,40 @@
+package org.folio.bulkops.configs;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Caffeine policies of the caches. A cache listed in {@code caches} of a named policy gets that
+ * policy, any other cache gets the default one.
+ */
+@Data
+@ConfigurationProperties("application.caches")
+public class CacheProperties {
+
+  private CachePolicy defaults = new CachePolicy();
+  private Map<String, CachePolicy> policies = new HashMap<>();
+
+  public CachePolicy policyOf(String cacheName) {
+    return policies.values().stream()
+        .filter(policy -> policy.getCaches().contains(cacheName))
+        .findFirst()
+        .orElse(defaults);
+  }
+
+  @Data
+  public static class CachePolicy {
+    private Set<String> caches = new HashSet<>();
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+
+    /** Entries read after this time are reloaded in background, null disables refresh-ahead. */
+    private Duration refreshAfterWrite;
+
+    /** Max number of entries, null means unbounded. */
+    private Long maximumSize;
+  }
+}
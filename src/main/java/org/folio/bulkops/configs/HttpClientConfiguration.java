@@ -57,6 +57,7 @@ import org.folio.bulkops.client.SubjectTypesClient;
 import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.client.UsersKeycloakClient;
 import org.folio.bulkops.exception.RestClientErrorHandler;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -73,272 +74,273 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 public class HttpClientConfiguration {
 
   private final RestClientErrorHandler errorHandler;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
   @Bean
   public AddressTypeClient addressTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(AddressTypeClient.class);
+    return createClient(factory, AddressTypeClient.class);
   }
 
   @Bean
   public BlUsersClient blUsersClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(BlUsersClient.class);
+    return createClient(factory, BlUsersClient.class);
   }
 
   @Bean
   public UsersKeycloakClient usersKeycloakClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(UsersKeycloakClient.class);
+    return createClient(factory, UsersKeycloakClient.class);
   }
 
   @Bean
   public BulkEditClient bulkEditClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(BulkEditClient.class);
+    return createClient(factory, BulkEditClient.class);
   }
 
   @Bean
   public CallNumberTypeClient callNumberTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(CallNumberTypeClient.class);
+    return createClient(factory, CallNumberTypeClient.class);
   }
 
   @Bean
   public ClassificationTypesClient classificationTypesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ClassificationTypesClient.class);
+    return createClient(factory, ClassificationTypesClient.class);
   }
 
   @Bean
   public ConsortiaClient consortiaClient(HttpServiceProxyFactory factory) {
     log.info("Creating ConsortiaClient instance for consortiaClient");
-    return factory.createClient(ConsortiaClient.class);
+    return createClient(factory, ConsortiaClient.class);
   }
 
   @Bean
   public ConsortiumClient consortiumClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ConsortiumClient.class);
+    return createClient(factory, ConsortiumClient.class);
   }
 
   @Bean
   public ContributorTypesClient contributorTypesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ContributorTypesClient.class);
+    return createClient(factory, ContributorTypesClient.class);
   }
 
   @Bean
   public CustomFieldsClient customFieldsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(CustomFieldsClient.class);
+    return createClient(factory, CustomFieldsClient.class);
   }
 
   @Bean
   public DamagedStatusClient damagedStatusClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DamagedStatusClient.class);
+    return createClient(factory, DamagedStatusClient.class);
   }
 
   @Bean
   public DataImportClient dataImportClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DataImportClient.class);
+    return createClient(factory, DataImportClient.class);
   }
 
   @Bean
   public DataImportProfilesClient dataImportProfilesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DataImportProfilesClient.class);
+    return createClient(factory, DataImportProfilesClient.class);
   }
 
   @Bean
   public DataImportUploadClient dataImportUploadClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DataImportUploadClient.class);
+    return createClient(factory, DataImportUploadClient.class);
   }
 
   @Bean
   public DepartmentClient departmentClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DepartmentClient.class);
+    return createClient(factory, DepartmentClient.class);
   }
 
   @Bean
   public ElectronicAccessRelationshipClient electronicAccessRelationshipClient(
       HttpServiceProxyFactory factory) {
-    return factory.createClient(ElectronicAccessRelationshipClient.class);
+    return createClient(factory, ElectronicAccessRelationshipClient.class);
   }
 
   @Bean
   public EntityTypeClient entityTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(EntityTypeClient.class);
+    return createClient(factory, EntityTypeClient.class);
   }
 
   @Bean
   public EurekaUserPermissionsClient eurekaUserPermissionsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(EurekaUserPermissionsClient.class);
+    return createClient(factory, EurekaUserPermissionsClient.class);
   }
 
   @Bean
   public GroupClient groupClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(GroupClient.class);
+    return createClient(factory, GroupClient.class);
   }
 
   @Bean
   public HoldingsNoteTypeClient holdingsNoteTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(HoldingsNoteTypeClient.class);
+    return createClient(factory, HoldingsNoteTypeClient.class);
   }
 
   @Bean
   public HoldingsSourceClient holdingsSourceClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(HoldingsSourceClient.class);
+    return createClient(factory, HoldingsSourceClient.class);
   }
 
   @Bean
   public HoldingsStorageClient holdingsStorageClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(HoldingsStorageClient.class);
+    return createClient(factory, HoldingsStorageClient.class);
   }
 
   @Bean
   public HoldingsTypeClient holdingsTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(HoldingsTypeClient.class);
+    return createClient(factory, HoldingsTypeClient.class);
   }
 
   @Bean
   public IllPolicyClient illPolicyClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(IllPolicyClient.class);
+    return createClient(factory, IllPolicyClient.class);
   }
 
   @Bean
   public InstanceClient instanceClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceClient.class);
+    return createClient(factory, InstanceClient.class);
   }
 
   @Bean
   public InstanceFormatsClient instanceFormatsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceFormatsClient.class);
+    return createClient(factory, InstanceFormatsClient.class);
   }
 
   @Bean
   public InstanceNoteTypesClient instanceNoteTypesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceNoteTypesClient.class);
+    return createClient(factory, InstanceNoteTypesClient.class);
   }
 
   @Bean
   public InstanceStatusesClient instanceStatusesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceStatusesClient.class);
+    return createClient(factory, InstanceStatusesClient.class);
   }
 
   @Bean
   public InstanceStorageClient instanceStorageClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceStorageClient.class);
+    return createClient(factory, InstanceStorageClient.class);
   }
 
   @Bean
   public InstanceTypesClient instanceTypesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(InstanceTypesClient.class);
+    return createClient(factory, InstanceTypesClient.class);
   }
 
   @Bean
   public ItemClient itemClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ItemClient.class);
+    return createClient(factory, ItemClient.class);
   }
 
   @Bean
   public ItemNoteTypeClient itemNoteTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ItemNoteTypeClient.class);
+    return createClient(factory, ItemNoteTypeClient.class);
   }
 
   @Bean
   public ItemStorageClient itemStorageClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ItemStorageClient.class);
+    return createClient(factory, ItemStorageClient.class);
   }
 
   @Bean
   public LoanTypeClient loanTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(LoanTypeClient.class);
+    return createClient(factory, LoanTypeClient.class);
   }
 
   @Bean
   public LocationClient locationClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(LocationClient.class);
+    return createClient(factory, LocationClient.class);
   }
 
   @Bean
   public MappingRulesClient mappingRulesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(MappingRulesClient.class);
+    return createClient(factory, MappingRulesClient.class);
   }
 
   @Bean
   public MaterialTypeClient materialTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(MaterialTypeClient.class);
+    return createClient(factory, MaterialTypeClient.class);
   }
 
   @Bean
   public MetadataProviderClient metadataProviderClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(MetadataProviderClient.class);
+    return createClient(factory, MetadataProviderClient.class);
   }
 
   @Bean
   public ModesOfIssuanceClient modesOfIssuanceClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ModesOfIssuanceClient.class);
+    return createClient(factory, ModesOfIssuanceClient.class);
   }
 
   @Bean
   public NatureOfContentTermsClient natureOfContentTermsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(NatureOfContentTermsClient.class);
+    return createClient(factory, NatureOfContentTermsClient.class);
   }
 
   @Bean
   public OkapiClient okapiClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(OkapiClient.class);
+    return createClient(factory, OkapiClient.class);
   }
 
   @Bean
   public OkapiUserPermissionsClient okapiUserPermissionsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(OkapiUserPermissionsClient.class);
+    return createClient(factory, OkapiUserPermissionsClient.class);
   }
 
   @Bean
   public QueryClient queryClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(QueryClient.class);
+    return createClient(factory, QueryClient.class);
   }
 
   @Bean
   public SearchClient searchClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(SearchClient.class);
+    return createClient(factory, SearchClient.class);
   }
 
   @Bean
   public SearchConsortium searchConsortium(HttpServiceProxyFactory factory) {
-    return factory.createClient(SearchConsortium.class);
+    return createClient(factory, SearchConsortium.class);
   }
 
   @Bean
   public ServicePointClient servicePointClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ServicePointClient.class);
+    return createClient(factory, ServicePointClient.class);
   }
 
   @Bean
   public SrsClient srsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(SrsClient.class);
+    return createClient(factory, SrsClient.class);
   }
 
   @Bean
   public StatisticalCodeClient statisticalCodeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(StatisticalCodeClient.class);
+    return createClient(factory, StatisticalCodeClient.class);
   }
 
   @Bean
   public StatisticalCodeTypeClient statisticalCodeTypeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(StatisticalCodeTypeClient.class);
+    return createClient(factory, StatisticalCodeTypeClient.class);
   }
 
   @Bean
   public SubjectSourcesClient subjectSourcesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(SubjectSourcesClient.class);
+    return createClient(factory, SubjectSourcesClient.class);
   }
 
   @Bean
   public SubjectTypesClient subjectTypesClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(SubjectTypesClient.class);
+    return createClient(factory, SubjectTypesClient.class);
   }
 
   @Bean
   public UserClient userClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(UserClient.class);
+    return createClient(factory, UserClient.class);
   }
 
   @Bean
   public LocaleClient localeClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(LocaleClient.class);
+    return createClient(factory, LocaleClient.class);
   }
 
   @Bean
@@ -362,4 +364,8 @@ public class HttpClientConfiguration {
 
     return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build();
   }
+
+  private <T> T createClient(HttpServiceProxyFactory factory, Class<T> type) {
+    return bulkOperationMetrics.instrumentClient(type, factory.createClient(type));
+  }
 }
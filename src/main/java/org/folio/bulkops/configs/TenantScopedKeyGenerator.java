@@ -0,0 +1,124 @@
+package org.folio.bulkops.configs;
+
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Default key generator of the caches. Keys are scoped by the tenant of the current execution
+ * context, so that reference data of different tenants never share an entry, and remember the
+ * cached invocation, so that {@link #reloader()} can refresh entries ahead of their expiration.
+ * Keys do not hold execution contexts of requests, as their tokens expire before the entries.
+ */
+@RequiredArgsConstructor
+public class TenantScopedKeyGenerator implements KeyGenerator {
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    return new TenantScopedKey(
+        folioExecutionContext.getTenantId(),
+        SimpleKeyGenerator.generateKey(params),
+        new Invocation(target, method, params.clone()));
+  }
+
+  /**
+   * Builds key of an entry cached by a method with the given arguments in the current tenant,
+   * e.g. to put entries loaded in bulk.
+   */
+  public Object keyFor(Object... params) {
+    return keyInTenant(folioExecutionContext.getTenantId(), params);
+  }
+
+  /**
+   * Builds key of an entry cached by a method called with the given arguments in the execution
+   * context of the given tenant, e.g. to put entries of a member tenant loaded in bulk for lookups
+   * made in the context of the central tenant.
+   */
+  public Object keyInTenant(String contextTenantId, Object... params) {
+    return new TenantScopedKey(contextTenantId, SimpleKeyGenerator.generateKey(params), null);
+  }
+
+  /**
+   * Loader re-invoking the cached method in the tenant of the key, within the context of the call
+   * which triggered the refresh. Keys which were not generated for an invocation are not loaded,
+   * so such lookups are cache misses.
+   */
+  public CacheLoader<Object, Object> reloader() {
+    return key ->
+        key instanceof TenantScopedKey tenantScopedKey && tenantScopedKey.invocation != null
+            ? reload(tenantScopedKey)
+            : null;
+  }
+
+  /**
+   * Executor of refreshes which hands the execution context of the call triggering a refresh over
+   * to the refreshing thread, so that entries are reloaded with a token which is still valid.
+   */
+  public static Executor refreshExecutor() {
+    return task -> ForkJoinPool.commonPool().execute(getRunnableWithCurrentFolioContext(task));
+  }
+
+  private Object reload(TenantScopedKey key) {
+    try (var ignored =
+        new FolioExecutionContextSetter(
+            prepareContextForTenant(key.tenantId, folioModuleMetadata, folioExecutionContext))) {
+      return key.invocation.invoke();
+    }
+  }
+
+  /**
+   * Key of two parts: the tenant of the execution context the cached method was called in, and the
+   * arguments of the call, which may name another tenant explicitly. The same entry is thus cached
+   * under different keys when looked up from different tenants.
+   */
+  public static final class TenantScopedKey {
+    private final String tenantId;
+    private final Object key;
+    private final Invocation invocation;
+
+    private TenantScopedKey(String tenantId, Object key, Invocation invocation) {
+      this.tenantId = tenantId;
+      this.key = key;
+      this.invocation = invocation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof TenantScopedKey other
+          && Objects.equals(tenantId, other.tenantId)
+          && Objects.equals(key, other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tenantId, key);
+    }
+
+    @Override
+    public String toString() {
+      return tenantId + ":" + key;
+    }
+  }
+
+  private record Invocation(Object target, Method method, Object[] params) {
+    private Object invoke() {
+      ReflectionUtils.makeAccessible(method);
+      return ReflectionUtils.invokeMethod(method, target, params);
+    }
+  }
+}
@@ -14,13 +14,10 @@ import static org.folio.bulkops.domain.dto.FileContentType.TRIGGERING_QUERY_FILE
 import static org.folio.bulkops.util.Constants.CSV_EXTENSION;
 import static org.folio.bulkops.util.Constants.NON_PRINTING_DELIMITER;
 import static org.folio.bulkops.util.Constants.SPLIT_NOTE_ENTITIES;
-import static org.folio.bulkops.util.Constants.UTF_8_BOM;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -28,7 +25,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.io.IOUtils;
 import org.codehaus.plexus.util.FileUtils;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.dto.BulkOperationCollection;
@@ -57,9 +54,11 @@ import org.folio.bulkops.service.BulkOperationService;
 import org.folio.bulkops.service.ErrorService;
 import org.folio.bulkops.service.ListUsersService;
 import org.folio.bulkops.service.LogFilesService;
+import org.folio.bulkops.service.Marc21ReferenceProvider;
 import org.folio.bulkops.service.PreviewService;
 import org.folio.bulkops.service.ProfileService;
 import org.folio.bulkops.service.RuleService;
+import org.folio.bulkops.util.CsvDownloadStreams;
 import org.folio.bulkops.util.MarcCsvHelper;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.folio.spring.data.OffsetRequest;
@@ -90,6 +89,7 @@ public class BulkOperationController implements BulkOperationsApi {
   private final BulkOperationRepository bulkOperationRepository;
   private final ProfileService profileService;
   private final MarcCsvHelper marcCsvHelper;
+  private final Marc21ReferenceProvider marc21ReferenceProvider;
 
   @Override
   public ResponseEntity<BulkOperationCollection> getBulkOperationCollection(
@@ -110,9 +110,10 @@ public class BulkOperationController implements BulkOperationsApi {
 
   @Override
   public ResponseEntity<Errors> getErrorsPreviewByOperationId(
-      UUID operationId, Integer limit, Integer offset, ErrorType errorType) {
+      UUID operationId, Integer limit, Integer offset, ErrorType errorType, UUID lastErrorId) {
     return new ResponseEntity<>(
-        errorService.getErrorsPreviewByBulkOperationId(operationId, limit, offset, errorType),
+        errorService.getErrorsPreviewByBulkOperationId(
+            operationId, limit, offset, errorType, lastErrorId),
         HttpStatus.OK);
   }
 
@@ -146,6 +147,7 @@ public class BulkOperationController implements BulkOperationsApi {
       UUID operationId, BulkOperationMarcRuleCollection bulkOperationMarcRuleCollection) {
     var operation = bulkOperationService.getBulkOperationOrThrow(operationId);
     final var rules = ruleService.saveMarcRules(operation, bulkOperationMarcRuleCollection);
+    marc21ReferenceProvider.invalidateMappingRules();
 
     operation.setEntityType(INSTANCE_MARC);
     bulkOperationRepository.save(operation);
@@ -218,13 +220,11 @@ public class BulkOperationController implements BulkOperationsApi {
     if (Objects.isNull(path)) {
       return ResponseEntity.ok().build();
     } else {
-      try (var is = remoteFileSystemClient.get(path)) {
-        byte[] content;
-        if (CSV_EXTENSION.equalsIgnoreCase(FilenameUtils.getExtension(path))) {
-          content =
-              ArrayUtils.removeAllOccurrences(is.readAllBytes(), (byte) NON_PRINTING_DELIMITER);
-        } else {
-          content = is.readAllBytes();
+      var isCsv = CSV_EXTENSION.equalsIgnoreCase(FilenameUtils.getExtension(path));
+      var content = remoteFileSystemClient.get(path);
+      try {
+        if (isCsv) {
+          content = CsvDownloadStreams.withoutByte(content, (byte) NON_PRINTING_DELIMITER);
         }
 
         var entityType = bulkOperation.getEntityType().getValue();
@@ -232,42 +232,39 @@ public class BulkOperationController implements BulkOperationsApi {
           content =
               noteProcessorFactory
                   .getNoteProcessor(entityType)
-                  .processCsvContent(content, bulkOperation);
+                  .processCsvStream(content, bulkOperation);
         }
 
         if (INSTANCE_MARC.equals(bulkOperation.getEntityType())
             && Set.of(PROPOSED_CHANGES_FILE, COMMITTED_RECORDS_FILE).contains(fileContentType)) {
-          content = marcCsvHelper.enrichCsvWithMarcChanges(content, bulkOperation, fileContentType);
+          content =
+              marcCsvHelper.enrichCsvStreamWithMarcChanges(content, bulkOperation, fileContentType);
         }
 
-        if (CSV_EXTENSION.equalsIgnoreCase(FilenameUtils.getExtension(path))) {
-          content = getCsvContentWithUtf8Bom(content);
+        if (isCsv) {
+          content = CsvDownloadStreams.withUtf8Bom(content);
         }
 
         var decodedPath = URLDecoder.decode(path, StandardCharsets.UTF_8);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentDispositionFormData(
             FileUtils.filename(decodedPath), FileUtils.filename(decodedPath));
+        // content is transformed while being written to the response, which closes the stream
         return ResponseEntity.ok()
             .headers(headers)
             .contentType(MediaType.APPLICATION_OCTET_STREAM)
-            .contentLength(content.length)
-            .body(new InputStreamResource(new ByteArrayInputStream(content)));
+            .body(new InputStreamResource(content));
       } catch (IOException e) {
+        IOUtils.closeQuietly(content);
         log.error(e);
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      } catch (RuntimeException e) {
+        IOUtils.closeQuietly(content);
+        throw e;
       }
     }
   }
 
-  private byte[] getCsvContentWithUtf8Bom(byte[] content) {
-    var contentCharsByUtf8BomLen = Arrays.copyOfRange(content, 0, UTF_8_BOM.length);
-    if (!Arrays.equals(UTF_8_BOM, contentCharsByUtf8BomLen)) {
-      return ArrayUtils.addAll(UTF_8_BOM, content);
-    }
-    return content;
-  }
-
   private boolean isDownloadPreview(FileContentType fileContentType) {
     return Set.of(MATCHED_RECORDS_FILE, PROPOSED_CHANGES_FILE, COMMITTED_RECORDS_FILE)
         .contains(fileContentType);
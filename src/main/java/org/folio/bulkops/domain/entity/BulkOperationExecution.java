@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -36,4 +37,8 @@ public class BulkOperationExecution {
 
   @Enumerated(EnumType.STRING)
   private StatusType status;
+
+  /** Last sign of life of the running commit, written only by heartbeat queries. */
+  @Column(insertable = false, updatable = false)
+  private LocalDateTime heartbeat;
 }
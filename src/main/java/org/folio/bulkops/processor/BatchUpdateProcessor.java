@@ -0,0 +1,17 @@
+package org.folio.bulkops.processor;
+
+import java.util.List;
+import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
+
+/** Update processor which is able to update many records with a single storage request. */
+public interface BatchUpdateProcessor<T> extends FolioUpdateProcessor<T> {
+
+  /**
+   * Updates the records in batches, the records of a failed batch are updated one by one.
+   *
+   * @param records records to update
+   * @param rules rules of the bulk operation
+   * @return errors of the records in the order of the records, {@code null} for updated records
+   */
+  List<Exception> updateRecords(List<T> records, BulkOperationRuleCollection rules);
+}
@@ -1,10 +1,13 @@
 package org.folio.bulkops.processor;
 
+import static java.util.Objects.nonNull;
 import static org.folio.bulkops.domain.dto.UpdateActionType.REMOVE_ALL;
 import static org.folio.bulkops.domain.dto.UpdateOptionType.STATISTICAL_CODE;
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.folio.bulkops.domain.bean.BulkOperationsEntity;
 import org.folio.bulkops.domain.bean.User;
@@ -51,60 +54,84 @@ public abstract class FolioAbstractDataProcessor<T extends BulkOperationsEntity>
   }
 
   @Override
-  public UpdatedEntityHolder process(
-      String identifier, T entity, BulkOperationRuleCollection rules) {
-    var holder = UpdatedEntityHolder.builder().build();
-    var updated = clone(entity);
-    var preview = clone(entity);
+  public RulePlan<T> compile(BulkOperationRuleCollection rules) {
+    RuleValidationException validationError = null;
     try {
       validator().validate(rules);
     } catch (RuleValidationException e) {
       log.warn(String.format("Rule validation exception: %s", e.getMessage()));
+      validationError = e;
+    } catch (Exception e) {
+      log.error(e.getMessage());
+    }
+    var actions = new ArrayList<RulePlan.CompiledAction<T>>();
+    for (BulkOperationRule rule : rules.getBulkOperationRules()) {
+      var option = rule.getRuleDetails().getOption();
+      for (Action action : rule.getRuleDetails().getActions()) {
+        try {
+          actions.add(
+              new RulePlan.CompiledAction<>(
+                  rule,
+                  option,
+                  action,
+                  updater(option, action, null, true),
+                  updater(option, action, null, false),
+                  null));
+        } catch (Exception e) {
+          actions.add(new RulePlan.CompiledAction<>(rule, option, action, null, null, e));
+        }
+      }
+    }
+    return new RulePlan<>(rules, validationError, List.copyOf(actions));
+  }
+
+  @Override
+  public UpdatedEntityHolder<T> process(String identifier, T entity, RulePlan<T> plan) {
+    var holder = UpdatedEntityHolder.<T>builder().build();
+    var updated = clone(entity);
+    var preview = clone(entity);
+    if (nonNull(plan.getValidationError())) {
       errorService.saveError(
-          rules.getBulkOperationRules().getFirst().getBulkOperationId(),
+          plan.getRules().getBulkOperationRules().getFirst().getBulkOperationId(),
           identifier,
-          e.getMessage(),
+          plan.getValidationError().getMessage(),
           ErrorType.ERROR);
-    } catch (Exception e) {
-      log.error(e.getMessage());
     }
-    if (!rules.getBulkOperationRules().isEmpty()) {
-      for (BulkOperationRule rule : rules.getBulkOperationRules()) {
-        var details = rule.getRuleDetails();
-        var option = details.getOption();
-        for (Action action : details.getActions()) {
-          try {
-            var tenantIdOfEntity = entity.getTenant();
-            try (var ignored =
-                isTenantApplicableForProcessingAsMember(entity)
-                    ? new FolioExecutionContextSetter(
-                        prepareContextForTenant(
-                            tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))
-                    : (Closeable) () -> {}) {
-              updater(option, action, entity, true).apply(preview);
-              validator(entity).validate(option, action, rule);
-              updater(option, action, entity, false).apply(updated);
-            }
-          } catch (RuleValidationException e) {
-            log.warn(String.format("Rule validation exception: %s", e.getMessage()));
-            errorService.saveError(
-                rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
-          } catch (RuleValidationTenantsException e) {
-            log.info("current tenant: {}", folioExecutionContext.getTenantId());
-            errorService.saveError(
-                rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
-            log.error(e.getMessage());
-          } catch (Exception e) {
-            log.error(
-                String.format(
-                    "%s id=%s, error: %s",
-                    updated.getRecordBulkOperationEntity().getClass().getSimpleName(),
-                    "id",
-                    e.getMessage()));
-            errorService.saveError(
-                rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
+    for (var compiledAction : plan.getActions()) {
+      var rule = compiledAction.rule();
+      try {
+        var tenantIdOfEntity = entity.getTenant();
+        try (var ignored =
+            isTenantApplicableForProcessingAsMember(entity)
+                ? new FolioExecutionContextSetter(
+                    prepareContextForTenant(
+                        tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))
+                : (Closeable) () -> {}) {
+          if (nonNull(compiledAction.buildError())) {
+            throw compiledAction.buildError();
           }
+          compiledAction.previewUpdater().apply(preview);
+          validator(entity).validate(compiledAction.option(), compiledAction.action(), rule);
+          compiledAction.updater().apply(updated);
         }
+      } catch (RuleValidationException e) {
+        log.warn(String.format("Rule validation exception: %s", e.getMessage()));
+        errorService.saveError(
+            rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
+      } catch (RuleValidationTenantsException e) {
+        log.info("current tenant: {}", folioExecutionContext.getTenantId());
+        errorService.saveError(
+            rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
+        log.error(e.getMessage());
+      } catch (Exception e) {
+        log.error(
+            String.format(
+                "%s id=%s, error: %s",
+                updated.getRecordBulkOperationEntity().getClass().getSimpleName(),
+                "id",
+                e.getMessage()));
+        errorService.saveError(
+            rule.getBulkOperationId(), identifier, e.getMessage(), ErrorType.ERROR);
       }
     }
     holder.setUpdated(updated);
@@ -125,11 +152,13 @@ public abstract class FolioAbstractDataProcessor<T extends BulkOperationsEntity>
   }
 
   /**
-   * Returns a Consumer for applying changes to an entity of type T.
+   * Returns a Consumer for applying changes to an entity of type T. Updaters are built once per
+   * operation by {@link #compile(BulkOperationRuleCollection)}, so they must not depend on a
+   * particular entity.
    *
    * @param option UpdateOptionType for update
    * @param action Action for update
-   * @param entity entity of type T for update
+   * @param entity entity of type T for update, {@code null} when building a rule plan
    * @param forPreview true if for preview, otherwise false
    * @return updater
    * @throws RuleValidationTenantsException if validation fails
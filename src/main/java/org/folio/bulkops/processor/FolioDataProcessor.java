@@ -13,7 +13,27 @@ public interface FolioDataProcessor<T extends BulkOperationsEntity> {
    * @param rule rule with updates
    * @return updated result
    */
-  UpdatedEntityHolder<T> process(String identifier, T entity, BulkOperationRuleCollection rule);
+  default UpdatedEntityHolder<T> process(
+      String identifier, T entity, BulkOperationRuleCollection rule) {
+    return process(identifier, entity, compile(rule));
+  }
+
+  /**
+   * This method updates end returns entity of type {@link T} based on compiled {@link RulePlan}.
+   *
+   * @param entity original entity of type {@link T}
+   * @param plan rule plan compiled for the operation
+   * @return updated result
+   */
+  UpdatedEntityHolder<T> process(String identifier, T entity, RulePlan<T> plan);
+
+  /**
+   * Validates the rule collection and builds updaters for all its actions.
+   *
+   * @param rules rules of the operation
+   * @return rule plan to be applied to every record of the operation
+   */
+  RulePlan<T> compile(BulkOperationRuleCollection rules);
 
   Class<T> getProcessedType();
 }
@@ -0,0 +1,37 @@
+package org.folio.bulkops.processor;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.folio.bulkops.domain.bean.BulkOperationsEntity;
+import org.folio.bulkops.domain.dto.Action;
+import org.folio.bulkops.domain.dto.BulkOperationRule;
+import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
+import org.folio.bulkops.domain.dto.UpdateOptionType;
+import org.folio.bulkops.exception.RuleValidationException;
+
+/**
+ * Rule collection compiled by {@link FolioDataProcessor#compile(BulkOperationRuleCollection)}. The
+ * collection is validated and the updaters of all actions are built once per operation, so
+ * processing of a record only applies them.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class RulePlan<T extends BulkOperationsEntity> {
+  private final BulkOperationRuleCollection rules;
+  private final RuleValidationException validationError;
+  private final List<CompiledAction<T>> actions;
+
+  /**
+   * Action of a rule with prebuilt updaters. If building of updaters failed, the error is kept in
+   * {@code buildError} and reported for every processed record.
+   */
+  public record CompiledAction<T>(
+      BulkOperationRule rule,
+      UpdateOptionType option,
+      Action action,
+      Updater<T> previewUpdater,
+      Updater<T> updater,
+      Exception buildError) {}
+}
@@ -44,7 +44,7 @@ import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.ErrorService;
 import org.folio.bulkops.service.HoldingsReferenceService;
-import org.folio.bulkops.service.RuleService;
+import org.folio.bulkops.service.RuleCacheService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
@@ -65,7 +65,7 @@ public class FolioInstanceUpdateProcessor extends FolioAbstractUpdateProcessor<E
 
   private final InstanceClient instanceClient;
   private final UserClient userClient;
-  private final RuleService ruleService;
+  private final RuleCacheService ruleCacheService;
   private final HoldingsStorageClient holdingsStorageClient;
   private final ItemClient itemClient;
   private final SearchConsortium searchConsortium;
@@ -91,7 +91,7 @@ public class FolioInstanceUpdateProcessor extends FolioAbstractUpdateProcessor<E
       ExtendedInstance extendedInstance, BulkOperation operation, boolean notChanged) {
     var instance = extendedInstance.getEntity();
     var recordsUpdated =
-        findRuleByOption(ruleService.getRules(operation.getId()), SUPPRESS_FROM_DISCOVERY)
+        findRuleByOption(ruleCacheService.getRules(operation.getId()), SUPPRESS_FROM_DISCOVERY)
             .filter(rule -> applyRuleToAssociatedRecords(extendedInstance, rule, operation))
             .isPresent();
     if (notChanged) {
@@ -260,8 +260,10 @@ public class HoldingsDataProcessor extends FolioAbstractDataProcessor<ExtendedHo
       ExtendedHoldingsRecord extendedHolding) {
     var ruleTenants = rule.getRuleDetails().getTenants();
     var actionTenants = action.getTenants();
-    if (isThereIntersectionBetween(ruleTenants, actionTenants)) {
-      return !ruleTenants.contains(extendedHolding.getTenant());
+    if (areBothNotEmpty(ruleTenants, actionTenants)) {
+      // rules are shared by batches modified in parallel, so their tenants are not changed
+      return !ruleTenants.contains(extendedHolding.getTenant())
+          || !actionTenants.contains(extendedHolding.getTenant());
     }
     if (areTenantsNotOverlapping(action, option, ruleTenants, actionTenants)) {
       log.info("extendedHolding: {}, action: {}", extendedHolding, action);
@@ -277,15 +279,11 @@ public class HoldingsDataProcessor extends FolioAbstractDataProcessor<ExtendedHo
             && !actionTenants.contains(extendedHolding.getTenant());
   }
 
-  private boolean isThereIntersectionBetween(List<String> ruleTenants, List<String> actionTenants) {
-    if (nonNull(ruleTenants)
+  private boolean areBothNotEmpty(List<String> ruleTenants, List<String> actionTenants) {
+    return nonNull(ruleTenants)
         && !ruleTenants.isEmpty()
         && nonNull(actionTenants)
-        && !actionTenants.isEmpty()) {
-      ruleTenants.retainAll(actionTenants);
-      return true;
-    }
-    return false;
+        && !actionTenants.isEmpty();
   }
 
   private boolean areTenantsNotOverlapping(
@@ -38,15 +38,15 @@ public class HoldingsNotesUpdater {
 
   public Optional<Updater<ExtendedHoldingsRecord>> updateNotes(
       Action action, UpdateOptionType option) {
+    // Note type is resolved once per updater instead of once per record
+    var typeId = getTypeId(action.getParameters());
     if ((MARK_AS_STAFF_ONLY == action.getType() || REMOVE_MARK_AS_STAFF_ONLY == action.getType())
         && option == HOLDINGS_NOTE) {
       var markAsStaffValue = action.getType() == MARK_AS_STAFF_ONLY;
       return Optional.of(
           extendedHoldingsRecord ->
               setMarkAsStaffForNotesByTypeId(
-                  extendedHoldingsRecord.getEntity().getNotes(),
-                  action.getParameters(),
-                  markAsStaffValue));
+                  extendedHoldingsRecord.getEntity().getNotes(), typeId, markAsStaffValue));
     } else if (REMOVE_ALL == action.getType()) {
       if (option == ADMINISTRATIVE_NOTE) {
         return Optional.of(
@@ -62,8 +62,7 @@ public class HoldingsNotesUpdater {
                     .getEntity()
                     .setNotes(
                         removeNotesByTypeId(
-                            extendedHoldingsRecord.getEntity().getNotes(),
-                            action.getParameters())));
+                            extendedHoldingsRecord.getEntity().getNotes(), typeId)));
       }
     } else if (ADD_TO_EXISTING == action.getType()) {
       if (option == ADMINISTRATIVE_NOTE) {
@@ -76,6 +75,7 @@ public class HoldingsNotesUpdater {
                             action.getUpdated(),
                             extendedHoldingsRecord.getEntity().getAdministrativeNotes())));
       } else if (option == HOLDINGS_NOTE) {
+        var staffOnly = extractStaffOnlyParamValue(action.getParameters());
         return Optional.of(
             extendedHoldingsRecord ->
                 extendedHoldingsRecord
@@ -83,7 +83,8 @@ public class HoldingsNotesUpdater {
                     .setNotes(
                         addToNotesByTypeId(
                             extendedHoldingsRecord.getEntity().getNotes(),
-                            action.getParameters(),
+                            typeId,
+                            staffOnly,
                             action.getUpdated())));
       }
     } else if (FIND_AND_REMOVE_THESE == action.getType()) {
@@ -105,7 +106,7 @@ public class HoldingsNotesUpdater {
                         findAndRemoveNoteByValueAndTypeId(
                             action.getInitial(),
                             extendedHoldingsRecord.getEntity().getNotes(),
-                            action.getParameters())));
+                            typeId)));
       }
     } else if (FIND_AND_REPLACE == action.getType()) {
       if (option == ADMINISTRATIVE_NOTE) {
@@ -121,7 +122,7 @@ public class HoldingsNotesUpdater {
             extendedHoldingsRecord -> {
               if (extendedHoldingsRecord.getEntity().getNotes() != null) {
                 var notes = new ArrayList<>(extendedHoldingsRecord.getEntity().getNotes());
-                findAndReplaceNoteByValueAndTypeId(action, notes);
+                findAndReplaceNoteByValueAndTypeId(action, typeId, notes);
                 extendedHoldingsRecord.getEntity().setNotes(notes);
               }
             });
@@ -135,7 +136,8 @@ public class HoldingsNotesUpdater {
       } else if (option == HOLDINGS_NOTE) {
         return Optional.of(
             extendedHoldingsRecord ->
-                changeNoteTypeForHoldingsNote(extendedHoldingsRecord.getEntity(), action));
+                changeNoteTypeForHoldingsNote(
+                    extendedHoldingsRecord.getEntity(), action, typeId));
       }
     }
     return Optional.empty();
@@ -154,29 +156,24 @@ public class HoldingsNotesUpdater {
   }
 
   private void setMarkAsStaffForNotesByTypeId(
-      List<HoldingsNote> notes, List<Parameter> parameters, boolean markAsStaffValue) {
-    parameters.stream()
-        .filter(p -> StringUtils.equals(p.getKey(), HOLDINGS_NOTE_TYPE_ID_KEY))
-        .findFirst()
-        .ifPresent(
-            parameter -> {
-              var typeId = parameter.getValue();
-              if (notes != null) {
-                notes.forEach(
-                    note -> {
-                      if (StringUtils.equals(typeId, note.getHoldingsNoteTypeId())) {
-                        note.setStaffOnly(markAsStaffValue);
-                      }
-                    });
-              }
-            });
+      List<HoldingsNote> notes, Optional<String> typeIdOptional, boolean markAsStaffValue) {
+    typeIdOptional.ifPresent(
+        typeId -> {
+          if (notes != null) {
+            notes.forEach(
+                note -> {
+                  if (StringUtils.equals(typeId, note.getHoldingsNoteTypeId())) {
+                    note.setStaffOnly(markAsStaffValue);
+                  }
+                });
+          }
+        });
   }
 
   private List<HoldingsNote> removeNotesByTypeId(
-      List<HoldingsNote> notes, List<Parameter> parameters) {
-    var typeIdParameterOptional = getTypeIdParameterOptional(parameters);
-    if (typeIdParameterOptional.isPresent()) {
-      var typeId = typeIdParameterOptional.get().getValue();
+      List<HoldingsNote> notes, Optional<String> typeIdOptional) {
+    if (typeIdOptional.isPresent()) {
+      var typeId = typeIdOptional.get();
       if (notes != null) {
         var notesWithoutRemoved =
             notes.stream()
@@ -189,13 +186,14 @@ public class HoldingsNotesUpdater {
   }
 
   private List<HoldingsNote> addToNotesByTypeId(
-      List<HoldingsNote> notes, List<Parameter> parameters, String noteValue) {
-    var staffOnly = extractStaffOnlyParamValue(parameters);
-    var typeIdParameterOptional = getTypeIdParameterOptional(parameters);
-    if (typeIdParameterOptional.isPresent()) {
+      List<HoldingsNote> notes,
+      Optional<String> typeIdOptional,
+      Boolean staffOnly,
+      String noteValue) {
+    if (typeIdOptional.isPresent()) {
       var note =
           new HoldingsNote()
-              .withHoldingsNoteTypeId(typeIdParameterOptional.get().getValue())
+              .withHoldingsNoteTypeId(typeIdOptional.get())
               .withNote(noteValue)
               .withStaffOnly(staffOnly);
       if (notes == null) {
@@ -207,16 +205,12 @@ public class HoldingsNotesUpdater {
   }
 
   private List<HoldingsNote> findAndRemoveNoteByValueAndTypeId(
-      String valueToRemove, List<HoldingsNote> notes, List<Parameter> parameters) {
-    var typeIdParameterOptional = getTypeIdParameterOptional(parameters);
-    if (typeIdParameterOptional.isPresent() && notes != null) {
+      String valueToRemove, List<HoldingsNote> notes, Optional<String> typeIdOptional) {
+    if (typeIdOptional.isPresent() && notes != null) {
       notes = new ArrayList<>(notes);
       var notesToRemove = new ArrayList<HoldingsNote>();
       notes.stream()
-          .filter(
-              note ->
-                  StringUtils.equals(
-                      note.getHoldingsNoteTypeId(), typeIdParameterOptional.get().getValue()))
+          .filter(note -> StringUtils.equals(note.getHoldingsNoteTypeId(), typeIdOptional.get()))
           .forEach(
               note -> {
                 String updatedNote = note.getNote().replace(valueToRemove, StringUtils.EMPTY);
@@ -231,14 +225,13 @@ public class HoldingsNotesUpdater {
     return notes;
   }
 
-  private void findAndReplaceNoteByValueAndTypeId(Action action, List<HoldingsNote> notes) {
-    var typeIdParameterOptional = getTypeIdParameterOptional(action.getParameters());
-    if (typeIdParameterOptional.isPresent() && notes != null) {
+  private void findAndReplaceNoteByValueAndTypeId(
+      Action action, Optional<String> typeIdOptional, List<HoldingsNote> notes) {
+    if (typeIdOptional.isPresent() && notes != null) {
       var notesToRemove = new ArrayList<HoldingsNote>();
       notes.forEach(
           note -> {
-            if (StringUtils.equals(
-                    note.getHoldingsNoteTypeId(), typeIdParameterOptional.get().getValue())
+            if (StringUtils.equals(note.getHoldingsNoteTypeId(), typeIdOptional.get())
                 && contains(note.getNote(), action.getInitial())) {
               String replacedNote =
                   replace(note.getNote(), action.getInitial(), action.getUpdated());
@@ -253,10 +246,10 @@ public class HoldingsNotesUpdater {
     }
   }
 
-  private void changeNoteTypeForHoldingsNote(HoldingsRecord holding, Action action) {
-    var typeIdParameterOptional = getTypeIdParameterOptional(action.getParameters());
-    if (typeIdParameterOptional.isPresent()) {
-      var typeId = typeIdParameterOptional.get().getValue();
+  private void changeNoteTypeForHoldingsNote(
+      HoldingsRecord holding, Action action, Optional<String> typeIdOptional) {
+    if (typeIdOptional.isPresent()) {
+      var typeId = typeIdOptional.get();
       var notesWithTypeForChange =
           holding.getNotes().stream()
               .filter(note -> StringUtils.equals(note.getHoldingsNoteTypeId(), typeId))
@@ -281,9 +274,13 @@ public class HoldingsNotesUpdater {
     }
   }
 
-  private Optional<Parameter> getTypeIdParameterOptional(List<Parameter> parameters) {
+  private Optional<String> getTypeId(List<Parameter> parameters) {
+    if (CollectionUtils.isEmpty(parameters)) {
+      return Optional.empty();
+    }
     return parameters.stream()
         .filter(parameter -> StringUtils.equals(parameter.getKey(), HOLDINGS_NOTE_TYPE_ID_KEY))
-        .findFirst();
+        .findFirst()
+        .map(Parameter::getValue);
   }
 }
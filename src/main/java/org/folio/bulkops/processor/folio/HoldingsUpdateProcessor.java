@@ -29,7 +29,7 @@ import org.folio.bulkops.processor.FolioAbstractUpdateProcessor;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.ErrorService;
-import org.folio.bulkops.service.RuleService;
+import org.folio.bulkops.service.RuleCacheService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
@@ -47,7 +47,7 @@ public class HoldingsUpdateProcessor extends FolioAbstractUpdateProcessor<Extend
 
   private final HoldingsStorageClient holdingsStorageClient;
   private final ItemClient itemClient;
-  private final RuleService ruleService;
+  private final RuleCacheService ruleCacheService;
   private final ErrorService errorService;
   private final FolioModuleMetadata folioModuleMetadata;
   private final FolioExecutionContext folioExecutionContext;
@@ -81,7 +81,7 @@ public class HoldingsUpdateProcessor extends FolioAbstractUpdateProcessor<Extend
   public void updateAssociatedRecords(
       ExtendedHoldingsRecord extendedHoldingsRecord, BulkOperation operation, boolean notChanged) {
     var holdingsRecord = extendedHoldingsRecord.getEntity();
-    var bulkOperationRules = ruleService.getRules(operation.getId());
+    var bulkOperationRules = ruleCacheService.getRules(operation.getId());
     boolean itemsUpdated;
     if (consortiaService.isTenantCentral(folioExecutionContext.getTenantId())) {
       var tenantId = extendedHoldingsRecord.getTenantId();
@@ -36,51 +36,58 @@ public class InstanceNotesUpdaterFactory {
 
   public Optional<Updater<ExtendedInstance>> getUpdater(
       UpdateOptionType option, Action action, boolean forPreview) {
+    var typeId = getTypeIdOptional(action.getParameters());
     return switch (action.getType()) {
       case MARK_AS_STAFF_ONLY, REMOVE_MARK_AS_STAFF_ONLY ->
-          Optional.of(
-              extendedInstance -> setStaffOnly(extendedInstance.getEntity(), action, option));
-      case REMOVE_ALL ->
-          Optional.of(extendedInstance -> removeAll(extendedInstance.getEntity(), action, option));
-      case ADD_TO_EXISTING ->
           Optional.of(
               extendedInstance ->
-                  addToExisting(extendedInstance.getEntity(), action, option, forPreview));
+                  setStaffOnly(extendedInstance.getEntity(), action, option, typeId));
+      case REMOVE_ALL ->
+          Optional.of(extendedInstance -> removeAll(extendedInstance.getEntity(), option, typeId));
+      case ADD_TO_EXISTING -> {
+        var staffOnly = extractStaffOnlyParamValue(action.getParameters());
+        yield Optional.of(
+            extendedInstance ->
+                addToExisting(
+                    extendedInstance.getEntity(), action, option, typeId, staffOnly, forPreview));
+      }
       case FIND_AND_REMOVE_THESE ->
           Optional.of(
-              extendedInstance -> findAndRemove(extendedInstance.getEntity(), action, option));
+              extendedInstance ->
+                  findAndRemove(extendedInstance.getEntity(), action, option, typeId));
       case FIND_AND_REPLACE ->
           Optional.of(
-              extendedInstance -> findAndReplace(extendedInstance.getEntity(), action, option));
+              extendedInstance ->
+                  findAndReplace(extendedInstance.getEntity(), action, option, typeId));
       case CHANGE_TYPE ->
           Optional.of(
-              extendedInstance -> changeNoteType(extendedInstance.getEntity(), action, option));
+              extendedInstance ->
+                  changeNoteType(extendedInstance.getEntity(), action, option, typeId));
       case REMOVE_SOME ->
           Optional.of(extendedInstance -> removeSome(extendedInstance.getEntity(), action, option));
       default -> Optional.empty();
     };
   }
 
-  private void setStaffOnly(Instance instance, Action action, UpdateOptionType option) {
+  private void setStaffOnly(
+      Instance instance, Action action, UpdateOptionType option, Optional<String> typeIdOptional) {
     if (INSTANCE_NOTE.equals(option) && isNotEmpty(instance.getInstanceNotes())) {
-      getTypeIdOptional(action.getParameters())
-          .ifPresent(
-              typeId ->
-                  instance.getInstanceNotes().stream()
-                      .filter(instanceNote -> typeId.equals(instanceNote.getInstanceNoteTypeId()))
-                      .forEach(
-                          instanceNote ->
-                              instanceNote.setStaffOnly(
-                                  MARK_AS_STAFF_ONLY.equals(action.getType()))));
+      typeIdOptional.ifPresent(
+          typeId ->
+              instance.getInstanceNotes().stream()
+                  .filter(instanceNote -> typeId.equals(instanceNote.getInstanceNoteTypeId()))
+                  .forEach(
+                      instanceNote ->
+                          instanceNote.setStaffOnly(MARK_AS_STAFF_ONLY.equals(action.getType()))));
     }
   }
 
-  private void removeAll(Instance instance, Action action, UpdateOptionType option) {
+  private void removeAll(
+      Instance instance, UpdateOptionType option, Optional<String> typeIdOptional) {
     if (ADMINISTRATIVE_NOTE.equals(option)) {
       instance.setAdministrativeNotes(Collections.emptyList());
     } else if (INSTANCE_NOTE.equals(option)) {
-      instance.setInstanceNotes(
-          removeNotesByTypeId(instance.getInstanceNotes(), action.getParameters()));
+      instance.setInstanceNotes(removeNotesByTypeId(instance.getInstanceNotes(), typeIdOptional));
     } else if (STATISTICAL_CODE.equals(option)) {
       instance.setStatisticalCodeIds(Collections.emptyList());
     }
@@ -95,7 +102,12 @@ public class InstanceNotesUpdaterFactory {
   }
 
   private void addToExisting(
-      Instance instance, Action action, UpdateOptionType option, boolean forPreview) {
+      Instance instance,
+      Action action,
+      UpdateOptionType option,
+      Optional<String> typeIdOptional,
+      Boolean staffOnly,
+      boolean forPreview) {
     if (ADMINISTRATIVE_NOTE.equals(option)) {
       instance.setAdministrativeNotes(
           administrativeNotesUpdater.addToAdministrativeNotes(
@@ -103,7 +115,7 @@ public class InstanceNotesUpdaterFactory {
     } else if (INSTANCE_NOTE.equals(option)) {
       instance.setInstanceNotes(
           addToNotesByTypeId(
-              instance.getInstanceNotes(), action.getParameters(), action.getUpdated()));
+              instance.getInstanceNotes(), typeIdOptional, staffOnly, action.getUpdated()));
     } else if (STATISTICAL_CODE.equals(option)) {
       instance.setStatisticalCodeIds(
           statisticalCodesUpdater.addToStatisticalCodeIds(
@@ -111,7 +123,8 @@ public class InstanceNotesUpdaterFactory {
     }
   }
 
-  private void findAndRemove(Instance instance, Action action, UpdateOptionType option) {
+  private void findAndRemove(
+      Instance instance, Action action, UpdateOptionType option, Optional<String> typeIdOptional) {
     if (ADMINISTRATIVE_NOTE.equals(option)) {
       instance.setAdministrativeNotes(
           administrativeNotesUpdater.findAndRemoveAdministrativeNote(
@@ -119,11 +132,12 @@ public class InstanceNotesUpdaterFactory {
     } else if (INSTANCE_NOTE.equals(option)) {
       instance.setInstanceNotes(
           findAndRemoveNoteByValueAndTypeId(
-              action.getInitial(), instance.getInstanceNotes(), action.getParameters()));
+              action.getInitial(), instance.getInstanceNotes(), typeIdOptional));
     }
   }
 
-  private void findAndReplace(Instance instance, Action action, UpdateOptionType option) {
+  private void findAndReplace(
+      Instance instance, Action action, UpdateOptionType option, Optional<String> typeIdOptional) {
     if (ADMINISTRATIVE_NOTE.equals(option)) {
       instance.setAdministrativeNotes(
           administrativeNotesUpdater.findAndReplaceAdministrativeNote(
@@ -131,15 +145,15 @@ public class InstanceNotesUpdaterFactory {
     } else if (INSTANCE_NOTE.equals(option)) {
       if (instance.getInstanceNotes() != null) {
         var notes = new ArrayList<>(instance.getInstanceNotes());
-        findAndReplaceNoteByValueAndTypeId(action, notes);
+        findAndReplaceNoteByValueAndTypeId(action, typeIdOptional, notes);
         instance.setInstanceNotes(notes);
       }
     }
   }
 
-  private void changeNoteType(Instance instance, Action action, UpdateOptionType option) {
+  private void changeNoteType(
+      Instance instance, Action action, UpdateOptionType option, Optional<String> typeIdOptional) {
     if (INSTANCE_NOTE.equals(option) && isNotEmpty(instance.getInstanceNotes())) {
-      var typeIdOptional = getTypeIdOptional(action.getParameters());
       if (typeIdOptional.isPresent()) {
         var typeId = typeIdOptional.get();
         if (ADMINISTRATIVE_NOTE.getValue().equals(action.getUpdated())) {
@@ -177,8 +191,7 @@ public class InstanceNotesUpdaterFactory {
   }
 
   private List<InstanceNote> removeNotesByTypeId(
-      List<InstanceNote> notes, List<Parameter> parameters) {
-    var typeIdOptional = getTypeIdOptional(parameters);
+      List<InstanceNote> notes, Optional<String> typeIdOptional) {
     if (typeIdOptional.isPresent()) {
       var typeId = typeIdOptional.get();
       if (notes != null) {
@@ -193,13 +206,14 @@ public class InstanceNotesUpdaterFactory {
   }
 
   private List<InstanceNote> addToNotesByTypeId(
-      List<InstanceNote> notes, List<Parameter> parameters, String noteValue) {
-    var staffOnly = extractStaffOnlyParamValue(parameters);
-    var typeIdParameterOptional = getTypeIdOptional(parameters);
-    if (typeIdParameterOptional.isPresent()) {
+      List<InstanceNote> notes,
+      Optional<String> typeIdOptional,
+      Boolean staffOnly,
+      String noteValue) {
+    if (typeIdOptional.isPresent()) {
       var note =
           new InstanceNote()
-              .withInstanceNoteTypeId(typeIdParameterOptional.get())
+              .withInstanceNoteTypeId(typeIdOptional.get())
               .withNote(noteValue)
               .withStaffOnly(staffOnly);
       notes = isNull(notes) ? new ArrayList<>() : new ArrayList<>(notes);
@@ -218,8 +232,7 @@ public class InstanceNotesUpdaterFactory {
   }
 
   private List<InstanceNote> findAndRemoveNoteByValueAndTypeId(
-      String valueToRemove, List<InstanceNote> notes, List<Parameter> parameters) {
-    var typeIdOptional = getTypeIdOptional(parameters);
+      String valueToRemove, List<InstanceNote> notes, Optional<String> typeIdOptional) {
     if (typeIdOptional.isPresent() && notes != null) {
       notes = new ArrayList<>(notes);
       var notesToRemove = new ArrayList<InstanceNote>();
@@ -239,8 +252,8 @@ public class InstanceNotesUpdaterFactory {
     return notes;
   }
 
-  private void findAndReplaceNoteByValueAndTypeId(Action action, List<InstanceNote> notes) {
-    var typeIdOptional = getTypeIdOptional(action.getParameters());
+  private void findAndReplaceNoteByValueAndTypeId(
+      Action action, Optional<String> typeIdOptional, List<InstanceNote> notes) {
     if (typeIdOptional.isPresent() && notes != null) {
       var notesToRemove = new ArrayList<InstanceNote>();
       notes.forEach(
@@ -261,6 +274,9 @@ public class InstanceNotesUpdaterFactory {
   }
 
   private Optional<String> getTypeIdOptional(List<Parameter> parameters) {
+    if (isNull(parameters)) {
+      return Optional.empty();
+    }
     return parameters.stream()
         .filter(parameter -> INSTANCE_NOTE_TYPE_ID_KEY.equals(parameter.getKey()))
         .findFirst()
@@ -16,7 +16,9 @@ import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextFo
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +26,8 @@ import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.bean.InventoryItemStatus;
 import org.folio.bulkops.domain.bean.Item;
 import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.LoanType;
+import org.folio.bulkops.domain.bean.MaterialType;
 import org.folio.bulkops.domain.dto.Action;
 import org.folio.bulkops.domain.dto.BulkOperationRule;
 import org.folio.bulkops.domain.dto.UpdateOptionType;
@@ -87,11 +91,24 @@ public class ItemDataProcessor extends FolioAbstractDataProcessor<ExtendedItem>
       UpdateOptionType option, Action action, ExtendedItem entity, boolean forPreview)
       throws RuleValidationTenantsException {
     if (REPLACE_WITH == action.getType()) {
+      // Reference data is resolved once per tenant and kept by the updater for the whole operation
       return switch (option) {
-        case PERMANENT_LOAN_TYPE -> extendedItem -> replacePermanentLoanType(action, extendedItem);
-        case TEMPORARY_LOAN_TYPE -> extendedItem -> replaceTemporaryLoanType(action, extendedItem);
-        case PERMANENT_LOCATION -> extendedItem -> replacePermanentLocation(action, extendedItem);
-        case TEMPORARY_LOCATION -> extendedItem -> replaceTemporaryLocation(action, extendedItem);
+        case PERMANENT_LOAN_TYPE -> {
+          var loanTypes = new ConcurrentHashMap<String, LoanType>();
+          yield extendedItem -> replacePermanentLoanType(action, extendedItem, loanTypes);
+        }
+        case TEMPORARY_LOAN_TYPE -> {
+          var loanTypes = new ConcurrentHashMap<String, LoanType>();
+          yield extendedItem -> replaceTemporaryLoanType(action, extendedItem, loanTypes);
+        }
+        case PERMANENT_LOCATION -> {
+          var locations = new ConcurrentHashMap<String, ItemLocation>();
+          yield extendedItem -> replacePermanentLocation(action, extendedItem, locations);
+        }
+        case TEMPORARY_LOCATION -> {
+          var locations = new ConcurrentHashMap<String, ItemLocation>();
+          yield extendedItem -> replaceTemporaryLocation(action, extendedItem, locations);
+        }
         case STATUS ->
             extendedItem ->
                 extendedItem
@@ -100,7 +117,10 @@ public class ItemDataProcessor extends FolioAbstractDataProcessor<ExtendedItem>
                         new InventoryItemStatus()
                             .withName(InventoryItemStatus.NameEnum.fromValue(action.getUpdated()))
                             .withDate(new Date()));
-        case MATERIAL_TYPE -> extendedItem -> replaceMaterialType(action, extendedItem);
+        case MATERIAL_TYPE -> {
+          var materialTypes = new ConcurrentHashMap<String, MaterialType>();
+          yield extendedItem -> replaceMaterialType(action, extendedItem, materialTypes);
+        }
         default ->
             item -> {
               throw new BulkOperationException(
@@ -214,8 +234,9 @@ public class ItemDataProcessor extends FolioAbstractDataProcessor<ExtendedItem>
         && !ruleTenants.isEmpty()
         && nonNull(actionTenants)
         && !actionTenants.isEmpty()) {
-      ruleTenants.retainAll(actionTenants);
-      return !ruleTenants.contains(extendedItem.getTenant());
+      // rules are shared by batches modified in parallel, so their tenants are not changed
+      return !ruleTenants.contains(extendedItem.getTenant())
+          || !actionTenants.contains(extendedItem.getTenant());
     }
     return nonNull(ruleTenants)
             && !ruleTenants.isEmpty()
@@ -225,64 +246,79 @@ public class ItemDataProcessor extends FolioAbstractDataProcessor<ExtendedItem>
             && !actionTenants.contains(extendedItem.getTenant());
   }
 
-  private void replacePermanentLoanType(Action action, ExtendedItem extendedItem) {
+  private void replacePermanentLoanType(
+      Action action, ExtendedItem extendedItem, Map<String, LoanType> loanTypes) {
     var tenant = RuleUtils.getTenantFromAction(action, folioExecutionContext);
     try (var ignored =
         new FolioExecutionContextSetter(
             prepareContextForTenant(tenant, folioModuleMetadata, folioExecutionContext))) {
       extendedItem
           .getEntity()
-          .setPermanentLoanType(itemReferenceService.getLoanTypeById(action.getUpdated(), tenant));
+          .setPermanentLoanType(
+              loanTypes.computeIfAbsent(
+                  tenant, id -> itemReferenceService.getLoanTypeById(action.getUpdated(), id)));
     }
   }
 
-  private void replaceTemporaryLoanType(Action action, ExtendedItem extendedItem) {
+  private void replaceTemporaryLoanType(
+      Action action, ExtendedItem extendedItem, Map<String, LoanType> loanTypes) {
     var tenant = RuleUtils.getTenantFromAction(action, folioExecutionContext);
     try (var ignored =
         new FolioExecutionContextSetter(
             prepareContextForTenant(tenant, folioModuleMetadata, folioExecutionContext))) {
       extendedItem
           .getEntity()
-          .setTemporaryLoanType(itemReferenceService.getLoanTypeById(action.getUpdated(), tenant));
+          .setTemporaryLoanType(
+              loanTypes.computeIfAbsent(
+                  tenant, id -> itemReferenceService.getLoanTypeById(action.getUpdated(), id)));
     }
   }
 
-  private void replacePermanentLocation(Action action, ExtendedItem extendedItem) {
+  private void replacePermanentLocation(
+      Action action, ExtendedItem extendedItem, Map<String, ItemLocation> locations) {
     var tenant = RuleUtils.getTenantFromAction(action, folioExecutionContext);
     try (var ignored =
         new FolioExecutionContextSetter(
             prepareContextForTenant(tenant, folioModuleMetadata, folioExecutionContext))) {
       extendedItem
           .getEntity()
-          .setPermanentLocation(itemReferenceService.getLocationById(action.getUpdated(), tenant));
+          .setPermanentLocation(
+              locations.computeIfAbsent(
+                  tenant, id -> itemReferenceService.getLocationById(action.getUpdated(), id)));
       extendedItem
           .getEntity()
           .setEffectiveLocation(getEffectiveLocation(extendedItem.getEntity(), tenant));
     }
   }
 
-  private void replaceTemporaryLocation(Action action, ExtendedItem extendedItem) {
+  private void replaceTemporaryLocation(
+      Action action, ExtendedItem extendedItem, Map<String, ItemLocation> locations) {
     var tenant = RuleUtils.getTenantFromAction(action, folioExecutionContext);
     try (var ignored =
         new FolioExecutionContextSetter(
             prepareContextForTenant(tenant, folioModuleMetadata, folioExecutionContext))) {
       extendedItem
           .getEntity()
-          .setTemporaryLocation(itemReferenceService.getLocationById(action.getUpdated(), tenant));
+          .setTemporaryLocation(
+              locations.computeIfAbsent(
+                  tenant, id -> itemReferenceService.getLocationById(action.getUpdated(), id)));
       extendedItem
           .getEntity()
           .setEffectiveLocation(getEffectiveLocation(extendedItem.getEntity(), tenant));
     }
   }
 
-  private void replaceMaterialType(Action action, ExtendedItem extendedItem) {
+  private void replaceMaterialType(
+      Action action, ExtendedItem extendedItem, Map<String, MaterialType> materialTypes) {
     var tenant = RuleUtils.getTenantFromAction(action, folioExecutionContext);
     try (var ignored =
         new FolioExecutionContextSetter(
             prepareContextForTenant(tenant, folioModuleMetadata, folioExecutionContext))) {
       extendedItem
           .getEntity()
-          .setMaterialType(itemReferenceService.getMaterialTypeById(action.getUpdated(), tenant));
+          .setMaterialType(
+              materialTypes.computeIfAbsent(
+                  tenant, id -> itemReferenceService.getMaterialTypeById(action.getUpdated(), id)));
     }
   }
 }
@@ -38,6 +38,7 @@ import tools.jackson.databind.node.ObjectNode;
 @UtilityClass
 public class ItemPatchUtils {
   private static final ObjectMapper mapper = new ObjectMapper();
+  private static final String ITEMS_JSON = "items";
 
   public static ObjectNode fetchChangedData(Item item, BulkOperationRuleCollection rules) {
     var result = createPatchBody(item);
@@ -78,6 +79,13 @@ public class ItemPatchUtils {
     return result;
   }
 
+  /** Body of the storage request patching many items at once. */
+  public static ObjectNode createBatchPatchBody(List<ObjectNode> patches) {
+    var result = mapper.createObjectNode();
+    result.putArray(ITEMS_JSON).addAll(patches);
+    return result;
+  }
+
   public static void addDiscoverySuppress(ObjectNode node, Boolean value) {
     node.set(
         ITEM_JSON_DISCOVERY_SUPPRESS,
@@ -1,13 +1,21 @@
 package org.folio.bulkops.processor.folio;
 
+import static org.folio.bulkops.processor.folio.ItemPatchUtils.createBatchPatchBody;
 import static org.folio.bulkops.processor.folio.ItemPatchUtils.fetchChangedData;
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.folio.bulkops.client.ItemClient;
+import org.folio.bulkops.client.ItemStorageClient;
 import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
 import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.processor.BatchUpdateProcessor;
 import org.folio.bulkops.processor.FolioAbstractUpdateProcessor;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.service.ConsortiaService;
@@ -15,16 +23,20 @@ import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.node.ObjectNode;
 
 @Component
+@Log4j2
 @RequiredArgsConstructor
-public class ItemUpdateProcessor extends FolioAbstractUpdateProcessor<ExtendedItem> {
+public class ItemUpdateProcessor extends FolioAbstractUpdateProcessor<ExtendedItem>
+    implements BatchUpdateProcessor<ExtendedItem> {
 
   private static final String NO_ITEM_WRITE_PERMISSIONS_TEMPLATE =
       "User %s does not have required permission to edit the item record - %s=%s "
           + "on the tenant ";
 
   private final ItemClient itemClient;
+  private final ItemStorageClient itemStorageClient;
   private final FolioModuleMetadata folioModuleMetadata;
   private final FolioExecutionContext folioExecutionContext;
   private final ConsortiaService consortiaService;
@@ -52,6 +64,64 @@ public class ItemUpdateProcessor extends FolioAbstractUpdateProcessor<ExtendedIt
     }
   }
 
+  /**
+   * Patches the items of each tenant with a single item storage request. The permissions are
+   * checked once per tenant. If the storage rejects the batch, e.g. because one of the items has
+   * been changed meanwhile, the items of the batch are patched one by one, so that only the failed
+   * items get errors.
+   */
+  @Override
+  public List<Exception> updateRecords(
+      List<ExtendedItem> extendedItems, BulkOperationRuleCollection rules) {
+    var errors = new ArrayList<Exception>(Collections.nCopies(extendedItems.size(), null));
+    var currentTenantId = folioExecutionContext.getTenantId();
+    var central = consortiaService.isTenantCentral(currentTenantId);
+    var indexesByTenant = new LinkedHashMap<String, List<Integer>>();
+    for (var i = 0; i < extendedItems.size(); i++) {
+      var tenantId = central ? extendedItems.get(i).getTenantId() : currentTenantId;
+      indexesByTenant.computeIfAbsent(tenantId, id -> new ArrayList<>()).add(i);
+    }
+    for (var entry : indexesByTenant.entrySet()) {
+      var tenantId = entry.getKey();
+      var indexes = entry.getValue();
+      List<ObjectNode> patches;
+      try {
+        permissionsValidator.checkIfBulkEditWritePermissionExists(
+            tenantId, EntityType.ITEM, NO_ITEM_WRITE_PERMISSIONS_TEMPLATE + tenantId);
+        patches =
+            indexes.stream()
+                .map(index -> fetchChangedData(extendedItems.get(index).getEntity(), rules))
+                .toList();
+      } catch (Exception e) {
+        indexes.forEach(index -> errors.set(index, e));
+        continue;
+      }
+      try (var ignored =
+          central
+              ? new FolioExecutionContextSetter(
+                  prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))
+              : null) {
+        try {
+          itemStorageClient.patchItems(createBatchPatchBody(patches));
+        } catch (Exception e) {
+          log.warn(
+              "Batch update of {} items failed, updating them one by one: {}",
+              patches.size(),
+              e.getMessage());
+          for (var i = 0; i < patches.size(); i++) {
+            var index = indexes.get(i);
+            try {
+              itemClient.patchItem(patches.get(i), extendedItems.get(index).getEntity().getId());
+            } catch (Exception recordException) {
+              errors.set(index, recordException);
+            }
+          }
+        }
+      }
+    }
+    return errors;
+  }
+
   @Override
   public Class<ExtendedItem> getUpdatedType() {
     return ExtendedItem.class;
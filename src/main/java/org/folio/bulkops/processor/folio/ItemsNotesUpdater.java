@@ -29,6 +29,7 @@ import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.bean.Item;
 import org.folio.bulkops.domain.bean.ItemNote;
 import org.folio.bulkops.domain.dto.Action;
+import org.folio.bulkops.domain.dto.Parameter;
 import org.folio.bulkops.domain.dto.UpdateOptionType;
 import org.folio.bulkops.processor.Updater;
 import org.springframework.stereotype.Component;
@@ -98,27 +99,23 @@ public class ItemsNotesUpdater {
             }
           });
     } else if (option == ITEM_NOTE) {
+      var noteTypeId = getItemNoteTypeId(action);
       return Optional.of(
           extendedItem ->
-              action.getParameters().stream()
-                  .filter(p -> StringUtils.equals(p.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                  .findFirst()
-                  .ifPresent(
-                      parameter -> {
-                        var itemNoteTypeId = parameter.getValue();
-                        if (extendedItem.getEntity().getNotes() != null) {
-                          extendedItem
-                              .getEntity()
-                              .getNotes()
-                              .forEach(
-                                  itemNote -> {
-                                    if (StringUtils.equals(
-                                        itemNoteTypeId, itemNote.getItemNoteTypeId())) {
-                                      itemNote.setStaffOnly(markAsStaffValue);
-                                    }
-                                  });
-                        }
-                      }));
+              noteTypeId.ifPresent(
+                  typeId -> {
+                    if (extendedItem.getEntity().getNotes() != null) {
+                      extendedItem
+                          .getEntity()
+                          .getNotes()
+                          .forEach(
+                              itemNote -> {
+                                if (StringUtils.equals(typeId, itemNote.getItemNoteTypeId())) {
+                                  itemNote.setStaffOnly(markAsStaffValue);
+                                }
+                              });
+                    }
+                  }));
     }
     return Optional.empty();
   }
@@ -157,26 +154,19 @@ public class ItemsNotesUpdater {
             }
           });
     } else if (option == ITEM_NOTE) {
+      var noteTypeId = getItemNoteTypeId(action);
       return Optional.of(
           extendedItem ->
-              action.getParameters().stream()
-                  .filter(
-                      parameter -> StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                  .findFirst()
-                  .ifPresent(
-                      parameter -> {
-                        var itemNoteTypeId = parameter.getValue();
-                        if (extendedItem.getEntity().getNotes() != null) {
-                          var notes =
-                              extendedItem.getEntity().getNotes().stream()
-                                  .filter(
-                                      note ->
-                                          !StringUtils.equals(
-                                              note.getItemNoteTypeId(), itemNoteTypeId))
-                                  .toList();
-                          extendedItem.getEntity().setNotes(notes);
-                        }
-                      }));
+              noteTypeId.ifPresent(
+                  typeId -> {
+                    if (extendedItem.getEntity().getNotes() != null) {
+                      var notes =
+                          extendedItem.getEntity().getNotes().stream()
+                              .filter(note -> !StringUtils.equals(note.getItemNoteTypeId(), typeId))
+                              .toList();
+                      extendedItem.getEntity().setNotes(notes);
+                    }
+                  }));
     }
     return Optional.empty();
   }
@@ -214,28 +204,25 @@ public class ItemsNotesUpdater {
           });
     } else if (option == ITEM_NOTE) {
       var staffOnly = extractStaffOnlyParamValue(action);
+      var noteTypeId = getItemNoteTypeId(action);
       return Optional.of(
           extendedItem ->
-              action.getParameters().stream()
-                  .filter(
-                      parameter -> StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                  .findFirst()
-                  .ifPresent(
-                      parameter -> {
-                        var note =
-                            new ItemNote()
-                                .withItemNoteTypeId(parameter.getValue())
-                                .withNote(action.getUpdated())
-                                .withStaffOnly(staffOnly);
-                        var notes = extendedItem.getEntity().getNotes();
-                        if (notes == null) {
-                          notes = new ArrayList<>();
-                        } else {
-                          notes = new ArrayList<>(notes);
-                        }
-                        extendedItem.getEntity().setNotes(notes);
-                        notes.add(note);
-                      }));
+              noteTypeId.ifPresent(
+                  typeId -> {
+                    var note =
+                        new ItemNote()
+                            .withItemNoteTypeId(typeId)
+                            .withNote(action.getUpdated())
+                            .withStaffOnly(staffOnly);
+                    var notes = extendedItem.getEntity().getNotes();
+                    if (notes == null) {
+                      notes = new ArrayList<>();
+                    } else {
+                      notes = new ArrayList<>(notes);
+                    }
+                    extendedItem.getEntity().setNotes(notes);
+                    notes.add(note);
+                  }));
     }
     return Optional.empty();
   }
@@ -251,6 +238,20 @@ public class ItemsNotesUpdater {
         .orElse(false);
   }
 
+  /**
+   * Note type of item note actions is taken from the action parameters once, when the updater is
+   * built, instead of for every updated record.
+   */
+  private Optional<String> getItemNoteTypeId(Action action) {
+    if (CollectionUtils.isEmpty(action.getParameters())) {
+      return Optional.empty();
+    }
+    return action.getParameters().stream()
+        .filter(parameter -> StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
+        .findFirst()
+        .map(Parameter::getValue);
+  }
+
   private Optional<Updater<ExtendedItem>> changeType(Action action, UpdateOptionType option) {
     if (option == ADMINISTRATIVE_NOTE) {
       return Optional.of(
@@ -264,24 +265,21 @@ public class ItemsNotesUpdater {
             changeNoteTypeForCirculationNotes(extendedItem.getEntity(), noteTypeToUse, option);
           });
     } else if (option == ITEM_NOTE) {
+      var noteTypeId = getItemNoteTypeId(action);
       return Optional.of(
           extendedItem ->
-              action.getParameters().stream()
-                  .filter(
-                      parameter -> StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                  .findFirst()
-                  .ifPresent(
-                      parameter -> {
-                        var noteTypeToUse = action.getUpdated();
-                        changeNoteTypeForItemNotes(
-                            extendedItem.getEntity(), noteTypeToUse, parameter.getValue());
-                      }));
+              noteTypeId.ifPresent(
+                  typeId -> {
+                    var noteTypeToUse = action.getUpdated();
+                    changeNoteTypeForItemNotes(extendedItem.getEntity(), noteTypeToUse, typeId);
+                  }));
     }
     return Optional.empty();
   }
 
   private Optional<Updater<ExtendedItem>> findAndRemoveThese(
       Action action, UpdateOptionType option) {
+    var noteTypeId = getItemNoteTypeId(action);
     return switch (option) {
       case ADMINISTRATIVE_NOTE ->
           Optional.of(
@@ -322,40 +320,33 @@ public class ItemsNotesUpdater {
       case ITEM_NOTE ->
           Optional.of(
               extendedItem ->
-                  action.getParameters().stream()
-                      .filter(
-                          parameter ->
-                              StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                      .findFirst()
-                      .ifPresent(
-                          parameter -> {
-                            if (extendedItem.getEntity().getNotes() != null) {
-                              var notes = new ArrayList<>(extendedItem.getEntity().getNotes());
-                              var notesToRemove = new ArrayList<ItemNote>();
-                              notes.stream()
-                                  .filter(
-                                      note ->
-                                          StringUtils.equals(
-                                              note.getItemNoteTypeId(), parameter.getValue()))
-                                  .forEach(
-                                      note -> {
-                                        String updatedNote =
-                                            note.getNote().replace(action.getInitial(), EMPTY);
-                                        if (updatedNote.isBlank()) {
-                                          notesToRemove.add(note);
-                                        } else {
-                                          note.setNote(updatedNote);
-                                        }
-                                      });
-                              notes.removeAll(notesToRemove);
-                              extendedItem.getEntity().setNotes(notes);
-                            }
-                          }));
+                  noteTypeId.ifPresent(
+                      typeId -> {
+                        if (extendedItem.getEntity().getNotes() != null) {
+                          var notes = new ArrayList<>(extendedItem.getEntity().getNotes());
+                          var notesToRemove = new ArrayList<ItemNote>();
+                          notes.stream()
+                              .filter(note -> StringUtils.equals(note.getItemNoteTypeId(), typeId))
+                              .forEach(
+                                  note -> {
+                                    String updatedNote =
+                                        note.getNote().replace(action.getInitial(), EMPTY);
+                                    if (updatedNote.isBlank()) {
+                                      notesToRemove.add(note);
+                                    } else {
+                                      note.setNote(updatedNote);
+                                    }
+                                  });
+                          notes.removeAll(notesToRemove);
+                          extendedItem.getEntity().setNotes(notes);
+                        }
+                      }));
       default -> Optional.empty();
     };
   }
 
   private Optional<Updater<ExtendedItem>> findAndReplace(Action action, UpdateOptionType option) {
+    var noteTypeId = getItemNoteTypeId(action);
     return switch (option) {
       case ADMINISTRATIVE_NOTE ->
           Optional.of(
@@ -400,37 +391,31 @@ public class ItemsNotesUpdater {
       case ITEM_NOTE ->
           Optional.of(
               extendedItem ->
-                  action.getParameters().stream()
-                      .filter(
-                          parameter ->
-                              StringUtils.equals(parameter.getKey(), ITEM_NOTE_TYPE_ID_KEY))
-                      .findFirst()
-                      .ifPresent(
-                          parameter -> {
-                            if (extendedItem.getEntity().getNotes() != null) {
-                              var notes = new ArrayList<>(extendedItem.getEntity().getNotes());
-                              var notesToRemove = new ArrayList<ItemNote>();
-                              notes.forEach(
-                                  itemNote -> {
-                                    if (StringUtils.equals(
-                                            itemNote.getItemNoteTypeId(), parameter.getValue())
-                                        && contains(itemNote.getNote(), action.getInitial())) {
-                                      String replacedNote =
-                                          replace(
-                                              itemNote.getNote(),
-                                              action.getInitial(),
-                                              action.getUpdated());
-                                      if (replacedNote.trim().isEmpty()) {
-                                        notesToRemove.add(itemNote);
-                                      } else {
-                                        itemNote.setNote(replacedNote);
-                                      }
-                                    }
-                                  });
-                              notes.removeAll(notesToRemove);
-                              extendedItem.getEntity().setNotes(notes);
-                            }
-                          }));
+                  noteTypeId.ifPresent(
+                      typeId -> {
+                        if (extendedItem.getEntity().getNotes() != null) {
+                          var notes = new ArrayList<>(extendedItem.getEntity().getNotes());
+                          var notesToRemove = new ArrayList<ItemNote>();
+                          notes.forEach(
+                              itemNote -> {
+                                if (StringUtils.equals(itemNote.getItemNoteTypeId(), typeId)
+                                    && contains(itemNote.getNote(), action.getInitial())) {
+                                  String replacedNote =
+                                      replace(
+                                          itemNote.getNote(),
+                                          action.getInitial(),
+                                          action.getUpdated());
+                                  if (replacedNote.trim().isEmpty()) {
+                                    notesToRemove.add(itemNote);
+                                  } else {
+                                    itemNote.setNote(replacedNote);
+                                  }
+                                }
+                              });
+                          notes.removeAll(notesToRemove);
+                          extendedItem.getEntity().setNotes(notes);
+                        }
+                      }));
       default -> Optional.empty();
     };
   }
@@ -14,6 +14,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.bulkops.domain.bean.Locale;
@@ -81,26 +82,32 @@ public class UserDataProcessor extends FolioAbstractDataProcessor<User> {
       UpdateOptionType option, Action action, User entity, boolean forPreview) {
     return switch (option) {
       case PATRON_GROUP -> user -> user.setPatronGroup(action.getUpdated());
-      case EXPIRATION_DATE ->
-          user -> {
-            Date date;
-            SimpleDateFormat parser = new SimpleDateFormat(DATE_TIME_FORMAT);
-            var timezone =
-                ofNullable(userReferenceService.getTenantLocale())
-                    .map(Locale::getTimezone)
-                    .orElse("UTC");
-            parser.setTimeZone(TimeZone.getTimeZone(timezone));
-            try {
-              date = parser.parse(action.getUpdated());
-            } catch (ParseException e) {
-              throw new BulkOperationException(
-                  String.format(
-                      "Invalid date format: %s, expected yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
-                      action.getUpdated()));
-            }
-            user.setExpirationDate(date);
-            user.setActive(date.after(new Date()));
-          };
+      case EXPIRATION_DATE -> {
+        // Tenant timezone is resolved once per tenant and kept by the updater
+        var timezones = new ConcurrentHashMap<String, String>();
+        yield user -> {
+          Date date;
+          SimpleDateFormat parser = new SimpleDateFormat(DATE_TIME_FORMAT);
+          var timezone =
+              timezones.computeIfAbsent(
+                  Objects.toString(folioExecutionContext.getTenantId(), ""),
+                  tenantId ->
+                      ofNullable(userReferenceService.getTenantLocale())
+                          .map(Locale::getTimezone)
+                          .orElse("UTC"));
+          parser.setTimeZone(TimeZone.getTimeZone(timezone));
+          try {
+            date = parser.parse(action.getUpdated());
+          } catch (ParseException e) {
+            throw new BulkOperationException(
+                String.format(
+                    "Invalid date format: %s, expected yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+                    action.getUpdated()));
+          }
+          user.setExpirationDate(date);
+          user.setActive(date.after(new Date()));
+        };
+      }
       case EMAIL_ADDRESS ->
           user -> {
             var initial = action.getInitial();
@@ -0,0 +1,118 @@
+package org.folio.bulkops.processor.marc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.client.DataImportClient;
+import org.folio.bulkops.client.DataImportRestS3UploadClient;
+import org.folio.bulkops.domain.bean.UploadUrlResponse;
+import org.folio.bulkops.exception.ServerErrorException;
+import org.folio.bulkops.service.CommitWindowExecutor;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Uploads a file to the storage of Data Import as a multipart upload. The file is read in parts of
+ * a fixed size, up to {@code maxConcurrentParts} parts are uploaded at once and every part is
+ * retried on its own, so neither the whole file is held in memory nor a failed request restarts
+ * the whole upload.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class DataImportMultipartUploader {
+  private static final int MIN_PART_SIZE_MB = 5;
+  private static final int BYTES_IN_MB = 1024 * 1024;
+
+  @Value("${application.data-import-integration.upload.part-size-mb:16}")
+  private int partSizeMb;
+
+  @Value("${application.data-import-integration.upload.max-concurrent-parts:4}")
+  private int maxConcurrentParts;
+
+  @Value("${application.data-import-integration.upload.max-attempts:3}")
+  private int maxAttempts;
+
+  @Value("${application.data-import-integration.upload.retry-delay-ms:1000}")
+  private long retryDelayMs;
+
+  private final DataImportClient dataImportClient;
+  private final DataImportRestS3UploadClient dataImportRestS3UploadClient;
+  private final CommitWindowExecutor commitWindowExecutor;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Uploads the content part by part.
+   *
+   * @param firstPartUrl upload URL of the first part, which started the multipart upload
+   * @param content content of the file, read up to its end
+   * @return ETags of the uploaded parts in the order of the parts
+   */
+  public List<String> upload(UploadUrlResponse firstPartUrl, InputStream content)
+      throws IOException {
+    var partSize = Math.max(MIN_PART_SIZE_MB, partSizeMb) * BYTES_IN_MB;
+    var etags = new ArrayList<String>();
+    try (var window = commitWindowExecutor.<String>openWindow(maxConcurrentParts, etags::add)) {
+      var partNumber = 1;
+      var part = content.readNBytes(partSize);
+      while (partNumber == 1 || part.length != 0) {
+        var number = partNumber;
+        var bytes = part;
+        window.submit(
+            folioExecutionContext.getTenantId(), () -> uploadPart(firstPartUrl, number, bytes));
+        partNumber++;
+        part = content.readNBytes(partSize);
+      }
+      window.drain();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    log.info("Uploaded {} parts of file {}", etags.size(), firstPartUrl.getKey());
+    return etags;
+  }
+
+  private String uploadPart(UploadUrlResponse firstPartUrl, int partNumber, byte[] bytes) {
+    String url = partNumber == 1 ? firstPartUrl.getUrl() : null;
+    for (var attempt = 1; ; attempt++) {
+      try {
+        if (url == null) {
+          url =
+              dataImportClient
+                  .getUploadUrlForSubsequentPart(
+                      firstPartUrl.getKey(), firstPartUrl.getUploadId(), partNumber)
+                  .getUrl();
+        }
+        return dataImportRestS3UploadClient.uploadFile(url, bytes).getHeaders().getETag();
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts) {
+          throw new UncheckedIOException(
+              new IOException(
+                  "Failed to upload part %d of file %s after %d attempts: %s"
+                      .formatted(partNumber, firstPartUrl.getKey(), attempt, e.getMessage()),
+                  e));
+        }
+        log.warn(
+            "Attempt #{} to upload part {} of file {} failed: {}",
+            attempt,
+            partNumber,
+            firstPartUrl.getKey(),
+            e.getMessage());
+        sleep(retryDelayMs * attempt);
+      }
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServerErrorException("Upload to Data Import was interrupted");
+    }
+  }
+}
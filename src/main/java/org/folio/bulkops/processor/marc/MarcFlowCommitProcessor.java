@@ -16,19 +16,18 @@ import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import com.opencsv.exceptions.CsvValidationException;
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.SequenceInputStream;
-import java.io.StringWriter;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.CollectionUtils;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.ExtendedInstance;
 import org.folio.bulkops.domain.bean.Instance;
@@ -37,6 +36,7 @@ import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
 import org.folio.bulkops.processor.CommitProcessor;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.ErrorService;
+import org.folio.bulkops.service.MarcRecordIndexService;
 import org.folio.bulkops.util.BulkOperationsEntityCsvWriter;
 import org.folio.bulkops.util.CsvHelper;
 import org.folio.bulkops.util.UnifiedTableHeaderBuilder;
@@ -44,7 +44,6 @@ import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.marc4j.MarcStreamReader;
-import org.marc4j.MarcStreamWriter;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.ObjectMapper;
 
@@ -58,11 +57,14 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
   private final FolioExecutionContext folioExecutionContext;
   private final FolioModuleMetadata folioModuleMetadata;
   private final ErrorService errorService;
+  private final MarcRecordIndexService marcRecordIndexService;
 
   @Override
   public void processCommit(BulkOperation bulkOperation) {
+    var marcHridsFuture =
+        CompletableFuture.supplyAsync(() -> getUpdatedMarcInstanceHrids(bulkOperation));
     var csvHrids = getUpdatedInventoryInstanceHrids(bulkOperation);
-    var marcHrids = getUpdatedMarcInstanceHrids(bulkOperation);
+    var marcHrids = marcHridsFuture.join();
 
     var updatedHrids = new HashSet<>(csvHrids);
     updatedHrids.addAll(marcHrids);
@@ -73,30 +75,37 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
   }
 
   public void enrichCommittedCsvWithUpdatedMarcRecords(
-      BulkOperation bulkOperation, List<String> csvHrids, List<String> marcHrids) {
-    var hrids = CollectionUtils.subtract(marcHrids, csvHrids);
+      BulkOperation bulkOperation, Set<String> csvHrids, Set<String> marcHrids) {
+    var hrids = subtract(marcHrids, csvHrids);
     if (!hrids.isEmpty() && nonNull(bulkOperation.getLinkToMatchedRecordsJsonFile())) {
+      var linkToCommitted = bulkOperation.getLinkToCommittedRecordsCsvFile();
       var dirName =
-          isNull(bulkOperation.getLinkToCommittedRecordsCsvFile())
+          isNull(linkToCommitted)
               ? bulkOperation.getId().toString()
               : ENRICHED_PREFIX + bulkOperation.getId();
       var committedCsvFileName =
           CHANGED_CSV_PATH_TEMPLATE.formatted(
               dirName, LocalDate.now(), getBaseName(bulkOperation.getLinkToTriggeringCsvFile()));
+      List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
       try (var matchedFileReader =
               new InputStreamReader(
                   new BufferedInputStream(
                       remoteFileSystemClient.get(
                           bulkOperation.getLinkToMatchedRecordsJsonFile())));
-          var writer =
-              isNull(bulkOperation.getLinkToCommittedRecordsCsvFile())
-                  ? remoteFileSystemClient.writer(committedCsvFileName)
-                  : new StringWriter()) {
+          var writer = remoteFileSystemClient.writer(committedCsvFileName)) {
+        if (nonNull(linkToCommitted)) {
+          try (var committedFileReader =
+              new InputStreamReader(remoteFileSystemClient.get(linkToCommitted), UTF_8)) {
+            committedFileReader.transferTo(writer);
+          }
+        }
         var matchedFileParser = objectMapper.createParser(matchedFileReader);
         var matchedFileIterator =
             objectMapper.readValues(matchedFileParser, ExtendedInstance.class);
-        var csvWriter = new BulkOperationsEntityCsvWriter(writer, Instance.class);
-        List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
+        var csvWriter =
+            new BulkOperationsEntityCsvWriter(
+                isNull(linkToCommitted) ? writer : new HeaderSkippingWriter(writer),
+                Instance.class);
         while (matchedFileIterator.hasNext()) {
           var extendedInstance = matchedFileIterator.next();
           var instance = extendedInstance.getEntity();
@@ -127,28 +136,21 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
             }
           }
         }
-        bulkOperationExecutionContents.forEach(errorService::saveError);
-        if (nonNull(bulkOperation.getLinkToCommittedRecordsCsvFile())) {
-          var appendedCsvRecords = writer.toString();
-          appendedCsvRecords =
-              appendedCsvRecords.substring(appendedCsvRecords.indexOf(LINE_BREAK) + 1);
-          var appendedCsvStream =
-              new SequenceInputStream(
-                  remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsCsvFile()),
-                  new ByteArrayInputStream(appendedCsvRecords.getBytes()));
-          remoteFileSystemClient.put(appendedCsvStream, committedCsvFileName);
-          remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsCsvFile());
-        }
-        bulkOperation.setLinkToCommittedRecordsCsvFile(committedCsvFileName);
       } catch (IOException | CsvRequiredFieldEmptyException | CsvDataTypeMismatchException e) {
         log.error("Failed to enrich csv file", e);
+        return;
       }
+      bulkOperationExecutionContents.forEach(errorService::saveError);
+      if (nonNull(linkToCommitted)) {
+        remoteFileSystemClient.remove(linkToCommitted);
+      }
+      bulkOperation.setLinkToCommittedRecordsCsvFile(committedCsvFileName);
     }
   }
 
   public void enrichCommittedMarcWithUpdatedInventoryRecords(
-      BulkOperation bulkOperation, List<String> csvHrids, List<String> marcHrids) {
-    var hrids = CollectionUtils.subtract(csvHrids, marcHrids);
+      BulkOperation bulkOperation, Set<String> csvHrids, Set<String> marcHrids) {
+    var hrids = subtract(csvHrids, marcHrids);
     if (!hrids.isEmpty() && nonNull(bulkOperation.getLinkToMatchedRecordsMarcFile())) {
       var linkToCommitted = bulkOperation.getLinkToCommittedRecordsMarcFile();
       var dirName =
@@ -160,41 +162,39 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
               dirName, LocalDate.now(), getBaseName(bulkOperation.getLinkToTriggeringCsvFile()));
       try (var matchedMarcInputStream =
               remoteFileSystemClient.get(bulkOperation.getLinkToMatchedRecordsMarcFile());
-          var committedMarcInputStream =
-              isNull(linkToCommitted) ? null : remoteFileSystemClient.get(linkToCommitted);
-          var marcOutputStream = new ByteArrayOutputStream()) {
+          var marcWriter = remoteFileSystemClient.marcWriter(committedMarcFileName)) {
+        if (nonNull(linkToCommitted)) {
+          try (var committedMarcInputStream = remoteFileSystemClient.get(linkToCommitted)) {
+            marcWriter.writeRecords(committedMarcInputStream);
+          }
+        }
         var marcReader = new MarcStreamReader(matchedMarcInputStream);
-        var streamWriter = new MarcStreamWriter(marcOutputStream, "UTF-8");
         while (marcReader.hasNext()) {
           var marcRecord = marcReader.next();
           if (hrids.contains(marcRecord.getControlNumber())) {
-            streamWriter.write(marcRecord);
+            marcWriter.writeRecord(marcRecord);
           }
         }
-        var appendedMarcStream =
-            new ByteArrayInputStream(marcOutputStream.toString(UTF_8).getBytes());
-        var committedMarcStream =
-            isNull(linkToCommitted)
-                ? appendedMarcStream
-                : new SequenceInputStream(committedMarcInputStream, appendedMarcStream);
-        remoteFileSystemClient.put(committedMarcStream, committedMarcFileName);
-        if (nonNull(bulkOperation.getLinkToCommittedRecordsMarcFile())) {
-          remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsMarcFile());
-        }
-        bulkOperation.setLinkToCommittedRecordsMarcFile(committedMarcFileName);
       } catch (IOException e) {
         log.error("Failed to enrich marc file", e);
+        return;
+      }
+      if (nonNull(linkToCommitted)) {
+        remoteFileSystemClient.remove(linkToCommitted);
+        marcRecordIndexService.removeIndex(linkToCommitted);
       }
+      bulkOperation.setLinkToCommittedRecordsMarcFile(committedMarcFileName);
     }
   }
 
-  public List<String> getUpdatedInventoryInstanceHrids(BulkOperation bulkOperation) {
-    List<String> updatedHrids = new ArrayList<>();
+  public Set<String> getUpdatedInventoryInstanceHrids(BulkOperation bulkOperation) {
+    Set<String> updatedHrids = new HashSet<>();
     if (nonNull(bulkOperation.getLinkToCommittedRecordsCsvFile())) {
       var instanceHeaderNames =
           UnifiedTableHeaderBuilder.getEmptyTableWithHeaders(Instance.class).getHeader().stream()
               .map(org.folio.bulkops.domain.dto.Cell::getValue)
               .toList();
+      var hridIndex = instanceHeaderNames.indexOf(INSTANCE_HRID);
       try (var reader =
           new CSVReaderBuilder(
                   new InputStreamReader(
@@ -205,7 +205,7 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
         String[] line;
         while ((line = reader.readNext()) != null) {
           if (line.length == instanceHeaderNames.size()) {
-            updatedHrids.add(line[instanceHeaderNames.indexOf(INSTANCE_HRID)]);
+            updatedHrids.add(line[hridIndex]);
           }
         }
       } catch (IOException | CsvValidationException e) {
@@ -215,8 +215,8 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
     return updatedHrids;
   }
 
-  public List<String> getUpdatedMarcInstanceHrids(BulkOperation bulkOperation) {
-    List<String> updatedHrids = new ArrayList<>();
+  public Set<String> getUpdatedMarcInstanceHrids(BulkOperation bulkOperation) {
+    Set<String> updatedHrids = new HashSet<>();
     if (nonNull(bulkOperation.getLinkToCommittedRecordsMarcFile())) {
       try (var marcInputStream =
           remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsMarcFile())) {
@@ -231,4 +231,52 @@ public class MarcFlowCommitProcessor implements CommitProcessor {
     }
     return updatedHrids;
   }
+
+  private static Set<String> subtract(Set<String> hrids, Set<String> hridsToRemove) {
+    var result = new HashSet<>(hrids);
+    result.removeAll(hridsToRemove);
+    return result;
+  }
+
+  /** Drops the header line written by the csv writer when rows are appended to a file. */
+  private static class HeaderSkippingWriter extends FilterWriter {
+    private boolean headerSkipped;
+
+    private HeaderSkippingWriter(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      if (headerSkipped) {
+        super.write(c);
+      } else if (c == LINE_BREAK.charAt(0)) {
+        headerSkipped = true;
+      }
+    }
+
+    @Override
+    public void write(char[] chars, int off, int len) throws IOException {
+      write(new String(chars, off, len), 0, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      if (!headerSkipped) {
+        var lineBreak = str.indexOf(LINE_BREAK, off);
+        if (lineBreak < 0 || lineBreak >= off + len) {
+          return;
+        }
+        headerSkipped = true;
+        len -= lineBreak + 1 - off;
+        off = lineBreak + 1;
+      }
+      super.write(str, off, len);
+    }
+
+    @Override
+    public void close() {
+      // the underlying writer is closed by its owner
+    }
+  }
 }
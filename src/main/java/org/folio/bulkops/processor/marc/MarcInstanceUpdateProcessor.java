@@ -6,6 +6,8 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.bulkops.util.Constants.MARC;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -15,7 +17,6 @@ import org.apache.commons.io.FilenameUtils;
 import org.folio.bulkops.builder.DataImportProfilesBuilder;
 import org.folio.bulkops.client.DataImportClient;
 import org.folio.bulkops.client.DataImportProfilesClient;
-import org.folio.bulkops.client.DataImportRestS3UploadClient;
 import org.folio.bulkops.client.DataImportUploadClient;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.ActionProfile;
@@ -49,15 +50,18 @@ public class MarcInstanceUpdateProcessor implements MarcUpdateProcessor {
   private final DataImportProfilesBuilder dataImportProfilesBuilder;
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final BulkOperationRepository bulkOperationRepository;
-  private final DataImportRestS3UploadClient dataImportRestS3UploadClient;
+  private final DataImportMultipartUploader dataImportMultipartUploader;
   private final BulkOperationServiceHelper bulkOperationServiceHelper;
 
   public void updateMarcRecords(BulkOperation bulkOperation) throws IOException {
-    try (var is = remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsMarcFile())) {
-      var content = is.readAllBytes();
-      if (content.length != 0) {
+    try (var is =
+        new PushbackInputStream(
+            remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsMarcFile()))) {
+      var firstByte = is.read();
+      if (firstByte != -1) {
+        is.unread(firstByte);
         var jobProfile = createJobProfile();
-        var uploadDefinition = uploadMarcFile(bulkOperation, content);
+        var uploadDefinition = uploadMarcFile(bulkOperation, is);
         dataImportClient.uploadFileDefinitionsProcessFiles(
             UploadFileDefinitionProcessFiles.builder()
                 .uploadFileDefinition(uploadDefinition)
@@ -118,7 +122,8 @@ public class MarcInstanceUpdateProcessor implements MarcUpdateProcessor {
         POSTFIX_PATTERN, isEmpty(name) ? EMPTY : name, MarcDateHelper.getDateTimeForMarc(date));
   }
 
-  private UploadFileDefinition uploadMarcFile(BulkOperation bulkOperation, byte[] content) {
+  private UploadFileDefinition uploadMarcFile(BulkOperation bulkOperation, InputStream content)
+      throws IOException {
     var uploadDefinition =
         dataImportClient.postUploadDefinition(
             UploadFileDefinition.builder()
@@ -139,21 +144,17 @@ public class MarcInstanceUpdateProcessor implements MarcUpdateProcessor {
     if (TRUE.equals(splitStatus.getSplitStatus())) {
       var uploadUrlResponse =
           dataImportClient.getUploadUrl(uploadDefinition.getFileDefinitions().getFirst().getName());
-      var etag =
-          dataImportRestS3UploadClient
-              .uploadFile(uploadUrlResponse.getUrl(), content)
-              .getHeaders()
-              .getETag();
+      var etags = dataImportMultipartUploader.upload(uploadUrlResponse, content);
       dataImportClient.assembleStorageFile(
           uploadDefinitionId,
           fileDefinitionId,
           new AssembleStorageFileRequestBody(
-              uploadUrlResponse.getUploadId(), uploadUrlResponse.getKey(), List.of(etag)));
+              uploadUrlResponse.getUploadId(), uploadUrlResponse.getKey(), etags));
       uploadDefinition = dataImportClient.getUploadDefinitionById(uploadDefinitionId);
     } else {
       uploadDefinition =
           dataImportUploadClient.uploadFileDefinitionsFiles(
-              uploadDefinitionId, fileDefinitionId, content);
+              uploadDefinitionId, fileDefinitionId, content.readAllBytes());
     }
     return uploadDefinition;
   }
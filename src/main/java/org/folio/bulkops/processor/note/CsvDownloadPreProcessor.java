@@ -4,10 +4,8 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.folio.bulkops.service.TenantTableUpdater.TENANT_VALUE_IN_CONSORTIA_FOR_MEMBER;
 
-import com.opencsv.CSVReaderBuilder;
 import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -20,7 +18,7 @@ import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.NoteTableUpdater;
-import org.folio.bulkops.util.CsvHelper;
+import org.folio.bulkops.util.CsvDownloadStreams;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
@@ -28,8 +26,6 @@ import org.springframework.cache.CacheManager;
 @Log4j2
 public abstract class CsvDownloadPreProcessor {
 
-  private static final int FIRST_LINE = 1;
-
   protected NoteTableUpdater noteTableUpdater;
   protected CacheManager cacheManager;
 
@@ -57,6 +53,16 @@ public abstract class CsvDownloadPreProcessor {
   }
 
   public byte[] processCsvContent(byte[] input, BulkOperation bulkOperation) {
+    try (var output = processCsvStream(new ByteArrayInputStream(input), bulkOperation)) {
+      return output.readAllBytes();
+    } catch (Exception e) {
+      log.error(e.getMessage());
+      return new byte[0];
+    }
+  }
+
+  /** Splits notes of the CSV content into columns by note type as the content is read. */
+  public InputStream processCsvStream(InputStream input, BulkOperation bulkOperation) {
     Map<String, UserTenant> userTenants = new HashMap<>();
     boolean isCentralOrMemberTenant =
         consortiaService.isTenantInConsortia(folioExecutionContext.getTenantId());
@@ -71,32 +77,21 @@ public abstract class CsvDownloadPreProcessor {
     List<String> noteTypeNames = getNoteTypeNames(bulkOperation);
     var noteTypeHeaders =
         noteTypeNames.stream().map(noteTableUpdater::concatNotePostfixIfRequired).toList();
-
-    try (var reader =
-            new CSVReaderBuilder(new InputStreamReader(new ByteArrayInputStream(input)))
-                .withCSVParser(CsvHelper.getCsvParser())
-                .build();
-        var stringWriter = new StringWriter()) {
-      String[] line;
-      while ((line = reader.readNext()) != null) {
-        if (reader.getRecordsRead() == FIRST_LINE) {
-          var headers = new ArrayList<>(Arrays.asList(line));
-          headers.remove(getNotePosition());
-          headers.addAll(getNotePosition(), noteTypeHeaders);
-          line = headers.stream().map(this::processSpecialCharacters).toArray(String[]::new);
-          line = processTenantInHeaders(line, isCentralOrMemberTenant, isTypeWithTenant);
-        } else {
-          line = processTenantInRows(line, isCentralOrMemberTenant, isTypeWithTenant, userTenants);
-          line = processNotesData(line, noteTypeNames, bulkOperation);
-        }
-        stringWriter.write(String.join(",", line) + "\n");
-      }
-      stringWriter.flush();
-      return stringWriter.toString().getBytes();
-    } catch (Exception e) {
-      log.error(e.getMessage());
-      return new byte[0];
-    }
+    var tenants = userTenants;
+
+    return CsvDownloadStreams.transformLines(
+        input,
+        (line, header) -> {
+          if (header) {
+            var headers = new ArrayList<>(Arrays.asList(line));
+            headers.remove(getNotePosition());
+            headers.addAll(getNotePosition(), noteTypeHeaders);
+            line = headers.stream().map(this::processSpecialCharacters).toArray(String[]::new);
+            return processTenantInHeaders(line, isCentralOrMemberTenant, isTypeWithTenant);
+          }
+          line = processTenantInRows(line, isCentralOrMemberTenant, isTypeWithTenant, tenants);
+          return processNotesData(line, noteTypeNames, bulkOperation);
+        });
   }
 
   protected abstract List<String> getNoteTypeNames(BulkOperation bulkOperation);
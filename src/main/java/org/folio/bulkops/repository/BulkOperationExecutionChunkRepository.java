@@ -1,5 +1,6 @@
 package org.folio.bulkops.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionChunk;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,4 +8,9 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BulkOperationExecutionChunkRepository
-    extends JpaRepository<BulkOperationExecutionChunk, UUID> {}
+    extends JpaRepository<BulkOperationExecutionChunk, UUID> {
+
+  /** Last checkpoint of the execution, i.e. its chunk with the greatest last record index. */
+  Optional<BulkOperationExecutionChunk>
+      findFirstByBulkOperationExecutionIdOrderByLastRecordIndexDesc(UUID bulkOperationExecutionId);
+}
@@ -1,38 +1,85 @@
 package org.folio.bulkops.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.folio.bulkops.domain.bean.StateType;
 import org.folio.bulkops.domain.dto.ErrorType;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
-import org.folio.spring.data.OffsetRequest;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BulkOperationExecutionContentRepository
     extends JpaRepository<BulkOperationExecutionContent, UUID> {
 
-  Page<BulkOperationExecutionContent> findByBulkOperationIdAndErrorMessageIsNotNullOrderByErrorType(
-      UUID bulkOperationId, OffsetRequest offsetRequest);
+  /** Errors of the type in order of the error index, null type matches errors without type. */
+  List<BulkOperationExecutionContent>
+      findByBulkOperationIdAndErrorTypeAndErrorMessageIsNotNullOrderById(
+          UUID bulkOperationId, ErrorType errorType, Pageable pageable);
 
-  Page<BulkOperationExecutionContent>
-      findByBulkOperationIdAndErrorMessageIsNotNullAndErrorTypeIsOrderByErrorType(
-          UUID bulkOperationId, OffsetRequest offsetRequest, ErrorType errorType);
+  List<BulkOperationExecutionContent>
+      findByBulkOperationIdAndErrorTypeAndErrorMessageIsNotNullAndIdGreaterThanOrderById(
+          UUID bulkOperationId, ErrorType errorType, UUID afterId, Pageable pageable);
 
   Optional<BulkOperationExecutionContent> findFirstByBulkOperationIdAndIdentifier(
       UUID bulkOperationId, String identifier);
 
-  int countAllByBulkOperationIdAndErrorMessageIsNotNullAndErrorTypeIs(
-      UUID bulkOperationId, ErrorType errorType);
+  /** Identifiers among the given ones of contents stored for the operation. */
+  @Query(
+      "SELECT DISTINCT i.identifier FROM BulkOperationExecutionContent i WHERE "
+          + "i.bulkOperationId = :bulkOperationId AND i.identifier IN :identifiers")
+  List<String> findIdentifiersByBulkOperationIdAndIdentifierIn(
+      UUID bulkOperationId, Collection<String> identifiers);
+
+  /** Identifiers of records updated by the commit of the operation. */
+  @Query(
+      "SELECT DISTINCT i.identifier FROM BulkOperationExecutionContent i WHERE "
+          + "i.bulkOperationId = :bulkOperationId AND i.state = :state AND i.errorMessage IS NULL")
+  List<String> findIdentifiersByBulkOperationIdAndStateWithoutError(
+      UUID bulkOperationId, StateType state);
 
   @Query(
       "SELECT COUNT(i) FROM BulkOperationExecutionContent i WHERE i.bulkOperationId = "
           + ":bulkOperationId AND i.errorType = :errorType")
   long countByBulkOperationIdAndErrorType(UUID bulkOperationId, ErrorType errorType);
 
-  long countAllByBulkOperationIdAndErrorMessageIsNotNull(UUID bulkOperationId);
+  /**
+   * Number of contents with error messages of the type, kept up to date by {@link
+   * #incrementErrorCounter} whenever contents are saved. Contents without type are counted for
+   * null.
+   */
+  @Query(
+      value =
+          "SELECT COALESCE(SUM(num_of_records), 0) FROM bulk_operation_execution_content_counter "
+              + "WHERE bulk_operation_id = :bulkOperationId AND "
+              + "error_type = :#{#errorType == null ? '' : #errorType.name()}",
+      nativeQuery = true)
+  long countErrorsByBulkOperationIdAndErrorType(UUID bulkOperationId, ErrorType errorType);
+
+  /** Adds the number of saved contents with error messages to the counter of the error type. */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "INSERT INTO bulk_operation_execution_content_counter AS c "
+              + "(bulk_operation_id, error_type, num_of_records) "
+              + "VALUES (:bulkOperationId, :errorType, :numOfRecords) "
+              + "ON CONFLICT (bulk_operation_id, error_type) "
+              + "DO UPDATE SET num_of_records = c.num_of_records + EXCLUDED.num_of_records",
+      nativeQuery = true)
+  void incrementErrorCounter(UUID bulkOperationId, String errorType, long numOfRecords);
+
+  @Modifying
+  @Query(
+      value = "DELETE FROM bulk_operation_execution_content_counter WHERE bulk_operation_id = :id",
+      nativeQuery = true)
+  void deleteErrorCountersByBulkOperationId(UUID id);
 
   void deleteByBulkOperationId(UUID bulkOperationId);
 }
@@ -1,11 +1,16 @@
 package org.folio.bulkops.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.bulkops.domain.entity.BulkOperationExecution;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BulkOperationExecutionRepository
@@ -14,4 +19,27 @@ public interface BulkOperationExecutionRepository
   Optional<BulkOperationExecution> findByBulkOperationId(UUID uuid);
 
   List<BulkOperationExecution> findAllByBulkOperationId(UUID uuid);
+
+  @Modifying
+  @Transactional
+  @Query(
+      value = "UPDATE bulk_operation_execution SET heartbeat = :now WHERE id = :id",
+      nativeQuery = true)
+  int updateHeartbeat(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+  /**
+   * Renews the heartbeat of the active execution only if it has not been renewed (or started,
+   * without a heartbeat) since the deadline, so that only one of concurrent callers claims it.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "UPDATE bulk_operation_execution SET heartbeat = :now WHERE id = :id "
+              + "AND status = 'ACTIVE' AND COALESCE(heartbeat, start_time) < :deadline",
+      nativeQuery = true)
+  int claimStaleExecution(
+      @Param("id") UUID id,
+      @Param("now") LocalDateTime now,
+      @Param("deadline") LocalDateTime deadline);
 }
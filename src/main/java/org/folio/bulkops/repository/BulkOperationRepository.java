@@ -2,6 +2,7 @@ package org.folio.bulkops.repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import org.folio.bulkops.domain.dto.OperationStatusType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -21,4 +22,25 @@ public interface BulkOperationRepository extends JpaRepository<BulkOperation, UU
           + "b.matchedNumOfRecords = :matched WHERE b.id = :id")
   void updateExecutionCounters(
       @Param("id") UUID id, @Param("processed") int processed, @Param("matched") int matched);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE BulkOperation b SET b.processedNumOfRecords = b.processedNumOfRecords + :processed "
+          + "WHERE b.id = :id")
+  void incrementProcessedNumOfRecords(@Param("id") UUID id, @Param("processed") int processed);
+
+  /**
+   * Raises number of processed records of the operation while it is in the given status. The
+   * number is never lowered, so progress of processings running at the same time stays monotonic.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE BulkOperation b SET b.processedNumOfRecords = :processed WHERE b.id = :id "
+          + "AND b.status = :status AND b.processedNumOfRecords < :processed")
+  void raiseProcessedNumOfRecords(
+      @Param("id") UUID id,
+      @Param("processed") int processed,
+      @Param("status") OperationStatusType status);
 }
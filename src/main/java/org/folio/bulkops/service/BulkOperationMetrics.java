@@ -0,0 +1,268 @@
+package org.folio.bulkops.service;
+
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.folio.bulkops.domain.dto.OperationStatusType.FAILED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers and counters of bulk operations exposed through {@code /admin/prometheus}. Phases of the
+ * operations, partitions of the matching jobs and FQM chunks are tagged by entity type and tenant,
+ * remote storage and HTTP client calls are tagged by tenant.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkOperationMetrics {
+
+  public static final String UPLOAD = "upload";
+  public static final String MATCH = "match";
+  public static final String CONFIRM = "confirm";
+  public static final String COMMIT = "commit";
+  public static final String DATA_IMPORT = "data_import";
+
+  private static final String METRIC_PREFIX = "bulkops.";
+  private static final String PHASE = "phase";
+  private static final String ENTITY_TYPE = "entity_type";
+  private static final String TENANT = "tenant";
+  private static final String OUTCOME = "outcome";
+  private static final String SUCCESS = "success";
+  private static final String FAILURE = "failure";
+  private static final String UNKNOWN = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public Timer.Sample start() {
+    return Timer.start(meterRegistry);
+  }
+
+  /** Stops the sample of the phase, the phase failed if the operation is failed. */
+  public void stop(Timer.Sample sample, String phase, BulkOperation operation) {
+    stop(sample, phase, operation.getEntityType(), !FAILED.equals(operation.getStatus()));
+  }
+
+  public void stop(Timer.Sample sample, String phase, EntityType entityType, boolean succeeded) {
+    sample.stop(phaseTimer(phase, entityType, succeeded));
+  }
+
+  /** Records the phase which was not timed by this module, e.g. waiting for Data Import. */
+  public void record(String phase, EntityType entityType, Duration duration, boolean succeeded) {
+    phaseTimer(phase, entityType, succeeded).record(duration);
+  }
+
+  public void countRecords(String phase, EntityType entityType, long count) {
+    if (count > 0) {
+      Counter.builder(METRIC_PREFIX + "operations.records")
+          .description("Records processed by phases of bulk operations")
+          .tags(tags(entityType).and(PHASE, phase))
+          .register(meterRegistry)
+          .increment(count);
+    }
+  }
+
+  /** Records a partition of the matching job, the partition failed if it was not completed. */
+  public void recordPartition(Timer.Sample sample, String entityType, boolean succeeded) {
+    sample.stop(
+        Timer.builder(METRIC_PREFIX + "partitions.duration")
+            .description("Time of a single partition of the matching job")
+            .tags(
+                ENTITY_TYPE,
+                defaultIfEmpty(entityType, UNKNOWN),
+                TENANT,
+                tenant(),
+                OUTCOME,
+                outcome(succeeded))
+            .register(meterRegistry));
+  }
+
+  /**
+   * Wraps the FQM chunk request so that its time and the number of fetched records are recorded.
+   * The tenant is taken from the current execution context when the chunk is wrapped, since the
+   * chunk itself is executed by a pool thread.
+   */
+  public <T extends Collection<?>> Callable<T> timedFqmChunk(
+      EntityType entityType, Callable<T> chunk) {
+    var tags = tags(entityType);
+    return () -> {
+      var sample = start();
+      var succeeded = false;
+      try {
+        var result = chunk.call();
+        succeeded = true;
+        if (result != null) {
+          Counter.builder(METRIC_PREFIX + "fqm.chunks.records")
+              .description("Records fetched from FQM")
+              .tags(tags)
+              .register(meterRegistry)
+              .increment(result.size());
+        }
+        return result;
+      } finally {
+        sample.stop(
+            Timer.builder(METRIC_PREFIX + "fqm.chunks.duration")
+                .description("Time of a single FQM chunk request by entity type")
+                .tags(tags.and(OUTCOME, outcome(succeeded)))
+                .register(meterRegistry));
+      }
+    };
+  }
+
+  /** Times the remote storage (S3) call. */
+  public <T> T recordStorage(String operation, Supplier<T> call) {
+    var sample = start();
+    var succeeded = false;
+    try {
+      var result = call.get();
+      succeeded = true;
+      return result;
+    } finally {
+      stopStorage(sample, operation, succeeded);
+    }
+  }
+
+  /**
+   * Times reading from the remote storage (S3), from opening the stream until it is closed, so that
+   * the transfer of the content is included.
+   */
+  public InputStream recordStorageRead(String operation, Supplier<InputStream> open) {
+    var sample = start();
+    InputStream stream;
+    try {
+      stream = open.get();
+    } catch (RuntimeException e) {
+      stopStorage(sample, operation, false);
+      throw e;
+    }
+    return new FilterInputStream(stream) {
+      private boolean failed;
+      private boolean closed;
+
+      @Override
+      public int read() throws IOException {
+        try {
+          return super.read();
+        } catch (IOException e) {
+          failed = true;
+          throw e;
+        }
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        try {
+          return super.read(b, off, len);
+        } catch (IOException e) {
+          failed = true;
+          throw e;
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          if (!closed) {
+            closed = true;
+            stopStorage(sample, operation, !failed);
+          }
+        }
+      }
+    };
+  }
+
+  private void stopStorage(Timer.Sample sample, String operation, boolean succeeded) {
+    sample.stop(
+        Timer.builder(METRIC_PREFIX + "storage.duration")
+            .description("Time of remote storage calls")
+            .tags("operation", operation, TENANT, tenant(), OUTCOME, outcome(succeeded))
+            .register(meterRegistry));
+  }
+
+  /**
+   * Wraps the HTTP client so that the latency of each of its methods is recorded by client, method
+   * and tenant.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T instrumentClient(Class<T> type, T client) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, client, args);
+              }
+              var sample = start();
+              var succeeded = false;
+              try {
+                var result = invoke(method, client, args);
+                succeeded = true;
+                return result;
+              } finally {
+                sample.stop(
+                    Timer.builder(METRIC_PREFIX + "http.client.duration")
+                        .description("Latency of HTTP client calls")
+                        .tags(
+                            "client",
+                            type.getSimpleName(),
+                            "method",
+                            method.getName(),
+                            TENANT,
+                            tenant(),
+                            OUTCOME,
+                            outcome(succeeded))
+                        .register(meterRegistry));
+              }
+            });
+  }
+
+  private Timer phaseTimer(String phase, EntityType entityType, boolean succeeded) {
+    return Timer.builder(METRIC_PREFIX + "operations.phase.duration")
+        .description("Time of phases of bulk operations")
+        .tags(tags(entityType).and(PHASE, phase, OUTCOME, outcome(succeeded)))
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private Tags tags(EntityType entityType) {
+    var type = Objects.isNull(entityType) ? UNKNOWN : entityType.getValue();
+    return Tags.of(ENTITY_TYPE, type, TENANT, tenant());
+  }
+
+  private String tenant() {
+    return defaultIfEmpty(folioExecutionContext.getTenantId(), UNKNOWN);
+  }
+
+  private static String outcome(boolean succeeded) {
+    return succeeded ? SUCCESS : FAILURE;
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
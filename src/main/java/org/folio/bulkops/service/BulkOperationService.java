@@ -14,7 +14,9 @@ import static org.folio.bulkops.domain.dto.ApproachType.MANUAL;
 import static org.folio.bulkops.domain.dto.ApproachType.QUERY;
 import static org.folio.bulkops.domain.dto.BulkOperationStep.DELETE;
 import static org.folio.bulkops.domain.dto.BulkOperationStep.UPLOAD;
+import static org.folio.bulkops.domain.dto.DataImportStatus.COMMITTED;
 import static org.folio.bulkops.domain.dto.EntityType.INSTANCE_MARC;
+import static org.folio.bulkops.domain.dto.EntityType.ITEM;
 import static org.folio.bulkops.domain.dto.IdentifierType.HRID;
 import static org.folio.bulkops.domain.dto.OperationStatusType.APPLY_CHANGES;
 import static org.folio.bulkops.domain.dto.OperationStatusType.DATA_MODIFICATION;
@@ -49,26 +51,32 @@ import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextFo
 import com.opencsv.CSVWriterBuilder;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.exceptions.CsvException;
+import io.micrometer.core.instrument.Timer;
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
@@ -103,6 +111,7 @@ import org.folio.bulkops.exception.NotFoundException;
 import org.folio.bulkops.exception.OptimisticLockingException;
 import org.folio.bulkops.exception.ServerErrorException;
 import org.folio.bulkops.exception.WritePermissionDoesNotExist;
+import org.folio.bulkops.processor.RulePlan;
 import org.folio.bulkops.processor.UpdatedEntityHolder;
 import org.folio.bulkops.processor.folio.DataProcessorFactory;
 import org.folio.bulkops.processor.marc.MarcInstanceDataProcessor;
@@ -145,14 +154,21 @@ public class BulkOperationService {
 
   private final BulkOperationRepository bulkOperationRepository;
   private final RuleService ruleService;
+  private final RuleCacheService ruleCacheService;
   private final BulkOperationDataProcessingRepository dataProcessingRepository;
   private final BulkOperationExecutionRepository executionRepository;
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final ObjectMapper objectMapper;
   private final DataProcessorFactory dataProcessorFactory;
   private final ErrorService errorService;
+  private final JsonRecordIndexService jsonRecordIndexService;
+  private final PreviewPageCache previewPageCache;
+  private final MatchingErrorsCache matchingErrorsCache;
+  private final ReferenceDataWarmUpService referenceDataWarmUpService;
   private final LogFilesService logFilesService;
   private final RecordUpdateService recordUpdateService;
+  private final CommitWindowExecutor commitWindowExecutor;
+  private final ExecutionContentSink executionContentSink;
   private final EntityTypeService entityTypeService;
   private final MarcInstanceDataProcessor marcInstanceDataProcessor;
   private final FolioModuleMetadata folioModuleMetadata;
@@ -168,6 +184,9 @@ public class BulkOperationService {
   private final ExportJobManagerSync exportJobManagerSync;
   private final UserDeleteService userDeleteService;
   private final List<Job> jobs;
+  private final OperationScheduler operationScheduler;
+  private final BulkOperationMetrics bulkOperationMetrics;
+  private final CommitCheckpointService commitCheckpointService;
 
   private static final String MODIFIED_JSON_PATH_TEMPLATE = "%s/json/%s-Modified-%s.json";
   private static final String PREVIEW_CSV_PATH_TEMPLATE = "%s/%s-Updates-Preview-CSV-%s.csv";
@@ -182,11 +201,21 @@ public class BulkOperationService {
 
   public static final String TMP_MATCHED_JSON_PATH_TEMPLATE = "%s/json/tmp-matched.json";
 
-  private final ExecutorService executor = Executors.newCachedThreadPool();
-
   @Value("${application.fqm-query-approach}")
   private boolean fqmQueryApproach;
 
+  @Value("${application.confirm.batch-size:50}")
+  private int confirmBatchSize;
+
+  @Value("${application.confirm.max-parallel-batches:4}")
+  private int confirmMaxParallelBatches;
+
+  @Value("${application.confirm.progress-interval-ms:1000}")
+  private long confirmProgressIntervalMs;
+
+  @Value("${application.commit.item-batch-size:0}")
+  private int itemBatchSize;
+
   public BulkOperation uploadCsvFile(
       EntityType entityType,
       IdentifierType identifierType,
@@ -223,6 +252,7 @@ public class BulkOperationService {
       }
     }
 
+    var sample = bulkOperationMetrics.start();
     try {
       if (manual) {
         var linkToThePreviewFile =
@@ -256,6 +286,7 @@ public class BulkOperationService {
     }
 
     operation.setUserId(xokapiUserId);
+    bulkOperationMetrics.stop(sample, BulkOperationMetrics.UPLOAD, operation);
     return bulkOperationRepository.save(operation);
   }
 
@@ -290,13 +321,22 @@ public class BulkOperationService {
             .build());
   }
 
+  /**
+   * Applies the rules to the matched records. Records are modified in batches of {@code
+   * application.confirm.batch-size}, up to {@code application.confirm.max-parallel-batches}
+   * batches at once, and written to the modified files in order of the matched records. Progress
+   * is persisted at most once per {@code application.confirm.progress-interval-ms}.
+   */
   public void confirm(BulkOperationDataProcessing dataProcessing) {
+    var sample = bulkOperationMetrics.start();
     var operationId = dataProcessing.getBulkOperationId();
     var operation = getBulkOperationOrThrow(operationId);
 
     var ruleCollection = ruleService.getRules(dataProcessing.getBulkOperationId());
     var clazz = resolveEntityClass(operation.getEntityType());
     var extendedClazz = resolveExtendedEntityClass(operation.getEntityType());
+    var rulePlan =
+        dataProcessorFactory.getProcessorFromFactory(extendedClazz).compile(ruleCollection);
 
     var triggeringFileName = FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile());
     var modifiedJsonFileName =
@@ -311,9 +351,13 @@ public class BulkOperationService {
             remoteFileSystemClient.get(operation.getLinkToMatchedRecordsJsonFile());
         var writerForModifiedPreviewCsvFile =
             remoteFileSystemClient.writer(modifiedPreviewCsvFileName);
-        var writerForModifiedJsonFile = remoteFileSystemClient.writer(modifiedJsonFileName);
+        var writerForModifiedJsonFile =
+            jsonRecordIndexService.indexingWriter(
+                remoteFileSystemClient.writer(modifiedJsonFileName), modifiedJsonFileName);
         var writerForModifiedJsonPreviewFile =
-            remoteFileSystemClient.writer(modifiedJsonPreviewFileName)) {
+            jsonRecordIndexService.indexingWriter(
+                remoteFileSystemClient.writer(modifiedJsonPreviewFileName),
+                modifiedJsonPreviewFileName)) {
 
       var csvWriter = new BulkOperationsEntityCsvWriter(writerForModifiedPreviewCsvFile, clazz);
 
@@ -323,60 +367,32 @@ public class BulkOperationService {
               : objectMapper.readValues(
                   objectMapper.createParser(readerForMatchedJsonFile), extendedClazz);
 
-      var processedNumOfRecords = 0;
-
-      while (iterator.hasNext()) {
-        var original = iterator.next();
-        if (INSTANCE_MARC.equals(operation.getEntityType())
-            && original instanceof ExtendedInstance extendedInstance
-            && !MARC.equals(extendedInstance.getEntity().getSource())) {
-          var instance = extendedInstance.getEntity();
-          var identifier =
-              HRID.equals(operation.getIdentifierType()) ? instance.getHrid() : instance.getId();
-          errorService.saveError(
-              operation.getId(),
-              identifier,
-              MSG_BULK_EDIT_SUPPORTED_FOR_MARC_ONLY.formatted(instance.getSource()),
-              ErrorType.ERROR);
-          continue;
-        }
-        var modified =
-            processUpdate(
-                (BulkOperationsEntity) original, operation, ruleCollection, extendedClazz);
-        List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
-        if (Objects.nonNull(modified)) {
-          // Prepare CSV for download and JSON for preview
-          if (isMemberTenant(folioExecutionContext.getTenantId()) || clazz == User.class) {
-            CsvHelper.writeBeanToCsv(
-                operation,
-                csvWriter,
-                modified.getPreview().getRecordBulkOperationEntity(),
-                bulkOperationExecutionContents);
-            writerForModifiedJsonPreviewFile.write(
-                objectMapper.writeValueAsString(modified.getPreview()) + LF);
-          } else {
-            var tenantIdOfEntity = modified.getPreview().getTenant();
-            try (var ignored =
-                new FolioExecutionContextSetter(
-                    prepareContextForTenant(
-                        tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))) {
-              modified.getPreview().setTenantToNotes(operation.getTenantNotePairs());
-              CsvHelper.writeBeanToCsv(
-                  operation,
-                  csvWriter,
-                  modified.getPreview().getRecordBulkOperationEntity(),
-                  bulkOperationExecutionContents);
-              writerForModifiedJsonPreviewFile.write(
-                  objectMapper.writeValueAsString(modified.getPreview()) + LF);
-            }
+      var resultHandler =
+          new ConfirmResultHandler(
+              operation,
+              csvWriter,
+              writerForModifiedJsonFile,
+              writerForModifiedJsonPreviewFile,
+              isMemberTenant(folioExecutionContext.getTenantId()) || clazz == User.class,
+              new ConfirmProgress(dataProcessing));
+
+      try (var window =
+          commitWindowExecutor.<List<ConfirmOutcome>>openWindow(
+              confirmMaxParallelBatches, resultHandler)) {
+        var batch = new ArrayList<BulkOperationsEntity>();
+        while (iterator.hasNext()) {
+          batch.add((BulkOperationsEntity) iterator.next());
+          if (batch.size() >= Math.max(1, confirmBatchSize) || !iterator.hasNext()) {
+            var originals = List.copyOf(batch);
+            batch.clear();
+            window.submit(
+                folioExecutionContext.getTenantId(),
+                () -> modifyRecords(originals, operation, rulePlan, extendedClazz));
           }
-          var modifiedRecord = objectMapper.writeValueAsString(modified.getUpdated()) + LF;
-          bulkOperationExecutionContents.forEach(errorService::saveError);
-          writerForModifiedJsonFile.write(modifiedRecord);
         }
-
-        processedNumOfRecords++;
+        window.drain();
       }
+      var processedNumOfRecords = resultHandler.processedNumOfRecords;
 
       if (processedNumOfRecords > 0) {
         operation.setLinkToModifiedRecordsCsvFile(modifiedPreviewCsvFileName);
@@ -395,10 +411,12 @@ public class BulkOperationService {
     } finally {
       dataProcessingRepository.save(dataProcessing);
       handleProcessingCompletion(operationId);
+      recordConfirmation(sample, operation, dataProcessing);
     }
   }
 
   public void confirmForInstanceMarc(BulkOperationDataProcessing dataProcessing) {
+    var sample = bulkOperationMetrics.start();
     var operationId = dataProcessing.getBulkOperationId();
     var operation = getBulkOperationOrThrow(operationId);
 
@@ -421,6 +439,7 @@ public class BulkOperationService {
           var linkToMatchedRecordsMarcFileStream =
               remoteFileSystemClient.get(operation.getLinkToMatchedRecordsMarcFile())) {
         var matchedRecordsReader = new MarcStreamReader(linkToMatchedRecordsMarcFileStream);
+        var progress = new ConfirmProgress(dataProcessing);
         var currentDate = new Date();
         while (matchedRecordsReader.hasNext()) {
           var marcRecord = matchedRecordsReader.next();
@@ -432,6 +451,7 @@ public class BulkOperationService {
           csvWriter.writeNext(data);
 
           processedNumOfRecords++;
+          progress.persistIfDue(processedNumOfRecords);
         }
 
         if (processedNumOfRecords > 0) {
@@ -450,6 +470,7 @@ public class BulkOperationService {
       } finally {
         dataProcessingRepository.save(dataProcessing);
         handleProcessingCompletion(operationId);
+        recordConfirmation(sample, operation, dataProcessing);
       }
     } else {
       log.error("No link to MARC file, failing operation");
@@ -463,11 +484,167 @@ public class BulkOperationService {
     }
   }
 
+  private List<ConfirmOutcome> modifyRecords(
+      List<BulkOperationsEntity> originals,
+      BulkOperation operation,
+      RulePlan<BulkOperationsEntity> rulePlan,
+      Class<? extends BulkOperationsEntity> entityClass) {
+    var outcomes = new ArrayList<ConfirmOutcome>(originals.size());
+    for (var original : originals) {
+      if (INSTANCE_MARC.equals(operation.getEntityType())
+          && original instanceof ExtendedInstance extendedInstance
+          && !MARC.equals(extendedInstance.getEntity().getSource())) {
+        outcomes.add(new ConfirmOutcome(original, null, false));
+      } else {
+        outcomes.add(
+            new ConfirmOutcome(
+                original, processUpdate(original, operation, rulePlan, entityClass), true));
+      }
+    }
+    return outcomes;
+  }
+
+  private record ConfirmOutcome(
+      BulkOperationsEntity original,
+      UpdatedEntityHolder<BulkOperationsEntity> modified,
+      boolean supported) {}
+
+  /**
+   * Writes modified records to the preview and modified files and saves their errors. Called by
+   * the confirm window strictly in order of the matched records.
+   */
+  private final class ConfirmResultHandler implements Consumer<List<ConfirmOutcome>> {
+    private final BulkOperation operation;
+    private final BulkOperationsEntityCsvWriter csvWriter;
+    private final Writer writerForModifiedJsonFile;
+    private final Writer writerForModifiedJsonPreviewFile;
+    private final boolean useCurrentContext;
+    private final ConfirmProgress progress;
+    private int processedNumOfRecords;
+
+    private ConfirmResultHandler(
+        BulkOperation operation,
+        BulkOperationsEntityCsvWriter csvWriter,
+        Writer writerForModifiedJsonFile,
+        Writer writerForModifiedJsonPreviewFile,
+        boolean useCurrentContext,
+        ConfirmProgress progress) {
+      this.operation = operation;
+      this.csvWriter = csvWriter;
+      this.writerForModifiedJsonFile = writerForModifiedJsonFile;
+      this.writerForModifiedJsonPreviewFile = writerForModifiedJsonPreviewFile;
+      this.useCurrentContext = useCurrentContext;
+      this.progress = progress;
+    }
+
+    @Override
+    public void accept(List<ConfirmOutcome> outcomes) {
+      for (var outcome : outcomes) {
+        if (outcome.supported()) {
+          if (nonNull(outcome.modified())) {
+            writeResult(outcome.modified());
+          }
+          processedNumOfRecords++;
+        } else {
+          var instance = ((ExtendedInstance) outcome.original()).getEntity();
+          var identifier =
+              HRID.equals(operation.getIdentifierType()) ? instance.getHrid() : instance.getId();
+          errorService.saveError(
+              operation.getId(),
+              identifier,
+              MSG_BULK_EDIT_SUPPORTED_FOR_MARC_ONLY.formatted(instance.getSource()),
+              ErrorType.ERROR);
+        }
+      }
+      progress.persistIfDue(processedNumOfRecords);
+    }
+
+    private void writeResult(UpdatedEntityHolder<BulkOperationsEntity> modified) {
+      List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
+      try {
+        // Prepare CSV for download and JSON for preview
+        if (useCurrentContext) {
+          writePreview(modified, bulkOperationExecutionContents);
+        } else {
+          var tenantIdOfEntity = modified.getPreview().getTenant();
+          try (var ignored =
+              new FolioExecutionContextSetter(
+                  prepareContextForTenant(
+                      tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))) {
+            modified.getPreview().setTenantToNotes(operation.getTenantNotePairs());
+            writePreview(modified, bulkOperationExecutionContents);
+          }
+        }
+        var modifiedRecord = objectMapper.writeValueAsString(modified.getUpdated()) + LF;
+        bulkOperationExecutionContents.forEach(errorService::saveError);
+        writerForModifiedJsonFile.write(modifiedRecord);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } catch (CsvException e) {
+        throw new ServerErrorException(e.getMessage(), e);
+      }
+    }
+
+    private void writePreview(
+        UpdatedEntityHolder<BulkOperationsEntity> modified,
+        List<BulkOperationExecutionContent> bulkOperationExecutionContents)
+        throws IOException, CsvException {
+      CsvHelper.writeBeanToCsv(
+          operation,
+          csvWriter,
+          modified.getPreview().getRecordBulkOperationEntity(),
+          bulkOperationExecutionContents);
+      writerForModifiedJsonPreviewFile.write(
+          objectMapper.writeValueAsString(modified.getPreview()) + LF);
+    }
+  }
+
+  /**
+   * Persists number of records processed so far to the data processing and to the bulk operation,
+   * so that progress of a long confirm is visible before it completes.
+   */
+  private final class ConfirmProgress {
+    private final BulkOperationDataProcessing dataProcessing;
+    private int persistedNumOfRecords;
+    private long persistedAt = System.currentTimeMillis();
+
+    private ConfirmProgress(BulkOperationDataProcessing dataProcessing) {
+      this.dataProcessing = dataProcessing;
+    }
+
+    private void persistIfDue(int processedNumOfRecords) {
+      if (processedNumOfRecords <= persistedNumOfRecords
+          || System.currentTimeMillis() - persistedAt < confirmProgressIntervalMs) {
+        return;
+      }
+      dataProcessing.setProcessedNumOfRecords(processedNumOfRecords);
+      dataProcessingRepository.save(dataProcessing);
+      bulkOperationRepository.raiseProcessedNumOfRecords(
+          dataProcessing.getBulkOperationId(),
+          processedNumOfRecords,
+          DATA_MODIFICATION_IN_PROGRESS);
+      persistedNumOfRecords = processedNumOfRecords;
+      persistedAt = System.currentTimeMillis();
+    }
+  }
+
   protected UpdatedEntityHolder<BulkOperationsEntity> processUpdate(
       BulkOperationsEntity original,
       BulkOperation operation,
       BulkOperationRuleCollection rules,
       Class<? extends BulkOperationsEntity> entityClass) {
+    return processUpdate(
+        original,
+        operation,
+        dataProcessorFactory.getProcessorFromFactory(entityClass).compile(rules),
+        entityClass);
+  }
+
+  protected UpdatedEntityHolder<BulkOperationsEntity> processUpdate(
+      BulkOperationsEntity original,
+      BulkOperation operation,
+      RulePlan<BulkOperationsEntity> rulePlan,
+      Class<? extends BulkOperationsEntity> entityClass) {
     var processor = dataProcessorFactory.getProcessorFromFactory(entityClass);
     UpdatedEntityHolder<BulkOperationsEntity> modified = null;
     try {
@@ -475,7 +652,7 @@ public class BulkOperationService {
           processor.process(
               original.getRecordBulkOperationEntity().getIdentifier(operation.getIdentifierType()),
               original,
-              rules);
+              rulePlan);
     } catch (Exception e) {
       log.error("Failed to modify entity", e);
     }
@@ -483,6 +660,36 @@ public class BulkOperationService {
   }
 
   public void commit(BulkOperation operation) {
+    commit(operation, null);
+  }
+
+  /**
+   * Resumes the interrupted commit of the operation from the last checkpoint of its execution.
+   * Records before the checkpoint and records after it with stored markers are not updated again,
+   * their results are only written to the changed records files. Markers are stored in batches, so
+   * records after the checkpoint may have been updated without a marker: their update is sent
+   * again and a version conflict of it means that the record was updated by the interrupted
+   * commit. Nothing is done if the execution is not stale anymore, e.g. because another instance
+   * has resumed it in the meantime.
+   */
+  public void resumeCommit(BulkOperation operation, BulkOperationExecution interruptedExecution) {
+    if (!commitCheckpointService.claim(interruptedExecution)) {
+      log.info(
+          "Commit of bulk operation {} is running, execution {} is not resumed",
+          operation.getId(),
+          interruptedExecution.getId());
+      return;
+    }
+    log.info(
+        "Resuming commit of bulk operation {}, execution {}",
+        operation.getId(),
+        interruptedExecution.getId());
+    commit(operation, interruptedExecution);
+  }
+
+  private void commit(BulkOperation operation, BulkOperationExecution interruptedExecution) {
+    var sample = bulkOperationMetrics.start();
+    var resuming = nonNull(interruptedExecution);
 
     operation.setCommittedNumOfRecords(0);
     operation.setStatus(APPLY_CHANGES);
@@ -497,7 +704,9 @@ public class BulkOperationService {
       hasAdministrativeRules = ruleService.hasAdministrativeUpdates(operation);
       hasMarcRules = ruleService.hasMarcUpdates(operation);
       var multiplier = getProgressMultiplier(operation, hasAdministrativeRules, hasMarcRules);
-      operation.setCommittedNumOfErrors(operation.getCommittedNumOfErrors() * multiplier);
+      if (!resuming) {
+        operation.setCommittedNumOfErrors(operation.getCommittedNumOfErrors() * multiplier);
+      }
       totalNumOfRecords *= multiplier;
     }
 
@@ -518,15 +727,23 @@ public class BulkOperationService {
       var extendedClass = resolveExtendedEntityClass(operation.getEntityType());
 
       var operationId = operation.getId();
+      referenceDataWarmUpService.warmUp(operation);
 
       var execution =
-          executionRepository.save(
-              BulkOperationExecution.builder()
-                  .bulkOperationId(operationId)
-                  .startTime(LocalDateTime.now())
-                  .processedRecords(0)
-                  .status(StatusType.ACTIVE)
-                  .build());
+          resuming
+              ? interruptedExecution
+              : executionRepository.save(
+                  BulkOperationExecution.builder()
+                      .bulkOperationId(operationId)
+                      .startTime(LocalDateTime.now())
+                      .processedRecords(0)
+                      .status(StatusType.ACTIVE)
+                      .build());
+      var checkpoint = resuming ? commitCheckpointService.getResumeIndex(execution.getId()) : 0;
+      Set<String> committedIdentifiers =
+          resuming
+              ? commitCheckpointService.getCommittedIdentifiers(operationId)
+              : Collections.emptySet();
 
       var resultJsonFileName =
           String.format(
@@ -538,6 +755,7 @@ public class BulkOperationService {
               LocalDate.now(),
               triggeringFileName);
 
+      var heartbeat = commitCheckpointService.startHeartbeat(execution);
       try (var originalFileReader =
               new InputStreamReader(
                   new BufferedInputStream(
@@ -549,8 +767,13 @@ public class BulkOperationService {
                       RemoteStorageUtils.downloadToInputStream(
                           remoteFileSystemClient, operation.getLinkToModifiedRecordsJsonFile())));
           var writerForResultCsvFile = remoteFileSystemClient.writer(resultCsvFileName);
-          var writerForResultJsonFile = remoteFileSystemClient.writer(resultJsonFileName);
-          var writerForJsonPreviewFile = remoteFileSystemClient.writer(resultJsonPreviewFileName)) {
+          var writerForResultJsonFile =
+              jsonRecordIndexService.indexingWriter(
+                  remoteFileSystemClient.writer(resultJsonFileName), resultJsonFileName);
+          var writerForJsonPreviewFile =
+              jsonRecordIndexService.indexingWriter(
+                  remoteFileSystemClient.writer(resultJsonPreviewFileName),
+                  resultJsonPreviewFileName)) {
 
         var originalFileParser = objectMapper.createParser(originalFileReader);
         var originalFileIterator = objectMapper.readValues(originalFileParser, extendedClass);
@@ -558,104 +781,75 @@ public class BulkOperationService {
         var modifiedFileParser = objectMapper.createParser(modifiedFileReader);
         var modifiedFileIterator = objectMapper.readValues(modifiedFileParser, extendedClass);
 
-        var csvWriter = new BulkOperationsEntityCsvWriter(writerForResultCsvFile, entityClass);
-
-        int processedNumOfRecords = 0;
-
-        while (hasNextRecord(originalFileIterator, modifiedFileIterator)) {
-          var original = originalFileIterator.next();
-          if (INSTANCE_MARC.equals(operation.getEntityType())
-              && original instanceof ExtendedInstance extendedInstance
-              && !MARC.equals(extendedInstance.getEntity().getSource())) {
-            continue;
-          }
-          var modified = modifiedFileIterator.next();
-          if (operation.getApproach() == MANUAL && original instanceof User userOriginal) {
-            ((User) modified).getPersonal().setPronouns(userOriginal.getPersonal().getPronouns());
-          }
-          List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
-
-          processedNumOfRecords++;
-
-          try {
-            var result = recordUpdateService.updateEntity(original, modified, operation);
+        var contentBuffer = executionContentSink.open(operationId);
+        var resultHandler =
+            new CommitResultHandler(
+                operation,
+                execution,
+                new BulkOperationsEntityCsvWriter(writerForResultCsvFile, entityClass),
+                writerForResultJsonFile,
+                writerForJsonPreviewFile,
+                isMemberTenant(folioExecutionContext.getTenantId()) || entityClass == User.class,
+                failedInstanceHrids,
+                contentBuffer,
+                checkpoint);
+
+        var batchSize = ITEM.equals(operation.getEntityType()) ? Math.max(1, itemBatchSize) : 1;
+        var batch = new ArrayList<CommitRecord>();
+        String batchTenantId = null;
+        var recordIndex = 0;
+        try (contentBuffer;
+            var window = commitWindowExecutor.openWindow(resultHandler)) {
+          while (hasNextRecord(originalFileIterator, modifiedFileIterator)) {
+            var original = originalFileIterator.next();
+            if (INSTANCE_MARC.equals(operation.getEntityType())
+                && original instanceof ExtendedInstance extendedInstance
+                && !MARC.equals(extendedInstance.getEntity().getSource())) {
+              continue;
+            }
+            var modified = modifiedFileIterator.next();
+            if (operation.getApproach() == MANUAL && original instanceof User userOriginal) {
+              ((User) modified).getPersonal().setPronouns(userOriginal.getPersonal().getPronouns());
+            }
             var hasNextRecord = hasNextRecord(originalFileIterator, modifiedFileIterator);
-            var useCurrentContext =
-                isMemberTenant(folioExecutionContext.getTenantId()) || entityClass == User.class;
-            var tenantIdOfEntity = result.getTenant();
-            if (!useCurrentContext) {
-              result.getRecordBulkOperationEntity().setTenant(tenantIdOfEntity);
-              result
-                  .getRecordBulkOperationEntity()
-                  .setTenantToNotes(operation.getTenantNotePairs());
+            var hasMoreInput = originalFileIterator.hasNext();
+            var tenantId =
+                StringUtils.defaultIfEmpty(
+                    original.getTenant(), folioExecutionContext.getTenantId());
+            if (!batch.isEmpty() && !Objects.equals(tenantId, batchTenantId)) {
+              submitCommitBatch(window, batchTenantId, batch, operation, batchSize > 1, resuming);
             }
-            if (result != original) {
-              try (var ignored =
-                  useCurrentContext
-                      ? null
-                      : new FolioExecutionContextSetter(
-                          prepareContextForTenant(
-                              tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))) {
-                writerForResultJsonFile.write(
-                    objectMapper.writeValueAsString(result) + getEndOfLineSymbol(hasNextRecord));
-                writerForJsonPreviewFile.write(
-                    objectMapper.writeValueAsString(result) + getEndOfLineSymbol(hasNextRecord));
-                CsvHelper.writeBeanToCsv(
-                    operation,
-                    csvWriter,
-                    result.getRecordBulkOperationEntity(),
-                    bulkOperationExecutionContents);
-              }
-              bulkOperationExecutionContents.forEach(errorService::saveError);
-            } else if (original instanceof ExtendedInstance extendedInstance
-                && MARC.equals(extendedInstance.getEntity().getSource())) {
-              writerForJsonPreviewFile.write(
-                  objectMapper.writeValueAsString(result) + getEndOfLineSymbol(hasNextRecord));
+            batchTenantId = tenantId;
+            var checkpointed = recordIndex++ < checkpoint;
+            var identifier = modified.getIdentifier(operation.getIdentifierType());
+            var committed = committedIdentifiers.contains(identifier);
+            var replayed =
+                checkpointed || committed
+                    ? new CommitOutcome(
+                        original,
+                        replayCommittedRecord(original, modified, operation, committed),
+                        hasNextRecord,
+                        hasMoreInput,
+                        null,
+                        checkpointed)
+                    : null;
+            batch.add(new CommitRecord(original, modified, hasNextRecord, hasMoreInput, replayed));
+            if (batch.size() >= batchSize) {
+              submitCommitBatch(window, tenantId, batch, operation, batchSize > 1, resuming);
             }
-          } catch (OptimisticLockingException e) {
-            saveFailedInstanceHrid(failedInstanceHrids, original);
-            errorService.saveError(
-                operationId,
-                original.getIdentifier(operation.getIdentifierType()),
-                e.getCsvErrorMessage(),
-                e.getUiErrorMessage(),
-                e.getLinkToFailedEntity(),
-                ErrorType.ERROR);
-          } catch (WritePermissionDoesNotExist e) {
-            saveFailedInstanceHrid(failedInstanceHrids, original);
-            var userName =
-                userClient.getUserById(folioExecutionContext.getUserId().toString()).getUsername();
-            var errorMessage =
-                String.format(
-                    e.getMessage(),
-                    userName,
-                    IdentifiersResolver.resolve(operation.getIdentifierType()),
-                    original.getIdentifier(operation.getIdentifierType()));
-            errorService.saveError(
-                operationId,
-                original.getIdentifier(operation.getIdentifierType()),
-                errorMessage,
-                ErrorType.ERROR);
-          } catch (Exception e) {
-            saveFailedInstanceHrid(failedInstanceHrids, original);
-            errorService.saveError(
-                operationId,
-                original.getIdentifier(operation.getIdentifierType()),
-                e.getMessage(),
-                ErrorType.ERROR);
           }
-          execution =
-              execution
-                  .withStatus(
-                      originalFileIterator.hasNext() ? StatusType.ACTIVE : StatusType.COMPLETED)
-                  .withEndTime(originalFileIterator.hasNext() ? null : LocalDateTime.now());
-          if (processedNumOfRecords - execution.getProcessedRecords() > OPERATION_UPDATING_STEP) {
-            execution.setProcessedRecords(processedNumOfRecords);
-            execution = executionRepository.save(execution);
+          if (!batch.isEmpty()) {
+            submitCommitBatch(window, batchTenantId, batch, operation, batchSize > 1, resuming);
           }
+          window.drain();
+          resultHandler.savePendingContents();
+        } catch (Exception e) {
+          resultHandler.savePendingContents();
+          throw e;
         }
 
-        execution.setProcessedRecords(processedNumOfRecords);
+        execution = resultHandler.execution;
+        execution.setProcessedRecords(resultHandler.processedNumOfRecords);
         if (operation.getCommittedNumOfRecords() > 0) {
           operation.setLinkToCommittedRecordsCsvFile(resultCsvFileName);
           operation.setLinkToCommittedRecordsJsonFile(resultJsonFileName);
@@ -665,6 +859,9 @@ public class BulkOperationService {
         log.error("Error committing changes", e);
         execution = execution.withStatus(StatusType.FAILED).withEndTime(LocalDateTime.now());
         bulkOperationServiceHelper.failBulkOperation(operation, e);
+      } finally {
+        heartbeat.close();
+        ruleCacheService.evict(operationId);
       }
       executionRepository.save(execution);
     }
@@ -676,12 +873,304 @@ public class BulkOperationService {
     } else {
       marcUpdateService.commitForInstanceMarc(operation, failedInstanceHrids);
     }
+    bulkOperationMetrics.stop(sample, BulkOperationMetrics.COMMIT, operation);
+    bulkOperationMetrics.countRecords(
+        BulkOperationMetrics.COMMIT,
+        operation.getEntityType(),
+        operation.getCommittedNumOfRecords());
+  }
+
+  private void recordConfirmation(
+      Timer.Sample sample, BulkOperation operation, BulkOperationDataProcessing dataProcessing) {
+    bulkOperationMetrics.stop(
+        sample,
+        BulkOperationMetrics.CONFIRM,
+        operation.getEntityType(),
+        StatusType.COMPLETED.equals(dataProcessing.getStatus()));
+    bulkOperationMetrics.countRecords(
+        BulkOperationMetrics.CONFIRM,
+        operation.getEntityType(),
+        dataProcessing.getProcessedNumOfRecords());
+  }
+
+  /**
+   * Submits the records of a single tenant to the commit window. In batch mode the changed records
+   * are sent to the storage at once, otherwise they are updated one by one.
+   */
+  private void submitCommitBatch(
+      CommitWindowExecutor.Window<List<CommitOutcome>> window,
+      String tenantId,
+      List<CommitRecord> batch,
+      BulkOperation operation,
+      boolean batchMode,
+      boolean resuming) {
+    var records = List.copyOf(batch);
+    batch.clear();
+    window.submit(tenantId, () -> commitRecords(records, operation, batchMode, resuming));
+  }
+
+  private List<CommitOutcome> commitRecords(
+      List<CommitRecord> records, BulkOperation operation, boolean batchMode, boolean resuming) {
+    var updated = records.stream().filter(commitRecord -> isNull(commitRecord.replayed())).toList();
+    var results =
+        batchMode
+            ? recordUpdateService.updateEntities(
+                updated.stream().map(CommitRecord::original).toList(),
+                updated.stream().map(CommitRecord::modified).toList(),
+                operation)
+            : updated.stream().map(commitRecord -> updateRecord(commitRecord, operation)).toList();
+    var outcomes = new ArrayList<CommitOutcome>(records.size());
+    var resultIterator = results.iterator();
+    for (var commitRecord : records) {
+      if (nonNull(commitRecord.replayed())) {
+        outcomes.add(commitRecord.replayed());
+        continue;
+      }
+      var result = resultIterator.next();
+      if (resuming && result.exception() instanceof OptimisticLockingException) {
+        // the record was updated by the interrupted commit after its last checkpoint
+        outcomes.add(
+            new CommitOutcome(
+                commitRecord.original(),
+                replayCommittedRecord(
+                    commitRecord.original(), commitRecord.modified(), operation, true),
+                commitRecord.hasNextRecord(),
+                commitRecord.hasMoreInput(),
+                null,
+                false));
+        continue;
+      }
+      outcomes.add(
+          new CommitOutcome(
+              commitRecord.original(),
+              result.entity(),
+              commitRecord.hasNextRecord(),
+              commitRecord.hasMoreInput(),
+              result.exception(),
+              false));
+    }
+    return outcomes;
+  }
+
+  private RecordUpdateService.UpdateResult updateRecord(
+      CommitRecord commitRecord, BulkOperation operation) {
+    try {
+      return new RecordUpdateService.UpdateResult(
+          recordUpdateService.updateEntity(
+              commitRecord.original(), commitRecord.modified(), operation),
+          null);
+    } catch (Exception e) {
+      return new RecordUpdateService.UpdateResult(null, e);
+    }
+  }
+
+  /**
+   * Result of the record handled by the interrupted commit. The changed record which has not been
+   * updated failed before the checkpoint, its error is already saved.
+   */
+  private BulkOperationsEntity replayCommittedRecord(
+      BulkOperationsEntity original,
+      BulkOperationsEntity modified,
+      BulkOperation operation,
+      boolean committed) {
+    var result = recordUpdateService.replayEntity(original, modified);
+    if (result == original) {
+      return result;
+    }
+    if (!committed) {
+      return null;
+    }
+    synchronized (operation) {
+      operation.setCommittedNumOfRecords(operation.getCommittedNumOfRecords() + 1);
+    }
+    return result;
   }
 
   private String getEndOfLineSymbol(boolean hasNextRecord) {
     return hasNextRecord ? LF : EMPTY;
   }
 
+  private record CommitRecord(
+      BulkOperationsEntity original,
+      BulkOperationsEntity modified,
+      boolean hasNextRecord,
+      boolean hasMoreInput,
+      CommitOutcome replayed) {}
+
+  private record CommitOutcome(
+      BulkOperationsEntity original,
+      BulkOperationsEntity result,
+      boolean hasNextRecord,
+      boolean hasMoreInput,
+      Exception exception,
+      boolean checkpointed) {}
+
+  /**
+   * Writes commit results to the changed records files and saves errors. Called by the commit
+   * window strictly in input order. Errors are saved together with checkpoints of the commit, so
+   * that a resumed commit does not save them twice.
+   */
+  private final class CommitResultHandler implements Consumer<List<CommitOutcome>> {
+    private final BulkOperation operation;
+    private final BulkOperationsEntityCsvWriter csvWriter;
+    private final Writer writerForResultJsonFile;
+    private final Writer writerForJsonPreviewFile;
+    private final boolean useCurrentContext;
+    private final Set<String> failedInstanceHrids;
+    private final ExecutionContentSink.Buffer contentBuffer;
+    private final List<Runnable> pendingContents = new ArrayList<>();
+    private BulkOperationExecution execution;
+    private int processedNumOfRecords;
+    private int checkpointIndex;
+    private LocalDateTime checkpointStartTime = LocalDateTime.now();
+
+    private CommitResultHandler(
+        BulkOperation operation,
+        BulkOperationExecution execution,
+        BulkOperationsEntityCsvWriter csvWriter,
+        Writer writerForResultJsonFile,
+        Writer writerForJsonPreviewFile,
+        boolean useCurrentContext,
+        Set<String> failedInstanceHrids,
+        ExecutionContentSink.Buffer contentBuffer,
+        int checkpointIndex) {
+      this.operation = operation;
+      this.execution = execution;
+      this.csvWriter = csvWriter;
+      this.writerForResultJsonFile = writerForResultJsonFile;
+      this.writerForJsonPreviewFile = writerForJsonPreviewFile;
+      this.useCurrentContext = useCurrentContext;
+      this.failedInstanceHrids = failedInstanceHrids;
+      this.contentBuffer = contentBuffer;
+      this.checkpointIndex = checkpointIndex;
+    }
+
+    @Override
+    public void accept(List<CommitOutcome> outcomes) {
+      outcomes.forEach(this::accept);
+    }
+
+    private void accept(CommitOutcome outcome) {
+      processedNumOfRecords++;
+      if (nonNull(outcome.exception())) {
+        saveCommitError(outcome.original(), outcome.exception());
+      } else if (nonNull(outcome.result())) {
+        writeResult(outcome);
+      } else {
+        saveFailedInstanceHrid(failedInstanceHrids, outcome.original());
+      }
+      if (processedNumOfRecords > checkpointIndex
+          && (!outcome.hasMoreInput()
+              || commitCheckpointService.isDue(processedNumOfRecords - checkpointIndex))) {
+        checkpoint(outcome.hasMoreInput());
+      }
+      execution =
+          execution
+              .withStatus(outcome.hasMoreInput() ? StatusType.ACTIVE : StatusType.COMPLETED)
+              .withEndTime(outcome.hasMoreInput() ? null : LocalDateTime.now());
+      if (processedNumOfRecords - execution.getProcessedRecords() > OPERATION_UPDATING_STEP) {
+        execution.setProcessedRecords(processedNumOfRecords);
+        execution = executionRepository.save(execution);
+      }
+    }
+
+    /** Saves the errors of the records handled so far. */
+    private void savePendingContents() {
+      pendingContents.forEach(Runnable::run);
+      pendingContents.clear();
+    }
+
+    private void checkpoint(boolean hasMoreInput) {
+      savePendingContents();
+      if (hasMoreInput) {
+        contentBuffer.flush();
+        commitCheckpointService.saveCheckpoint(
+            execution, checkpointIndex, processedNumOfRecords - 1, checkpointStartTime);
+      }
+      checkpointIndex = processedNumOfRecords;
+      checkpointStartTime = LocalDateTime.now();
+    }
+
+    private void writeResult(CommitOutcome outcome) {
+      var original = outcome.original();
+      var result = outcome.result();
+      try {
+        List<BulkOperationExecutionContent> bulkOperationExecutionContents = new ArrayList<>();
+        var tenantIdOfEntity = result.getTenant();
+        if (!useCurrentContext) {
+          result.getRecordBulkOperationEntity().setTenant(tenantIdOfEntity);
+          result.getRecordBulkOperationEntity().setTenantToNotes(operation.getTenantNotePairs());
+        }
+        if (result != original) {
+          try (var ignored =
+              useCurrentContext
+                  ? null
+                  : new FolioExecutionContextSetter(
+                      prepareContextForTenant(
+                          tenantIdOfEntity, folioModuleMetadata, folioExecutionContext))) {
+            writerForResultJsonFile.write(
+                objectMapper.writeValueAsString(result)
+                    + getEndOfLineSymbol(outcome.hasNextRecord()));
+            writerForJsonPreviewFile.write(
+                objectMapper.writeValueAsString(result)
+                    + getEndOfLineSymbol(outcome.hasNextRecord()));
+            CsvHelper.writeBeanToCsv(
+                operation,
+                csvWriter,
+                result.getRecordBulkOperationEntity(),
+                bulkOperationExecutionContents);
+          }
+          if (!outcome.checkpointed()) {
+            pendingContents.add(
+                () -> bulkOperationExecutionContents.forEach(errorService::saveError));
+          }
+        } else if (original instanceof ExtendedInstance extendedInstance
+            && MARC.equals(extendedInstance.getEntity().getSource())) {
+          writerForJsonPreviewFile.write(
+              objectMapper.writeValueAsString(result)
+                  + getEndOfLineSymbol(outcome.hasNextRecord()));
+        }
+      } catch (Exception e) {
+        if (outcome.checkpointed()) {
+          saveFailedInstanceHrid(failedInstanceHrids, original);
+        } else {
+          saveCommitError(original, e);
+        }
+      }
+    }
+
+    private void saveCommitError(BulkOperationsEntity original, Exception exception) {
+      saveFailedInstanceHrid(failedInstanceHrids, original);
+      pendingContents.add(() -> saveCommitErrorContent(original, exception));
+    }
+
+    private void saveCommitErrorContent(BulkOperationsEntity original, Exception exception) {
+      var identifier = original.getIdentifier(operation.getIdentifierType());
+      if (exception instanceof OptimisticLockingException e) {
+        errorService.saveError(
+            operation.getId(),
+            identifier,
+            e.getCsvErrorMessage(),
+            e.getUiErrorMessage(),
+            e.getLinkToFailedEntity(),
+            ErrorType.ERROR);
+      } else if (exception instanceof WritePermissionDoesNotExist e) {
+        var userName =
+            userClient.getUserById(folioExecutionContext.getUserId().toString()).getUsername();
+        var errorMessage =
+            String.format(
+                e.getMessage(),
+                userName,
+                IdentifiersResolver.resolve(operation.getIdentifierType()),
+                identifier);
+        errorService.saveError(operation.getId(), identifier, errorMessage, ErrorType.ERROR);
+      } else {
+        errorService.saveError(
+            operation.getId(), identifier, exception.getMessage(), ErrorType.ERROR);
+      }
+    }
+  }
+
   private void saveFailedInstanceHrid(
       Set<String> failedInstanceHrids, BulkOperationsEntity bulkOperationsEntity) {
     var entity = bulkOperationsEntity.getRecordBulkOperationEntity();
@@ -705,6 +1194,8 @@ public class BulkOperationService {
                 () ->
                     new NotFoundException("Bulk operation was not found by id=" + bulkOperationId));
     operation.setUserId(xokapiUserId);
+    previewPageCache.evict(bulkOperationId);
+    matchingErrorsCache.evict(bulkOperationId);
 
     if (DELETE == step) {
       if (DATA_MODIFICATION.equals(operation.getStatus())) {
@@ -715,7 +1206,7 @@ public class BulkOperationService {
         operation.setOperationType(OperationType.DELETE);
         operation.setStatus(DELETING_RECORDS);
         bulkOperationRepository.save(operation);
-        executor.execute(
+        operationScheduler.execute(
             getRunnableWithCurrentFolioContext(() -> userDeleteService.deleteUsers(operation)));
         return operation;
       } else {
@@ -787,7 +1278,7 @@ public class BulkOperationService {
         operation.setStatus(RETRIEVING_RECORDS);
         bulkOperationRepository.save(operation);
 
-        executor.execute(
+        operationScheduler.execute(
             getRunnableWithCurrentFolioContext(
                 () -> {
                   try {
@@ -815,7 +1306,7 @@ public class BulkOperationService {
       if (DATA_MODIFICATION.equals(operation.getStatus())
           || REVIEW_CHANGES.equals(operation.getStatus())) {
         if (MANUAL == bulkOperationApproach) {
-          executor.execute(getRunnableWithCurrentFolioContext(() -> apply(operation)));
+          operationScheduler.execute(getRunnableWithCurrentFolioContext(() -> apply(operation)));
         } else {
           logFilesService.removeModifiedFiles(operation);
           launchProcessing(operation);
@@ -827,7 +1318,17 @@ public class BulkOperationService {
       }
     } else if (BulkOperationStep.COMMIT == step) {
       if (REVIEW_CHANGES.equals(operation.getStatus())) {
-        executor.execute(getRunnableWithCurrentFolioContext(() -> commit(operation)));
+        operationScheduler.execute(getRunnableWithCurrentFolioContext(() -> commit(operation)));
+        return operation;
+      }
+      var interruptedExecution =
+          APPLY_CHANGES.equals(operation.getStatus())
+              ? commitCheckpointService.findInterruptedExecution(bulkOperationId)
+              : Optional.<BulkOperationExecution>empty();
+      if (interruptedExecution.isPresent()) {
+        operationScheduler.execute(
+            getRunnableWithCurrentFolioContext(
+                () -> resumeCommit(operation, interruptedExecution.get())));
         return operation;
       } else {
         throw new BadRequestException(
@@ -850,6 +1351,7 @@ public class BulkOperationService {
   public void apply(BulkOperation operation) {
     operation.setProcessedNumOfRecords(0);
     var bulkOperationId = operation.getId();
+    previewPageCache.evict(bulkOperationId);
     var linkToModifiedRecordsCsvFile = operation.getLinkToModifiedRecordsCsvFile();
     var linkToModifiedRecordsJsonFile =
         String.format(
@@ -860,7 +1362,9 @@ public class BulkOperationService {
     try (Reader readerForModifiedCsvFile =
             new InputStreamReader(remoteFileSystemClient.get(linkToModifiedRecordsCsvFile));
         Writer writerForModifiedJsonFile =
-            remoteFileSystemClient.writer(linkToModifiedRecordsJsonFile)) {
+            jsonRecordIndexService.indexingWriter(
+                remoteFileSystemClient.writer(linkToModifiedRecordsJsonFile),
+                linkToModifiedRecordsJsonFile)) {
 
       var clazz = resolveEntityClass(operation.getEntityType());
 
@@ -968,7 +1472,8 @@ public class BulkOperationService {
         metadataProviderService.getJobExecutions(bulkOperation.getDataImportJobProfileId());
     updateBulkOperationBasedOnDataImportState(executions, bulkOperation);
     if (metadataProviderService.isDataImportJobCompleted(executions)) {
-      executor.execute(
+      recordDataImport(executions, bulkOperation);
+      operationScheduler.execute(
           getRunnableWithCurrentFolioContext(
               () -> {
                 var logEntries =
@@ -980,6 +1485,28 @@ public class BulkOperationService {
     }
   }
 
+  /** Records the time from the start of the first Data Import job part to the end of the last. */
+  private void recordDataImport(
+      List<DataImportJobExecution> executions, BulkOperation bulkOperation) {
+    var startedDate =
+        executions.stream()
+            .map(DataImportJobExecution::getStartedDate)
+            .filter(Objects::nonNull)
+            .min(Comparator.naturalOrder());
+    var completedDate =
+        executions.stream()
+            .map(DataImportJobExecution::getCompletedDate)
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder());
+    if (startedDate.isPresent() && completedDate.isPresent()) {
+      bulkOperationMetrics.record(
+          BulkOperationMetrics.DATA_IMPORT,
+          bulkOperation.getEntityType(),
+          Duration.between(startedDate.get().toInstant(), completedDate.get().toInstant()),
+          executions.stream().allMatch(execution -> COMMITTED.equals(execution.getStatus())));
+    }
+  }
+
   private void updateBulkOperationBasedOnDataImportState(
       List<DataImportJobExecution> executions, BulkOperation operation) {
     var numOfCommittedAdministrativeUpdates =
@@ -1065,6 +1592,7 @@ public class BulkOperationService {
 
   private void launchProcessing(BulkOperation operation) {
     operation.setStatus(DATA_MODIFICATION_IN_PROGRESS);
+    operation.setProcessedNumOfRecords(0);
     bulkOperationRepository.save(operation);
 
     var folioProcessing =
@@ -1087,10 +1615,10 @@ public class BulkOperationService {
                   .totalNumOfRecords(operation.getTotalNumOfRecords())
                   .processedNumOfRecords(0)
                   .build());
-      executor.execute(
+      operationScheduler.execute(
           getRunnableWithCurrentFolioContext(() -> confirmForInstanceMarc(marcProcessing)));
     }
-    executor.execute(getRunnableWithCurrentFolioContext(() -> confirm(folioProcessing)));
+    operationScheduler.execute(getRunnableWithCurrentFolioContext(() -> confirm(folioProcessing)));
   }
 
   private synchronized void handleProcessingCompletion(UUID operationId) {
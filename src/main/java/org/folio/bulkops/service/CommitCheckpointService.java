@@ -0,0 +1,181 @@
+package org.folio.bulkops.service;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ObjectUtils;
+import org.folio.bulkops.domain.bean.StateType;
+import org.folio.bulkops.domain.bean.StatusType;
+import org.folio.bulkops.domain.entity.BulkOperationExecution;
+import org.folio.bulkops.domain.entity.BulkOperationExecutionChunk;
+import org.folio.bulkops.repository.BulkOperationExecutionChunkRepository;
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.folio.bulkops.repository.BulkOperationExecutionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Durable checkpoints of commits. Every {@code application.commit.checkpoint-interval} records a
+ * commit stores the chunk of records handled since its previous checkpoint, once their contents
+ * (processed records and errors) are saved. A commit which stopped without completing, e.g.
+ * because the instance was restarted, is resumed from its last checkpoint, so the records before it
+ * are not updated again. While a commit runs, the heartbeat of its execution is renewed, so that a
+ * commit which is slow but alive is never taken for an interrupted one.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class CommitCheckpointService {
+
+  @Value("${application.commit.checkpoint-interval:1000}")
+  private int checkpointInterval;
+
+  @Value("${application.commit.resume-timeout-ms:300000}")
+  private long resumeTimeoutMs;
+
+  private final BulkOperationExecutionRepository executionRepository;
+  private final BulkOperationExecutionChunkRepository executionChunkRepository;
+  private final BulkOperationExecutionContentRepository executionContentRepository;
+
+  private ScheduledExecutorService heartbeats;
+
+  @PostConstruct
+  public void init() {
+    heartbeats =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "commit-heartbeat");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeats.shutdownNow();
+  }
+
+  /** Whether a checkpoint is due after the given number of records handled since the last one. */
+  public boolean isDue(int recordsSinceCheckpoint) {
+    return recordsSinceCheckpoint >= Math.max(1, checkpointInterval);
+  }
+
+  /**
+   * Stores the checkpoint of the execution covering records from {@code firstRecordIndex} to
+   * {@code lastRecordIndex} (inclusive) of the modified records file.
+   */
+  public void saveCheckpoint(
+      BulkOperationExecution execution,
+      int firstRecordIndex,
+      int lastRecordIndex,
+      LocalDateTime startTime) {
+    executionChunkRepository.save(
+        BulkOperationExecutionChunk.builder()
+            .bulkOperationExecutionId(execution.getId())
+            .bulkOperationId(execution.getBulkOperationId())
+            .firstRecordIndex(firstRecordIndex)
+            .lastRecordIndex(lastRecordIndex)
+            .startTime(startTime)
+            .endTime(LocalDateTime.now())
+            .state(StateType.PROCESSED)
+            .build());
+    log.debug(
+        "Commit of bulk operation {} checkpointed at record {}",
+        execution.getBulkOperationId(),
+        lastRecordIndex);
+  }
+
+  /** Index of the first record which is not covered by checkpoints of the execution. */
+  public int getResumeIndex(UUID executionId) {
+    return executionChunkRepository
+        .findFirstByBulkOperationExecutionIdOrderByLastRecordIndexDesc(executionId)
+        .map(chunk -> chunk.getLastRecordIndex() + 1)
+        .orElse(0);
+  }
+
+  /** Identifiers of the records which have already been updated by the commit. */
+  public Set<String> getCommittedIdentifiers(UUID bulkOperationId) {
+    return new HashSet<>(
+        executionContentRepository.findIdentifiersByBulkOperationIdAndStateWithoutError(
+            bulkOperationId, StateType.PROCESSED));
+  }
+
+  /**
+   * Finds the interrupted execution of the commit: the execution is still active, but its
+   * heartbeat has not been renewed (or it has not been started, if it never had a heartbeat) for
+   * {@code application.commit.resume-timeout-ms}. The execution must be claimed before resuming.
+   */
+  public Optional<BulkOperationExecution> findInterruptedExecution(UUID bulkOperationId) {
+    var deadline = getDeadline();
+    return executionRepository.findAllByBulkOperationId(bulkOperationId).stream()
+        .filter(execution -> StatusType.ACTIVE.equals(execution.getStatus()))
+        .max(
+            Comparator.comparing(
+                BulkOperationExecution::getStartTime, nullsFirst(naturalOrder())))
+        .filter(execution -> lastActivityOf(execution).isBefore(deadline));
+  }
+
+  /**
+   * Claims the interrupted execution for resuming by renewing its heartbeat, only if it is still
+   * stale. Of commits trying to resume the same execution at once only one succeeds.
+   */
+  public boolean claim(BulkOperationExecution execution) {
+    return executionRepository.claimStaleExecution(
+            execution.getId(), LocalDateTime.now(), getDeadline())
+        > 0;
+  }
+
+  /**
+   * Renews the heartbeat of the running execution every third of the resume timeout until the
+   * returned heartbeat is closed.
+   */
+  public Heartbeat startHeartbeat(BulkOperationExecution execution) {
+    var period = Math.max(1, resumeTimeoutMs / 3);
+    var executionId = execution.getId();
+    var beat =
+        heartbeats.scheduleWithFixedDelay(
+            getRunnableWithCurrentFolioContext(() -> beat(executionId)),
+            0,
+            period,
+            TimeUnit.MILLISECONDS);
+    return () -> beat.cancel(false);
+  }
+
+  private void beat(UUID executionId) {
+    try {
+      executionRepository.updateHeartbeat(executionId, LocalDateTime.now());
+    } catch (RuntimeException e) {
+      log.error("Failed to renew heartbeat of execution {}", executionId, e);
+    }
+  }
+
+  private LocalDateTime getDeadline() {
+    return LocalDateTime.now().minus(Duration.ofMillis(resumeTimeoutMs));
+  }
+
+  private LocalDateTime lastActivityOf(BulkOperationExecution execution) {
+    return ObjectUtils.firstNonNull(
+        execution.getHeartbeat(), execution.getStartTime(), LocalDateTime.MIN);
+  }
+
+  /** Heartbeat of the running commit, stopped on close. */
+  public interface Heartbeat extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
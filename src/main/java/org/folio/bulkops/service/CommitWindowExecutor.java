@@ -0,0 +1,172 @@
+package org.folio.bulkops.service;
+
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.exception.ServerErrorException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes record updates of the commit step on a shared worker pool. Every commit opens its own
+ * {@link Window}: up to {@code windowSize} records are in flight at once, the number of concurrent
+ * updates per tenant is limited module-wide, and results are handed back to the caller strictly in
+ * submission order.
+ */
+@Component
+@Log4j2
+public class CommitWindowExecutor {
+
+  @Value("${application.commit.workers:8}")
+  private int workers;
+
+  @Value("${application.commit.window-size:64}")
+  private int windowSize;
+
+  @Value("${application.commit.max-concurrent-per-tenant:8}")
+  private int maxConcurrentPerTenant;
+
+  private final Map<String, Semaphore> tenantPermits = new ConcurrentHashMap<>();
+  private ExecutorService executor;
+
+  @PostConstruct
+  public void init() {
+    var threadNumber = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, workers),
+            runnable -> {
+              var thread = new Thread(runnable, "commit-worker-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    log.info(
+        "Commit executor initialized: workers={}, windowSize={}, maxConcurrentPerTenant={}",
+        workers,
+        windowSize,
+        maxConcurrentPerTenant);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Opens a new window for a single commit.
+   *
+   * @param consumer receives task results in submission order, always on the submitting thread
+   * @return window to submit tasks to
+   */
+  public <T> Window<T> openWindow(Consumer<T> consumer) {
+    return new Window<>(windowSize, consumer);
+  }
+
+  /**
+   * Opens a new window with its own size, e.g. for tasks covering many records at once.
+   *
+   * @param size max number of tasks in flight, still bounded by the configured window size
+   * @param consumer receives task results in submission order, always on the submitting thread
+   * @return window to submit tasks to
+   */
+  public <T> Window<T> openWindow(int size, Consumer<T> consumer) {
+    return new Window<>(Math.min(size, windowSize), consumer);
+  }
+
+  private Semaphore permitsFor(String tenantId) {
+    return tenantPermits.computeIfAbsent(
+        tenantId, id -> new Semaphore(Math.max(1, maxConcurrentPerTenant), true));
+  }
+
+  public final class Window<T> implements AutoCloseable {
+    private final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    private final int size;
+    private final Consumer<T> consumer;
+
+    private Window(int size, Consumer<T> consumer) {
+      this.size = Math.max(1, size);
+      this.consumer = consumer;
+    }
+
+    /**
+     * Submits a task updating a record that belongs to the given tenant. Blocks while the window
+     * is full (completing the oldest task) or while the tenant has no free permits. The task is
+     * expected to capture its own errors in the returned result.
+     */
+    public void submit(String tenantId, Supplier<T> task) {
+      while (inFlight.size() >= size) {
+        completeOldest();
+      }
+      var permits = permitsFor(tenantId);
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServerErrorException("Commit was interrupted");
+      }
+      var future = new CompletableFuture<T>();
+      try {
+        executor.execute(
+            getRunnableWithCurrentFolioContext(
+                () -> {
+                  try {
+                    if (!future.isCancelled()) {
+                      future.complete(task.get());
+                    }
+                  } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                  } finally {
+                    permits.release();
+                  }
+                }));
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+      inFlight.addLast(future);
+    }
+
+    /** Waits for all submitted tasks and hands their results over in submission order. */
+    public void drain() {
+      while (!inFlight.isEmpty()) {
+        completeOldest();
+      }
+    }
+
+    private void completeOldest() {
+      var future = inFlight.removeFirst();
+      try {
+        consumer.accept(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServerErrorException("Commit was interrupted");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new ServerErrorException(e.getCause().getMessage());
+      }
+    }
+
+    /** Cancels the tasks that have not been handed over, e.g. when commit failed. */
+    @Override
+    public void close() {
+      inFlight.forEach(future -> future.cancel(false));
+      inFlight.clear();
+    }
+  }
+}
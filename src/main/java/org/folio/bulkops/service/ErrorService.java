@@ -2,7 +2,6 @@ package org.folio.bulkops.service;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.LF;
 import static org.folio.bulkops.domain.dto.OperationStatusType.COMPLETED;
@@ -16,19 +15,18 @@ import static org.folio.bulkops.util.Constants.ERROR_FILE_NAME_ENDING;
 import static org.folio.bulkops.util.Constants.ERROR_MATCHING_FILE_NAME_PREFIX;
 import static org.folio.bulkops.util.Constants.MSG_NO_CHANGE_REQUIRED;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
@@ -49,7 +47,6 @@ import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
 import org.folio.bulkops.repository.BulkOperationRepository;
 import org.folio.bulkops.util.Constants;
 import org.folio.spring.data.OffsetRequest;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
@@ -64,10 +61,13 @@ public class ErrorService {
   private static final int IDX_ERROR_IDENTIFIER = 1;
   private static final int IDX_ERROR_MSG = 2;
   private static final int IDX_ERROR_TYPE = 0;
+  private static final int ERRORS_CSV_PAGE_SIZE = 1000;
   private final BulkOperationRepository operationRepository;
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final BulkOperationExecutionContentRepository executionContentRepository;
   private final MetadataProviderClient metadataProviderClient;
+  private final ExecutionContentSink executionContentSink;
+  private final MatchingErrorsCache matchingErrorsCache;
 
   public void saveError(
       UUID bulkOperationId,
@@ -76,13 +76,7 @@ public class ErrorService {
       String uiErrorMessage,
       String link,
       ErrorType errorType) {
-    if (MSG_NO_CHANGE_REQUIRED.equals(errorMessage)
-        && executionContentRepository
-            .findFirstByBulkOperationIdAndIdentifier(bulkOperationId, identifier)
-            .isPresent()) {
-      return;
-    }
-    executionContentRepository.save(
+    var content =
         BulkOperationExecutionContent.builder()
             .identifier(identifier)
             .bulkOperationId(bulkOperationId)
@@ -91,11 +85,16 @@ public class ErrorService {
             .uiErrorMessage(uiErrorMessage)
             .errorType(errorType)
             .linkToFailedEntity(link)
-            .build());
+            .build();
+    if (MSG_NO_CHANGE_REQUIRED.equals(errorMessage)) {
+      executionContentSink.saveIfAbsent(content);
+    } else {
+      executionContentSink.save(content);
+    }
   }
 
   public void saveError(BulkOperationExecutionContent bulkOperationExecutionContent) {
-    executionContentRepository.save(bulkOperationExecutionContent);
+    executionContentSink.save(bulkOperationExecutionContent);
   }
 
   public void saveError(
@@ -106,11 +105,21 @@ public class ErrorService {
   @Transactional
   public void deleteErrorsByBulkOperationId(UUID bulkOperationId) {
     executionContentRepository.deleteByBulkOperationId(bulkOperationId);
+    executionContentRepository.deleteErrorCountersByBulkOperationId(bulkOperationId);
     log.info("Errors deleted for bulk operation {}", bulkOperationId);
   }
 
   public Errors getErrorsPreviewByBulkOperationId(
       UUID bulkOperationId, int limit, int offset, ErrorType errorType) {
+    return getErrorsPreviewByBulkOperationId(bulkOperationId, limit, offset, errorType, null);
+  }
+
+  /**
+   * Returns a page of errors of the operation. Errors of committed records can be paged by the id
+   * of the last error of the previous page, in which case the offset is ignored.
+   */
+  public Errors getErrorsPreviewByBulkOperationId(
+      UUID bulkOperationId, int limit, int offset, ErrorType errorType, UUID lastErrorId) {
     var bulkOperation =
         operationRepository
             .findById(bulkOperationId)
@@ -126,41 +135,37 @@ public class ErrorService {
       if (StringUtils.isEmpty(pathToMatchedRecordsErrorsCsvFile)) {
         return new Errors().errors(List.of()).totalRecords(0);
       }
-      ArrayList<Error> errors = new ArrayList<>();
-      AtomicInteger counter = new AtomicInteger();
-      try (var reader =
-          new BufferedReader(
-              new InputStreamReader(
-                  remoteFileSystemClient.get(pathToMatchedRecordsErrorsCsvFile)))) {
-        reader
-            .lines()
-            .forEach(
-                line -> {
-                  var message = line.split(Constants.COMMA_DELIMETER, 3);
-                  if (isNull(errorType)
-                      || Objects.equals(errorType.getValue(), message[IDX_ERROR_TYPE])) {
-                    counter.incrementAndGet();
-                    if (offset < counter.get() && errors.size() < limit) {
-                      errors.add(
-                          new Error()
-                              .message(message[IDX_ERROR_MSG])
-                              .parameters(
-                                  List.of(
-                                      new Parameter()
-                                          .key(IDENTIFIER)
-                                          .value(message[IDX_ERROR_IDENTIFIER])))
-                              .type(ErrorType.fromValue(message[IDX_ERROR_TYPE])));
-                    }
-                  }
-                });
+      MatchingErrorsCache.Lines lines;
+      try {
+        lines =
+            matchingErrorsCache.read(
+                bulkOperationId,
+                pathToMatchedRecordsErrorsCsvFile,
+                isNull(errorType) ? null : errorType.getValue(),
+                offset,
+                limit);
       } catch (IOException e) {
         log.error("Error reading errors from file", e);
         throw new NotFoundException("Cannot process matching errors");
       }
-      return new Errors().errors(errors).totalRecords(counter.get());
+      var errors =
+          lines.lines().stream()
+              .map(line -> line.split(Constants.COMMA_DELIMETER, 3))
+              .map(
+                  message ->
+                      new Error()
+                          .message(message[IDX_ERROR_MSG])
+                          .parameters(
+                              List.of(
+                                  new Parameter()
+                                      .key(IDENTIFIER)
+                                      .value(message[IDX_ERROR_IDENTIFIER])))
+                          .type(ErrorType.fromValue(message[IDX_ERROR_TYPE])))
+              .toList();
+      return new Errors().errors(errors).totalRecords(lines.total());
     } else if (COMPLETED == bulkOperation.getStatus()
         || COMPLETED_WITH_ERRORS == bulkOperation.getStatus()) {
-      return getExecutionErrors(bulkOperationId, limit, offset, errorType);
+      return getExecutionErrors(bulkOperationId, limit, offset, errorType, lastErrorId);
     } else {
       throw new NotFoundException("Errors preview is not available");
     }
@@ -200,55 +205,117 @@ public class ErrorService {
     return bulkOperation.getCommittedNumOfWarnings() == 0;
   }
 
-  public String getErrorsCsvByBulkOperationId(
-      UUID bulkOperationId, int offset, ErrorType errorType) {
-    return getErrorsPreviewByBulkOperationId(bulkOperationId, Integer.MAX_VALUE, offset, errorType)
-        .getErrors()
-        .stream()
-        .map(
-            error ->
-                String.join(
-                    Constants.COMMA_DELIMETER,
-                    ObjectUtils.isEmpty(error.getParameters())
-                        ? EMPTY
-                        : Objects.requireNonNull(error.getType()).getValue(),
-                    error.getParameters().getFirst().getValue(),
-                    error.getMessage()))
-        .collect(Collectors.joining(Constants.NEW_LINE_SEPARATOR));
+  /**
+   * Writes errors as CSV lines, reading them page by page so that all errors of the operation are
+   * never held in memory at once.
+   */
+  public void writeErrorsCsvByBulkOperationId(
+      UUID bulkOperationId, int offset, ErrorType errorType, Writer writer) throws IOException {
+    var position = offset;
+    UUID lastErrorId = null;
+    Errors page;
+    do {
+      page =
+          getErrorsPreviewByBulkOperationId(
+              bulkOperationId, ERRORS_CSV_PAGE_SIZE, position, errorType, lastErrorId);
+      for (var error : page.getErrors()) {
+        if (position > offset) {
+          writer.write(Constants.NEW_LINE_SEPARATOR);
+        }
+        writer.write(errorToCsvLine(error));
+        position++;
+      }
+      lastErrorId = page.getErrors().isEmpty() ? null : page.getErrors().getLast().getId();
+    } while (!page.getErrors().isEmpty() && position < page.getTotalRecords());
+  }
+
+  private String errorToCsvLine(Error error) {
+    return String.join(
+        Constants.COMMA_DELIMETER,
+        ObjectUtils.isEmpty(error.getParameters())
+            ? EMPTY
+            : Objects.requireNonNull(error.getType()).getValue(),
+        error.getParameters().getFirst().getValue(),
+        error.getMessage());
   }
 
+  /**
+   * Errors are ordered by type, errors without type last, and id. Totals come from the counters of
+   * the operation. Pages following the last error of the previous page are read with a seek on the
+   * error index, other pages skip the errors before the offset.
+   */
   private Errors getExecutionErrors(
-      UUID bulkOperationId, int limit, int offset, ErrorType errorType) {
-    int totalRecords =
-        ofNullable(errorType)
-            .map(
-                errType ->
-                    (int)
-                        executionContentRepository.countByBulkOperationIdAndErrorType(
-                            bulkOperationId, errType))
-            .orElseGet(
-                () ->
-                    (int)
-                        executionContentRepository
-                            .countAllByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId));
+      UUID bulkOperationId, int limit, int offset, ErrorType errorType, UUID lastErrorId) {
+    var errorTypes = getErrorTypesInOrder(errorType);
+    var counts = new ArrayList<Long>();
+    for (var type : errorTypes) {
+      counts.add(
+          executionContentRepository.countErrorsByBulkOperationIdAndErrorType(
+              bulkOperationId, type));
+    }
+    var totalRecords = (int) counts.stream().mapToLong(Long::longValue).sum();
     if (limit == 0) {
       return new Errors().errors(List.of()).totalRecords(totalRecords);
     }
-    Page<BulkOperationExecutionContent> errorPage;
-    if (isNull(errorType)) {
-      errorPage =
-          executionContentRepository.findByBulkOperationIdAndErrorMessageIsNotNullOrderByErrorType(
-              bulkOperationId, OffsetRequest.of(offset, limit));
+    var contents = new ArrayList<BulkOperationExecutionContent>();
+    if (nonNull(lastErrorId)) {
+      var lastError = getLastError(bulkOperationId, lastErrorId, errorTypes);
+      var afterId = lastError.getId();
+      for (var i = errorTypes.indexOf(lastError.getErrorType());
+          i < errorTypes.size() && contents.size() < limit;
+          i++) {
+        contents.addAll(
+            findErrorsAfter(bulkOperationId, errorTypes.get(i), afterId, limit - contents.size()));
+        afterId = null;
+      }
     } else {
-      errorPage =
-          executionContentRepository
-              .findByBulkOperationIdAndErrorMessageIsNotNullAndErrorTypeIsOrderByErrorType(
-                  bulkOperationId, OffsetRequest.of(offset, limit), errorType);
+      long skip = offset;
+      for (var i = 0; i < errorTypes.size() && contents.size() < limit; i++) {
+        if (skip >= counts.get(i)) {
+          skip -= counts.get(i);
+          continue;
+        }
+        contents.addAll(
+            executionContentRepository
+                .findByBulkOperationIdAndErrorTypeAndErrorMessageIsNotNullOrderById(
+                    bulkOperationId,
+                    errorTypes.get(i),
+                    OffsetRequest.of((int) skip, limit - contents.size())));
+        skip = 0;
+      }
     }
-    var errors = errorPage.toList().stream().map(this::executionContentToFolioError).toList();
+    var errors = contents.stream().map(this::executionContentToFolioError).toList();
     return new Errors().errors(errors).totalRecords(totalRecords);
   }
 
+  private BulkOperationExecutionContent getLastError(
+      UUID bulkOperationId, UUID lastErrorId, List<ErrorType> errorTypes) {
+    return executionContentRepository
+        .findById(lastErrorId)
+        .filter(content -> bulkOperationId.equals(content.getBulkOperationId()))
+        .filter(content -> nonNull(content.getErrorMessage()))
+        .filter(content -> errorTypes.contains(content.getErrorType()))
+        .orElseThrow(
+            () ->
+                new NotFoundException(
+                    "Error was not found by id=%s for bulk operation %s"
+                        .formatted(lastErrorId, bulkOperationId)));
+  }
+
+  /** The given error type or, if it is null, all types by name followed by errors without type. */
+  private List<ErrorType> getErrorTypesInOrder(ErrorType errorType) {
+    var errorTypes = new ArrayList<ErrorType>();
+    if (isNull(errorType)) {
+      Arrays.stream(ErrorType.values())
+          .sorted(Comparator.comparing(Enum::name))
+          .forEach(errorTypes::add);
+      errorTypes.add(null);
+    } else {
+      errorTypes.add(errorType);
+    }
+    return errorTypes;
+  }
+
   /**
    * Convert BulkOperationExecutionContent to Error for preview on UI.
    *
@@ -270,32 +337,22 @@ public class ErrorService {
             StringUtils.isNotBlank(content.getUiErrorMessage())
                 ? content.getUiErrorMessage()
                 : content.getErrorMessage())
+        .id(content.getId())
         .parameters(parameters)
         .type(content.getErrorType());
   }
 
+  /**
+   * Uploads the given errors or, if there are none, the errors saved for the operation. Saved
+   * errors are written to the storage page by page, so they are never held in memory at once.
+   *
+   * @return path of the uploaded file or null if the operation has no errors
+   */
   public String uploadErrorsToStorage(
       UUID bulkOperationId, String fileNamePrefix, String errorString) {
-    String errors;
-    if (errorString != null) {
-      errors = errorString;
-    } else {
-      var contents =
-          executionContentRepository.findByBulkOperationIdAndErrorMessageIsNotNullOrderByErrorType(
-              bulkOperationId, OffsetRequest.of(0, Integer.MAX_VALUE));
-      if (contents.isEmpty()) {
-        return null;
-      }
-      errors =
-          contents.stream()
-              .map(
-                  content ->
-                      String.join(
-                          Constants.COMMA_DELIMETER,
-                          content.getErrorType().getValue(),
-                          content.getIdentifier(),
-                          content.getErrorMessage()))
-              .collect(Collectors.joining(LF));
+    if (errorString == null
+        && getExecutionErrors(bulkOperationId, 0, 0, null, null).getTotalRecords() == 0) {
+      return null;
     }
     var errorsFileName =
         LocalDate.now()
@@ -305,8 +362,54 @@ public class ErrorService {
                 .map(FilenameUtils::getName)
                 .map(fileName -> fileNamePrefix + fileName)
                 .orElse(ERROR_FILE_NAME_ENDING);
-    return remoteFileSystemClient.put(
-        new ByteArrayInputStream(errors.getBytes()), bulkOperationId + "/" + errorsFileName);
+    var path = bulkOperationId + "/" + errorsFileName;
+    if (errorString != null) {
+      return remoteFileSystemClient.put(new ByteArrayInputStream(errorString.getBytes()), path);
+    }
+    try (var writer = remoteFileSystemClient.writer(path)) {
+      writeExecutionErrorsCsv(bulkOperationId, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return path;
+  }
+
+  /** Writes errors of all types in the order of the errors preview, seeking page by page. */
+  private void writeExecutionErrorsCsv(UUID bulkOperationId, Writer writer) throws IOException {
+    var first = true;
+    for (var errorType : getErrorTypesInOrder(null)) {
+      List<BulkOperationExecutionContent> page;
+      UUID afterId = null;
+      do {
+        page = findErrorsAfter(bulkOperationId, errorType, afterId, ERRORS_CSV_PAGE_SIZE);
+        for (var content : page) {
+          if (!first) {
+            writer.write(LF);
+          }
+          writer.write(
+              String.join(
+                  Constants.COMMA_DELIMETER,
+                  isNull(errorType) ? EMPTY : errorType.getValue(),
+                  content.getIdentifier(),
+                  content.getErrorMessage()));
+          first = false;
+        }
+        afterId = page.isEmpty() ? null : page.getLast().getId();
+      } while (page.size() == ERRORS_CSV_PAGE_SIZE);
+    }
+  }
+
+  /** Errors of the type following the given id or, if it is null, from the first one. */
+  private List<BulkOperationExecutionContent> findErrorsAfter(
+      UUID bulkOperationId, ErrorType errorType, UUID afterId, int limit) {
+    var page = OffsetRequest.of(0, limit);
+    return isNull(afterId)
+        ? executionContentRepository
+            .findByBulkOperationIdAndErrorTypeAndErrorMessageIsNotNullOrderById(
+                bulkOperationId, errorType, page)
+        : executionContentRepository
+            .findByBulkOperationIdAndErrorTypeAndErrorMessageIsNotNullAndIdGreaterThanOrderById(
+                bulkOperationId, errorType, afterId, page);
   }
 
   public void saveErrorsAfterQuery(
@@ -341,14 +444,14 @@ public class ErrorService {
   }
 
   public int getCommittedNumOfErrors(UUID bulkOperationId) {
-    return executionContentRepository
-        .countAllByBulkOperationIdAndErrorMessageIsNotNullAndErrorTypeIs(
+    return (int)
+        executionContentRepository.countErrorsByBulkOperationIdAndErrorType(
             bulkOperationId, ErrorType.ERROR);
   }
 
   public int getCommittedNumOfWarnings(UUID bulkOperationId) {
-    return executionContentRepository
-        .countAllByBulkOperationIdAndErrorMessageIsNotNullAndErrorTypeIs(
+    return (int)
+        executionContentRepository.countErrorsByBulkOperationIdAndErrorType(
             bulkOperationId, ErrorType.WARNING);
   }
 }
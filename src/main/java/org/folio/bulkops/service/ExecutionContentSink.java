@@ -0,0 +1,259 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.domain.dto.ErrorType;
+import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores execution contents (processed records, errors and warnings) of bulk operations. While a
+ * {@link Buffer} is open for an operation, its contents are collected in memory and inserted in
+ * batches when the batch size is reached, periodically and when the buffer is closed. Without an
+ * open buffer contents are saved immediately. Every save also adds the saved errors to the error
+ * counters of the operation, with one update per error type, in the transaction inserting them.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ExecutionContentSink {
+
+  @Value("${application.execution-content.batch-size:500}")
+  private int batchSize;
+
+  @Value("${application.execution-content.flush-interval-ms:1000}")
+  private long flushIntervalMs;
+
+  private final BulkOperationExecutionContentRepository executionContentRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<UUID, Buffer> buffers = new ConcurrentHashMap<>();
+  private ScheduledExecutorService flusher;
+
+  @PostConstruct
+  public void init() {
+    flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "execution-content-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdownNow();
+  }
+
+  /**
+   * Opens a buffer for the operation. Contents saved if absent are checked for duplicates when
+   * they are flushed, with one query per batch instead of one query per record.
+   *
+   * @param bulkOperationId bulk operation id
+   * @return buffer which must be closed to flush the remaining contents
+   */
+  public Buffer open(UUID bulkOperationId) {
+    var buffer = new Buffer(bulkOperationId);
+    buffers.put(bulkOperationId, buffer);
+    buffer.schedule();
+    return buffer;
+  }
+
+  public void save(BulkOperationExecutionContent content) {
+    var buffer = buffers.get(content.getBulkOperationId());
+    if (buffer == null) {
+      store(content);
+    } else {
+      buffer.add(content, false);
+    }
+  }
+
+  /**
+   * Saves the content only if there is no content with the same identifier for the operation yet.
+   */
+  public void saveIfAbsent(BulkOperationExecutionContent content) {
+    var buffer = buffers.get(content.getBulkOperationId());
+    if (buffer == null) {
+      storeIfAbsent(content);
+    } else {
+      buffer.add(content, true);
+    }
+  }
+
+  private void storeIfAbsent(BulkOperationExecutionContent content) {
+    if (executionContentRepository
+        .findFirstByBulkOperationIdAndIdentifier(
+            content.getBulkOperationId(), content.getIdentifier())
+        .isEmpty()) {
+      store(content);
+    }
+  }
+
+  private void store(BulkOperationExecutionContent content) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          executionContentRepository.save(content);
+          countErrors(List.of(content));
+        });
+  }
+
+  private void storeAll(List<BulkOperationExecutionContent> contents) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          executionContentRepository.saveAll(contents);
+          countErrors(contents);
+        });
+  }
+
+  private void countErrors(List<BulkOperationExecutionContent> contents) {
+    contents.stream()
+        .filter(content -> nonNull(content.getBulkOperationId()))
+        .filter(content -> nonNull(content.getErrorMessage()))
+        .collect(
+            groupingBy(
+                content -> new CounterKey(content.getBulkOperationId(), content.getErrorType()),
+                counting()))
+        .forEach(
+            (key, numOfRecords) ->
+                executionContentRepository.incrementErrorCounter(
+                    key.bulkOperationId(),
+                    isNull(key.errorType()) ? EMPTY : key.errorType().name(),
+                    numOfRecords));
+  }
+
+  private record CounterKey(UUID bulkOperationId, ErrorType errorType) {}
+
+  private record Pending(BulkOperationExecutionContent content, boolean skipDuplicate) {}
+
+  public final class Buffer implements AutoCloseable {
+    private final UUID bulkOperationId;
+    private final List<Pending> contents = new ArrayList<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Runnable flushTask;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    private Buffer(UUID bulkOperationId) {
+      this.bulkOperationId = bulkOperationId;
+      this.flushTask = getRunnableWithCurrentFolioContext(this::flushQuietly);
+    }
+
+    private void schedule() {
+      scheduledFlush =
+          flusher.scheduleWithFixedDelay(
+              flushTask, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void add(BulkOperationExecutionContent content, boolean skipDuplicate) {
+      synchronized (contents) {
+        if (closed) {
+          if (skipDuplicate) {
+            storeIfAbsent(content);
+          } else {
+            store(content);
+          }
+          return;
+        }
+        contents.add(new Pending(content, skipDuplicate));
+        if (contents.size() < batchSize || !flushRequested.compareAndSet(false, true)) {
+          return;
+        }
+      }
+      flusher.execute(flushTask);
+    }
+
+    private void flushQuietly() {
+      try {
+        flush();
+      } catch (RuntimeException e) {
+        log.error("Failed to save execution contents of bulk operation {}", bulkOperationId, e);
+      }
+    }
+
+    /** Saves the buffered contents on the calling thread. */
+    public synchronized void flush() {
+      flushRequested.set(false);
+      List<Pending> pending;
+      synchronized (contents) {
+        if (contents.isEmpty()) {
+          return;
+        }
+        pending = new ArrayList<>(contents);
+        contents.clear();
+      }
+      try {
+        storeAll(withoutDuplicates(pending));
+      } catch (RuntimeException e) {
+        synchronized (contents) {
+          contents.addAll(0, pending);
+        }
+        throw e;
+      }
+    }
+
+    /**
+     * Drops contents saved if absent whose identifiers are stored already or precede them in the
+     * batch. Stored identifiers are looked up for such contents of the batch only.
+     */
+    private List<BulkOperationExecutionContent> withoutDuplicates(List<Pending> pending) {
+      var candidates =
+          pending.stream()
+              .filter(Pending::skipDuplicate)
+              .map(item -> item.content().getIdentifier())
+              .collect(toSet());
+      var seen =
+          candidates.isEmpty()
+              ? new HashSet<String>()
+              : new HashSet<>(
+                  executionContentRepository.findIdentifiersByBulkOperationIdAndIdentifierIn(
+                      bulkOperationId, candidates));
+      var batch = new ArrayList<BulkOperationExecutionContent>(pending.size());
+      for (var item : pending) {
+        if (seen.add(item.content().getIdentifier()) || !item.skipDuplicate()) {
+          batch.add(item.content());
+        }
+      }
+      return batch;
+    }
+
+    /**
+     * Stops buffering and saves the remaining contents on the calling thread, including contents
+     * which failed to be saved by a background flush. Contents added after closing are saved
+     * immediately.
+     */
+    @Override
+    public void close() {
+      buffers.remove(bulkOperationId, this);
+      scheduledFlush.cancel(false);
+      synchronized (contents) {
+        closed = true;
+      }
+      flush();
+    }
+  }
+}
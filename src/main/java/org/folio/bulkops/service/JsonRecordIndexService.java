@@ -0,0 +1,154 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static org.folio.bulkops.util.JsonRecordIndex.INDEX_FILE_SUFFIX;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.util.JsonRecordIndex;
+import org.folio.bulkops.util.JsonRecordIndexingWriter;
+import org.folio.s3.exception.S3ClientException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains {@link JsonRecordIndex} sidecar files ({@code <file>.idx}) of JSON files with one
+ * record per line and uses them to read the files starting from a given record. Read indexes are
+ * kept by path and version of the operation, like preview pages in {@link PreviewPageCache}. The
+ * storage client has no ranged reads, so the bytes preceding the record are still transferred;
+ * indexes only spare parsing the records preceding it.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class JsonRecordIndexService {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  @Value("${application.preview.index-cache.max-size:100}")
+  private long maxSize;
+
+  @Value("${application.preview.page-cache.expire-after-write-minutes:2}")
+  private long expireAfterWriteMinutes;
+
+  private final RemoteFileSystemClient remoteFileSystemClient;
+
+  private Cache<IndexKey, Optional<JsonRecordIndex>> indexes;
+
+  @PostConstruct
+  public void init() {
+    indexes =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+            .build();
+  }
+
+  /** Wraps writer of the remote JSON file so that its index is stored when the writer is closed. */
+  public Writer indexingWriter(Writer writer, String path) {
+    if (isNull(writer)) {
+      return null;
+    }
+    return new JsonRecordIndexingWriter(writer, index -> saveIndex(path, index));
+  }
+
+  /** Builds and stores index of the local JSON file which is (or will be) stored at the path. */
+  public void indexLocalFile(Path localFile, String path) {
+    var builder = new JsonRecordIndex.Builder();
+    try (var is = new BufferedInputStream(Files.newInputStream(localFile), BUFFER_SIZE)) {
+      var buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        builder.accept(buffer, 0, read);
+      }
+      saveIndex(path, builder.build());
+    } catch (IOException e) {
+      log.error("Failed to index file {}", localFile, e);
+    }
+  }
+
+  /**
+   * Opens the JSON file positioned as close as possible to the given record. If the file has no
+   * index, it is opened from the beginning.
+   *
+   * @param path path to the remote JSON file
+   * @param version version of the operation the file belongs to, see {@link PreviewPageCache}
+   * @param recordNumber number of the first record to be read
+   * @return stream and number of records to skip to reach the requested one
+   */
+  public PositionedStream open(String path, Object version, long recordNumber)
+      throws IOException {
+    var index =
+        isNull(path)
+            ? Optional.<JsonRecordIndex>empty()
+            : indexes.get(new IndexKey(path, version), key -> findIndex(key.path()));
+    if (index.isEmpty()) {
+      return new PositionedStream(remoteFileSystemClient.get(path), recordNumber);
+    }
+    var is = remoteFileSystemClient.get(path);
+    var offset = index.get().offsetOf(recordNumber);
+    try {
+      is.skipNBytes(offset);
+    } catch (IOException e) {
+      is.close();
+      throw e;
+    }
+    return new PositionedStream(is, index.get().recordsToSkip(recordNumber));
+  }
+
+  public void removeIndex(String path) {
+    if (isNull(path)) {
+      return;
+    }
+    try {
+      remoteFileSystemClient.remove(path + INDEX_FILE_SUFFIX);
+    } catch (Exception e) {
+      log.warn("Failed to remove index of file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private Optional<JsonRecordIndex> findIndex(String path) {
+    try (var is = remoteFileSystemClient.get(path + INDEX_FILE_SUFFIX)) {
+      return Optional.of(JsonRecordIndex.read(is));
+    } catch (S3ClientException e) {
+      log.debug("File {} has no index: {}", path, e.getMessage());
+      return Optional.empty();
+    } catch (Exception e) {
+      log.warn("Failed to read index of file {}: {}", path, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void saveIndex(String path, JsonRecordIndex index) {
+    try {
+      remoteFileSystemClient.put(
+          new ByteArrayInputStream(index.toBytes()), path + INDEX_FILE_SUFFIX);
+    } catch (Exception e) {
+      log.warn("Failed to save index of file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private record IndexKey(String path, Object version) {}
+
+  /** Stream of JSON records and number of records to skip before the requested one. */
+  public record PositionedStream(InputStream stream, long recordsToSkip) implements AutoCloseable {
+    @Override
+    public void close() throws IOException {
+      if (stream != null) {
+        stream.close();
+      }
+    }
+  }
+}
@@ -11,6 +11,10 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+/**
+ * Remembers which tenant reference data records belong to. Entries are keyed by record id only,
+ * since ids are unique across tenants and lookups are made in the context of any tenant.
+ */
 @Service
 @RequiredArgsConstructor
 public class LocalReferenceDataService {
@@ -18,42 +22,42 @@ public class LocalReferenceDataService {
   private final FolioExecutionContext folioExecutionContext;
   private final CacheManager cacheManager;
 
-  @Cacheable(cacheNames = "statisticalCodeId")
+  @Cacheable(cacheNames = "statisticalCodeId", key = "#p0")
   public String getTenantByStatisticalCodeId(String statisticalCodeId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "statisticalCodeTypeId")
+  @Cacheable(cacheNames = "statisticalCodeTypeId", key = "#p0")
   public String getTenantByStatisticalCodeTypeId(String statisticalCodeTypeId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "illPolicyId")
+  @Cacheable(cacheNames = "illPolicyId", key = "#p0")
   public String getTenantByIllPolicyId(String illPolicyId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "locationId")
+  @Cacheable(cacheNames = "locationId", key = "#p0")
   public String getTenantByLocationId(String locationId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "holdingsSourceId")
+  @Cacheable(cacheNames = "holdingsSourceId", key = "#p0")
   public String getTenantByHoldingsSourceId(String holdingsSourceId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "holdingsTypeId")
+  @Cacheable(cacheNames = "holdingsTypeId", key = "#p0")
   public String getTenantByHoldingsTypeId(String holdingsTypeId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "callNumberTypeId")
+  @Cacheable(cacheNames = "callNumberTypeId", key = "#p0")
   public String getTenantByCallNumberTypeId(String callNumberTypeId) {
     return folioExecutionContext.getTenantId();
   }
 
-  @Cacheable(cacheNames = "urlRelationshipId")
+  @Cacheable(cacheNames = "urlRelationshipId", key = "#p0")
   public String getTenantByUrlRelationshipId(String urlRelationshipId) {
     return folioExecutionContext.getTenantId();
   }
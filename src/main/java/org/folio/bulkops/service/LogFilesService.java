@@ -25,6 +25,8 @@ public class LogFilesService {
 
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final BulkOperationRepository bulkOperationRepository;
+  private final JsonRecordIndexService jsonRecordIndexService;
+  private final MarcRecordIndexService marcRecordIndexService;
 
   public void clearLogFiles() {
     final var back30days =
@@ -59,10 +61,12 @@ public class LogFilesService {
     removeModifiedFiles(bulkOperation);
     if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsJsonFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsJsonFile());
+      jsonRecordIndexService.removeIndex(bulkOperation.getLinkToCommittedRecordsJsonFile());
       bulkOperation.setLinkToCommittedRecordsJsonFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsJsonPreviewFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsJsonPreviewFile());
+      jsonRecordIndexService.removeIndex(bulkOperation.getLinkToCommittedRecordsJsonPreviewFile());
       bulkOperation.setLinkToCommittedRecordsJsonPreviewFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsErrorsCsvFile())) {
@@ -79,6 +83,7 @@ public class LogFilesService {
     }
     if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsMarcFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsMarcFile());
+      marcRecordIndexService.removeIndex(bulkOperation.getLinkToCommittedRecordsMarcFile());
       bulkOperation.setLinkToCommittedRecordsMarcFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsMarcCsvFile())) {
@@ -107,10 +112,12 @@ public class LogFilesService {
     }
     if (isNotEmpty(bulkOperation.getLinkToMatchedRecordsMarcFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToMatchedRecordsMarcFile());
+      marcRecordIndexService.removeIndex(bulkOperation.getLinkToMatchedRecordsMarcFile());
       bulkOperation.setLinkToMatchedRecordsMarcFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToMatchedRecordsJsonFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToMatchedRecordsJsonFile());
+      jsonRecordIndexService.removeIndex(bulkOperation.getLinkToMatchedRecordsJsonFile());
       bulkOperation.setLinkToMatchedRecordsJsonFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToMatchedRecordsErrorsCsvFile())) {
@@ -123,10 +130,12 @@ public class LogFilesService {
     log.info("Attempting to delete modified records files...");
     if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsJsonFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToModifiedRecordsJsonFile());
+      jsonRecordIndexService.removeIndex(bulkOperation.getLinkToModifiedRecordsJsonFile());
       bulkOperation.setLinkToModifiedRecordsJsonFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsJsonPreviewFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToModifiedRecordsJsonPreviewFile());
+      jsonRecordIndexService.removeIndex(bulkOperation.getLinkToModifiedRecordsJsonPreviewFile());
       bulkOperation.setLinkToModifiedRecordsJsonPreviewFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsCsvFile())) {
@@ -135,6 +144,7 @@ public class LogFilesService {
     }
     if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsMarcFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToModifiedRecordsMarcFile());
+      marcRecordIndexService.removeIndex(bulkOperation.getLinkToModifiedRecordsMarcFile());
       bulkOperation.setLinkToModifiedRecordsMarcFile(null);
     }
     if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsMarcCsvFile())) {
@@ -1,5 +1,6 @@
 package org.folio.bulkops.service;
 
+import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_CLASSIFICATION;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_CONTRIBUTORS;
@@ -18,13 +19,18 @@ import static org.folio.bulkops.domain.bean.Instance.INSTANCE_SERIES_STATEMENTS;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_SUBJECT;
 import static org.folio.bulkops.util.Constants.HYPHEN;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +38,9 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.bulkops.client.MappingRulesClient;
 import org.folio.bulkops.domain.dto.BulkOperationMarcRule;
 import org.folio.bulkops.domain.dto.BulkOperationMarcRuleCollection;
+import org.folio.spring.FolioExecutionContext;
 import org.marc4j.marc.DataField;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -46,7 +54,15 @@ public class Marc21ReferenceProvider {
   private static final Map<String, String> classificationTypeNames = new HashMap<>();
   private static final Map<String, String> mappedFields = new HashMap<>();
 
+  private static final int MAX_CACHED_TENANTS = 1000;
+  private static final MappingRules DEFAULT_MAPPING_RULES =
+      new MappingRules(Map.of(), Map.of(), Set.of());
+
+  @Value("${application.marc-mapping-rules.expire-after-write-minutes:10}")
+  private long mappingRulesExpireAfterWriteMinutes;
+
   private final MappingRulesClient mappingRulesClient;
+  private final FolioExecutionContext folioExecutionContext;
 
   private final Set<String> noteTags =
       Set.of(
@@ -57,9 +73,8 @@ public class Marc21ReferenceProvider {
           "590");
   private final Set<String> localNoteTags =
       Set.of("591", "592", "593", "594", "595", "596", "597", "598", "599");
-  private Map<String, String> instanceNoteTypes = new HashMap<>();
-  private Map<String, String> instanceNoteSubfields = new HashMap<>();
-  private Set<String> staffOnlyNotes = new HashSet<>();
+
+  private Cache<String, MappingRules> mappingRulesByTenant;
 
   static {
     languages.put("aar", "Afar");
@@ -608,11 +623,58 @@ public class Marc21ReferenceProvider {
     classificationTypeNames.put("090", "LC");
   }
 
+  @PostConstruct
+  public void init() {
+    mappingRulesByTenant =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TENANTS)
+            .expireAfterWrite(mappingRulesExpireAfterWriteMinutes, TimeUnit.MINUTES)
+            .build();
+  }
+
+  /**
+   * Loads the mapping rules of the current tenant unless they are already cached. Rules are
+   * fetched and compiled once per tenant and expiration period, readers always see a complete
+   * snapshot of the rules.
+   */
   public void updateMappingRules() {
+    var key = tenantKey();
+    var mappingRules = mappingRulesByTenant.getIfPresent(key);
+    if (isNull(mappingRules) || mappingRules == DEFAULT_MAPPING_RULES) {
+      mappingRulesByTenant.put(key, compileMappingRules());
+    }
+  }
 
-    instanceNoteTypes = new HashMap<>();
-    instanceNoteSubfields = new HashMap<>();
-    staffOnlyNotes = new HashSet<>();
+  /** Drops the cached mapping rules of the current tenant, so that they are fetched again. */
+  public void invalidateMappingRules() {
+    mappingRulesByTenant.invalidate(tenantKey());
+  }
+
+  /**
+   * Returns the cached mapping rules of the current tenant. Rules which cannot be loaded are
+   * replaced by the default ones until {@link #updateMappingRules()} succeeds or they expire.
+   */
+  private MappingRules getMappingRules() {
+    return mappingRulesByTenant.get(
+        tenantKey(),
+        tenant -> {
+          try {
+            return compileMappingRules();
+          } catch (Exception e) {
+            log.warn("Failed to load MARC mapping rules, using defaults: {}", e.getMessage());
+            return DEFAULT_MAPPING_RULES;
+          }
+        });
+  }
+
+  private String tenantKey() {
+    return Objects.toString(folioExecutionContext.getTenantId(), EMPTY);
+  }
+
+  private MappingRules compileMappingRules() {
+    var instanceNoteTypes = new HashMap<String, String>();
+    var instanceNoteSubfields = new HashMap<String, String>();
+    var staffOnlyNotes = new HashSet<String>();
 
     var documentContext = JsonPath.parse(mappingRulesClient.getMarcBibMappingRules().toString());
 
@@ -630,6 +692,11 @@ public class Marc21ReferenceProvider {
           instanceNoteTypes.put(tag, instanceNoteTypes.getOrDefault(tag, LOCAL_NOTES));
           instanceNoteSubfields.put(tag, instanceNoteSubfields.getOrDefault(tag, "a"));
         });
+    log.info("Compiled MARC mapping rules of tenant {}", folioExecutionContext.getTenantId());
+    return new MappingRules(
+        Map.copyOf(instanceNoteTypes),
+        Map.copyOf(instanceNoteSubfields),
+        Set.copyOf(staffOnlyNotes));
   }
 
   private String fetchNoteType(DocumentContext context, String tag) {
@@ -663,15 +730,16 @@ public class Marc21ReferenceProvider {
   }
 
   public String getNoteTypeByTag(String tag) {
-    return instanceNoteTypes.getOrDefault(tag, GENERAL_NOTE);
+    return getMappingRules().instanceNoteTypes().getOrDefault(tag, GENERAL_NOTE);
   }
 
   public String getSubfieldsByTag(String tag) {
-    return instanceNoteSubfields.getOrDefault(tag, "a");
+    return getMappingRules().instanceNoteSubfields().getOrDefault(tag, "a");
   }
 
   public boolean isStaffOnlyNote(DataField dataField) {
-    return staffOnlyNotes.contains(dataField.getTag()) && '0' == dataField.getIndicator1();
+    return getMappingRules().staffOnlyNotes().contains(dataField.getTag())
+        && '0' == dataField.getIndicator1();
   }
 
   public boolean isMappedTag(String tag) {
@@ -684,7 +752,7 @@ public class Marc21ReferenceProvider {
 
   public String getFieldNameByTag(String tag) {
     return noteTags.contains(tag)
-        ? instanceNoteTypes.getOrDefault(tag, GENERAL_NOTE)
+        ? getMappingRules().instanceNoteTypes().getOrDefault(tag, GENERAL_NOTE)
         : mappedFields.get(tag);
   }
 
@@ -711,4 +779,10 @@ public class Marc21ReferenceProvider {
   public String getClassificationTypeByTag(String tag) {
     return classificationTypeNames.getOrDefault(tag, HYPHEN);
   }
+
+  /** Compiled MARC-to-instance mapping rules of a tenant, never modified once built. */
+  private record MappingRules(
+      Map<String, String> instanceNoteTypes,
+      Map<String, String> instanceNoteSubfields,
+      Set<String> staffOnlyNotes) {}
 }
@@ -0,0 +1,168 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static org.folio.bulkops.util.MarcRecordIndex.INDEX_FILE_SUFFIX;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.util.MarcRecordIndex;
+import org.folio.bulkops.util.MarcRecordIndexingWriter;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.Record;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains {@link MarcRecordIndex} sidecar files ({@code <file>.idx}) of MARC files and uses them
+ * to read records with the given HRIDs without parsing the whole file.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class MarcRecordIndexService {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final RemoteFileSystemClient remoteFileSystemClient;
+
+  /** Wraps writer of the remote MARC file so that its index is stored when the writer is closed. */
+  public Writer indexingWriter(Writer writer, String path) {
+    if (isNull(writer)) {
+      return null;
+    }
+    return new MarcRecordIndexingWriter(writer, index -> saveIndex(path, index));
+  }
+
+  /** Builds and stores index of the local MARC file which is (or will be) stored at the path. */
+  public void indexLocalFile(Path localFile, String path) {
+    var builder = new MarcRecordIndex.Builder();
+    try (var is = new BufferedInputStream(Files.newInputStream(localFile), BUFFER_SIZE)) {
+      var buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        builder.accept(buffer, 0, read);
+      }
+      saveIndex(path, builder.build());
+    } catch (IOException e) {
+      log.error("Failed to index file {}", localFile, e);
+    }
+  }
+
+  /**
+   * Reads records with the given HRIDs from the MARC file. Only the indexed records are read if
+   * the file has an index, otherwise the file is read until all records are found.
+   *
+   * @param path path to the remote MARC file
+   * @param hrids HRIDs of the records to be read
+   * @return records found by their HRIDs
+   */
+  public Map<String, Record> findRecords(String path, Collection<String> hrids) {
+    var remaining = new HashSet<>(hrids);
+    if (remaining.isEmpty()) {
+      return new HashMap<>();
+    }
+    var index = findIndex(path);
+    if (index.isPresent()) {
+      try {
+        var records = readIndexedRecords(path, index.get(), remaining);
+        if (records.isPresent()) {
+          return records.get();
+        }
+        log.warn("Index of file {} does not match the file, reading the whole file", path);
+      } catch (Exception e) {
+        log.warn("Failed to read indexed records of file {}: {}", path, e.getMessage());
+      }
+    }
+    return scanRecords(path, remaining);
+  }
+
+  public void removeIndex(String path) {
+    if (isNull(path)) {
+      return;
+    }
+    try {
+      remoteFileSystemClient.remove(path + INDEX_FILE_SUFFIX);
+    } catch (Exception e) {
+      log.warn("Failed to remove index of file {}: {}", path, e.getMessage());
+    }
+  }
+
+  /** Reads the indexed records in order of their offsets, empty if the index is stale. */
+  private Optional<Map<String, Record>> readIndexedRecords(
+      String path, MarcRecordIndex index, Set<String> hrids) throws IOException {
+    var locations = new HashMap<String, MarcRecordIndex.Location>();
+    hrids.forEach(hrid -> index.locationOf(hrid).ifPresent(l -> locations.put(hrid, l)));
+    var records = new HashMap<String, Record>();
+    if (locations.isEmpty()) {
+      return Optional.of(records);
+    }
+    try (var is = remoteFileSystemClient.get(path)) {
+      var position = 0L;
+      for (var entry :
+          locations.entrySet().stream()
+              .sorted(Comparator.comparingLong(e -> e.getValue().offset()))
+              .toList()) {
+        var location = entry.getValue();
+        is.skipNBytes(location.offset() - position);
+        var bytes = is.readNBytes(location.length());
+        position = location.offset() + bytes.length;
+        if (!MarcRecordIndex.controlNumberOf(bytes).map(entry.getKey()::equals).orElse(false)) {
+          return Optional.empty();
+        }
+        var reader = new MarcStreamReader(new ByteArrayInputStream(bytes));
+        records.put(entry.getKey(), reader.next());
+      }
+    }
+    return Optional.of(records);
+  }
+
+  private Map<String, Record> scanRecords(String path, Set<String> hrids) {
+    var records = new HashMap<String, Record>();
+    try (var is = remoteFileSystemClient.get(path)) {
+      var reader = new MarcStreamReader(is);
+      while (reader.hasNext() && !hrids.isEmpty()) {
+        var marcRecord = reader.next();
+        var hrid = marcRecord.getControlNumber();
+        if (hrids.remove(hrid)) {
+          records.put(hrid, marcRecord);
+        }
+      }
+    } catch (IOException e) {
+      log.error("Failed to read file {}", path, e);
+    }
+    return records;
+  }
+
+  private Optional<MarcRecordIndex> findIndex(String path) {
+    if (isNull(path) || !remoteFileSystemClient.exists(path + INDEX_FILE_SUFFIX)) {
+      return Optional.empty();
+    }
+    try (var is = remoteFileSystemClient.get(path + INDEX_FILE_SUFFIX)) {
+      return Optional.of(MarcRecordIndex.read(is));
+    } catch (Exception e) {
+      log.warn("Failed to read index of file {}: {}", path, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void saveIndex(String path, MarcRecordIndex index) {
+    try {
+      remoteFileSystemClient.put(
+          new ByteArrayInputStream(index.toBytes()), path + INDEX_FILE_SUFFIX);
+    } catch (Exception e) {
+      log.warn("Failed to save index of file {}: {}", path, e.getMessage());
+    }
+  }
+}
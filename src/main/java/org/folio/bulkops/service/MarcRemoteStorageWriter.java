@@ -2,6 +2,8 @@ package org.folio.bulkops.service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -28,6 +30,11 @@ public class MarcRemoteStorageWriter extends StringWriter {
     byteArrayOutputStream.reset();
   }
 
+  /** Copies records already serialized to MARC, e.g. another MARC file, as they are. */
+  public void writeRecords(InputStream marcRecords) throws IOException {
+    new InputStreamReader(marcRecords, StandardCharsets.UTF_8).transferTo(remoteStorageWriter);
+  }
+
   @Override
   public void close() throws IOException {
     byteArrayOutputStream.flush();
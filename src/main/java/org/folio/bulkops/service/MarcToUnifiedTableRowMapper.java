@@ -1,7 +1,9 @@
 package org.folio.bulkops.service;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -39,7 +41,11 @@ import static org.folio.bulkops.util.Constants.SUBJECT_HEADINGS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -49,104 +55,182 @@ import org.marc4j.marc.Leader;
 import org.marc4j.marc.Record;
 import org.springframework.stereotype.Component;
 
+/**
+ * Maps MARC records to rows of the unified table. Positions of the columns and the tag dispatch
+ * table are compiled once per header layout into a {@link RowLayout}, so mapping of a record does
+ * not search the headers for every field of the record.
+ */
 @Component
 @RequiredArgsConstructor
 public class MarcToUnifiedTableRowMapper {
+  private static final int MAX_CACHED_LAYOUTS = 64;
+
   private final MarcToUnifiedTableRowMapperHelper helper;
   private final Marc21ReferenceProvider referenceProvider;
 
+  private final Map<List<String>, RowLayout> layouts = new ConcurrentHashMap<>();
+
+  private final List<TagMapping> tagMappings =
+      List.of(
+          new TagMapping(
+              INSTANCE_LANGUAGES,
+              Set.of("041"),
+              (row, field, index, forCsv) -> processLanguages(row, field, index)),
+          new TagMapping(
+              INSTANCE_CLASSIFICATION,
+              Set.of("050", "060", "080", "082", "086", "090"),
+              this::processClassification),
+          new TagMapping(
+              INSTANCE_CONTRIBUTORS,
+              Set.of("100", "110", "111", "700", "710", "711", "720"),
+              (row, field, index, forCsv) -> processContributors(row, field, index)),
+          new TagMapping(
+              INSTANCE_RESOURCE_TITLE,
+              Set.of("245"),
+              (row, field, index, forCsv) -> processResourceTitle(row, field, index)),
+          new TagMapping(
+              INSTANCE_INDEX_TITLE,
+              Set.of("245"),
+              (row, field, index, forCsv) -> processIndexTitle(row, field, index)),
+          new TagMapping(
+              INSTANCE_EDITION,
+              Set.of("250"),
+              (row, field, index, forCsv) -> processEdition(row, field, index)),
+          new TagMapping(INSTANCE_PUBLICATION, Set.of("260", "264"), this::processPublication),
+          new TagMapping(
+              INSTANCE_PHYSICAL_DESCRIPTION,
+              Set.of("300"),
+              (row, field, index, forCsv) -> processPhysicalDescription(row, field, index)),
+          new TagMapping(
+              INSTANCE_PUBLICATION_FREQUENCY,
+              Set.of("310", "321"),
+              (row, field, index, forCsv) -> processPublicationFrequency(row, field, index)),
+          new TagMapping(
+              INSTANCE_RESOURCE_TYPE,
+              Set.of("336"),
+              (row, field, index, forCsv) -> processResourceType(row, field, index)),
+          new TagMapping(
+              INSTANCE_FORMATS,
+              Set.of("338"),
+              (row, field, index, forCsv) -> processInstanceFormats(row, field, index)),
+          new TagMapping(
+              INSTANCE_PUBLICATION_RANGE,
+              Set.of("362"),
+              (row, field, index, forCsv) -> processPublicationRange(row, field, index)),
+          new TagMapping(
+              INSTANCE_SUBJECT,
+              Set.of(
+                  "600", "610", "611", "630", "647", "648", "650", "651", "653", "654", "655",
+                  "656", "657", "658", "662", "688"),
+              this::processSubject),
+          new TagMapping(
+              INSTANCE_SERIES_STATEMENTS,
+              Set.of("800", "810", "811", "830"),
+              (row, field, index, forCsv) -> processSeries(row, field, index)),
+          new TagMapping(INSTANCE_ELECTRONIC_ACCESS, Set.of("856"), this::processElectronicAccess),
+          new TagMapping(
+              INSTANCE_UUID,
+              Set.of("999"),
+              (row, field, index, forCsv) -> processInstanceId(row, field, index)));
+
+  private final Set<String> mappedTags =
+      tagMappings.stream().flatMap(tagMapping -> tagMapping.tags().stream()).collect(toSet());
+
   public List<String> processRecord(Record rec, List<String> headers, boolean forCsv) {
-    var rowData = new ArrayList<>(Arrays.asList(new String[headers.size()]));
-    setSourceMarc(rowData, headers);
-    processLeader(rowData, rec.getLeader(), headers);
-    processControlFields(rowData, rec.getControlFields(), headers);
-    processDataFields(rowData, rec.getDataFields(), headers, forCsv);
+    var layout = layouts.get(headers);
+    if (isNull(layout)) {
+      if (layouts.size() >= MAX_CACHED_LAYOUTS) {
+        layouts.clear();
+      }
+      layout = layouts.computeIfAbsent(unmodifiableList(new ArrayList<>(headers)), this::compile);
+    }
+    return processRecord(rec, layout, forCsv);
+  }
+
+  public List<String> processRecord(Record rec, RowLayout layout, boolean forCsv) {
+    var rowData = new ArrayList<>(Arrays.asList(new String[layout.size()]));
+    setSourceMarc(rowData, layout);
+    processLeader(rowData, rec.getLeader(), layout);
+    processControlFields(rowData, rec.getControlFields(), layout);
+    processDataFields(rowData, rec.getDataFields(), layout, forCsv);
     return rowData;
   }
 
-  private void setSourceMarc(List<String> rowData, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_SOURCE);
+  /**
+   * Compiles positions of the headers and the dispatch table of MARC tags mapped to the columns
+   * present among the headers. The layout should be compiled once and reused for all records
+   * mapped to rows with the same headers.
+   */
+  public RowLayout compile(List<String> headers) {
+    var positions = new HashMap<String, Integer>();
+    for (var i = 0; i < headers.size(); i++) {
+      if (nonNull(headers.get(i))) {
+        positions.putIfAbsent(headers.get(i), i);
+      }
+    }
+    var dataFieldMappings = new HashMap<String, DataFieldMapping>();
+    for (var tagMapping : tagMappings) {
+      var index = positions.get(tagMapping.header());
+      if (nonNull(index)) {
+        DataFieldMapping mapping =
+            (row, field, forCsv) -> tagMapping.mapping().map(row, field, index, forCsv);
+        tagMapping
+            .tags()
+            .forEach(tag -> dataFieldMappings.merge(tag, mapping, DataFieldMapping::andThen));
+      }
+    }
+    return new RowLayout(
+        unmodifiableList(new ArrayList<>(headers)),
+        Map.copyOf(positions),
+        Map.copyOf(dataFieldMappings));
+  }
+
+  private void setSourceMarc(List<String> rowData, RowLayout layout) {
+    var index = layout.positionOf(INSTANCE_SOURCE);
     if (index != -1) {
       rowData.set(index, MARC);
     }
   }
 
-  private void processLeader(List<String> rowData, Leader leader, List<String> headers) {
-    var modeOfIssuanceIndex = headers.indexOf(INSTANCE_MODE_OF_ISSUANCE);
+  private void processLeader(List<String> rowData, Leader leader, RowLayout layout) {
+    var modeOfIssuanceIndex = layout.positionOf(INSTANCE_MODE_OF_ISSUANCE);
     if (modeOfIssuanceIndex != -1) {
       rowData.set(modeOfIssuanceIndex, helper.resolveModeOfIssuance(leader));
     }
   }
 
   private void processControlFields(
-      List<String> rowData, List<ControlField> controlFields, List<String> headers) {
+      List<String> rowData, List<ControlField> controlFields, RowLayout layout) {
+    var hridIndex = layout.positionOf(INSTANCE_HRID);
+    var languagesIndex = layout.positionOf(INSTANCE_LANGUAGES);
     controlFields.forEach(
         controlField -> {
           if ("001".equals(controlField.getTag())) {
-            var hridIndex = headers.indexOf(INSTANCE_HRID);
             if (hridIndex != -1) {
               rowData.set(hridIndex, controlField.getData());
             }
-          } else if ("008".equals(controlField.getTag())) {
-            var index = headers.indexOf(INSTANCE_LANGUAGES);
-            if (index != -1) {
-              rowData.set(index, controlField.getData().substring(35, 38));
-            }
+          } else if ("008".equals(controlField.getTag()) && languagesIndex != -1) {
+            rowData.set(languagesIndex, controlField.getData().substring(35, 38));
           }
         });
   }
 
   private void processDataFields(
-      List<String> rowData, List<DataField> dataFields, List<String> headers, boolean forCsv) {
+      List<String> rowData, List<DataField> dataFields, RowLayout layout, boolean forCsv) {
     dataFields.forEach(
         dataField -> {
           var tag = dataField.getTag();
-          switch (tag) {
-            case "041" -> processLanguages(rowData, dataField, headers);
-            case "050", "060", "080", "082", "086", "090" ->
-                processClassification(rowData, dataField, headers, forCsv);
-            case "100", "110", "111", "700", "710", "711", "720" ->
-                processContributors(rowData, dataField, headers);
-            case "245" -> processTitles(rowData, dataField, headers);
-            case "250" -> processEdition(rowData, dataField, headers);
-            case "260", "264" -> processPublication(rowData, dataField, headers, forCsv);
-            case "300" -> processPhysicalDescription(rowData, dataField, headers);
-            case "310", "321" -> processPublicationFrequency(rowData, dataField, headers);
-            case "336" -> processResourceType(rowData, dataField, headers);
-            case "338" -> processInstanceFormats(rowData, dataField, headers);
-            case "362" -> processPublicationRange(rowData, dataField, headers);
-            case "600",
-                "610",
-                "611",
-                "630",
-                "647",
-                "648",
-                "650",
-                "651",
-                "653",
-                "654",
-                "655",
-                "656",
-                "657",
-                "658",
-                "662",
-                "688" ->
-                processSubject(rowData, dataField, headers, forCsv);
-            case "800", "810", "811", "830" -> processSeries(rowData, dataField, headers);
-            case "856" -> processElectronicAccess(rowData, dataField, headers, forCsv);
-            case "999" -> processInstanceId(rowData, dataField, headers);
-            default -> {
-              if (referenceProvider.isMappedNoteTag(tag)) {
-                processInstanceNotes(rowData, dataField, headers, forCsv);
-              }
-            }
+          var mapping = layout.dataFieldMappings.get(tag);
+          if (nonNull(mapping)) {
+            mapping.map(rowData, dataField, forCsv);
+          } else if (!mappedTags.contains(tag) && referenceProvider.isMappedNoteTag(tag)) {
+            processInstanceNotes(rowData, dataField, layout, forCsv);
           }
         });
   }
 
   private void processClassification(
-      List<String> rowData, DataField dataField, List<String> headers, boolean forCsv) {
-    var index = headers.indexOf(INSTANCE_CLASSIFICATION);
+      List<String> rowData, DataField dataField, int index, boolean forCsv) {
     if (index != -1) {
       var newClassifications = helper.fetchClassifications(dataField);
       if (!newClassifications.isEmpty()) {
@@ -174,8 +258,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processElectronicAccess(
-      List<String> rowData, DataField dataField, List<String> headers, boolean forCsv) {
-    var index = headers.indexOf(INSTANCE_ELECTRONIC_ACCESS);
+      List<String> rowData, DataField dataField, int index, boolean forCsv) {
     if (index != -1) {
       var newElAccCodes = new ArrayList<>(helper.fetchElectronicAccessCodes(dataField));
       if (!newElAccCodes.isEmpty()) {
@@ -207,8 +290,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processPublication(
-      List<String> rowData, DataField dataField, List<String> headers, boolean forCsv) {
-    var index = headers.indexOf(INSTANCE_PUBLICATION);
+      List<String> rowData, DataField dataField, int index, boolean forCsv) {
     if (index != -1) {
       var publication = helper.fetchPublication(dataField);
       if (publication != null) {
@@ -235,8 +317,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processSubject(
-      List<String> rowData, DataField dataField, List<String> headers, boolean forCsv) {
-    var index = headers.indexOf(INSTANCE_SUBJECT);
+      List<String> rowData, DataField dataField, int index, boolean forCsv) {
     if (index != -1) {
       var newSubjCodes = new ArrayList<>(helper.fetchSubjectCodes(dataField));
       if (!newSubjCodes.isEmpty()) {
@@ -267,8 +348,7 @@ public class MarcToUnifiedTableRowMapper {
     }
   }
 
-  private void processLanguages(List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_LANGUAGES);
+  private void processLanguages(List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var newLanguages = new ArrayList<>(helper.fetchLanguageCodes(dataField));
       if (!newLanguages.isEmpty()) {
@@ -284,8 +364,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processContributors(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_CONTRIBUTORS);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var contributor = helper.fetchContributorName(dataField);
       rowData.set(
@@ -296,8 +375,7 @@ public class MarcToUnifiedTableRowMapper {
     }
   }
 
-  private void processInstanceId(List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_UUID);
+  private void processInstanceId(List<String> rowData, DataField dataField, int index) {
     if (index != -1
         && 'f' == dataField.getIndicator1()
         && 'f' == dataField.getIndicator2()
@@ -306,8 +384,7 @@ public class MarcToUnifiedTableRowMapper {
     }
   }
 
-  private void processEdition(List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_EDITION);
+  private void processEdition(List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var edition = helper.fetchEdition(dataField);
       rowData.set(
@@ -319,8 +396,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processPhysicalDescription(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_PHYSICAL_DESCRIPTION);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var description = helper.fetchPhysicalDescription(dataField);
       rowData.set(
@@ -332,8 +408,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processPublicationFrequency(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_PUBLICATION_FREQUENCY);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var publicationFrequency = helper.fetchPublicationFrequency(dataField);
       rowData.set(
@@ -345,8 +420,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processResourceType(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_RESOURCE_TYPE);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var resourceType = helper.fetchResourceType(dataField);
       rowData.set(
@@ -358,8 +432,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processInstanceFormats(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_FORMATS);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var format = helper.fetchInstanceFormats(dataField);
       rowData.set(
@@ -371,8 +444,7 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processPublicationRange(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_PUBLICATION_RANGE);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var publicationRange = helper.fetchPublicationRange(dataField);
       rowData.set(
@@ -383,28 +455,20 @@ public class MarcToUnifiedTableRowMapper {
     }
   }
 
-  private void processTitles(List<String> rowData, DataField dataField, List<String> headers) {
-    processResourceTitle(rowData, dataField, headers);
-    processIndexTitle(rowData, dataField, headers);
-  }
-
   private void processResourceTitle(
-      List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_RESOURCE_TITLE);
+      List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       rowData.set(index, helper.fetchResourceTitle(dataField));
     }
   }
 
-  private void processIndexTitle(List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_INDEX_TITLE);
+  private void processIndexTitle(List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       rowData.set(index, helper.fetchIndexTitle(dataField));
     }
   }
 
-  private void processSeries(List<String> rowData, DataField dataField, List<String> headers) {
-    var index = headers.indexOf(INSTANCE_SERIES_STATEMENTS);
+  private void processSeries(List<String> rowData, DataField dataField, int index) {
     if (index != -1) {
       var seriesStatement = helper.fetchSeries(dataField);
       rowData.set(
@@ -416,14 +480,11 @@ public class MarcToUnifiedTableRowMapper {
   }
 
   private void processInstanceNotes(
-      List<String> rowData, DataField dataField, List<String> headers, boolean forCsv) {
-    var tag = dataField.getTag();
-    var index =
-        !headers.contains(referenceProvider.getNoteTypeByTag(tag))
-            ? headers.indexOf(GENERAL_NOTE)
-            : headers.indexOf(referenceProvider.getNoteTypeByTag(tag));
+      List<String> rowData, DataField dataField, RowLayout layout, boolean forCsv) {
+    var noteTypeIndex = layout.positionOf(referenceProvider.getNoteTypeByTag(dataField.getTag()));
+    var index = noteTypeIndex == -1 ? layout.positionOf(GENERAL_NOTE) : noteTypeIndex;
     if (index != -1) {
-      var prefix = forCsv ? headers.get(index) + ARRAY_DELIMITER : EMPTY;
+      var prefix = forCsv ? layout.headers().get(index) + ARRAY_DELIMITER : EMPTY;
       var notes = prefix + helper.fetchNotes(dataField, forCsv);
       rowData.set(
           index,
@@ -432,4 +493,55 @@ public class MarcToUnifiedTableRowMapper {
               : notes);
     }
   }
+
+  /**
+   * Headers of the unified table compiled for mapping of MARC records: positions of the headers
+   * and mappings of data fields by their tags to the columns present among the headers.
+   */
+  public static final class RowLayout {
+    private final List<String> headers;
+    private final Map<String, Integer> positions;
+    private final Map<String, DataFieldMapping> dataFieldMappings;
+
+    private RowLayout(
+        List<String> headers,
+        Map<String, Integer> positions,
+        Map<String, DataFieldMapping> dataFieldMappings) {
+      this.headers = headers;
+      this.positions = positions;
+      this.dataFieldMappings = dataFieldMappings;
+    }
+
+    public List<String> headers() {
+      return headers;
+    }
+
+    public int size() {
+      return headers.size();
+    }
+
+    /** Position of the first column with the header, -1 if there is no such column. */
+    public int positionOf(String header) {
+      return isNull(header) ? -1 : positions.getOrDefault(header, -1);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ColumnMapping {
+    void map(List<String> rowData, DataField dataField, int index, boolean forCsv);
+  }
+
+  @FunctionalInterface
+  private interface DataFieldMapping {
+    void map(List<String> rowData, DataField dataField, boolean forCsv);
+
+    default DataFieldMapping andThen(DataFieldMapping next) {
+      return (rowData, dataField, forCsv) -> {
+        map(rowData, dataField, forCsv);
+        next.map(rowData, dataField, forCsv);
+      };
+    }
+  }
+
+  private record TagMapping(String header, Set<String> tags, ColumnMapping mapping) {}
 }
@@ -0,0 +1,224 @@
+package org.folio.bulkops.service;
+
+import static org.apache.commons.lang3.StringUtils.CR;
+import static org.apache.commons.lang3.StringUtils.LF;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps matching errors files of operations as local copies indexed by the offsets of their lines
+ * and the lines of every error type, so that a page of the errors preview is read from the copy
+ * instead of downloading and parsing the whole file on every request. Copies are keyed by tenant,
+ * operation and path of the file, and are deleted once evicted.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class MatchingErrorsCache {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  @Value("${application.matching-errors-cache.max-size:100}")
+  private long maxSize;
+
+  @Value("${application.matching-errors-cache.expire-after-access-minutes:10}")
+  private long expireAfterAccessMinutes;
+
+  private final RemoteFileSystemClient remoteFileSystemClient;
+  private final FolioExecutionContext folioExecutionContext;
+
+  private Cache<FileKey, IndexedFile> files;
+
+  /** Lines of a page of errors and the number of all errors matching the filter. */
+  public record Lines(List<String> lines, int total) {}
+
+  @PostConstruct
+  public void init() {
+    files =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+            .removalListener(
+                (FileKey key, IndexedFile file, RemovalCause cause) -> {
+                  if (file != null) {
+                    file.delete();
+                  }
+                })
+            .build();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    files.invalidateAll();
+    files.cleanUp();
+  }
+
+  /**
+   * Reads lines of the matching errors file, skipping {@code offset} lines and returning at most
+   * {@code limit} lines of the error type, or lines of any type if the type is null.
+   */
+  public Lines read(UUID operationId, String path, String errorType, int offset, int limit)
+      throws IOException {
+    var key = new FileKey(folioExecutionContext.getTenantId(), operationId, path);
+    try {
+      return load(key).read(errorType, offset, limit);
+    } catch (NoSuchFileException e) {
+      log.debug("Copy of matching errors file {} was evicted while read, reloading", path);
+      files.invalidate(key);
+      return load(key).read(errorType, offset, limit);
+    }
+  }
+
+  public void evict(UUID operationId) {
+    files.asMap().keySet().removeIf(key -> key.operationId().equals(operationId));
+    log.debug("Evicted matching errors of bulk operation {}", operationId);
+  }
+
+  private IndexedFile load(FileKey key) throws IOException {
+    try {
+      return maxSize > 0 ? files.get(key, this::download) : download(key);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private IndexedFile download(FileKey key) {
+    Path copy = null;
+    try {
+      copy = Files.createTempFile("matching-errors-", ".csv");
+      var offsets = LongStream.builder();
+      var linesByType = new HashMap<String, IntStream.Builder>();
+      var type = new ByteArrayOutputStream();
+      var position = 0L;
+      var lines = 0;
+      var lineStart = true;
+      var inType = false;
+      try (var in = remoteFileSystemClient.get(key.path());
+          var out = Files.newOutputStream(copy)) {
+        var chunk = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+          out.write(chunk, 0, read);
+          for (var i = 0; i < read; i++, position++) {
+            var b = chunk[i];
+            if (lineStart) {
+              offsets.add(position);
+              lineStart = false;
+              inType = true;
+            }
+            if (inType && (b == ',' || b == '\n')) {
+              linesByType
+                  .computeIfAbsent(type.toString(StandardCharsets.UTF_8), t -> IntStream.builder())
+                  .add(lines);
+              type.reset();
+              inType = false;
+            } else if (inType) {
+              type.write(b);
+            }
+            if (b == '\n') {
+              lines++;
+              lineStart = true;
+            }
+          }
+        }
+        if (inType) {
+          linesByType
+              .computeIfAbsent(type.toString(StandardCharsets.UTF_8), t -> IntStream.builder())
+              .add(lines);
+        }
+      }
+      offsets.add(position);
+      var file = new IndexedFile(copy, offsets.build().toArray(), new HashMap<>());
+      linesByType.forEach((t, builder) -> file.linesByType().put(t, builder.build().toArray()));
+      log.info(
+          "Indexed {} lines of matching errors file {} of bulk operation {}",
+          file.offsets().length - 1,
+          key.path(),
+          key.operationId());
+      return file;
+    } catch (IOException e) {
+      deleteQuietly(copy);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteQuietly(copy);
+      throw e;
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path != null) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        log.warn("Failed to delete copy of matching errors file {}", path, e);
+      }
+    }
+  }
+
+  private record FileKey(String tenantId, UUID operationId, String path) {}
+
+  /**
+   * @param offsets offsets of the lines followed by the size of the copy
+   * @param linesByType ascending numbers of lines of every error type
+   */
+  private record IndexedFile(Path copy, long[] offsets, Map<String, int[]> linesByType) {
+
+    private Lines read(String errorType, int offset, int limit) throws IOException {
+      var total = errorType == null ? offsets.length - 1 : typeLines(errorType).length;
+      var result = new ArrayList<String>();
+      try (var channel = FileChannel.open(copy)) {
+        for (var i = Math.max(0, offset); i < total && result.size() < limit; i++) {
+          result.add(readLine(channel, errorType == null ? i : typeLines(errorType)[i]));
+        }
+      }
+      return new Lines(result, total);
+    }
+
+    private int[] typeLines(String errorType) {
+      return linesByType.getOrDefault(errorType, new int[0]);
+    }
+
+    private String readLine(FileChannel channel, int line) throws IOException {
+      var buffer = ByteBuffer.allocate((int) (offsets[line + 1] - offsets[line]));
+      var position = offsets[line];
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          break;
+        }
+      }
+      var value = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+      return StringUtils.removeEnd(StringUtils.removeEnd(value, LF), CR);
+    }
+
+    private void delete() {
+      deleteQuietly(copy);
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package org.folio.bulkops.service;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs long-running work of bulk operations (matching, confirm, commit etc.) on a bounded pool of
+ * workers shared by all tenants. Operations are never rejected: when all workers are busy or the
+ * tenant already runs {@code maxConcurrentPerTenant} operations, the operation is queued. Tenants
+ * take turns, so a burst of operations of one tenant does not delay operations of other tenants.
+ * Queue depth per tenant, running operations and wait times are published as gauges.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class OperationScheduler implements Executor {
+
+  private static final String METRIC_PREFIX = "bulkops.operations.";
+
+  @Value("${application.operations.workers:16}")
+  private int workers;
+
+  @Value("${application.operations.max-concurrent-per-tenant:4}")
+  private int maxConcurrentPerTenant;
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final MeterRegistry meterRegistry;
+
+  private final Set<String> gaugedTenants = new HashSet<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final Map<String, TenantQueue> queues = new HashMap<>();
+  private final Deque<String> turns = new ArrayDeque<>();
+  private final LongAdder startedOperations = new LongAdder();
+  private final LongAdder totalWaitTimeMs = new LongAdder();
+  private int queueDepth;
+  private int running;
+  private ExecutorService executor;
+
+  @PostConstruct
+  public void init() {
+    var threadNumber = new AtomicInteger();
+    var size = Math.max(1, workers);
+    executor =
+        Executors.newFixedThreadPool(
+            size,
+            runnable -> {
+              var thread =
+                  new Thread(runnable, "operation-worker-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (var i = 0; i < size; i++) {
+      executor.execute(this::work);
+    }
+    Gauge.builder(METRIC_PREFIX + "running", this, OperationScheduler::getRunning)
+        .description("Operations being executed")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + "wait.average", this, OperationScheduler::getAverageWaitTimeMs)
+        .description("Average time started operations waited in the queue")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + "wait.longest", this, OperationScheduler::getLongestWaitTimeMs)
+        .description("Time the longest waiting operation has been in the queue so far")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+    log.info(
+        "Operation scheduler initialized: workers={}, maxConcurrentPerTenant={}",
+        size,
+        maxConcurrentPerTenant);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Queues the operation of the tenant of the current execution context. The operation is expected
+   * to carry its own execution context, e.g. to be wrapped with {@code
+   * getRunnableWithCurrentFolioContext}.
+   */
+  @Override
+  public void execute(Runnable operation) {
+    execute(Objects.toString(folioExecutionContext.getTenantId(), EMPTY), operation);
+  }
+
+  public void execute(String tenantId, Runnable operation) {
+    Objects.requireNonNull(operation);
+    lock.lock();
+    try {
+      if (gaugedTenants.add(tenantId)) {
+        Gauge.builder(
+                METRIC_PREFIX + "queued", this, scheduler -> scheduler.getQueueDepth(tenantId))
+            .description("Operations of the tenant waiting for a worker")
+            .tag("tenant", tenantId)
+            .register(meterRegistry);
+      }
+      var queue = queues.computeIfAbsent(tenantId, id -> new TenantQueue());
+      queue.operations.addLast(new QueuedOperation(operation, System.currentTimeMillis()));
+      if (queue.operations.size() == 1) {
+        turns.addLast(tenantId);
+      }
+      queueDepth++;
+      if (running >= Math.max(1, workers) || queue.running >= maxConcurrentPerTenant()) {
+        log.info(
+            "Operation of tenant {} is queued: queue depth={}, running={}",
+            tenantId,
+            queueDepth,
+            running);
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Number of operations of the tenant waiting for a worker. */
+  public int getQueueDepth(String tenantId) {
+    lock.lock();
+    try {
+      var queue = queues.get(tenantId);
+      return queue == null ? 0 : queue.operations.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Number of operations being executed. */
+  public int getRunning() {
+    lock.lock();
+    try {
+      return running;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Average time in milliseconds started operations waited in the queue. */
+  public double getAverageWaitTimeMs() {
+    var started = startedOperations.sum();
+    return started == 0 ? 0 : (double) totalWaitTimeMs.sum() / started;
+  }
+
+  /** Time in milliseconds the longest waiting operation has been in the queue so far. */
+  public long getLongestWaitTimeMs() {
+    lock.lock();
+    try {
+      var now = System.currentTimeMillis();
+      return queues.values().stream()
+          .map(queue -> queue.operations.peekFirst())
+          .filter(Objects::nonNull)
+          .mapToLong(operation -> now - operation.queuedAt())
+          .max()
+          .orElse(0);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void work() {
+    while (!Thread.currentThread().isInterrupted()) {
+      Taken taken;
+      try {
+        taken = take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        taken.operation().run();
+      } catch (Throwable e) {
+        log.error("Operation of tenant {} failed", taken.tenantId(), e);
+      } finally {
+        release(taken.tenantId());
+      }
+    }
+  }
+
+  /**
+   * Takes the first operation of the first tenant in turn which is below its limit. The tenant
+   * goes to the end of the turns if it has more operations queued.
+   */
+  private Taken take() throws InterruptedException {
+    lock.lock();
+    try {
+      while (true) {
+        for (var iterator = turns.iterator(); iterator.hasNext(); ) {
+          var tenantId = iterator.next();
+          var queue = queues.get(tenantId);
+          if (queue.running < maxConcurrentPerTenant()) {
+            iterator.remove();
+            var queued = queue.operations.removeFirst();
+            if (!queue.operations.isEmpty()) {
+              turns.addLast(tenantId);
+            }
+            queue.running++;
+            running++;
+            queueDepth--;
+            startedOperations.increment();
+            totalWaitTimeMs.add(System.currentTimeMillis() - queued.queuedAt());
+            return new Taken(tenantId, queued.operation());
+          }
+        }
+        changed.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(String tenantId) {
+    lock.lock();
+    try {
+      var queue = queues.get(tenantId);
+      queue.running--;
+      running--;
+      if (queue.running == 0 && queue.operations.isEmpty()) {
+        queues.remove(tenantId);
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int maxConcurrentPerTenant() {
+    return Math.max(1, maxConcurrentPerTenant);
+  }
+
+  private static final class TenantQueue {
+    private final Deque<QueuedOperation> operations = new ArrayDeque<>();
+    private int running;
+  }
+
+  private record QueuedOperation(Runnable operation, long queuedAt) {}
+
+  private record Taken(String tenantId, Runnable operation) {}
+}
@@ -0,0 +1,104 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.domain.dto.BulkOperationStep;
+import org.folio.bulkops.domain.dto.UnifiedTable;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps recently built preview pages, so that paging back and forth through the preview of an
+ * operation does not re-read and re-map its files. Pages are keyed by tenant, operation, step,
+ * version of the operation and requested page. The cache is local to the instance while operations
+ * are started on any of them, so the version is taken from the stored state of the operation
+ * (status, end time, numbers of records and files) and pages built for a previous run are missed
+ * rather than evicted. Pages also expire shortly after they were built.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PreviewPageCache {
+
+  @Value("${application.preview.page-cache.max-size:200}")
+  private long maxSize;
+
+  @Value("${application.preview.page-cache.expire-after-write-minutes:2}")
+  private long expireAfterWriteMinutes;
+
+  private final FolioExecutionContext folioExecutionContext;
+
+  private Cache<PageKey, UnifiedTable> pages;
+
+  @PostConstruct
+  public void init() {
+    pages =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+            .build();
+  }
+
+  public UnifiedTable get(
+      BulkOperation operation,
+      BulkOperationStep step,
+      int offset,
+      int limit,
+      Supplier<UnifiedTable> loader) {
+    if (isNull(operation.getId()) || maxSize <= 0) {
+      return loader.get();
+    }
+    var key =
+        new PageKey(
+            folioExecutionContext.getTenantId(),
+            operation.getId(),
+            step,
+            versionOf(operation),
+            offset,
+            limit);
+    return pages.get(key, k -> loader.get());
+  }
+
+  public void evict(UUID operationId) {
+    pages.asMap().keySet().removeIf(key -> key.operationId().equals(operationId));
+    log.debug("Evicted preview pages of bulk operation {}", operationId);
+  }
+
+  /** State of the operation which changes whenever any of its steps is run again. */
+  static List<Object> versionOf(BulkOperation operation) {
+    return Arrays.asList(
+        operation.getStatus(),
+        operation.getEndTime(),
+        operation.getMatchedNumOfRecords(),
+        operation.getProcessedNumOfRecords(),
+        operation.getCommittedNumOfRecords(),
+        operation.getLinkToMatchedRecordsJsonFile(),
+        operation.getLinkToModifiedRecordsJsonFile(),
+        operation.getLinkToModifiedRecordsJsonPreviewFile(),
+        operation.getLinkToModifiedRecordsMarcFile(),
+        operation.getLinkToPreviewRecordsJsonFile(),
+        operation.getLinkToCommittedRecordsJsonFile(),
+        operation.getLinkToCommittedRecordsJsonPreviewFile(),
+        operation.getLinkToCommittedRecordsMarcFile());
+  }
+
+  private record PageKey(
+      String tenantId,
+      UUID operationId,
+      BulkOperationStep step,
+      List<Object> version,
+      int offset,
+      int limit) {}
+}
@@ -45,8 +45,6 @@ import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextFo
 
 import com.opencsv.bean.CsvCustomBindByName;
 import com.opencsv.bean.CsvCustomBindByPosition;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -93,8 +91,6 @@ import org.folio.bulkops.util.UpdateOptionTypeToFieldResolver;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
-import org.marc4j.MarcStreamReader;
-import org.marc4j.marc.Record;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
@@ -121,6 +117,9 @@ public class PreviewService {
   private final Marc21ReferenceProvider referenceProvider;
   private final ObjectMapper objectMapper;
   private final PreviewProcessorFactory previewProcessorFactory;
+  private final JsonRecordIndexService jsonRecordIndexService;
+  private final MarcRecordIndexService marcRecordIndexService;
+  private final PreviewPageCache previewPageCache;
 
   private static final Pattern UUID_REGEX =
       Pattern.compile(
@@ -129,6 +128,12 @@ public class PreviewService {
 
   public UnifiedTable getPreview(
       BulkOperation operation, BulkOperationStep step, int offset, int limit) {
+    return previewPageCache.get(
+        operation, step, offset, limit, () -> buildPreview(operation, step, offset, limit));
+  }
+
+  private UnifiedTable buildPreview(
+      BulkOperation operation, BulkOperationStep step, int offset, int limit) {
     var clazz = resolveEntityClass(operation.getEntityType());
     return switch (step) {
       case UPLOAD ->
@@ -243,10 +248,12 @@ public class PreviewService {
       noteTableUpdater.extendTableWithInstanceNotesTypes(compositeTable, changedOptionsSet);
       var sourcePosition = getCellPositionByName(INSTANCE_SOURCE);
       var hridPosition = getCellPositionByName(INSTANCE_HRID);
-      var headers = compositeTable.getHeader().stream().map(Cell::getValue).toList();
+      var layout =
+          marcToUnifiedTableRowMapper.compile(
+              compositeTable.getHeader().stream().map(Cell::getValue).toList());
       var hrids =
           inventoryTable.getRows().stream().map(row -> row.getRow().get(hridPosition)).toList();
-      var marcRecords = findMarcRecordsByHrids(linkToMarcFile, hrids);
+      var marcRecords = marcRecordIndexService.findRecords(linkToMarcFile, hrids);
       inventoryTable
           .getRows()
           .forEach(
@@ -260,7 +267,7 @@ public class PreviewService {
                         new Row()
                             .row(
                                 marcToUnifiedTableRowMapper.processRecord(
-                                    marcRecords.get(hrid), headers, false));
+                                    marcRecords.get(hrid), layout, false));
                     enrichRowWithAdministrativeData(marcRow, inventoryRow);
                     compositeTable.addRowsItem(marcRow);
                   }
@@ -388,25 +395,6 @@ public class PreviewService {
     return positions;
   }
 
-  private Map<String, Record> findMarcRecordsByHrids(String linkToMarcFile, List<String> hrids) {
-    var map = new HashMap<String, Record>();
-    var list = new ArrayList<>(hrids);
-    try (var is = remoteFileSystemClient.get(linkToMarcFile)) {
-      var reader = new MarcStreamReader(is);
-      while (reader.hasNext() && !list.isEmpty()) {
-        var marcRecord = reader.next();
-        var hrid = marcRecord.getControlNumber();
-        if (list.contains(hrid)) {
-          map.put(hrid, marcRecord);
-          list.remove(hrid);
-        }
-      }
-    } catch (IOException e) {
-      log.error("Failed to read file {}", linkToMarcFile, e);
-    }
-    return map;
-  }
-
   private int getCellPositionByName(String name) {
     return FieldUtils.getFieldsListWithAnnotation(Instance.class, CsvCustomBindByName.class)
         .stream()
@@ -536,8 +524,11 @@ public class PreviewService {
       UnifiedTable table,
       Set<String> forceVisible,
       BulkOperation bulkOperation) {
-    try (var is = remoteFileSystemClient.get(pathToFile);
-        var jsonParser = isNull(is) ? null : objectMapper.createParser(is)) {
+    try (var positioned =
+            jsonRecordIndexService.open(
+                pathToFile, PreviewPageCache.versionOf(bulkOperation), offset);
+        var jsonParser =
+            isNull(positioned.stream()) ? null : objectMapper.createParser(positioned.stream())) {
       var processor = previewProcessorFactory.getProcessorFromFactory(clazz);
       var extendedClazz = resolveExtendedEntityClass(bulkOperation.getEntityType());
       var iterator =
@@ -545,7 +536,7 @@ public class PreviewService {
               ? MappingIterator.emptyIterator()
               : objectMapper.readValues(jsonParser, extendedClazz);
       StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false)
-          .skip(offset)
+          .skip(positioned.recordsToSkip())
           .limit(limit)
           .forEach(
               entity -> {
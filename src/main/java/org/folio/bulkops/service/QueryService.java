@@ -19,19 +19,21 @@ import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.
 
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -50,10 +52,12 @@ import org.folio.bulkops.exception.MarcValidationException;
 import org.folio.bulkops.exception.UploadFromQueryException;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.repository.BulkOperationRepository;
+import org.folio.bulkops.service.SrsService.MarcJson;
 import org.folio.bulkops.util.BulkOperationsEntityCsvWriter;
 import org.folio.bulkops.util.CsvHelper;
 import org.folio.bulkops.util.FqmContentFetcher;
 import org.folio.querytool.domain.dto.QueryDetails;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
@@ -70,20 +74,26 @@ public class QueryService {
   private final ObjectMapper objectMapper;
   private final PermissionsValidator permissionsValidator;
   private final RemoteFileSystemClient remoteFileSystemClient;
+  private final JsonRecordIndexService jsonRecordIndexService;
+  private final MarcRecordIndexService marcRecordIndexService;
   private final QueryClient queryClient;
   private final FqmContentFetcher fqmContentFetcher;
   private final LocalReferenceDataService localReferenceDataService;
   private final SrsService srsService;
+  private final OperationScheduler operationScheduler;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
-  private final ExecutorService executor = Executors.newCachedThreadPool();
+  @Value("${application.srs.batch-size}")
+  private int srsBatchSize;
 
   public void retrieveRecordsIdentifiersFlowAsync(
       List<UUID> uuids,
       BulkOperation bulkOperation,
       List<BulkOperationExecutionContent> bulkOperationExecutionContents) {
-    executor.execute(
+    operationScheduler.execute(
         getRunnableWithCurrentFolioContext(
             () -> {
+              var sample = bulkOperationMetrics.start();
               try (var is =
                   fqmContentFetcher.contents(
                       bulkOperation, uuids, bulkOperationExecutionContents)) {
@@ -95,13 +105,14 @@ public class QueryService {
                 log.error(errorMessage);
                 failAndSaveBulkOperation(bulkOperation, errorMessage);
               }
+              recordMatching(sample, bulkOperation);
             }));
     bulkOperation.setStatus(RETRIEVING_RECORDS);
     bulkOperationRepository.save(bulkOperation);
   }
 
   public BulkOperation retrieveRecordsQueryFlowAsync(BulkOperation bulkOperation) {
-    executor.execute(
+    operationScheduler.execute(
         getRunnableWithCurrentFolioContext(
             () -> {
               var queryResult = getQueryResult(bulkOperation);
@@ -119,6 +130,7 @@ public class QueryService {
                     bulkOperationRepository.save(bulkOperation);
                     List<BulkOperationExecutionContent> bulkOperationExecutionContents =
                         Collections.synchronizedList(new ArrayList<>());
+                    var sample = bulkOperationMetrics.start();
                     try (var is =
                         fqmContentFetcher.fetch(
                             bulkOperation,
@@ -133,6 +145,7 @@ public class QueryService {
                       log.error(errorMessage);
                       failAndSaveBulkOperation(bulkOperation, errorMessage);
                     }
+                    recordMatching(sample, bulkOperation);
                   }
                 }
                 case FAILED ->
@@ -146,6 +159,14 @@ public class QueryService {
     return bulkOperation;
   }
 
+  private void recordMatching(Timer.Sample sample, BulkOperation bulkOperation) {
+    bulkOperationMetrics.stop(sample, BulkOperationMetrics.MATCH, bulkOperation);
+    bulkOperationMetrics.countRecords(
+        BulkOperationMetrics.MATCH,
+        bulkOperation.getEntityType(),
+        bulkOperation.getMatchedNumOfRecords());
+  }
+
   protected QueryDetails getQueryResult(BulkOperation bulkOperation) {
     return queryClient.getQuery(bulkOperation.getFqlQueryId(), true);
   }
@@ -246,8 +267,12 @@ public class QueryService {
         writerForTriggeringCsvFile = remoteFileSystemClient.writer(triggeringCsvFileName);
       }
       try (var writerForResultCsvFile = remoteFileSystemClient.writer(matchedCsvFileName);
-          var writerForResultJsonFile = remoteFileSystemClient.writer(matchedJsonFileName);
-          var writerForResultMrcFile = remoteFileSystemClient.writer(matchedMrcFileName)) {
+          var writerForResultJsonFile =
+              jsonRecordIndexService.indexingWriter(
+                  remoteFileSystemClient.writer(matchedJsonFileName), matchedJsonFileName);
+          var writerForResultMrcFile =
+              marcRecordIndexService.indexingWriter(
+                  remoteFileSystemClient.writer(matchedMrcFileName), matchedMrcFileName)) {
         var entityClass = resolveEntityClass(operation.getEntityType());
         var extendedEntityClass = resolveExtendedEntityClass(operation.getEntityType());
         var csvWriter = new BulkOperationsEntityCsvWriter(writerForResultCsvFile, entityClass);
@@ -258,9 +283,18 @@ public class QueryService {
                 : objectMapper.readValues(objectMapper.createParser(is), extendedEntityClass);
         Set<String> usedTenants = new HashSet<>();
 
-        while (iterator.hasNext()) {
+        var window = new ArrayDeque<BulkOperationsEntity>();
+        Map<String, MarcJson> marcJsons = Map.of();
+
+        while (!window.isEmpty() || iterator.hasNext()) {
+          if (window.isEmpty()) {
+            do {
+              window.add((BulkOperationsEntity) iterator.next());
+            } while (window.size() < srsBatchSize && iterator.hasNext());
+            marcJsons = fetchMarcJsons(window);
+          }
 
-          var extendedRecord = (BulkOperationsEntity) iterator.next();
+          var extendedRecord = window.poll();
           var tenantId = extendedRecord.getTenant();
           operation.setProcessedNumOfRecords(operation.getProcessedNumOfRecords() + 1);
           if (extendedRecord.getRecordBulkOperationEntity() instanceof Item item) {
@@ -279,6 +313,7 @@ public class QueryService {
             if (extendedRecord.isMarcInstance()) {
               processQueryResultForMarc(
                   extendedRecord.getRecordBulkOperationEntity(),
+                  marcJsons,
                   writerForResultMrcFile,
                   operation,
                   matchedMrcFileName);
@@ -348,14 +383,30 @@ public class QueryService {
     bulkOperationRepository.save(bulkOperation);
   }
 
+  /**
+   * Fetches MARC records of the MARC instances among the records with one request, so that the
+   * records do not need a request each.
+   */
+  private Map<String, MarcJson> fetchMarcJsons(Collection<BulkOperationsEntity> records) {
+    var instanceIds =
+        records.stream()
+            .filter(BulkOperationsEntity::isMarcInstance)
+            .map(extendedRecord -> extendedRecord.getRecordBulkOperationEntity().getId())
+            .toList();
+    return instanceIds.isEmpty() ? Map.of() : srsService.getMarcJsonStrings(instanceIds);
+  }
+
   private void processQueryResultForMarc(
       BulkOperationsEntity entityRecord,
+      Map<String, MarcJson> marcJsons,
       Writer writerForResultMrcFile,
       BulkOperation operation,
       String matchedMrcFileName)
       throws UploadFromQueryException {
     try {
-      var marcJsonString = srsService.getMarcJsonString(entityRecord.getId());
+      var marcJson = marcJsons.get(entityRecord.getId());
+      var marcJsonString =
+          isNull(marcJson) ? srsService.getMarcJsonString(entityRecord.getId()) : marcJson.get();
       writerForResultMrcFile.append(marcJsonString);
       if (isNull(operation.getLinkToMatchedRecordsMarcFile())) {
         operation.setLinkToMatchedRecordsMarcFile(matchedMrcFileName);
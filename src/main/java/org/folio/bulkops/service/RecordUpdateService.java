@@ -3,6 +3,9 @@ package org.folio.bulkops.service;
 import static java.lang.String.format;
 import static org.folio.bulkops.util.Utils.resolveExtendedEntityClass;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.folio.bulkops.domain.bean.BulkOperationsEntity;
@@ -11,8 +14,9 @@ import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
 import org.folio.bulkops.exception.OptimisticLockingException;
 import org.folio.bulkops.exception.RecordConflictException;
+import org.folio.bulkops.processor.BatchUpdateProcessor;
+import org.folio.bulkops.processor.FolioUpdateProcessor;
 import org.folio.bulkops.processor.folio.FolioUpdateProcessorFactory;
-import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
 import org.folio.bulkops.util.EntityPathResolver;
 import org.folio.bulkops.util.Utils;
 import org.springframework.stereotype.Service;
@@ -21,37 +25,137 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RecordUpdateService {
   private final FolioUpdateProcessorFactory updateProcessorFactory;
-  private final BulkOperationExecutionContentRepository executionContentRepository;
+  private final ExecutionContentSink executionContentSink;
   private final EntityPathResolver entityPathResolver;
-  private final RuleService ruleService;
+  private final RuleCacheService ruleCacheService;
 
   public BulkOperationsEntity updateEntity(
       BulkOperationsEntity original, BulkOperationsEntity modified, BulkOperation operation) {
-    var entity = modified.getRecordBulkOperationEntity();
-    if (Objects.nonNull(entity)) {
-      entity.setTenant(null);
-    }
-    var isEqual = original.hashCode() == modified.hashCode() && original.equals(modified);
+    var isEqual = isUnchanged(original, modified);
     var updater =
         updateProcessorFactory.getProcessorFromFactory(
             resolveExtendedEntityClass(operation.getEntityType()));
     if (!isEqual) {
       try {
-        updater.updateRecord(modified, ruleService.getRules(operation.getId()));
+        updater.updateRecord(modified, ruleCacheService.getRules(operation.getId()));
       } catch (RecordConflictException e) {
-        var message = Utils.processConflictExceptionMessage(e);
-        var link = entityPathResolver.resolve(operation.getEntityType(), original);
-        throw new OptimisticLockingException(format("%s %s", message, link), message, link);
+        throw optimisticLockingException(e, original, operation);
       }
-      executionContentRepository.save(
-          BulkOperationExecutionContent.builder()
-              .bulkOperationId(operation.getId())
-              .identifier(modified.getIdentifier(operation.getIdentifierType()))
-              .state(StateType.PROCESSED)
-              .build());
-      operation.setCommittedNumOfRecords(operation.getCommittedNumOfRecords() + 1);
+      markCommitted(List.of(modified), operation);
     }
     updater.updateAssociatedRecords(modified, operation, isEqual);
     return isEqual ? original : modified;
   }
+
+  /**
+   * Updates the records like {@link #updateEntity}, but changed records are sent to the storage in
+   * a single batch if their updater supports batch updates.
+   *
+   * @return results in the order of the records
+   */
+  public List<UpdateResult> updateEntities(
+      List<BulkOperationsEntity> originals,
+      List<BulkOperationsEntity> modified,
+      BulkOperation operation) {
+    FolioUpdateProcessor<BulkOperationsEntity> updater =
+        updateProcessorFactory.getProcessorFromFactory(
+            resolveExtendedEntityClass(operation.getEntityType()));
+    if (!(updater instanceof BatchUpdateProcessor<BulkOperationsEntity> batchUpdater)) {
+      var results = new ArrayList<UpdateResult>(originals.size());
+      for (var i = 0; i < originals.size(); i++) {
+        try {
+          results.add(
+              new UpdateResult(updateEntity(originals.get(i), modified.get(i), operation), null));
+        } catch (Exception e) {
+          results.add(new UpdateResult(null, e));
+        }
+      }
+      return results;
+    }
+    var unchanged = new boolean[originals.size()];
+    var changed = new ArrayList<Integer>();
+    for (var i = 0; i < originals.size(); i++) {
+      unchanged[i] = isUnchanged(originals.get(i), modified.get(i));
+      if (!unchanged[i]) {
+        changed.add(i);
+      }
+    }
+    var errors = new ArrayList<Exception>(Collections.nCopies(originals.size(), null));
+    if (!changed.isEmpty()) {
+      var batchErrors =
+          batchUpdater.updateRecords(
+              changed.stream().map(modified::get).toList(),
+              ruleCacheService.getRules(operation.getId()));
+      for (var i = 0; i < changed.size(); i++) {
+        errors.set(changed.get(i), batchErrors.get(i));
+      }
+      markCommitted(
+          changed.stream().filter(i -> Objects.isNull(errors.get(i))).map(modified::get).toList(),
+          operation);
+    }
+    var results = new ArrayList<UpdateResult>(originals.size());
+    for (var i = 0; i < originals.size(); i++) {
+      var original = originals.get(i);
+      var record = modified.get(i);
+      var isEqual = unchanged[i];
+      try {
+        var error = errors.get(i);
+        if (error instanceof RecordConflictException e) {
+          throw optimisticLockingException(e, original, operation);
+        } else if (error != null) {
+          throw error;
+        }
+        updater.updateAssociatedRecords(record, operation, isEqual);
+        results.add(new UpdateResult(isEqual ? original : record, null));
+      } catch (Exception e) {
+        results.add(new UpdateResult(null, e));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Result of {@link #updateEntity} for the record which was handled by an interrupted commit
+   * before, the record is not updated again.
+   */
+  public BulkOperationsEntity replayEntity(
+      BulkOperationsEntity original, BulkOperationsEntity modified) {
+    return isUnchanged(original, modified) ? original : modified;
+  }
+
+  /**
+   * Saves markers of the updated records through the content buffer of the commit, which stores
+   * them in batches and at the latest with the next checkpoint.
+   */
+  private void markCommitted(List<BulkOperationsEntity> updated, BulkOperation operation) {
+    updated.forEach(
+        modified ->
+            executionContentSink.save(
+                BulkOperationExecutionContent.builder()
+                    .bulkOperationId(operation.getId())
+                    .identifier(modified.getIdentifier(operation.getIdentifierType()))
+                    .state(StateType.PROCESSED)
+                    .build()));
+    synchronized (operation) {
+      operation.setCommittedNumOfRecords(operation.getCommittedNumOfRecords() + updated.size());
+    }
+  }
+
+  private OptimisticLockingException optimisticLockingException(
+      RecordConflictException exception, BulkOperationsEntity original, BulkOperation operation) {
+    var message = Utils.processConflictExceptionMessage(exception);
+    var link = entityPathResolver.resolve(operation.getEntityType(), original);
+    return new OptimisticLockingException(format("%s %s", message, link), message, link);
+  }
+
+  private boolean isUnchanged(BulkOperationsEntity original, BulkOperationsEntity modified) {
+    var entity = modified.getRecordBulkOperationEntity();
+    if (Objects.nonNull(entity)) {
+      entity.setTenant(null);
+    }
+    return original.hashCode() == modified.hashCode() && original.equals(modified);
+  }
+
+  /** Result of the record update: the entity to write to the changed records files or the error. */
+  public record UpdateResult(BulkOperationsEntity entity, Exception exception) {}
 }
@@ -0,0 +1,161 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.bulkops.client.LoanTypeClient;
+import org.folio.bulkops.client.LocationClient;
+import org.folio.bulkops.client.MaterialTypeClient;
+import org.folio.bulkops.client.StatisticalCodeClient;
+import org.folio.bulkops.configs.CacheProperties;
+import org.folio.bulkops.configs.TenantScopedKeyGenerator;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.LoanType;
+import org.folio.bulkops.domain.bean.MaterialType;
+import org.folio.bulkops.domain.bean.StatisticalCode;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads whole reference tables of a tenant with one request per table and puts their entries into
+ * the caches used by the reference services, so that records of a bulk operation do not resolve
+ * reference data by one request per cache miss.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataWarmUpService {
+  private static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
+  private static final long ALL_RECORDS_LIMIT = Integer.MAX_VALUE;
+  private static final String LOCATIONS_CACHE = "locations";
+
+  private final LocationClient locationClient;
+  private final LoanTypeClient loanTypeClient;
+  private final MaterialTypeClient materialTypeClient;
+  private final StatisticalCodeClient statisticalCodeClient;
+  private final CacheManager cacheManager;
+  private final TenantScopedKeyGenerator keyGenerator;
+  private final CacheProperties cacheProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  private final Map<String, Long> warmedUpAt = new ConcurrentHashMap<>();
+
+  /** Warms up reference data of all tenants the records of the operation belong to. */
+  public void warmUp(BulkOperation operation) {
+    if (EntityType.USER == operation.getEntityType()) {
+      return;
+    }
+    var tenantIds = new LinkedHashSet<String>();
+    tenantIds.add(folioExecutionContext.getTenantId());
+    if (CollectionUtils.isNotEmpty(operation.getUsedTenants())) {
+      tenantIds.addAll(operation.getUsedTenants());
+    }
+    tenantIds.forEach(this::warmUp);
+  }
+
+  /**
+   * Warms up reference data of the tenant unless it was warmed up recently, i.e. its entries are
+   * not due for refresh yet.
+   */
+  public void warmUp(String tenantId) {
+    if (isNull(tenantId)) {
+      return;
+    }
+    var now = System.currentTimeMillis();
+    var previous = warmedUpAt.get(tenantId);
+    if (previous != null && now - previous < warmUpInterval().toMillis()) {
+      return;
+    }
+    warmedUpAt.put(tenantId, now);
+    var callerTenantId = folioExecutionContext.getTenantId();
+    try (var ignored =
+        new FolioExecutionContextSetter(
+            prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))) {
+      put(
+          List.of(LOCATIONS_CACHE),
+          locationClient.getByQuery(ALL_RECORDS_QUERY, ALL_RECORDS_LIMIT).getLocations(),
+          ItemLocation::getId,
+          tenantId,
+          callerTenantId);
+      put(
+          List.of("loanTypes"),
+          loanTypeClient.getByQuery(ALL_RECORDS_QUERY, ALL_RECORDS_LIMIT).getLoantypes(),
+          LoanType::getId,
+          tenantId,
+          callerTenantId);
+      put(
+          List.of("materialTypes"),
+          materialTypeClient.getByQuery(ALL_RECORDS_QUERY, ALL_RECORDS_LIMIT).getMtypes(),
+          MaterialType::getId,
+          tenantId,
+          callerTenantId);
+      put(
+          List.of(
+              "statisticalCodeNames",
+              "holdingsStatisticalCodeNames",
+              "instanceStatisticalCodeNames"),
+          statisticalCodeClient
+              .getByQuery(ALL_RECORDS_QUERY, ALL_RECORDS_LIMIT)
+              .getStatisticalCodes(),
+          StatisticalCode::getId,
+          tenantId,
+          callerTenantId);
+      log.info("Reference data of tenant {} was warmed up", tenantId);
+    } catch (Exception e) {
+      warmedUpAt.remove(tenantId);
+      log.warn("Failed to warm up reference data of tenant {}: {}", tenantId, e.getMessage());
+    }
+  }
+
+  /**
+   * Puts entries under the keys the cached {@code get*ById(id, tenantId)} methods use. Keys consist
+   * of the tenant of the execution context of the lookup and of the explicit tenant argument, so
+   * entries are put for lookups of the tenant made in the context of the caller, e.g. the central
+   * tenant in ECS, and for lookups made in the context of the tenant itself, with explicit or
+   * omitted tenant argument.
+   */
+  private <T> void put(
+      List<String> cacheNames,
+      List<T> entries,
+      Function<T, String> idExtractor,
+      String tenantId,
+      String callerTenantId) {
+    if (CollectionUtils.isEmpty(entries)) {
+      return;
+    }
+    for (var cacheName : cacheNames) {
+      var cache = cacheManager.getCache(cacheName);
+      if (isNull(cache)) {
+        continue;
+      }
+      for (var entry : entries) {
+        var id = idExtractor.apply(entry);
+        cache.put(keyGenerator.keyInTenant(callerTenantId, id, tenantId), entry);
+        cache.put(keyGenerator.keyInTenant(tenantId, id, tenantId), entry);
+        cache.put(keyGenerator.keyInTenant(tenantId, id, null), entry);
+      }
+    }
+  }
+
+  private Duration warmUpInterval() {
+    var policy = cacheProperties.policyOf(LOCATIONS_CACHE);
+    return isNull(policy.getRefreshAfterWrite())
+        ? policy.getExpireAfterWrite().dividedBy(2)
+        : policy.getRefreshAfterWrite();
+  }
+}
@@ -0,0 +1,55 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps rules of operations which are being committed, so that they are read from the database
+ * once per commit instead of once per updated record. Rules are evicted when the commit finishes
+ * or fails; entries of commits which never reach that point expire after they were last read.
+ */
+@Service
+@RequiredArgsConstructor
+public class RuleCacheService {
+  private final RuleService ruleService;
+
+  @Value("${application.rule-cache.max-size:100}")
+  private long maxSize;
+
+  @Value("${application.rule-cache.expire-after-access-minutes:10}")
+  private long expireAfterAccessMinutes;
+
+  private Cache<UUID, BulkOperationRuleCollection> rulesByOperationId;
+
+  @PostConstruct
+  public void init() {
+    rulesByOperationId =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+            .build();
+  }
+
+  public BulkOperationRuleCollection getRules(UUID bulkOperationId) {
+    if (isNull(bulkOperationId)) {
+      return ruleService.getRules(bulkOperationId);
+    }
+    return rulesByOperationId.get(bulkOperationId, ruleService::getRules);
+  }
+
+  public void evict(UUID bulkOperationId) {
+    if (nonNull(bulkOperationId)) {
+      rulesByOperationId.invalidate(bulkOperationId);
+    }
+  }
+}
@@ -10,12 +10,21 @@ import static org.folio.bulkops.util.Constants.SRS_MISSING;
 import com.opencsv.CSVWriterBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.bulkops.client.RemoteFileSystemClient;
@@ -25,12 +34,13 @@ import org.folio.bulkops.domain.bean.GetParsedRecordsBatchRequestBody;
 import org.folio.bulkops.domain.converter.JsonToMarcConverter;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.exception.MarcValidationException;
-import org.folio.bulkops.exception.NotFoundException;
 import org.folio.bulkops.repository.BulkOperationRepository;
 import org.folio.bulkops.util.MarcCsvHelper;
 import org.folio.bulkops.util.MarcValidator;
+import org.folio.spring.FolioExecutionContext;
 import org.marc4j.MarcJsonReader;
 import org.marc4j.marc.Record;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.JsonNode;
 
@@ -38,7 +48,14 @@ import tools.jackson.databind.JsonNode;
 @RequiredArgsConstructor
 @Log4j2
 public class SrsService {
-  private static final int SRS_CHUNK_SIZE = 100;
+  @Value("${application.srs.batch-size:100}")
+  private int batchSize;
+
+  @Value("${application.srs.max-parallel-requests:4}")
+  private int maxParallelRequests;
+
+  @Value("${application.srs.progress-interval-ms:1000}")
+  private long progressIntervalMs;
 
   private final SrsClient srsClient;
   private final BulkOperationRepository bulkOperationRepository;
@@ -46,10 +63,17 @@ public class SrsService {
   private final MarcCsvHelper marcCsvHelper;
   private final BulkOperationServiceHelper bulkOperationServiceHelper;
   private final JsonToMarcConverter jsonToMarcConverter;
+  private final CommitWindowExecutor commitWindowExecutor;
+  private final FolioExecutionContext folioExecutionContext;
 
+  /**
+   * Writes MARC records of the updated instances to the committed records MARC and CSV files.
+   * Records are fetched in chunks, up to {@code application.srs.max-parallel-requests} chunks at
+   * once, and written in order of the instance identifiers. Progress is persisted at most once per
+   * {@code application.srs.progress-interval-ms}.
+   */
   public void retrieveMarcInstancesFromSrs(List<String> instanceIds, BulkOperation bulkOperation) {
     log.info("Retrieving {} marc instances from SRS", instanceIds.size());
-    var fetchedNumOfRecords = 0;
     var noLinkToCommitted = false;
     var triggeringFileName = FilenameUtils.getBaseName(bulkOperation.getLinkToTriggeringCsvFile());
     var committedRecordsMarcFile =
@@ -72,24 +96,35 @@ public class SrsService {
               new CSVWriterBuilder(remoteFileSystemClient.writer(committedRecordsMarcCsvFile))
                   .withSeparator(DEFAULT_SEPARATOR)
                   .build(); ) {
-        while (fetchedNumOfRecords < instanceIds.size()) {
-          var ids = instanceIds.stream().skip(fetchedNumOfRecords).limit(SRS_CHUNK_SIZE).toList();
-          var marcJsons =
-              srsClient
-                  .getParsedRecordsInBatch(
-                      new GetParsedRecordsBatchRequestBody(
-                          new GetParsedRecordsBatchConditions(ids, "INSTANCE"), "MARC_BIB", true))
-                  .get("records");
-          for (tools.jackson.databind.JsonNode jsonNode : marcJsons.values()) {
-            var recordJson = jsonNode.get("parsedRecord").get("content").toString();
-            var marcRecord = jsonToMarcRecord(recordJson);
-            writer.writeRecord(marcRecord);
-            csvWriter.writeNext(marcCsvHelper.getModifiedDataForCsv(marcRecord));
+        var progress = new Progress(bulkOperation.getId());
+        try (var window =
+            commitWindowExecutor.<List<Record>>openWindow(
+                maxParallelRequests,
+                marcRecords -> {
+                  for (var marcRecord : marcRecords) {
+                    try {
+                      writer.writeRecord(marcRecord);
+                    } catch (IOException e) {
+                      throw new UncheckedIOException(e);
+                    }
+                    csvWriter.writeNext(marcCsvHelper.getModifiedDataForCsv(marcRecord));
+                  }
+                })) {
+          for (var ids : ListUtils.partition(instanceIds, Math.max(1, batchSize))) {
+            window.submit(
+                folioExecutionContext.getTenantId(),
+                () -> {
+                  var marcRecords = fetchMarcRecords(ids);
+                  progress.add(ids.size());
+                  return marcRecords;
+                });
+            progress.persistIfDue();
           }
-          fetchedNumOfRecords += ids.size();
-          updateBulkOperationProgress(bulkOperation, ids.size());
+          window.drain();
+        } finally {
+          progress.persist();
         }
-      } catch (IOException e) {
+      } catch (IOException | UncheckedIOException e) {
         log.error("Error updating MARC instances from SRS", e);
       }
     } else {
@@ -101,6 +136,24 @@ public class SrsService {
     bulkOperationServiceHelper.completeBulkOperation(bulkOperation);
   }
 
+  private List<Record> fetchMarcRecords(List<String> instanceIds) {
+    var marcJsons =
+        srsClient
+            .getParsedRecordsInBatch(
+                new GetParsedRecordsBatchRequestBody(
+                    new GetParsedRecordsBatchConditions(instanceIds, "INSTANCE"), "MARC_BIB", true))
+            .get("records");
+    var marcRecords = new ArrayList<Record>(marcJsons.size());
+    for (var jsonNode : marcJsons.values()) {
+      try {
+        marcRecords.add(jsonToMarcRecord(jsonNode.get("parsedRecord").get("content").toString()));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return marcRecords;
+  }
+
   private Record jsonToMarcRecord(String json) throws IOException {
     try (var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
       var reader = new MarcJsonReader(inputStream);
@@ -108,17 +161,37 @@ public class SrsService {
     }
   }
 
-  private void updateBulkOperationProgress(BulkOperation bulkOperation, int processedNumOfRecords) {
-    var operation =
-        bulkOperationRepository
-            .findById(bulkOperation.getId())
-            .orElseThrow(
-                () ->
-                    new NotFoundException(
-                        "BulkOperation was not found by id=" + bulkOperation.getId()));
-    operation.setProcessedNumOfRecords(
-        operation.getProcessedNumOfRecords() + processedNumOfRecords);
-    bulkOperationRepository.save(operation);
+  /**
+   * Number of records fetched but not yet added to the processed number of records of the
+   * operation. Chunks are counted by worker threads, while persisting is done by the caller.
+   */
+  private final class Progress {
+    private final UUID bulkOperationId;
+    private final AtomicInteger unpersisted = new AtomicInteger();
+    private long persistedAt = System.currentTimeMillis();
+
+    private Progress(UUID bulkOperationId) {
+      this.bulkOperationId = bulkOperationId;
+    }
+
+    private void add(int processedNumOfRecords) {
+      unpersisted.addAndGet(processedNumOfRecords);
+    }
+
+    private void persistIfDue() {
+      if (System.currentTimeMillis() - persistedAt >= progressIntervalMs) {
+        persist();
+      }
+    }
+
+    private void persist() {
+      var processedNumOfRecords = unpersisted.getAndSet(0);
+      if (processedNumOfRecords > 0) {
+        bulkOperationRepository.incrementProcessedNumOfRecords(
+            bulkOperationId, processedNumOfRecords);
+      }
+      persistedAt = System.currentTimeMillis();
+    }
   }
 
   public String getMarcJsonString(String instanceId) throws MarcValidationException, IOException {
@@ -137,6 +210,83 @@ public class SrsService {
     }
   }
 
+  /**
+   * Fetches MARC records of the instances with one request and validates and converts them in
+   * parallel. Every instance is mapped to its record or to the failure {@link #getMarcJsonString}
+   * would throw for it. Returns an empty map if the records could not be fetched or attributed to
+   * the instances, so that callers fall back to fetching them one by one.
+   */
+  public Map<String, MarcJson> getMarcJsonStrings(List<String> instanceIds) {
+    if (instanceIds.isEmpty()) {
+      return Map.of();
+    }
+    try {
+      var records =
+          srsClient
+              .getParsedRecordsInBatch(
+                  new GetParsedRecordsBatchRequestBody(
+                      new GetParsedRecordsBatchConditions(instanceIds, "INSTANCE"),
+                      "MARC_BIB",
+                      true))
+              .get("records");
+      var recordsByInstanceId = new HashMap<String, List<JsonNode>>();
+      for (var srsRec : records.values()) {
+        var instanceId = srsRec.path("externalIdsHolder").path("instanceId");
+        if (!instanceId.isString()) {
+          log.warn("SRS record without instance id, fetching records one by one");
+          return Map.of();
+        }
+        recordsByInstanceId
+            .computeIfAbsent(instanceId.asString(), id -> new ArrayList<>())
+            .add(srsRec);
+      }
+      return instanceIds.parallelStream()
+          .distinct()
+          .collect(
+              Collectors.toConcurrentMap(
+                  Function.identity(),
+                  id -> toMarcJson(recordsByInstanceId.getOrDefault(id, List.of()))));
+    } catch (Exception e) {
+      log.warn(
+          "Failed to fetch {} MARC records at once, fetching them one by one: {}",
+          instanceIds.size(),
+          e.getMessage());
+      return Map.of();
+    }
+  }
+
+  private MarcJson toMarcJson(List<JsonNode> srsRecords) {
+    try {
+      if (srsRecords.isEmpty()) {
+        throw new MarcValidationException(SRS_MISSING);
+      } else if (srsRecords.size() > 1) {
+        throw new MarcValidationException(
+            MULTIPLE_SRS.formatted(
+                srsRecords.stream()
+                    .map(srsRec -> srsRec.has("id") ? srsRec.get("id") : srsRec.get("recordId"))
+                    .map(id -> StringUtils.strip(id.toString(), "\""))
+                    .collect(Collectors.joining(", "))));
+      }
+      var marcJsonString = srsRecords.getFirst().get("parsedRecord").get("content").toString();
+      MarcValidator.validate(marcJsonString);
+      return new MarcJson(jsonToMarcConverter.convertJsonRecordToMarcRecord(marcJsonString), null);
+    } catch (MarcValidationException | IOException e) {
+      return new MarcJson(null, e);
+    }
+  }
+
+  /** MARC record of an instance in binary form, or the failure to retrieve it. */
+  public record MarcJson(String content, Exception failure) {
+    public String get() throws MarcValidationException, IOException {
+      if (failure instanceof MarcValidationException marcValidationException) {
+        throw marcValidationException;
+      } else if (failure instanceof IOException ioException) {
+        throw ioException;
+      }
+      return content;
+    }
+  }
+
   private String getAllSrsIds(JsonNode srsRecords) {
     return String.join(
         ", ",
@@ -0,0 +1,138 @@
+package org.folio.bulkops.util;
+
+import static org.folio.bulkops.util.Constants.UTF_8_BOM;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Stages of the file download pipeline. Every stage wraps the stream of the previous one and
+ * transforms content only as it is read, so files are downloaded with constant memory.
+ */
+@UtilityClass
+public class CsvDownloadStreams {
+
+  /** Transformation of a single CSV line, applied to lines in order of the file. */
+  @FunctionalInterface
+  public interface LineTransformer {
+    String[] transform(String[] line, boolean header);
+  }
+
+  /** Drops all occurrences of the byte from the content. */
+  public static InputStream withoutByte(InputStream content, byte removed) {
+    return new FilterInputStream(content) {
+      @Override
+      public int read() throws IOException {
+        int b;
+        do {
+          b = super.read();
+        } while (b == (removed & 0xFF));
+        return b;
+      }
+
+      @Override
+      public int read(byte[] bytes, int off, int len) throws IOException {
+        int read;
+        int kept;
+        do {
+          read = super.read(bytes, off, len);
+          kept = off;
+          for (var i = off; i < off + read; i++) {
+            if (bytes[i] != removed) {
+              bytes[kept++] = bytes[i];
+            }
+          }
+        } while (read > 0 && kept == off);
+        return read < 0 ? read : kept - off;
+      }
+    };
+  }
+
+  /** Prepends the UTF-8 byte order mark unless the content already starts with it. */
+  public static InputStream withUtf8Bom(InputStream content) throws IOException {
+    var pushback = new PushbackInputStream(content, UTF_8_BOM.length);
+    var head = pushback.readNBytes(UTF_8_BOM.length);
+    pushback.unread(head);
+    return Arrays.equals(UTF_8_BOM, head)
+        ? pushback
+        : new SequenceInputStream(new ByteArrayInputStream(UTF_8_BOM), pushback);
+  }
+
+  /**
+   * Parses the CSV content line by line and writes every transformed line as its values joined
+   * with commas; values are expected to be escaped by the transformer.
+   */
+  public static InputStream transformLines(InputStream content, LineTransformer transformer) {
+    return new LineTransformingInputStream(content, transformer);
+  }
+
+  private static final class LineTransformingInputStream extends InputStream {
+    private final CSVReader reader;
+    private final LineTransformer transformer;
+    private byte[] buffer = new byte[0];
+    private int position;
+    private boolean header = true;
+
+    private LineTransformingInputStream(InputStream content, LineTransformer transformer) {
+      this.reader =
+          new CSVReaderBuilder(new InputStreamReader(content, StandardCharsets.UTF_8))
+              .withCSVParser(CsvHelper.newCsvParser())
+              .build();
+      this.transformer = transformer;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return fill() ? buffer[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      var read = Math.min(len, buffer.length - position);
+      System.arraycopy(buffer, position, bytes, off, read);
+      position += read;
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+
+    private boolean fill() throws IOException {
+      while (position >= buffer.length) {
+        String[] line;
+        try {
+          line = reader.readNext();
+        } catch (CsvValidationException e) {
+          throw new IOException(e);
+        }
+        if (line == null) {
+          return false;
+        }
+        line = transformer.transform(line, header);
+        header = false;
+        buffer = (String.join(",", line) + "\n").getBytes(StandardCharsets.UTF_8);
+        position = 0;
+      }
+      return true;
+    }
+  }
+}
@@ -25,7 +25,15 @@ public class CsvHelper {
   @Getter private static final CSVParser csvParser;
 
   static {
-    csvParser = new CSVParserBuilder().withEscapeChar(ASCII_ZERO_CHAR).build();
+    csvParser = newCsvParser();
+  }
+
+  /**
+   * Parser with the same settings as the shared one, for readers that are kept open while other
+   * readers parse, e.g. of streamed downloads.
+   */
+  public static CSVParser newCsvParser() {
+    return new CSVParserBuilder().withEscapeChar(ASCII_ZERO_CHAR).build();
   }
 
   public static void writeBeanToCsv(
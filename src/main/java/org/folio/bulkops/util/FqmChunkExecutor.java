@@ -0,0 +1,237 @@
+package org.folio.bulkops.util;
+
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Module-wide executor for FQM chunk requests. All operations fetching data from FQM share one
+ * bounded pool: every running fetch gets an equal share of the pool threads (but not more than
+ * its own parallelism limit), and idle threads are handed out to operations round-robin. Each
+ * fetch keeps at most {@code prefetchWindow} chunks requested but not yet consumed, so results of
+ * a slow consumer do not pile up in memory.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class FqmChunkExecutor {
+
+  private static final String METRIC_PREFIX = "bulkops.fqm.chunks.";
+
+  @Value("${application.fqm-fetcher.pool_size:10}")
+  private int poolSize;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Deque<Lane<?>> lanes = new ArrayDeque<>();
+  private int running;
+  private ExecutorService executor;
+  private Timer chunkLatency;
+
+  @PostConstruct
+  public void init() {
+    var threadNumber = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, poolSize),
+            runnable -> {
+              var thread = new Thread(runnable, "fqm-fetcher-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    chunkLatency =
+        Timer.builder(METRIC_PREFIX + "latency")
+            .description("Time of a single FQM chunk request")
+            .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + "queued", this, FqmChunkExecutor::queuedChunks)
+        .description("Chunks waiting for a free FQM fetcher thread")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + "buffered", this, FqmChunkExecutor::bufferedChunks)
+        .description("Fetched chunks not yet consumed")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + "running", this, FqmChunkExecutor::runningChunks)
+        .description("Chunks being fetched")
+        .register(meterRegistry);
+    log.info("FQM chunk executor initialized: pool_size={}", poolSize);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Fetches the given chunks and hands their results over to the consumer on the calling thread.
+   * A chunk is requested only when fewer than {@code prefetchWindow} chunks are in flight or
+   * waiting to be consumed. Remaining chunks are cancelled when a chunk or the consumer fails.
+   *
+   * @param chunks chunk requests
+   * @param maxParallel maximum number of chunks of this fetch requested at once
+   * @param prefetchWindow maximum number of chunks requested but not consumed yet
+   * @param preserveOrder whether results are consumed in order of chunks or in order of completion
+   * @param consumer consumer of chunk results
+   */
+  public <T> void execute(
+      List<? extends Callable<T>> chunks,
+      int maxParallel,
+      int prefetchWindow,
+      boolean preserveOrder,
+      ChunkConsumer<T> consumer)
+      throws InterruptedException, ExecutionException, IOException {
+
+    var window = Math.max(1, prefetchWindow);
+    var lane = new Lane<T>(Math.max(1, maxParallel), preserveOrder);
+    synchronized (this) {
+      lanes.addLast(lane);
+    }
+    try {
+      var submitted = 0;
+      for (var consumed = 0; consumed < chunks.size(); consumed++) {
+        while (submitted < chunks.size() && submitted - consumed < window) {
+          lane.submit(chunks.get(submitted++));
+        }
+        consumer.accept(lane.take());
+      }
+    } finally {
+      lane.close();
+    }
+  }
+
+  private synchronized void dispatch() {
+    var share = Math.max(1, Math.max(1, poolSize) / Math.max(1, lanes.size()));
+    var progress = true;
+    while (running < Math.max(1, poolSize) && progress) {
+      progress = false;
+      for (var i = 0; i < lanes.size() && running < Math.max(1, poolSize); i++) {
+        var lane = lanes.removeFirst();
+        lanes.addLast(lane);
+        if (lane.startNext(share)) {
+          running++;
+          progress = true;
+        }
+      }
+    }
+  }
+
+  private synchronized void finished(Lane<?> lane) {
+    lane.active--;
+    running--;
+  }
+
+  private synchronized double queuedChunks() {
+    return lanes.stream().mapToInt(lane -> lane.pending.size()).sum();
+  }
+
+  private synchronized double bufferedChunks() {
+    return lanes.stream()
+        .flatMap(lane -> lane.inOrder.stream())
+        .filter(CompletableFuture::isDone)
+        .count();
+  }
+
+  private synchronized double runningChunks() {
+    return running;
+  }
+
+  /** Consumer of chunk results which may fail on writing them. */
+  @FunctionalInterface
+  public interface ChunkConsumer<T> {
+    void accept(T result) throws IOException;
+  }
+
+  /** State of a single fetch. Fields are guarded by the enclosing executor. */
+  private final class Lane<T> {
+    private final int maxParallel;
+    private final boolean preserveOrder;
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+    private final Deque<CompletableFuture<T>> inOrder = new ArrayDeque<>();
+    private final LinkedBlockingQueue<CompletableFuture<T>> completed =
+        new LinkedBlockingQueue<>();
+    private int active;
+
+    private Lane(int maxParallel, boolean preserveOrder) {
+      this.maxParallel = maxParallel;
+      this.preserveOrder = preserveOrder;
+    }
+
+    private void submit(Callable<T> chunk) {
+      var future = new CompletableFuture<T>();
+      if (!preserveOrder) {
+        future.whenComplete((result, e) -> completed.add(future));
+      }
+      synchronized (FqmChunkExecutor.this) {
+        inOrder.addLast(future);
+        // pool threads are shared by all tenants, so each chunk runs in the context of its fetch
+        pending.addLast(
+            getRunnableWithCurrentFolioContext(
+                () -> {
+                  try {
+                    if (!future.isDone()) {
+                      future.complete(chunkLatency.recordCallable(chunk));
+                    }
+                  } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                  } finally {
+                    finished(this);
+                    dispatch();
+                  }
+                }));
+      }
+      dispatch();
+    }
+
+    private boolean startNext(int share) {
+      if (pending.isEmpty() || active >= Math.min(share, maxParallel)) {
+        return false;
+      }
+      active++;
+      executor.execute(pending.removeFirst());
+      return true;
+    }
+
+    private T take() throws InterruptedException, ExecutionException {
+      CompletableFuture<T> future;
+      if (preserveOrder) {
+        synchronized (FqmChunkExecutor.this) {
+          future = inOrder.removeFirst();
+        }
+        return future.get();
+      }
+      future = completed.take();
+      synchronized (FqmChunkExecutor.this) {
+        inOrder.remove(future);
+      }
+      return future.get();
+    }
+
+    private void close() {
+      synchronized (FqmChunkExecutor.this) {
+        lanes.remove(this);
+        pending.clear();
+        inOrder.forEach(future -> future.cancel(true));
+        inOrder.clear();
+        completed.clear();
+      }
+      dispatch();
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package org.folio.bulkops.util;
 
 import static java.lang.String.join;
-import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
@@ -86,22 +85,17 @@ import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
-import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -123,6 +117,7 @@ import org.folio.bulkops.domain.dto.ErrorType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
 import org.folio.bulkops.exception.FqmFetcherException;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.bulkops.service.ConsortiaService;
 import org.folio.bulkops.service.EntityTypeService;
 import org.folio.querytool.domain.dto.ContentsRequest;
@@ -153,20 +148,30 @@ public class FqmContentFetcher {
   @Value("${application.fqm-fetcher.max_chunk_size}")
   private int chunkSize;
 
+  @Value("${application.fqm-fetcher.prefetch_window:10}")
+  private int prefetchWindow;
+
+  @Value("${application.fqm-fetcher.preserve_order:true}")
+  private boolean preserveOrder;
+
   private final QueryClient queryClient;
   private final ObjectMapper objectMapper;
   private final FolioExecutionContext folioExecutionContext;
   private final ConsortiaService consortiaService;
   private final EntityTypeService entityTypeService;
   private final SearchClient searchClient;
+  private final FqmChunkExecutor fqmChunkExecutor;
+  private final BulkOperationMetrics bulkOperationMetrics;
 
   @PostConstruct
   private void logStartup() {
     log.info(
         "FqmContentFetcher initialized with parameters - max_parallel_chunks: {}, "
-            + "max_chunk_size: {}",
+            + "max_chunk_size: {}, prefetch_window: {}, preserve_order: {}",
         maxParallelChunks,
-        chunkSize);
+        chunkSize,
+        prefetchWindow,
+        preserveOrder);
   }
 
   /**
@@ -197,9 +202,7 @@ public class FqmContentFetcher {
             .mapToObj(i -> uuids.subList(i, Math.min(i + chunkSize, uuids.size())))
             .toList();
 
-    ExecutorService pool = Executors.newFixedThreadPool(maxParallelChunks);
-    CompletionService<List<Map<String, Object>>> completion = new ExecutorCompletionService<>(pool);
-
+    List<Callable<List<Map<String, Object>>>> requests = new ArrayList<>(chunks.size());
     for (List<UUID> chunk : chunks) {
       Function<String, List<String>> idMapper =
           resolveIdMapper(
@@ -210,7 +213,7 @@ public class FqmContentFetcher {
               isCentralTenant,
               bulkOperationExecutionContents);
 
-      completion.submit(
+      requests.add(
           () -> {
             ContentsRequest req =
                 new ContentsRequest()
@@ -228,12 +231,7 @@ public class FqmContentFetcher {
     }
 
     return pipeStreamingResponse(
-        bulkOperation,
-        bulkOperationExecutionContents,
-        isCentralTenant,
-        chunks.size(),
-        completion,
-        pool);
+        bulkOperation, bulkOperationExecutionContents, isCentralTenant, requests, preserveOrder);
   }
 
   private Function<String, List<String>> resolveIdMapper(
@@ -332,46 +330,55 @@ public class FqmContentFetcher {
       BulkOperation bulkOperation,
       List<BulkOperationExecutionContent> bulkOperationExecutionContents,
       boolean isCentralTenant,
-      int submittedTasks,
-      CompletionService<List<Map<String, Object>>> completion,
-      ExecutorService executor) {
+      List<Callable<List<Map<String, Object>>>> requests,
+      boolean preserveOrder) {
 
     final PipedOutputStream pos = new PipedOutputStream();
     final PipedInputStream pis;
     try {
       pis = new PipedInputStream(pos, BUFFER_SIZE);
     } catch (IOException e) {
-      executor.shutdownNow();
       throw new FqmFetcherException("Error creating piped streams for FQM contents", e);
     }
 
     final AtomicReference<Throwable> error = new AtomicReference<>(null);
+    var timedRequests =
+        requests.stream()
+            .map(r -> bulkOperationMetrics.timedFqmChunk(bulkOperation.getEntityType(), r))
+            .toList();
 
     var writer =
         new Thread(
             () -> {
-              try (BufferedWriter bw =
+              // closed only after a failure is recorded, so that readers never see a clean end
+              var bw =
                   new BufferedWriter(
-                      new OutputStreamWriter(pos, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-
-                for (int i = 0; i < submittedTasks; i++) {
-                  List<Map<String, Object>> part = next(completion, error, executor);
-
-                  if (part == null || part.isEmpty()) {
-                    continue;
-                  }
-                  part(bulkOperation, bw, part, bulkOperationExecutionContents, isCentralTenant);
-                }
-
+                      new OutputStreamWriter(pos, StandardCharsets.UTF_8), BUFFER_SIZE);
+              try {
+                fqmChunkExecutor.execute(
+                    timedRequests,
+                    maxParallelChunks,
+                    prefetchWindow,
+                    preserveOrder,
+                    part -> {
+                      if (CollectionUtils.isNotEmpty(part)) {
+                        part(
+                            bulkOperation,
+                            bw,
+                            part,
+                            bulkOperationExecutionContents,
+                            isCentralTenant);
+                      }
+                    });
+                bw.flush();
               } catch (InterruptedException ie) {
                 log.error("Error streaming FQM response", ie);
-                fail(error, executor, ie, true);
+                fail(error, ie, true);
               } catch (Exception ex) {
                 log.error("Error streaming FQM response", ex);
-                fail(error, executor, ex, false);
+                fail(error, ex, false);
               } finally {
-                closeQuietly(pos);
-                executor.shutdownNow();
+                closeQuietly(bw);
               }
             });
 
@@ -405,7 +412,6 @@ public class FqmContentFetcher {
         try {
           super.close();
         } finally {
-          executor.shutdownNow();
           checkError();
         }
       }
@@ -419,23 +425,6 @@ public class FqmContentFetcher {
     };
   }
 
-  private List<Map<String, Object>> next(
-      CompletionService<List<Map<String, Object>>> completion,
-      AtomicReference<Throwable> error,
-      ExecutorService executor)
-      throws InterruptedException {
-
-    try {
-      return completion.take().get();
-    } catch (InterruptedException ie) {
-      fail(error, executor, ie, true);
-      throw ie;
-    } catch (Exception ex) {
-      fail(error, executor, ex, false);
-      return emptyList();
-    }
-  }
-
   private void part(
       BulkOperation bulkOperation,
       BufferedWriter bw,
@@ -455,16 +444,13 @@ public class FqmContentFetcher {
     bw.flush();
   }
 
-  private void fail(
-      AtomicReference<Throwable> error, ExecutorService executor, Throwable t, boolean interrupt) {
+  private void fail(AtomicReference<Throwable> error, Throwable t, boolean interrupt) {
 
     error.compareAndSet(null, t);
 
     if (interrupt) {
       Thread.currentThread().interrupt();
     }
-
-    executor.shutdownNow();
   }
 
   private Throwable unwrap(Throwable throwable) {
@@ -486,62 +472,41 @@ public class FqmContentFetcher {
   }
 
   /**
-   * Fetches content in parallel using multiple threads.
+   * Fetches content of the query result in chunks of {@code max_chunk_size} records. Chunks are
+   * requested on the shared {@link FqmChunkExecutor}, at most {@code prefetch_window} of them ahead
+   * of the consumer, and each chunk is written to the returned stream as soon as all chunks before
+   * it were written, so heap usage is bounded by the window rather than by the query result.
    *
    * @param bulkOperation bulk operation object
    * @param total the total number of records to fetch
-   * @return an InputStream containing the fetched content
+   * @return an InputStream containing the fetched content in order of the query result
    */
   public InputStream fetch(
       BulkOperation bulkOperation,
       int total,
       List<BulkOperationExecutionContent> bulkOperationExecutionContents) {
-    try (var executor = Executors.newFixedThreadPool(maxParallelChunks)) {
-      int chunks = (total + chunkSize - 1) / chunkSize;
-
+    try {
       boolean isCentralTenant =
           consortiaService.isTenantCentral(folioExecutionContext.getTenantId());
 
-      List<CompletableFuture<InputStream>> tasks =
-          IntStream.range(0, chunks)
-              .mapToObj(
-                  chunk ->
-                      CompletableFuture.supplyAsync(
-                          () ->
-                              task(
-                                  bulkOperation,
-                                  chunk,
-                                  total,
-                                  bulkOperationExecutionContents,
-                                  isCentralTenant),
-                          executor))
+      List<Callable<List<Map<String, Object>>>> requests =
+          IntStream.range(0, (total + chunkSize - 1) / chunkSize)
+              .<Callable<List<Map<String, Object>>>>mapToObj(
+                  chunk -> () -> queryChunk(bulkOperation, chunk, total))
               .toList();
 
-      CompletableFuture<List<InputStream>> future =
-          CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
-              .thenApply(ignored -> tasks.stream().map(CompletableFuture::join).toList());
-
-      var futures = future.join();
-
-      return new SequenceInputStream(Collections.enumeration(futures));
+      return pipeStreamingResponse(
+          bulkOperation, bulkOperationExecutionContents, isCentralTenant, requests, true);
     } catch (Exception e) {
       log.error("Error fetching data from FQM", e);
       throw new FqmFetcherException("Error fetching data from FQM", e);
     }
   }
 
-  private InputStream task(
-      BulkOperation bulkOperation,
-      int chunk,
-      int total,
-      List<BulkOperationExecutionContent> bulkOperationExecutionContents,
-      boolean isCentralTenant) {
+  private List<Map<String, Object>> queryChunk(BulkOperation bulkOperation, int chunk, int total) {
     int offset = chunk * chunkSize;
     int limit = Math.min(chunkSize, total - offset);
-    log.info("tenant current: {}", folioExecutionContext.getTenantId());
-    var response = queryClient.getQuery(bulkOperation.getFqlQueryId(), offset, limit).getContent();
-    return getFqmResponseAsInputStream(
-        bulkOperation, bulkOperationExecutionContents, isCentralTenant, response);
+    return queryClient.getQuery(bulkOperation.getFqlQueryId(), offset, limit).getContent();
   }
 
   protected InputStream getFqmResponseAsInputStream(
@@ -0,0 +1,130 @@
+package org.folio.bulkops.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Sparse index of records in a JSON file holding one record per line. Byte offset of every {@code
+ * stride}-th record is kept, so a page starting at any record can be read by skipping bytes up to
+ * the closest indexed record and parsing at most {@code stride - 1} records.
+ */
+public final class JsonRecordIndex {
+  public static final String INDEX_FILE_SUFFIX = ".idx";
+  public static final int DEFAULT_STRIDE = 100;
+
+  @Getter private final int stride;
+  @Getter private final long numberOfRecords;
+  private final long[] offsets;
+
+  private JsonRecordIndex(int stride, long numberOfRecords, long[] offsets) {
+    this.stride = stride;
+    this.numberOfRecords = numberOfRecords;
+    this.offsets = offsets;
+  }
+
+  /** Byte offset of the closest indexed record at or before the given record. */
+  public long offsetOf(long recordNumber) {
+    if (offsets.length == 0) {
+      return 0;
+    }
+    return offsets[(int) Math.min(recordNumber / stride, offsets.length - 1L)];
+  }
+
+  /** Number of records to skip after {@link #offsetOf(long)} to reach the given record. */
+  public long recordsToSkip(long recordNumber) {
+    if (offsets.length == 0) {
+      return recordNumber;
+    }
+    return recordNumber - Math.min(recordNumber / stride, offsets.length - 1L) * stride;
+  }
+
+  public byte[] toBytes() {
+    try (var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes)) {
+      out.writeInt(stride);
+      out.writeLong(numberOfRecords);
+      out.writeInt(offsets.length);
+      for (var offset : offsets) {
+        out.writeLong(offset);
+      }
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static JsonRecordIndex read(InputStream is) throws IOException {
+    var in = new DataInputStream(is);
+    var stride = in.readInt();
+    var numberOfRecords = in.readLong();
+    var offsets = new long[in.readInt()];
+    for (var i = 0; i < offsets.length; i++) {
+      offsets[i] = in.readLong();
+    }
+    return new JsonRecordIndex(stride, numberOfRecords, offsets);
+  }
+
+  /**
+   * Collects offsets of records while the file is being written. A record starts at the first
+   * byte of the file and at the first byte following a line break.
+   */
+  public static final class Builder {
+    private final int stride;
+    private long[] offsets = new long[16];
+    private int size;
+    private long numberOfRecords;
+    private long position;
+    private boolean recordStart = true;
+
+    public Builder() {
+      this(DEFAULT_STRIDE);
+    }
+
+    public Builder(int stride) {
+      this.stride = Math.max(1, stride);
+    }
+
+    /**
+     * Accounts the next character of the file.
+     *
+     * @param c written character
+     * @param length number of bytes of the character in the file encoding
+     */
+    public void accept(int c, int length) {
+      if (length == 0) {
+        return;
+      }
+      if (recordStart && c != '\n') {
+        if (numberOfRecords % stride == 0) {
+          if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+          }
+          offsets[size++] = position;
+        }
+        numberOfRecords++;
+        recordStart = false;
+      }
+      if (c == '\n') {
+        recordStart = true;
+      }
+      position += length;
+    }
+
+    public void accept(byte[] bytes, int off, int len) {
+      for (var i = off; i < off + len; i++) {
+        accept(bytes[i], 1);
+      }
+    }
+
+    public JsonRecordIndex build() {
+      return new JsonRecordIndex(stride, numberOfRecords, Arrays.copyOf(offsets, size));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.bulkops.util;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writer of JSON file with one record per line which builds {@link JsonRecordIndex} of written
+ * records. Written characters are accounted as UTF-8, the index is handed over to the consumer
+ * after the file is closed.
+ */
+public class JsonRecordIndexingWriter extends FilterWriter {
+  private final JsonRecordIndex.Builder indexBuilder;
+  private final Consumer<JsonRecordIndex> indexConsumer;
+  private boolean closed;
+
+  public JsonRecordIndexingWriter(Writer out, Consumer<JsonRecordIndex> indexConsumer) {
+    this(out, JsonRecordIndex.DEFAULT_STRIDE, indexConsumer);
+  }
+
+  public JsonRecordIndexingWriter(
+      Writer out, int stride, Consumer<JsonRecordIndex> indexConsumer) {
+    super(out);
+    this.indexBuilder = new JsonRecordIndex.Builder(stride);
+    this.indexConsumer = indexConsumer;
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    out.write(c);
+    account((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    out.write(cbuf, off, len);
+    for (var i = off; i < off + len; i++) {
+      account(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    out.write(str, off, len);
+    for (var i = off; i < off + len; i++) {
+      account(str.charAt(i));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    out.close();
+    indexConsumer.accept(indexBuilder.build());
+  }
+
+  private void account(char c) {
+    int length;
+    if (c < 0x80) {
+      length = 1;
+    } else if (c < 0x800) {
+      length = 2;
+    } else if (Character.isHighSurrogate(c)) {
+      length = 4;
+    } else if (Character.isLowSurrogate(c)) {
+      length = 0;
+    } else {
+      length = 3;
+    }
+    indexBuilder.accept(c, length);
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.bulkops.util;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_CLASSIFICATION;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_ELECTRONIC_ACCESS;
@@ -15,12 +16,13 @@ import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 
 import com.opencsv.CSVReaderBuilder;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.StringWriter;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -29,9 +31,12 @@ import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.Instance;
 import org.folio.bulkops.domain.dto.Cell;
 import org.folio.bulkops.domain.dto.FileContentType;
+import org.folio.bulkops.domain.dto.InstanceNoteType;
 import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.service.InstanceReferenceService;
 import org.folio.bulkops.service.Marc21ReferenceProvider;
 import org.folio.bulkops.service.MarcToUnifiedTableRowMapper;
+import org.folio.bulkops.service.MarcToUnifiedTableRowMapper.RowLayout;
 import org.folio.bulkops.service.NoteTableUpdater;
 import org.folio.bulkops.service.RuleService;
 import org.marc4j.marc.Record;
@@ -49,21 +54,22 @@ public class MarcCsvHelper {
   private final RuleService ruleService;
   private final Marc21ReferenceProvider marc21ReferenceProvider;
   private final ObjectMapper objectMapper;
+  private final InstanceReferenceService instanceReferenceService;
+
+  private volatile InstanceRowLayout instanceRowLayout;
 
   public String[] getModifiedDataForCsv(Record marcRecord) {
-    var instanceHeaderNames = getInstanceHeaderNames();
-    var csvData = marcToUnifiedTableRowMapper.processRecord(marcRecord, instanceHeaderNames, true);
+    var layout = getInstanceRowLayout();
+    var csvData = marcToUnifiedTableRowMapper.processRecord(marcRecord, layout, true);
+    var electronicAccessPosition = layout.positionOf(INSTANCE_ELECTRONIC_ACCESS);
     var concatenatedNotes =
-        csvData
-            .subList(
-                INSTANCE_NOTE_POSITION, instanceHeaderNames.indexOf(INSTANCE_ELECTRONIC_ACCESS))
-            .stream()
+        csvData.subList(INSTANCE_NOTE_POSITION, electronicAccessPosition).stream()
             .filter(StringUtils::isNotBlank)
             .collect(Collectors.joining(ITEM_DELIMITER_SPACED));
-    var electronicAccessData = csvData.get(instanceHeaderNames.indexOf(INSTANCE_ELECTRONIC_ACCESS));
-    var subjectData = csvData.get(instanceHeaderNames.indexOf(INSTANCE_SUBJECT));
-    var publicationData = csvData.get(instanceHeaderNames.indexOf(INSTANCE_PUBLICATION));
-    var classificationData = csvData.get(instanceHeaderNames.indexOf(INSTANCE_CLASSIFICATION));
+    var electronicAccessData = csvData.get(electronicAccessPosition);
+    var subjectData = csvData.get(layout.positionOf(INSTANCE_SUBJECT));
+    var publicationData = csvData.get(layout.positionOf(INSTANCE_PUBLICATION));
+    var classificationData = csvData.get(layout.positionOf(INSTANCE_CLASSIFICATION));
     csvData.set(INSTANCE_NOTE_POSITION, concatenatedNotes);
     csvData.set(INSTANCE_ELECTRONIC_ACCESS_POSITION, electronicAccessData);
     csvData.set(INSTANCE_SUBJECT_POSITION, subjectData);
@@ -75,45 +81,53 @@ public class MarcCsvHelper {
 
   public byte[] enrichCsvWithMarcChanges(
       byte[] content, BulkOperation bulkOperation, FileContentType fileContentType) {
+    try (var enriched =
+        enrichCsvStreamWithMarcChanges(
+            new ByteArrayInputStream(content), bulkOperation, fileContentType)) {
+      return enriched.readAllBytes();
+    } catch (Exception e) {
+      log.error(e.getMessage());
+    }
+    return content;
+  }
+
+  /**
+   * Replaces values of the CSV content changed by MARC rules as the content is read. Returns the
+   * content as is if there are no changes.
+   */
+  public InputStream enrichCsvStreamWithMarcChanges(
+      InputStream content, BulkOperation bulkOperation, FileContentType fileContentType) {
     var instanceHeaderNames =
         UnifiedTableHeaderBuilder.getEmptyTableWithHeaders(Instance.class).getHeader().stream()
             .map(Cell::getValue)
             .toList();
     var fileName = getMarcCsvFileName(bulkOperation, fileContentType);
     var changedMarcData = getChangedMarcData(bulkOperation, fileName);
-    if (!changedMarcData.isEmpty()) {
-      try (var reader =
-              new CSVReaderBuilder(new InputStreamReader(new ByteArrayInputStream(content)))
-                  .withCSVParser(CsvHelper.getCsvParser())
-                  .build();
-          var writer = new StringWriter()) {
-        String[] line;
-        while ((line = reader.readNext()) != null) {
-          var hrid = line[instanceHeaderNames.indexOf(INSTANCE_HRID)];
+    if (changedMarcData.isEmpty()) {
+      return content;
+    }
+    var hridIndex = instanceHeaderNames.indexOf(INSTANCE_HRID);
+    return CsvDownloadStreams.transformLines(
+        content,
+        (line, header) -> {
+          var hrid = line[hridIndex];
           if (StringUtils.isNotBlank(hrid) && changedMarcData.containsKey(hrid)) {
             for (var entry : changedMarcData.get(hrid).entrySet()) {
-              line[instanceHeaderNames.indexOf(entry.getKey())] = entry.getValue();
+              line[entry.getKey()] = entry.getValue();
             }
           }
           handleSpecialCharacters(line);
-          writer.write(String.join(",", line) + "\n");
-        }
-        writer.flush();
-        return writer.toString().getBytes();
-      } catch (Exception e) {
-        log.error(e.getMessage());
-      }
-    }
-    return content;
+          return line;
+        });
   }
 
-  private Map<String, Map<String, String>> getChangedMarcData(
+  private Map<String, Map<Integer, String>> getChangedMarcData(
       BulkOperation bulkOperation, String fileName) {
     var instanceHeaderNames =
         UnifiedTableHeaderBuilder.getEmptyTableWithHeaders(Instance.class).getHeader().stream()
             .map(Cell::getValue)
             .toList();
-    Map<String, Map<String, String>> result = new HashMap<>();
+    Map<String, Map<Integer, String>> result = new HashMap<>();
     if (nonNull(fileName)) {
       try (var reader =
           new CSVReaderBuilder(new InputStreamReader(remoteFileSystemClient.get(fileName)))
@@ -123,15 +137,21 @@ public class MarcCsvHelper {
         var changedOptionsSet =
             marc21ReferenceProvider.getChangedOptionsSetForCsv(
                 ruleService.getMarcRules(bulkOperation.getId()));
+        var changedPositions =
+            changedOptionsSet.stream()
+                .mapToInt(instanceHeaderNames::indexOf)
+                .filter(index -> index != -1)
+                .distinct()
+                .toArray();
+        var hridIndex = instanceHeaderNames.indexOf(INSTANCE_HRID);
         String[] line;
         while ((line = reader.readNext()) != null) {
           if (line.length == instanceHeaderNames.size()) {
-            var hrid = line[instanceHeaderNames.indexOf(INSTANCE_HRID)];
-            Map<String, String> changedValues = new HashMap<>();
-            for (var option : changedOptionsSet) {
-              var index = instanceHeaderNames.indexOf(option);
-              if (index != -1 && nonNull(line[index])) {
-                changedValues.put(option, line[index]);
+            var hrid = line[hridIndex];
+            Map<Integer, String> changedValues = new HashMap<>();
+            for (var index : changedPositions) {
+              if (nonNull(line[index])) {
+                changedValues.put(index, line[index]);
               }
             }
             if (!changedValues.isEmpty()) {
@@ -154,6 +174,22 @@ public class MarcCsvHelper {
     };
   }
 
+  /**
+   * Returns the layout of instance headers extended with the instance note types, compiled again
+   * only when the note types change.
+   */
+  private RowLayout getInstanceRowLayout() {
+    var noteTypes = instanceReferenceService.getAllInstanceNoteTypes();
+    var cached = instanceRowLayout;
+    if (isNull(cached) || !Objects.equals(cached.noteTypes(), noteTypes)) {
+      cached =
+          new InstanceRowLayout(
+              noteTypes, marcToUnifiedTableRowMapper.compile(getInstanceHeaderNames()));
+      instanceRowLayout = cached;
+    }
+    return cached.layout();
+  }
+
   private List<String> getInstanceHeaderNames() {
     var table = UnifiedTableHeaderBuilder.getEmptyTableWithHeaders(Instance.class);
     noteTableUpdater.extendTableWithInstanceNotesTypes(table, Collections.emptySet());
@@ -172,4 +208,6 @@ public class MarcCsvHelper {
       strings[i] = s;
     }
   }
+
+  private record InstanceRowLayout(List<InstanceNoteType> noteTypes, RowLayout layout) {}
 }
@@ -0,0 +1,149 @@
+package org.folio.bulkops.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of records in a MARC file by their control numbers (HRIDs of instances). Byte offset and
+ * length of every record are kept, so records of a preview page can be read by skipping bytes up
+ * to each of them instead of parsing the whole file.
+ */
+public final class MarcRecordIndex {
+  public static final String INDEX_FILE_SUFFIX = ".idx";
+
+  private static final byte RECORD_TERMINATOR = 0x1D;
+  private static final byte FIELD_TERMINATOR = 0x1E;
+  private static final int LEADER_LENGTH = 24;
+  private static final int DIRECTORY_ENTRY_LENGTH = 12;
+
+  private final Map<String, Location> locations;
+
+  private MarcRecordIndex(Map<String, Location> locations) {
+    this.locations = locations;
+  }
+
+  /** Location of the first record with the given control number. */
+  public Optional<Location> locationOf(String hrid) {
+    return Optional.ofNullable(locations.get(hrid));
+  }
+
+  public int size() {
+    return locations.size();
+  }
+
+  public byte[] toBytes() {
+    try (var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes)) {
+      out.writeInt(locations.size());
+      for (var entry : locations.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue().offset());
+        out.writeInt(entry.getValue().length());
+      }
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static MarcRecordIndex read(InputStream is) throws IOException {
+    var in = new DataInputStream(is);
+    var size = in.readInt();
+    var locations = HashMap.<String, Location>newHashMap(size);
+    for (var i = 0; i < size; i++) {
+      locations.put(in.readUTF(), new Location(in.readLong(), in.readInt()));
+    }
+    return new MarcRecordIndex(locations);
+  }
+
+  /**
+   * Reads control number of the record serialized in ISO 2709 format from the directory of the
+   * record, empty if the record has no control number or is malformed.
+   */
+  public static Optional<String> controlNumberOf(byte[] marcRecord) {
+    if (marcRecord.length < LEADER_LENGTH) {
+      return Optional.empty();
+    }
+    try {
+      var baseAddress = Math.min(parseNumber(marcRecord, 12, 5), marcRecord.length);
+      var entry = LEADER_LENGTH;
+      while (entry + DIRECTORY_ENTRY_LENGTH <= baseAddress
+          && marcRecord[entry] != FIELD_TERMINATOR) {
+        if (isControlNumberEntry(marcRecord, entry)) {
+          var length = parseNumber(marcRecord, entry + 3, 4);
+          var start = baseAddress + parseNumber(marcRecord, entry + 7, 5);
+          if (length < 1 || start + length > marcRecord.length) {
+            return Optional.empty();
+          }
+          return Optional.of(new String(marcRecord, start, length - 1, UTF_8));
+        }
+        entry += DIRECTORY_ENTRY_LENGTH;
+      }
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isControlNumberEntry(byte[] marcRecord, int entry) {
+    return marcRecord[entry] == '0' && marcRecord[entry + 1] == '0' && marcRecord[entry + 2] == '1';
+  }
+
+  private static int parseNumber(byte[] bytes, int offset, int length) {
+    return Integer.parseInt(new String(bytes, offset, length, US_ASCII));
+  }
+
+  /** Byte offset and length of a record in the file. */
+  public record Location(long offset, int length) {}
+
+  /**
+   * Collects locations of records while the file is being written. A record ends with the record
+   * terminator, its control number is read from its directory.
+   */
+  public static final class Builder {
+    private final Map<String, Location> locations = new HashMap<>();
+    private final StringBuilder chars = new StringBuilder();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private long position;
+
+    /** Accounts the next character of the file written in UTF-8. */
+    public void accept(char c) {
+      chars.append(c);
+      if (c == RECORD_TERMINATOR) {
+        addRecord(chars.toString().getBytes(UTF_8));
+        chars.setLength(0);
+      }
+    }
+
+    public void accept(byte[] buffer, int off, int len) {
+      for (var i = off; i < off + len; i++) {
+        bytes.write(buffer[i]);
+        if (buffer[i] == RECORD_TERMINATOR) {
+          addRecord(bytes.toByteArray());
+          bytes.reset();
+        }
+      }
+    }
+
+    private void addRecord(byte[] marcRecord) {
+      var location = new Location(position, marcRecord.length);
+      controlNumberOf(marcRecord).ifPresent(hrid -> locations.putIfAbsent(hrid, location));
+      position += marcRecord.length;
+    }
+
+    public MarcRecordIndex build() {
+      return new MarcRecordIndex(new HashMap<>(locations));
+    }
+  }
+}
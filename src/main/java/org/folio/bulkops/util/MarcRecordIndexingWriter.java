@@ -0,0 +1,53 @@
+package org.folio.bulkops.util;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writer of MARC file which builds {@link MarcRecordIndex} of written records. Written characters
+ * are accounted as UTF-8, the index is handed over to the consumer after the file is closed.
+ */
+public class MarcRecordIndexingWriter extends FilterWriter {
+  private final MarcRecordIndex.Builder indexBuilder = new MarcRecordIndex.Builder();
+  private final Consumer<MarcRecordIndex> indexConsumer;
+  private boolean closed;
+
+  public MarcRecordIndexingWriter(Writer out, Consumer<MarcRecordIndex> indexConsumer) {
+    super(out);
+    this.indexConsumer = indexConsumer;
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    out.write(c);
+    indexBuilder.accept((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    out.write(cbuf, off, len);
+    for (var i = off; i < off + len; i++) {
+      indexBuilder.accept(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    out.write(str, off, len);
+    for (var i = off; i < off + len; i++) {
+      indexBuilder.accept(str.charAt(i));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    out.close();
+    indexConsumer.accept(indexBuilder.build());
+  }
+}
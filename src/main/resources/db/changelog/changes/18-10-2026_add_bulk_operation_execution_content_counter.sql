@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS bulk_operation_execution_content_counter (
+  bulk_operation_id UUID NOT NULL,
+  error_type VARCHAR(128) NOT NULL,
+  num_of_records BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (bulk_operation_id, error_type),
+  CONSTRAINT fk_bulk_operation_execution_content_counter_bulk_operation
+    FOREIGN KEY (bulk_operation_id) REFERENCES bulk_operation(id) ON DELETE CASCADE
+);
+
+-- contents without error type are counted under an empty error type
+INSERT INTO bulk_operation_execution_content_counter (bulk_operation_id, error_type, num_of_records)
+SELECT bulk_operation_id, COALESCE(error_type, ''), COUNT(*)
+FROM bulk_operation_execution_content
+WHERE bulk_operation_id IS NOT NULL AND error_message IS NOT NULL
+GROUP BY bulk_operation_id, COALESCE(error_type, '')
+ON CONFLICT (bulk_operation_id, error_type) DO UPDATE SET num_of_records = EXCLUDED.num_of_records;
@@ -0,0 +1,2 @@
+ALTER TABLE bulk_operation_execution
+ADD COLUMN IF NOT EXISTS heartbeat TIMESTAMP;
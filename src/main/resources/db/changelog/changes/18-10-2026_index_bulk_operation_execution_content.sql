@@ -0,0 +1,6 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_execution_content_errors_idx
+ON bulk_operation_execution_content (bulk_operation_id, error_type, id)
+WHERE error_message IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_execution_content_identifier_idx
+ON bulk_operation_execution_content (bulk_operation_id, identifier);
@@ -1,11 +1,13 @@
 package org.folio.bulkops;
 
 import static java.lang.String.format;
+import static org.mockito.Mockito.mock;
 import static org.folio.bulkops.processor.folio.UserDataProcessor.DATE_TIME_FORMAT;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -58,6 +60,7 @@ import org.folio.bulkops.domain.dto.UpdateActionType;
 import org.folio.bulkops.domain.dto.UpdateOptionType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.processor.UserDeleteProcessor;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.s3.client.S3ClientFactory;
 import org.folio.s3.client.S3ClientProperties;
 import org.folio.spring.DefaultFolioExecutionContext;
@@ -148,7 +151,8 @@ public abstract class BaseTest {
                     .awsSdk(false)
                     .region(REGION)
                     .subPath(SUB_PATH)
-                    .build()));
+                    .build()),
+            new BulkOperationMetrics(new SimpleMeterRegistry(), mock(FolioExecutionContext.class)));
   }
 
   public static LocalDateTimeDeserializer localDateTimeDeserializer =
@@ -19,13 +19,18 @@ import static org.mockito.Mockito.when;
 import java.io.InputStream;
 import java.util.Optional;
 import java.util.UUID;
+import org.folio.bulkops.batch.jobs.processidentifiers.DuplicationCheckerFactory;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStoreFactory;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.BulkOperationsEntity;
 import org.folio.bulkops.domain.dto.OperationStatusType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.exception.ServerErrorException;
 import org.folio.bulkops.repository.BulkOperationRepository;
+import org.folio.bulkops.service.BulkOperationMetrics;
 import org.folio.bulkops.service.ErrorService;
+import org.folio.bulkops.service.JsonRecordIndexService;
+import org.folio.bulkops.service.MarcRecordIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -46,6 +51,11 @@ class JobCompletionNotificationListenerTest {
   @Mock private ErrorService errorService;
   @Mock private ObjectMapper objectMapper;
   @Mock private RemoteFileSystemClient remoteFileSystemClient;
+  @Mock private JsonRecordIndexService jsonRecordIndexService;
+  @Mock private MarcRecordIndexService marcRecordIndexService;
+  @Mock private DuplicationCheckerFactory duplicationCheckerFactory;
+  @Mock private MarcRecordStoreFactory marcRecordStoreFactory;
+  @Mock private BulkOperationMetrics bulkOperationMetrics;
   @InjectMocks private JobCompletionNotificationListener listener;
 
   private UUID bulkOperationId;
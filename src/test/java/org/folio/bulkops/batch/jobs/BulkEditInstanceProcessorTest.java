@@ -5,9 +5,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.bulkops.util.Constants.LINKED_DATA_SOURCE_IS_NOT_SUPPORTED;
 import static org.folio.bulkops.util.Constants.SRS_MISSING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -18,6 +22,8 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.folio.bulkops.batch.jobs.processidentifiers.DuplicationCheckerFactory;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStore;
+import org.folio.bulkops.batch.jobs.processidentifiers.MarcRecordStoreFactory;
 import org.folio.bulkops.client.InstanceClient;
 import org.folio.bulkops.client.SrsClient;
 import org.folio.bulkops.client.UserClient;
@@ -55,10 +61,12 @@ class BulkEditInstanceProcessorTest {
   @Mock private JobExecution jobExecution;
   @Mock private ConsortiaService consortiaService;
   @Mock private JsonToMarcConverter jsonToMarcConverter;
+  @Mock private MarcRecordStoreFactory marcRecordStoreFactory;
   @InjectMocks private SrsService srsService;
 
   private BulkEditInstanceProcessor processor;
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MarcRecordStore marcRecords = new MarcRecordStore(10, null);
 
   @BeforeEach
   void setUp() {
@@ -71,7 +79,8 @@ class BulkEditInstanceProcessorTest {
             userClient,
             duplicationCheckerFactory,
             srsService,
-            consortiaService);
+            consortiaService,
+            marcRecordStoreFactory);
     ReflectionTestUtils.setField(processor, "identifierType", IdentifierType.ID.getValue());
     ReflectionTestUtils.setField(processor, "jobExecution", jobExecution);
     when(folioExecutionContext.getTenantId()).thenReturn("tenant");
@@ -79,6 +88,7 @@ class BulkEditInstanceProcessorTest {
     when(duplicationCheckerFactory.getIdentifiersToCheckDuplication(any()))
         .thenReturn(new HashSet<>());
     when(duplicationCheckerFactory.getFetchedIds(any())).thenReturn(new HashSet<>());
+    when(marcRecordStoreFactory.getMarcRecords(any())).thenReturn(marcRecords);
   }
 
   @Test
@@ -114,6 +124,7 @@ class BulkEditInstanceProcessorTest {
     var srsJson =
         objectMapper.readTree(new File("src/test/resources/files/srs_response_for_validator.json"));
     when(srsClient.getMarc(instanceId, "INSTANCE", true)).thenReturn(srsJson);
+    when(jsonToMarcConverter.convertJsonRecordToMarcRecord(anyString())).thenReturn("marc");
 
     when(jobExecution.getExecutionContext()).thenReturn(new ExecutionContext());
 
@@ -121,6 +132,50 @@ class BulkEditInstanceProcessorTest {
 
     assertThat(result).hasSize(1);
     assertThat(result.getFirst().getEntity().getSource()).isEqualTo("MARC");
+    assertThat(marcRecords.take(instanceId)).contains("marc");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldValidateMarcRecordsOfInstancesResolvedInGroupWithOneRequest() {
+    ReflectionTestUtils.setField(processor, "identifiersBatchSize", 2);
+    var instances =
+        List.of(
+            Instance.builder().id("id6").source("MARC").title("First").build(),
+            Instance.builder().id("id7").source("MARC").title("Second").build());
+    when(instanceClient.getInstanceByQuery(anyString(), anyLong()))
+        .thenReturn(InstanceCollection.builder().instances(instances).totalRecords(2).build());
+    when(permissionsValidator.isBulkEditReadPermissionExists(anyString(), eq(EntityType.INSTANCE)))
+        .thenReturn(true);
+    var content =
+        objectMapper
+            .readTree(new File("src/test/resources/files/srs_response_for_validator.json"))
+            .get("sourceRecords")
+            .get(0)
+            .get("parsedRecord");
+    var records = objectMapper.createArrayNode();
+    for (var instance : instances) {
+      var srsRecord = records.addObject();
+      srsRecord.putObject("externalIdsHolder").put("instanceId", instance.getId());
+      srsRecord.set("parsedRecord", content);
+    }
+    var response = objectMapper.createObjectNode();
+    response.set("records", records);
+    when(srsClient.getParsedRecordsInBatch(any())).thenReturn(response);
+    when(jsonToMarcConverter.convertJsonRecordToMarcRecord(anyString())).thenReturn("marc");
+    when(jobExecution.getExecutionContext()).thenReturn(new ExecutionContext());
+
+    processor.afterRead(new ItemIdentifier().withItemId("id6"));
+    processor.afterRead(new ItemIdentifier().withItemId("id7"));
+    var first = processor.process(new ItemIdentifier().withItemId("id6"));
+    var second = processor.process(new ItemIdentifier().withItemId("id7"));
+
+    assertThat(first).hasSize(1);
+    assertThat(second).hasSize(1);
+    assertThat(marcRecords.take("id6")).contains("marc");
+    assertThat(marcRecords.take("id7")).contains("marc");
+    verify(srsClient, times(1)).getParsedRecordsInBatch(any());
+    verify(srsClient, never()).getMarc(anyString(), anyString(), anyBoolean());
   }
 
   @Test
@@ -10,6 +10,8 @@ import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
@@ -146,6 +148,49 @@ class BulkEditItemProcessorTest {
     assertThat(result.getExtendedItems().getFirst().getEntity().getId()).isEqualTo("itemId");
   }
 
+  @Test
+  void resolvesIdentifiersOfChunkWithOneRequestForLocalTenant() {
+    ReflectionTestUtils.setField(processor, "identifiersBatchSize", 50);
+    when(folioExecutionContext.getTenantId()).thenReturn("localTenant");
+    when(permissionsValidator.isBulkEditReadPermissionExists(anyString(), any())).thenReturn(true);
+    when(duplicationCheckerFactory.getIdentifiersToCheckDuplication(any()))
+        .thenReturn(new HashSet<>());
+    var first = new Item().withId("id1").withBarcode("barcode1").withHoldingsRecordId("h1");
+    var second = new Item().withId("id2").withBarcode("barcode2").withHoldingsRecordId("h2");
+    when(itemClient.getByQuery(anyString(), anyInt()))
+        .thenReturn(ItemCollection.builder().items(List.of(first, second)).totalRecords(2).build());
+    when(holdingsReferenceService.getHoldingsData(anyString(), anyString())).thenReturn(EMPTY);
+    var identifiers =
+        List.of(
+            new ItemIdentifier().withItemId("barcode1"),
+            new ItemIdentifier().withItemId("barcode2"));
+    identifiers.forEach(processor::afterRead);
+
+    var results = identifiers.stream().map(processor::process).toList();
+
+    assertThat(results.get(0).getExtendedItems().getFirst().getEntity().getId()).isEqualTo("id1");
+    assertThat(results.get(1).getExtendedItems().getFirst().getEntity().getId()).isEqualTo("id2");
+    verify(itemClient).getByQuery("barcode==(\"barcode1\" or \"barcode2\")", Integer.MAX_VALUE);
+  }
+
+  @Test
+  void resolvesIdentifierNotMatchedInChunkWithOwnRequest() {
+    ReflectionTestUtils.setField(processor, "identifiersBatchSize", 50);
+    when(folioExecutionContext.getTenantId()).thenReturn("localTenant");
+    when(permissionsValidator.isBulkEditReadPermissionExists(anyString(), any())).thenReturn(true);
+    when(duplicationCheckerFactory.getIdentifiersToCheckDuplication(any()))
+        .thenReturn(new HashSet<>());
+    when(itemClient.getByQuery(anyString(), anyInt()))
+        .thenReturn(ItemCollection.builder().items(List.of()).totalRecords(0).build());
+    var itemIdentifier = new ItemIdentifier().withItemId("notfound");
+    processor.afterRead(itemIdentifier);
+
+    assertThatThrownBy(() -> processor.process(itemIdentifier))
+        .isInstanceOf(BulkEditException.class)
+        .hasMessageContaining("No match found");
+    verify(itemClient, times(2)).getByQuery(anyString(), anyInt());
+  }
+
   @Test
   void throwsWhenDuplicateIdentifier() {
     ItemIdentifier itemIdentifier = new ItemIdentifier().withItemId("dupId");
@@ -0,0 +1,86 @@
+package org.folio.bulkops.batch.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IdentifierBatchTest {
+
+  private final List<List<String>> requests = new ArrayList<>();
+
+  @Test
+  void shouldResolveIdentifiersInGroupsOnFirstLookup() {
+    var batch = batchOf(2, Map.of("a", "1", "b", "2", "c", "3"));
+    List.of("a", "b", "c").forEach(batch::add);
+
+    assertThat(batch.lookup("a", records -> true)).contains(List.of("1"));
+    assertThat(batch.lookup("b", records -> true)).contains(List.of("2"));
+    assertThat(batch.lookup("c", records -> true)).contains(List.of("3"));
+    assertThat(requests).containsExactly(List.of("a", "b"), List.of("c"));
+  }
+
+  @Test
+  void shouldMatchIdentifiersIgnoringCaseAndAccents() {
+    var batch = batchOf(10, Map.of("ABC", "1", "café", "2"));
+    List.of("abc", "cafe").forEach(batch::add);
+
+    assertThat(batch.lookup("abc", records -> true)).contains(List.of("1"));
+    assertThat(batch.lookup("cafe", records -> true)).contains(List.of("2"));
+  }
+
+  @Test
+  void shouldNotServeMissingOrRejectedMatches() {
+    var batch = batchOf(10, Map.of("a", "1"));
+    List.of("a", "b").forEach(batch::add);
+
+    assertThat(batch.lookup("a", records -> records.size() > 1)).isEmpty();
+    assertThat(batch.lookup("b", records -> true)).isEmpty();
+    assertThat(batch.lookup("unknown", records -> true)).isEmpty();
+  }
+
+  @Test
+  void shouldNotServeIdentifiersOfFailedGroups() {
+    var batch =
+        new IdentifierBatch<String>(
+            10,
+            ids -> {
+              throw new IllegalStateException("unavailable");
+            },
+            List::of);
+    batch.add("a");
+
+    assertThat(batch.lookup("a", records -> true)).isEmpty();
+  }
+
+  @Test
+  void shouldNotCollectIdentifiersIfDisabled() {
+    var batch = batchOf(0, Map.of("a", "1"));
+    batch.add("a");
+
+    assertThat(batch.lookup("a", records -> true)).isEmpty();
+    assertThat(requests).isEmpty();
+  }
+
+  @Test
+  void shouldBuildExactMatchOfAnyValue() {
+    assertThat(IdentifierBatch.exactMatchAny("barcode", List.of("a", "b\"c")))
+        .isEqualTo("barcode==(\"a\" or \"b\\\"c\")");
+  }
+
+  private IdentifierBatch<String> batchOf(int batchSize, Map<String, String> records) {
+    return new IdentifierBatch<>(
+        batchSize,
+        ids -> {
+          requests.add(ids);
+          return List.copyOf(records.values());
+        },
+        value ->
+            records.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(value))
+                .map(Map.Entry::getKey)
+                .toList());
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.bulkops.batch.jobs.processidentifiers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IdentifierSetTest {
+
+  @TempDir Path spillDirectory;
+
+  @Test
+  void shouldDetectDuplicateUuidsAndStrings() {
+    try (var identifiers = new IdentifierSet(4, 1000, spillDirectory)) {
+      var id = UUID.randomUUID().toString();
+
+      assertThat(identifiers.add(id)).isTrue();
+      assertThat(identifiers.add(id)).isFalse();
+      assertThat(identifiers.add("10101")).isTrue();
+      assertThat(identifiers.add("10101")).isFalse();
+      assertThat(identifiers.add("00000000-0000-0000-0000-000000000000")).isTrue();
+      assertThat(identifiers.add("00000000-0000-0000-0000-000000000000")).isFalse();
+      assertThat(identifiers.size()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void shouldKeepUuidsDifferingInCaseDistinct() {
+    try (var identifiers = new IdentifierSet(4, 1000, spillDirectory)) {
+      var id = "0b6c2d7e-9f1a-4c3b-8d5e-a1b2c3d4e5f6";
+      var upperCase = id.toUpperCase();
+      var mixedCase = "0B6C2D7E-9f1a-4c3b-8d5e-A1B2C3D4E5F6";
+
+      assertThat(identifiers.add(id)).isTrue();
+      assertThat(identifiers.add(upperCase)).isTrue();
+      assertThat(identifiers.add(mixedCase)).isTrue();
+      assertThat(identifiers.add(id)).isFalse();
+      assertThat(identifiers.add(upperCase)).isFalse();
+      assertThat(identifiers.add(mixedCase)).isFalse();
+      assertThat(identifiers.size()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void shouldDetectDuplicatesOfSpilledIdentifiers() throws Exception {
+    try (var identifiers = new IdentifierSet(2, 100, spillDirectory)) {
+      IntStream.range(0, 5000).forEach(i -> assertThat(identifiers.add("barcode" + i)).isTrue());
+
+      assertThat(identifiers.spilledSize()).isPositive();
+      IntStream.range(0, 5000).forEach(i -> assertThat(identifiers.add("barcode" + i)).isFalse());
+      assertThat(identifiers.add("barcode5000")).isTrue();
+      assertThat(identifiers.size()).isEqualTo(5001);
+      try (var files = Files.walk(spillDirectory)) {
+        assertThat(files.filter(Files::isRegularFile).count()).isPositive();
+      }
+    }
+    try (var files = Files.walk(spillDirectory)) {
+      assertThat(files.filter(Files::isRegularFile).count()).isZero();
+    }
+  }
+
+  @Test
+  void shouldAddEachIdentifierOnceWhenAddedConcurrently() throws Exception {
+    var added = new AtomicInteger();
+    try (var identifiers = new IdentifierSet(8, 500, spillDirectory);
+        var executor = Executors.newFixedThreadPool(4)) {
+      var ids = IntStream.range(0, 2000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+      for (int thread = 0; thread < 4; thread++) {
+        executor.submit(
+            () ->
+                ids.forEach(
+                    id -> {
+                      if (identifiers.add(id)) {
+                        added.incrementAndGet();
+                      }
+                    }));
+      }
+      executor.shutdown();
+      assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+      assertThat(added.get()).isEqualTo(2000);
+      assertThat(identifiers.size()).isEqualTo(2000);
+    }
+  }
+
+  @Test
+  void shouldRejectAdditionsAfterClose() {
+    var identifiers = new IdentifierSet(1, 10, spillDirectory);
+    identifiers.close();
+
+    assertThatThrownBy(() -> identifiers.add("id")).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.bulkops.batch.jobs.processidentifiers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MarcRecordStoreTest {
+
+  @TempDir Path spillDirectory;
+
+  @Test
+  void shouldTakeEachRecordOnce() {
+    try (var marcRecords = new MarcRecordStore(10, spillDirectory)) {
+      marcRecords.put("id1", "record1");
+      marcRecords.put("id1", "record1-updated");
+      marcRecords.put("id2", null);
+
+      assertThat(marcRecords.size()).isEqualTo(1);
+      assertThat(marcRecords.take("id1")).contains("record1-updated");
+      assertThat(marcRecords.take("id1")).isEmpty();
+      assertThat(marcRecords.take("id2")).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldReadBackSpilledRecordsAndDeleteSpillFileOnClose() throws Exception {
+    try (var marcRecords = new MarcRecordStore(2, spillDirectory)) {
+      IntStream.range(0, 100).forEach(i -> marcRecords.put("id" + i, "récord\u001e" + i));
+
+      assertThat(marcRecords.size()).isEqualTo(100);
+      try (var files = Files.walk(spillDirectory)) {
+        assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+      }
+      IntStream.range(0, 100)
+          .forEach(i -> assertThat(marcRecords.take("id" + i)).contains("récord\u001e" + i));
+      assertThat(marcRecords.size()).isZero();
+    }
+    try (var files = Files.walk(spillDirectory)) {
+      assertThat(files.filter(Files::isRegularFile).count()).isZero();
+    }
+  }
+
+  @Test
+  void shouldIgnoreRecordsPutAfterClose() {
+    var marcRecords = new MarcRecordStore(10, spillDirectory);
+    marcRecords.close();
+
+    marcRecords.put("id1", "record1");
+
+    assertThat(marcRecords.take("id1")).isEmpty();
+  }
+}
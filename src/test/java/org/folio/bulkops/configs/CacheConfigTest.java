@@ -0,0 +1,118 @@
+package org.folio.bulkops.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.bulkops.configs.CacheProperties.CachePolicy;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+class CacheConfigTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private FolioExecutionContext folioExecutionContext;
+  private CacheConfig cacheConfig;
+  private CacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    folioExecutionContext = mock(FolioExecutionContext.class);
+    var referenceData = new CachePolicy();
+    referenceData.setCaches(Set.of("locations"));
+    referenceData.setExpireAfterWrite(Duration.ofMinutes(60));
+    referenceData.setRefreshAfterWrite(Duration.ofMillis(50));
+    referenceData.setMaximumSize(100L);
+    var cacheProperties = new CacheProperties();
+    cacheProperties.setPolicies(Map.of("reference-data", referenceData));
+    cacheConfig =
+        new CacheConfig(
+            cacheProperties, folioExecutionContext, mock(FolioModuleMetadata.class), meterRegistry);
+    cacheManager = cacheConfig.cacheManager(cacheConfig.caffeineConfig());
+  }
+
+  @Test
+  void shouldScopeKeysByTenant() throws NoSuchMethodException {
+    var keyGenerator = cacheConfig.keyGenerator();
+    var method = ReferenceClient.class.getMethod("getName", String.class);
+    var client = new ReferenceClient();
+
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var dikuKey = keyGenerator.generate(client, method, "id");
+    when(folioExecutionContext.getTenantId()).thenReturn("college");
+    var collegeKey = keyGenerator.generate(client, method, "id");
+
+    assertThat(dikuKey).isNotEqualTo(collegeKey);
+    assertThat(keyGenerator.generate(client, method, "id"))
+        .isEqualTo(collegeKey)
+        .isEqualTo(keyGenerator.keyFor("id"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldApplyPolicyOfCache() {
+    var locations = (Cache<Object, Object>) cacheManager.getCache("locations").getNativeCache();
+    var others = (Cache<Object, Object>) cacheManager.getCache("userNames").getNativeCache();
+
+    assertThat(locations.policy().eviction()).isPresent();
+    assertThat(locations.policy().refreshAfterWrite()).isPresent();
+    assertThat(locations.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(60));
+    assertThat(others.policy().eviction()).isEmpty();
+    assertThat(others.policy().refreshAfterWrite()).isEmpty();
+    assertThat(others.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void shouldRefreshEntriesAheadOfExpiration() throws NoSuchMethodException {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var client = new ReferenceClient();
+    var key =
+        cacheConfig
+            .keyGenerator()
+            .generate(client, ReferenceClient.class.getMethod("getName", String.class), "id");
+    var cache = cacheManager.getCache("locations");
+
+    assertThat(cache.get(key).get()).isEqualTo("name-1");
+    await()
+        .pollDelay(Duration.ofMillis(100))
+        .untilAsserted(() -> assertThat(cache.get(key).get()).isEqualTo("name-2"));
+  }
+
+  @Test
+  void shouldMissEntriesOfKeysWithoutInvocation() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+
+    var cache = cacheManager.getCache("locations");
+
+    assertThat(cache.get(cacheConfig.keyGenerator().keyFor("id"))).isNull();
+  }
+
+  @Test
+  void shouldExposeCacheMetrics() {
+    cacheManager.getCache("userNames").get("id");
+
+    assertThat(meterRegistry.find("cache.gets").tag("cache", "userNames").meters()).isNotEmpty();
+    assertThat(meterRegistry.find("cache.evictions").tag("cache", "userNames").meters())
+        .isNotEmpty();
+  }
+
+  public static class ReferenceClient {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public String getName(String id) {
+      return "name-" + calls.incrementAndGet();
+    }
+  }
+}
@@ -159,8 +159,10 @@ class BulkOperationControllerTest extends BaseTest {
     when(consortiaService.isTenantCentral(any())).thenReturn(false);
     when(remoteFileSystemClient.get(any(String.class)))
         .thenReturn(new ByteArrayInputStream(content.getBytes()));
-    when(itemNoteProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
-    when(holdingsNotesProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
+    when(itemNoteProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
+    when(holdingsNotesProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
 
     try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
       var operationId = UUID.randomUUID();
@@ -209,8 +211,10 @@ class BulkOperationControllerTest extends BaseTest {
                 .linkToCommittedRecordsMarcFile(mrcfileName)
                 .entityType(entityType)
                 .build());
-    when(itemNoteProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
-    when(holdingsNotesProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
+    when(itemNoteProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
+    when(holdingsNotesProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
 
     var result =
         mockMvc
@@ -265,8 +269,10 @@ class BulkOperationControllerTest extends BaseTest {
                 .linkToCommittedRecordsMarcFile(mrcfileName)
                 .entityType(entityType)
                 .build());
-    when(itemNoteProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
-    when(holdingsNotesProcessor.processCsvContent(any(), any())).thenReturn(content.getBytes());
+    when(itemNoteProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
+    when(holdingsNotesProcessor.processCsvStream(any(), any()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
 
     var result =
         mockMvc
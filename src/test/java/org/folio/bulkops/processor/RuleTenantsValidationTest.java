@@ -0,0 +1,115 @@
+package org.folio.bulkops.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.dto.UpdateActionType.SET_TO_TRUE;
+import static org.folio.bulkops.domain.dto.UpdateOptionType.SUPPRESS_FROM_DISCOVERY;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.folio.bulkops.domain.bean.ExtendedHoldingsRecord;
+import org.folio.bulkops.domain.bean.ExtendedItem;
+import org.folio.bulkops.domain.bean.HoldingsRecord;
+import org.folio.bulkops.domain.bean.HoldingsRecordsSource;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.dto.Action;
+import org.folio.bulkops.domain.dto.BulkOperationRule;
+import org.folio.bulkops.domain.dto.RuleDetails;
+import org.folio.bulkops.exception.RuleValidationTenantsException;
+import org.folio.bulkops.processor.folio.HoldingsDataProcessor;
+import org.folio.bulkops.processor.folio.ItemDataProcessor;
+import org.folio.bulkops.service.ConsortiaService;
+import org.folio.bulkops.service.HoldingsReferenceService;
+import org.junit.jupiter.api.Test;
+
+/** Rules of an operation are shared by the batches of the confirm which run in parallel. */
+class RuleTenantsValidationTest {
+  private static final int THREADS = 8;
+  private static final int RECORDS_PER_THREAD = 2000;
+
+  private final Action action =
+      new Action().type(SET_TO_TRUE).tenants(new ArrayList<>(List.of("memberA", "memberC")));
+  private final BulkOperationRule rule =
+      new BulkOperationRule()
+          .ruleDetails(
+              new RuleDetails()
+                  .option(SUPPRESS_FROM_DISCOVERY)
+                  .tenants(new ArrayList<>(List.of("memberA", "memberB"))));
+
+  @Test
+  void shouldValidateItemsOfEcsRuleConcurrentlyWithoutChangingRule() throws Exception {
+    var processor = new ItemDataProcessor(null, null, null, mock(ConsortiaService.class));
+
+    var rejected =
+        validateConcurrently(
+            tenant ->
+                processor
+                    .validator(ExtendedItem.builder().entity(new Item()).tenantId(tenant).build())
+                    .validate(SUPPRESS_FROM_DISCOVERY, action, rule));
+
+    assertThat(rejected).containsExactlyInAnyOrder("memberB", "memberC");
+    assertThat(rule.getRuleDetails().getTenants()).containsExactly("memberA", "memberB");
+  }
+
+  @Test
+  void shouldValidateHoldingsOfEcsRuleConcurrentlyWithoutChangingRule() throws Exception {
+    var holdingsReferenceService = mock(HoldingsReferenceService.class);
+    var sourceId = UUID.randomUUID().toString();
+    when(holdingsReferenceService.getSourceById(sourceId))
+        .thenReturn(HoldingsRecordsSource.builder().name("FOLIO").build());
+    var processor =
+        new HoldingsDataProcessor(
+            null, holdingsReferenceService, null, null, null, mock(ConsortiaService.class), null);
+
+    var rejected =
+        validateConcurrently(
+            tenant ->
+                processor
+                    .validator(
+                        ExtendedHoldingsRecord.builder()
+                            .entity(HoldingsRecord.builder().sourceId(sourceId).build())
+                            .tenantId(tenant)
+                            .build())
+                    .validate(SUPPRESS_FROM_DISCOVERY, action, rule));
+
+    assertThat(rejected).containsExactlyInAnyOrder("memberB", "memberC");
+    assertThat(rule.getRuleDetails().getTenants()).containsExactly("memberA", "memberB");
+  }
+
+  /** Validates records of all tenants on parallel threads and returns the rejected tenants. */
+  private List<String> validateConcurrently(TenantValidation validation) throws Exception {
+    var tenants = List.of("memberA", "memberB", "memberC");
+    var tasks = new ArrayList<Callable<List<String>>>();
+    for (var thread = 0; thread < THREADS; thread++) {
+      tasks.add(
+          () -> {
+            var rejected = new ArrayList<String>();
+            for (var i = 0; i < RECORDS_PER_THREAD; i++) {
+              var tenant = tenants.get(i % tenants.size());
+              try {
+                validation.validate(tenant);
+              } catch (RuleValidationTenantsException e) {
+                rejected.add(tenant);
+              }
+            }
+            return rejected;
+          });
+    }
+    var rejected = new ArrayList<String>();
+    try (var executor = Executors.newFixedThreadPool(THREADS)) {
+      for (var result : executor.invokeAll(tasks)) {
+        rejected.addAll(result.get());
+      }
+    }
+    return rejected.stream().distinct().toList();
+  }
+
+  @FunctionalInterface
+  private interface TenantValidation {
+    void validate(String tenant) throws Exception;
+  }
+}
@@ -106,4 +106,23 @@ class UserDataProcessorTest extends BaseTest {
     assertEquals(newPatronGroupId, result.getUpdated().getPatronGroup());
     assertEquals("test@mail.com", result.getUpdated().getPersonal().getEmail());
   }
+
+  @Test
+  void shouldApplyCompiledRulePlanToEveryRecord() {
+    var plan =
+        processor.compile(
+            rules(
+                rule(EMAIL_ADDRESS, FIND_AND_REPLACE, "@test", "@mail"),
+                rule(EXPIRATION_DATE, REPLACE_WITH, "2023-12-08T23:59:59.000+00:00")));
+
+    assertEquals(2, plan.getActions().size());
+    for (var email : new String[] {"first@test.com", "second@test.com"}) {
+      var user = new User().withPersonal(new Personal().withEmail(email));
+
+      var result = processor.process(IDENTIFIER, user, plan);
+
+      assertEquals(email.replace("@test", "@mail"), result.getUpdated().getPersonal().getEmail());
+      assertNotNull(result.getUpdated().getExpirationDate());
+    }
+  }
 }
@@ -0,0 +1,177 @@
+package org.folio.bulkops.processor.folio;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.patchRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.UUID;
+import org.folio.bulkops.client.ItemClient;
+import org.folio.bulkops.client.ItemStorageClient;
+import org.folio.bulkops.domain.bean.ExtendedItem;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.dto.BulkOperationRule;
+import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.dto.RuleDetails;
+import org.folio.bulkops.domain.dto.UpdateOptionType;
+import org.folio.bulkops.exception.RecordConflictException;
+import org.folio.bulkops.exception.RestClientErrorHandler;
+import org.folio.bulkops.exception.WritePermissionDoesNotExist;
+import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
+import org.folio.bulkops.service.ConsortiaService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+class ItemUpdateProcessorTest {
+  private static final String TENANT_ID = "diku";
+  private static final String BATCH_URL = "/item-storage/items";
+
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private final ConsortiaService consortiaService = mock(ConsortiaService.class);
+  private final PermissionsValidator permissionsValidator = mock(PermissionsValidator.class);
+  private final BulkOperationRuleCollection rules =
+      new BulkOperationRuleCollection()
+          .bulkOperationRules(
+              List.of(
+                  new BulkOperationRule()
+                      .ruleDetails(
+                          new RuleDetails().option(UpdateOptionType.SUPPRESS_FROM_DISCOVERY))));
+  private WireMockServer wireMockServer;
+  private ItemUpdateProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    wireMockServer = new WireMockServer(0);
+    wireMockServer.start();
+
+    var errorHandler = new RestClientErrorHandler();
+    var restClient =
+        RestClient.builder()
+            .baseUrl(wireMockServer.baseUrl())
+            .requestFactory(
+                new JdkClientHttpRequestFactory(
+                    HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()))
+            .defaultStatusHandler(HttpStatusCode::isError, errorHandler::handle)
+            .build();
+    var factory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    processor =
+        new ItemUpdateProcessor(
+            factory.createClient(ItemClient.class),
+            factory.createClient(ItemStorageClient.class),
+            mock(FolioModuleMetadata.class),
+            folioExecutionContext,
+            consortiaService,
+            permissionsValidator);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (wireMockServer != null && wireMockServer.isRunning()) {
+      wireMockServer.stop();
+    }
+  }
+
+  @Test
+  void shouldPatchItemsWithSingleStorageRequest() {
+    var items = List.of(item(), item(), item());
+    wireMockServer.stubFor(patch(urlEqualTo(BATCH_URL)).willReturn(aResponse().withStatus(204)));
+
+    var errors = processor.updateRecords(items, rules);
+
+    assertEquals(3, errors.size());
+    errors.forEach(error -> assertNull(error));
+    wireMockServer.verify(
+        1,
+        patchRequestedFor(urlEqualTo(BATCH_URL))
+            .withRequestBody(matchingJsonPath("$.items[0].id", equalTo(idOf(items.get(0)))))
+            .withRequestBody(matchingJsonPath("$.items[2].id", equalTo(idOf(items.get(2)))))
+            .withRequestBody(matchingJsonPath("$.items[1].discoverySuppress")));
+    wireMockServer.verify(0, patchRequestedFor(urlMatching("/inventory/items/.*")));
+  }
+
+  @Test
+  void shouldPatchItemsOneByOneWhenBatchIsRejected() {
+    var items = List.of(item(), item(), item());
+    var conflictingUrl = "/inventory/items/" + idOf(items.get(1));
+    wireMockServer.stubFor(
+        patch(urlEqualTo(BATCH_URL))
+            .willReturn(aResponse().withStatus(409).withBody("Batch conflict")));
+    wireMockServer.stubFor(
+        patch(urlMatching("/inventory/items/.*")).willReturn(aResponse().withStatus(204)));
+    wireMockServer.stubFor(
+        patch(urlEqualTo(conflictingUrl))
+            .willReturn(aResponse().withStatus(409).withBody("Stored _version is 3")));
+
+    var errors = processor.updateRecords(items, rules);
+
+    assertNull(errors.get(0));
+    var conflict = assertInstanceOf(RecordConflictException.class, errors.get(1));
+    assertEquals("Stored _version is 3", conflict.getMessage());
+    assertNull(errors.get(2));
+    wireMockServer.verify(1, patchRequestedFor(urlEqualTo(BATCH_URL)));
+    wireMockServer.verify(3, patchRequestedFor(urlMatching("/inventory/items/.*")));
+  }
+
+  @Test
+  void shouldPatchSingleItemWithoutStorageRequest() {
+    var item = item();
+    wireMockServer.stubFor(
+        patch(urlMatching("/inventory/items/.*")).willReturn(aResponse().withStatus(204)));
+
+    processor.updateRecord(item, rules);
+
+    wireMockServer.verify(
+        1,
+        patchRequestedFor(urlEqualTo("/inventory/items/" + idOf(item)))
+            .withRequestBody(matchingJsonPath("$.discoverySuppress")));
+    wireMockServer.verify(0, patchRequestedFor(urlEqualTo(BATCH_URL)));
+  }
+
+  @Test
+  void shouldFailAllItemsOfTenantWithoutWritePermission() {
+    var items = List.of(item(), item());
+    var exception = new WritePermissionDoesNotExist("No permission");
+    doThrow(exception)
+        .when(permissionsValidator)
+        .checkIfBulkEditWritePermissionExists(eq(TENANT_ID), eq(EntityType.ITEM), anyString());
+
+    var errors = processor.updateRecords(items, rules);
+
+    assertEquals(List.of(exception, exception), errors);
+    wireMockServer.verify(0, patchRequestedFor(urlMatching("/.*")));
+  }
+
+  private ExtendedItem item() {
+    var item =
+        Item.builder().id(UUID.randomUUID().toString()).version(1).discoverySuppress(true).build();
+    return ExtendedItem.builder().entity(item).tenantId(TENANT_ID).build();
+  }
+
+  private String idOf(ExtendedItem item) {
+    return item.getEntity().getId();
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.bulkops.processor.folio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.bulkops.processor.folio.ItemsNotesUpdater.ITEM_NOTE_TYPE_ID_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.folio.bulkops.domain.bean.ExtendedItem;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.bean.ItemNote;
+import org.folio.bulkops.domain.dto.Action;
+import org.folio.bulkops.domain.dto.Parameter;
+import org.folio.bulkops.domain.dto.UpdateActionType;
+import org.folio.bulkops.domain.dto.UpdateOptionType;
+import org.folio.bulkops.exception.BulkOperationException;
+import org.junit.jupiter.api.Test;
+
+class ItemsNotesUpdaterTest {
+  private final ItemsNotesUpdater itemsNotesUpdater =
+      new ItemsNotesUpdater(new AdministrativeNotesUpdater());
+
+  @Test
+  void shouldResolveNoteTypeWhenUpdaterIsBuilt() throws BulkOperationException {
+    var noteTypeId = UUID.randomUUID().toString();
+    var action =
+        new Action()
+            .type(UpdateActionType.ADD_TO_EXISTING)
+            .updated("new note")
+            .parameters(
+                new ArrayList<>(
+                    List.of(new Parameter().key(ITEM_NOTE_TYPE_ID_KEY).value(noteTypeId))));
+
+    var updater = itemsNotesUpdater.updateNotes(action, UpdateOptionType.ITEM_NOTE).orElseThrow();
+    action.getParameters().clear();
+    var first = item();
+    var second = item();
+    updater.apply(first);
+    updater.apply(second);
+
+    assertThat(List.of(first, second))
+        .allSatisfy(
+            extendedItem ->
+                assertThat(extendedItem.getEntity().getNotes())
+                    .extracting(ItemNote::getItemNoteTypeId, ItemNote::getNote)
+                    .containsExactly(tuple(noteTypeId, "new note")));
+  }
+
+  private ExtendedItem item() {
+    return ExtendedItem.builder().entity(Item.builder().build()).tenantId("diku").build();
+  }
+}
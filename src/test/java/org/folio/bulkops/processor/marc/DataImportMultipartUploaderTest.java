@@ -0,0 +1,120 @@
+package org.folio.bulkops.processor.marc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.folio.bulkops.client.DataImportClient;
+import org.folio.bulkops.client.DataImportRestS3UploadClient;
+import org.folio.bulkops.domain.bean.UploadUrlResponse;
+import org.folio.bulkops.service.CommitWindowExecutor;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class DataImportMultipartUploaderTest {
+  private static final int PART_SIZE = 5 * 1024 * 1024;
+  private static final UploadUrlResponse FIRST_PART_URL =
+      UploadUrlResponse.builder().url("url-1").key("key").uploadId("uploadId").build();
+
+  @Mock private DataImportClient dataImportClient;
+  @Mock private DataImportRestS3UploadClient dataImportRestS3UploadClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private CommitWindowExecutor commitWindowExecutor;
+  private DataImportMultipartUploader uploader;
+
+  @BeforeEach
+  void setUp() {
+    commitWindowExecutor = new CommitWindowExecutor();
+    ReflectionTestUtils.setField(commitWindowExecutor, "workers", 4);
+    ReflectionTestUtils.setField(commitWindowExecutor, "windowSize", 8);
+    ReflectionTestUtils.setField(commitWindowExecutor, "maxConcurrentPerTenant", 4);
+    commitWindowExecutor.init();
+    uploader =
+        new DataImportMultipartUploader(
+            dataImportClient,
+            dataImportRestS3UploadClient,
+            commitWindowExecutor,
+            folioExecutionContext);
+    ReflectionTestUtils.setField(uploader, "partSizeMb", 5);
+    ReflectionTestUtils.setField(uploader, "maxConcurrentParts", 2);
+    ReflectionTestUtils.setField(uploader, "maxAttempts", 2);
+    ReflectionTestUtils.setField(uploader, "retryDelayMs", 1L);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+  }
+
+  @AfterEach
+  void tearDown() {
+    commitWindowExecutor.shutdown();
+  }
+
+  @Test
+  void shouldUploadPartsAndRetryFailedPart() throws IOException {
+    var content = new byte[2 * PART_SIZE + 10];
+    Arrays.fill(content, PART_SIZE, 2 * PART_SIZE, (byte) 1);
+    mockSubsequentUrls();
+    when(dataImportRestS3UploadClient.uploadFile(eq("url-1"), any(byte[].class)))
+        .thenReturn(response("etag-1"));
+    when(dataImportRestS3UploadClient.uploadFile(eq("url-2"), any(byte[].class)))
+        .thenThrow(new ResourceAccessException("Connection reset"))
+        .thenReturn(response("etag-2"));
+    when(dataImportRestS3UploadClient.uploadFile(eq("url-3"), any(byte[].class)))
+        .thenReturn(response("etag-3"));
+
+    var etags = uploader.upload(FIRST_PART_URL, new ByteArrayInputStream(content));
+
+    assertThat(etags).containsExactly("etag-1", "etag-2", "etag-3");
+    verify(dataImportClient, times(1)).getUploadUrlForSubsequentPart("key", "uploadId", 2);
+    verify(dataImportClient, times(1)).getUploadUrlForSubsequentPart("key", "uploadId", 3);
+    verify(dataImportRestS3UploadClient, times(2))
+        .uploadFile(eq("url-2"), eq(Arrays.copyOfRange(content, PART_SIZE, 2 * PART_SIZE)));
+    verify(dataImportRestS3UploadClient)
+        .uploadFile(eq("url-3"), eq(Arrays.copyOfRange(content, 2 * PART_SIZE, content.length)));
+  }
+
+  @Test
+  void shouldFailUploadOncePartAttemptsAreExhausted() {
+    when(dataImportRestS3UploadClient.uploadFile(anyString(), any(byte[].class)))
+        .thenThrow(new ResourceAccessException("Connection reset"));
+
+    var content = new ByteArrayInputStream(new byte[10]);
+    var exception =
+        assertThrows(IOException.class, () -> uploader.upload(FIRST_PART_URL, content));
+
+    assertThat(exception.getMessage()).contains("part 1", "2 attempts");
+    verify(dataImportRestS3UploadClient, times(2)).uploadFile(eq("url-1"), any(byte[].class));
+  }
+
+  private void mockSubsequentUrls() {
+    when(dataImportClient.getUploadUrlForSubsequentPart(eq("key"), eq("uploadId"), anyInt()))
+        .thenAnswer(
+            invocation ->
+                UploadUrlResponse.builder().url("url-" + invocation.getArgument(2)).build());
+  }
+
+  private static ResponseEntity<String> response(String etag) {
+    var headers = new HttpHeaders();
+    headers.add(HttpHeaders.ETAG, etag);
+    return new ResponseEntity<>(headers, HttpStatus.OK);
+  }
+}
@@ -1,6 +1,6 @@
 package org.folio.bulkops.processor.marc;
 
-import static java.util.Collections.singletonList;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.bulkops.util.Constants.ENRICHED_PREFIX;
 import static org.mockito.ArgumentMatchers.any;
@@ -9,15 +9,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.folio.bulkops.BaseTest;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.service.ConsortiaService;
+import org.folio.bulkops.service.MarcRemoteStorageWriter;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -46,12 +47,16 @@ class MarcFlowCommitProcessorTest extends BaseTest {
             .build();
 
     when(remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsCsvFile()))
-        .thenReturn(new FileInputStream("src/test/resources/files/committed_marc_instance.csv"));
+        .thenAnswer(
+            invocation ->
+                new FileInputStream("src/test/resources/files/committed_marc_instance.csv"));
     when(remoteFileSystemClient.get(bulkOperation.getLinkToCommittedRecordsMarcFile()))
         .thenReturn(new FileInputStream("src/test/resources/files/committed_marc_record.mrc"));
     when(remoteFileSystemClient.get(bulkOperation.getLinkToMatchedRecordsJsonFile()))
         .thenReturn(new FileInputStream("src/test/resources/files/matched_marc_instances.json"));
     when(consortiaService.isTenantCentral(any())).thenReturn(isCentralTenant);
+    var writer = new StringWriter();
+    when(remoteFileSystemClient.writer(anyString())).thenReturn(writer);
 
     var csvHrids = marcFlowCommitProcessor.getUpdatedInventoryInstanceHrids(bulkOperation);
     var marcHrids = marcFlowCommitProcessor.getUpdatedMarcInstanceHrids(bulkOperation);
@@ -61,14 +66,19 @@ class MarcFlowCommitProcessorTest extends BaseTest {
           bulkOperation, csvHrids, marcHrids);
     }
 
-    var contentCaptor = ArgumentCaptor.forClass(InputStream.class);
     var pathCaptor = ArgumentCaptor.forClass(String.class);
 
     verify(remoteFileSystemClient).remove(pathToCommittedCsv);
-    verify(remoteFileSystemClient).put(contentCaptor.capture(), pathCaptor.capture());
-    assertThat(contentCaptor.getValue()).isInstanceOf(SequenceInputStream.class);
+    verify(remoteFileSystemClient).writer(pathCaptor.capture());
     assertThat(pathCaptor.getValue()).startsWith(ENRICHED_PREFIX);
     assertThat(bulkOperation.getLinkToCommittedRecordsCsvFile()).startsWith(ENRICHED_PREFIX);
+    var committedCsvLines =
+        Files.readAllLines(Path.of("src/test/resources/files/committed_marc_instance.csv"));
+    var enrichedCsvLines = writer.toString().lines().toList();
+    assertThat(enrichedCsvLines).startsWith(committedCsvLines.toArray(String[]::new));
+    assertThat(enrichedCsvLines.subList(committedCsvLines.size(), enrichedCsvLines.size()))
+        .isNotEmpty()
+        .noneMatch(line -> line.startsWith("Instance UUID"));
   }
 
   @Test
@@ -92,7 +102,7 @@ class MarcFlowCommitProcessorTest extends BaseTest {
 
     try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
       marcFlowCommitProcessor.enrichCommittedCsvWithUpdatedMarcRecords(
-          bulkOperation, singletonList("hrid1"), singletonList("hrid3"));
+          bulkOperation, singleton("hrid1"), singleton("hrid3"));
     }
 
     assertThat(bulkOperation.getLinkToCommittedRecordsCsvFile()).isNotNull();
@@ -123,17 +133,22 @@ class MarcFlowCommitProcessorTest extends BaseTest {
         .thenReturn(new FileInputStream("src/test/resources/files/committed_marc_record.mrc"));
     when(remoteFileSystemClient.get(bulkOperation.getLinkToMatchedRecordsMarcFile()))
         .thenReturn(new FileInputStream("src/test/resources/files/matched_marc_records.mrc"));
+    var writer = new StringWriter();
+    when(remoteFileSystemClient.marcWriter(anyString()))
+        .thenReturn(new MarcRemoteStorageWriter(writer));
 
     marcFlowCommitProcessor.enrichCommittedMarcWithUpdatedInventoryRecords(
-        bulkOperation, singletonList("hrid1"), singletonList("hrid3"));
+        bulkOperation, singleton("hrid1"), singleton("hrid3"));
 
-    var contentCaptor = ArgumentCaptor.forClass(InputStream.class);
     var pathCaptor = ArgumentCaptor.forClass(String.class);
 
     verify(remoteFileSystemClient).remove(pathToCommittedMarc);
-    verify(remoteFileSystemClient).put(contentCaptor.capture(), pathCaptor.capture());
-    assertThat(contentCaptor.getValue()).isInstanceOf(SequenceInputStream.class);
+    verify(remoteFileSystemClient).marcWriter(pathCaptor.capture());
     assertThat(pathCaptor.getValue()).startsWith(ENRICHED_PREFIX);
+    var committedMarc =
+        Files.readString(Path.of("src/test/resources/files/committed_marc_record.mrc"));
+    assertThat(writer.toString())
+        .isEqualTo(committedMarc + "00044nam a2200037Ia 4500001000600000\u001Ehrid1\u001E\u001D");
     assertThat(bulkOperation.getLinkToCommittedRecordsMarcFile()).startsWith(ENRICHED_PREFIX);
   }
 
@@ -152,6 +167,9 @@ class MarcFlowCommitProcessorTest extends BaseTest {
         .thenReturn(new FileInputStream("src/test/resources/files/committed_marc_instance.csv"));
     when(remoteFileSystemClient.get(bulkOperation.getLinkToMatchedRecordsMarcFile()))
         .thenReturn(new FileInputStream("src/test/resources/files/matched_marc_records.mrc"));
+    var writer = new StringWriter();
+    when(remoteFileSystemClient.marcWriter(anyString()))
+        .thenReturn(new MarcRemoteStorageWriter(writer));
 
     var csvHrids = marcFlowCommitProcessor.getUpdatedInventoryInstanceHrids(bulkOperation);
     var marcHrids = marcFlowCommitProcessor.getUpdatedMarcInstanceHrids(bulkOperation);
@@ -161,8 +179,6 @@ class MarcFlowCommitProcessorTest extends BaseTest {
     assertThat(bulkOperation.getLinkToCommittedRecordsMarcFile()).isNotNull();
 
     var expectedMarcContent = "00044nam a2200037Ia 4500001000600000\u001Ehrid1\u001E\u001D";
-    var contentCaptor = ArgumentCaptor.forClass(InputStream.class);
-    verify(remoteFileSystemClient).put(contentCaptor.capture(), anyString());
-    assertThat(new String(contentCaptor.getValue().readAllBytes())).isEqualTo(expectedMarcContent);
+    assertThat(writer).hasToString(expectedMarcContent);
   }
 }
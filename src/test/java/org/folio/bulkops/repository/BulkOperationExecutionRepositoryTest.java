@@ -7,6 +7,7 @@ import static org.folio.bulkops.domain.dto.OperationStatusType.NEW;
 import static org.folio.bulkops.domain.dto.OperationType.UPDATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
@@ -59,6 +60,20 @@ class BulkOperationExecutionRepositoryTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldClaimStaleExecutionOnce() {
+    try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
+      var created =
+          repository.save(createEntity().withStartTime(LocalDateTime.now().minusHours(1)));
+      var id = created.getId();
+      var deadline = LocalDateTime.now().minusMinutes(5);
+
+      assertEquals(1, repository.claimStaleExecution(id, LocalDateTime.now(), deadline));
+      assertEquals(0, repository.claimStaleExecution(id, LocalDateTime.now(), deadline));
+      assertThat(repository.findById(id).orElseThrow().getHeartbeat(), notNullValue());
+    }
+  }
+
   private BulkOperationExecution createEntity() {
     var bulkOperation =
         bulkOperationRepository.save(
@@ -0,0 +1,166 @@
+package org.folio.bulkops.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.bulkops.domain.dto.EntityType.ITEM;
+import static org.folio.bulkops.domain.dto.EntityType.USER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import lombok.SneakyThrows;
+import org.folio.bulkops.domain.dto.OperationStatusType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkOperationMetricsTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private BulkOperationMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    metrics = new BulkOperationMetrics(meterRegistry, folioExecutionContext);
+  }
+
+  @Test
+  void shouldTimePhasesByEntityTypeTenantAndOutcome() {
+    var operation =
+        BulkOperation.builder().entityType(USER).status(OperationStatusType.FAILED).build();
+
+    metrics.stop(metrics.start(), BulkOperationMetrics.COMMIT, operation);
+    metrics.record(BulkOperationMetrics.DATA_IMPORT, ITEM, Duration.ofSeconds(3), true);
+    metrics.countRecords(BulkOperationMetrics.CONFIRM, USER, 5);
+    metrics.countRecords(BulkOperationMetrics.CONFIRM, USER, 2);
+
+    var commit =
+        meterRegistry
+            .get("bulkops.operations.phase.duration")
+            .tags("phase", "commit", "entity_type", "USER", "tenant", "diku", "outcome", "failure")
+            .timer();
+    assertThat(commit.count()).isEqualTo(1);
+    var dataImport =
+        meterRegistry
+            .get("bulkops.operations.phase.duration")
+            .tags("phase", "data_import", "entity_type", "ITEM", "outcome", "success")
+            .timer();
+    assertThat(dataImport.totalTime(SECONDS)).isEqualTo(3);
+    assertThat(
+            meterRegistry
+                .get("bulkops.operations.records")
+                .tags("phase", "confirm", "entity_type", "USER", "tenant", "diku")
+                .counter()
+                .count())
+        .isEqualTo(7);
+  }
+
+  @Test
+  void shouldTimeHttpClientCallsByClientAndMethod() {
+    var client =
+        metrics.instrumentClient(
+            TestClient.class,
+            new TestClient() {
+              @Override
+              public String get(String id) {
+                return "record " + id;
+              }
+
+              @Override
+              public void delete(String id) {
+                throw new IllegalStateException("Not found: " + id);
+              }
+            });
+
+    assertThat(client.get("1")).isEqualTo("record 1");
+    assertThatThrownBy(() -> client.delete("2"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Not found: 2");
+    assertThat(client.toString()).isNotEmpty();
+
+    assertThat(
+            meterRegistry
+                .get("bulkops.http.client.duration")
+                .tags("client", "TestClient", "method", "get", "tenant", "diku")
+                .tag("outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("bulkops.http.client.duration")
+                .tags("method", "delete", "outcome", "failure")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.find("bulkops.http.client.duration").timers()).hasSize(2);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldTagFqmChunksWithTenantOfWrappingThread() {
+    Callable<List<String>> chunk = metrics.timedFqmChunk(ITEM, () -> List.of("a", "b", "c"));
+    when(folioExecutionContext.getTenantId()).thenReturn(null);
+
+    assertThat(chunk.call()).hasSize(3);
+
+    assertThat(
+            meterRegistry
+                .get("bulkops.fqm.chunks.duration")
+                .tags("entity_type", "ITEM", "tenant", "diku", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("bulkops.fqm.chunks.records")
+                .tags("entity_type", "ITEM", "tenant", "diku")
+                .counter()
+                .count())
+        .isEqualTo(3);
+
+    metrics.recordStorage("read", () -> "content");
+    assertThat(
+            meterRegistry
+                .get("bulkops.storage.duration")
+                .tags("operation", "read", "tenant", "unknown")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldTimeStorageReadUntilStreamIsClosed() {
+    var stream =
+        metrics.recordStorageRead(
+            "read", () -> new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(meterRegistry.find("bulkops.storage.duration").timer()).isNull();
+    assertThat(stream.readAllBytes()).hasSize(7);
+    stream.close();
+    stream.close();
+
+    assertThat(
+            meterRegistry
+                .get("bulkops.storage.duration")
+                .tags("operation", "read", "tenant", "diku", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  interface TestClient {
+    String get(String id);
+
+    void delete(String id);
+  }
+}
@@ -58,6 +58,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testcontainers.shaded.org.hamcrest.MatcherAssert.assertThat;
+import static org.testcontainers.shaded.org.hamcrest.Matchers.contains;
 import static org.testcontainers.shaded.org.hamcrest.Matchers.containsString;
 import static org.testcontainers.shaded.org.hamcrest.Matchers.equalTo;
 import static org.testcontainers.shaded.org.hamcrest.Matchers.hasSize;
@@ -65,6 +66,7 @@ import static org.testcontainers.shaded.org.hamcrest.Matchers.is;
 import static org.testcontainers.shaded.org.hamcrest.Matchers.notNullValue;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
@@ -73,6 +75,7 @@ import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -84,6 +87,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.folio.bulkops.BaseTest;
@@ -130,15 +137,18 @@ import org.folio.bulkops.domain.dto.UpdateOptionType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.domain.entity.BulkOperationDataProcessing;
 import org.folio.bulkops.domain.entity.BulkOperationExecution;
+import org.folio.bulkops.domain.entity.BulkOperationExecutionChunk;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
 import org.folio.bulkops.exception.BadRequestException;
 import org.folio.bulkops.exception.IllegalOperationStateException;
 import org.folio.bulkops.exception.NotFoundException;
 import org.folio.bulkops.exception.OptimisticLockingException;
+import org.folio.bulkops.exception.RecordConflictException;
 import org.folio.bulkops.exception.WritePermissionDoesNotExist;
 import org.folio.bulkops.processor.marc.MarcInstanceDataProcessor;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.repository.BulkOperationDataProcessingRepository;
+import org.folio.bulkops.repository.BulkOperationExecutionChunkRepository;
 import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
 import org.folio.bulkops.repository.BulkOperationExecutionRepository;
 import org.folio.bulkops.repository.BulkOperationRepository;
@@ -166,6 +176,9 @@ import tools.jackson.databind.node.ObjectNode;
 
 class BulkOperationServiceTest extends BaseTest {
   @Autowired private BulkOperationService bulkOperationService;
+  @Autowired private CommitWindowExecutor commitWindowExecutor;
+  @Autowired private CommitCheckpointService commitCheckpointService;
+  @Autowired private ExecutionContentSink executionContentSink;
 
   @MockitoBean private BulkOperationRepository bulkOperationRepository;
 
@@ -183,6 +196,8 @@ class BulkOperationServiceTest extends BaseTest {
 
   @MockitoBean private BulkOperationExecutionContentRepository executionContentRepository;
 
+  @MockitoBean private BulkOperationExecutionChunkRepository executionChunkRepository;
+
   @MockitoBean private ErrorService errorService;
 
   @MockitoBean private ItemReferenceService itemReferenceService;
@@ -496,6 +511,87 @@ class BulkOperationServiceTest extends BaseTest {
     }
   }
 
+  @Test
+  @SneakyThrows
+  void shouldConfirmBatchesOfRecordsInOrderOfMatchedRecords() {
+    try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
+      var bulkOperationId = UUID.randomUUID();
+      var newPatronGroupId = "56c86552-20ec-41d1-964a-5a2be46969e5";
+      var pathToOrigin = "path/origin.json";
+      var pathToModified =
+          bulkOperationId + "/json/" + LocalDate.now() + "-Modified-identifiers.json";
+      var pathToModifiedJsonPreview =
+          bulkOperationId + "/json/" + LocalDate.now() + "-Updates-Preview-JSON-identifiers.json";
+      var pathToModifiedCsv =
+          bulkOperationId + "/" + LocalDate.now() + "-Updates-Preview-CSV-identifiers.csv";
+      var user = Files.readString(Path.of("src/test/resources/files/user.json")).trim();
+      var barcodes = IntStream.range(0, 7).mapToObj(i -> "barcode-" + i).toList();
+      var matched =
+          String.join(
+              "\n",
+              barcodes.stream()
+                  .map(barcode -> user.replace("\"123\"", "\"" + barcode + "\""))
+                  .toList());
+
+      when(consortiaService.isTenantCentral(any())).thenReturn(false);
+      when(bulkOperationRepository.findById(any(UUID.class)))
+          .thenReturn(
+              Optional.of(
+                  BulkOperation.builder()
+                      .id(bulkOperationId)
+                      .status(DATA_MODIFICATION)
+                      .entityType(EntityType.USER)
+                      .identifierType(IdentifierType.BARCODE)
+                      .linkToTriggeringCsvFile("/some/path/identifiers.csv")
+                      .linkToMatchedRecordsJsonFile(pathToOrigin)
+                      .build()));
+      when(ruleService.getRules(bulkOperationId))
+          .thenReturn(
+              new BulkOperationRuleCollection()
+                  .bulkOperationRules(
+                      List.of(
+                          new BulkOperationRule()
+                              .ruleDetails(
+                                  new RuleDetails()
+                                      .option(UpdateOptionType.PATRON_GROUP)
+                                      .actions(
+                                          List.of(
+                                              new Action()
+                                                  .type(UpdateActionType.REPLACE_WITH)
+                                                  .updated(newPatronGroupId))))))
+                  .totalRecords(1));
+      when(groupClient.getGroupById(any())).thenReturn(new UserGroup().withGroup("group"));
+      when(remoteFileSystemClient.get(pathToOrigin))
+          .thenReturn(new ByteArrayInputStream(matched.getBytes()));
+      when(remoteFileSystemClient.writer(pathToModified))
+          .thenReturn(new RemoteStorageWriter(pathToModified, 8192, remoteFolioS3Client));
+      when(remoteFileSystemClient.writer(pathToModifiedJsonPreview))
+          .thenReturn(
+              new RemoteStorageWriter(pathToModifiedJsonPreview, 8192, remoteFolioS3Client));
+      when(remoteFileSystemClient.writer(pathToModifiedCsv))
+          .thenReturn(new RemoteStorageWriter(pathToModifiedCsv, 8192, remoteFolioS3Client));
+      var dataProcessing =
+          BulkOperationDataProcessing.builder()
+              .bulkOperationId(bulkOperationId)
+              .processedNumOfRecords(0)
+              .build();
+
+      bulkOperationService.confirm(dataProcessing);
+
+      var streamCaptor = ArgumentCaptor.forClass(InputStream.class);
+      verify(remoteFolioS3Client).write(eq(pathToModified), streamCaptor.capture());
+      var modified = new String(streamCaptor.getValue().readAllBytes()).trim().split("\n");
+      assertThat(
+          Arrays.stream(modified)
+              .map(json -> objectMapper.readValue(json, User.class).getBarcode())
+              .toList(),
+          equalTo(barcodes));
+      assertThat(modified[0], containsString(newPatronGroupId));
+      assertThat(dataProcessing.getStatus(), equalTo(StatusType.COMPLETED));
+      assertThat(dataProcessing.getProcessedNumOfRecords(), is(barcodes.size()));
+    }
+  }
+
   @Test
   @SneakyThrows
   void shouldPopulateErrorToBulkOperationIfS3IssuesForConfirmChanges() {
@@ -1292,11 +1388,13 @@ class BulkOperationServiceTest extends BaseTest {
           new String(streamCaptor.getAllValues().getFirst().readAllBytes()));
       assertEquals(expectedPathToResultFile, pathCaptor.getAllValues().getFirst());
 
-      var executionContentCaptor = ArgumentCaptor.forClass(BulkOperationExecutionContent.class);
+      ArgumentCaptor<List<BulkOperationExecutionContent>> executionContentCaptor =
+          ArgumentCaptor.captor();
       await()
           .untilAsserted(
-              () -> verify(executionContentRepository).save(executionContentCaptor.capture()));
-      assertThat(executionContentCaptor.getValue().getState(), equalTo(StateType.PROCESSED));
+              () -> verify(executionContentRepository).saveAll(executionContentCaptor.capture()));
+      assertThat(
+          executionContentCaptor.getValue().getFirst().getState(), equalTo(StateType.PROCESSED));
 
       var executionCaptor = ArgumentCaptor.forClass(BulkOperationExecution.class);
       await()
@@ -1524,6 +1622,148 @@ class BulkOperationServiceTest extends BaseTest {
                     .saveError(eq(bulkOperationId), anyString(), anyString(), eq(ErrorType.ERROR)));
   }
 
+  @Test
+  @SneakyThrows
+  void shouldResumeInterruptedCommitFromCheckpointWithoutUpdatingRecordsTwice() {
+    var bulkOperationId = UUID.randomUUID();
+    var executionId = UUID.randomUUID();
+    var original =
+        objectMapper.readValue(new File("src/test/resources/files/user.json"), User.class);
+    var modified =
+        objectMapper.readValue(new File("src/test/resources/files/modified-user.json"), User.class);
+    var originals = new ArrayList<String>();
+    var modifications = new ArrayList<String>();
+    for (var i = 0; i < 6; i++) {
+      var id = UUID.randomUUID().toString();
+      originals.add(objectMapper.writeValueAsString(original.withId(id).withBarcode("user-" + i)));
+      modifications.add(
+          objectMapper.writeValueAsString(modified.withId(id).withBarcode("user-" + i)));
+    }
+    var pathToOrigin = bulkOperationId + "/origin.json";
+    var pathToModified = bulkOperationId + "/modified-origin.json";
+    var operation =
+        BulkOperation.builder()
+            .id(bulkOperationId)
+            .entityType(USER)
+            .identifierType(IdentifierType.BARCODE)
+            .linkToTriggeringCsvFile(bulkOperationId + "/identifiers.csv")
+            .linkToMatchedRecordsJsonFile(pathToOrigin)
+            .linkToModifiedRecordsJsonFile(pathToModified)
+            .build();
+
+    when(bulkOperationRepository.save(any(BulkOperation.class))).thenReturn(operation);
+    when(executionRepository.save(any(BulkOperationExecution.class)))
+        .thenAnswer(
+            invocation ->
+                invocation.<BulkOperationExecution>getArgument(0).withId(executionId));
+    when(remoteFileSystemClient.get(pathToOrigin))
+        .thenAnswer(
+            invocation -> new ByteArrayInputStream(String.join("\n", originals).getBytes()));
+    when(remoteFileSystemClient.get(pathToModified))
+        .thenAnswer(
+            invocation -> new ByteArrayInputStream(String.join("\n", modifications).getBytes()));
+
+    Map<String, Integer> updates = new ConcurrentHashMap<>();
+    doAnswer(
+            invocation -> {
+              // the stored record has a newer _version once it was updated
+              if (updates.merge(invocation.<User>getArgument(0).getBarcode(), 1, Integer::sum)
+                  > 1) {
+                throw new RecordConflictException("Stored _version is 2, _version of request is 1");
+              }
+              return null;
+            })
+        .when(userClient)
+        .updateUser(any(User.class), anyString());
+    // contents saved after the instance is stopped are lost, buffered ones are never flushed
+    var killed = new AtomicBoolean();
+    List<BulkOperationExecutionContent> savedContents = new CopyOnWriteArrayList<>();
+    when(executionContentRepository.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              if (!killed.get()) {
+                savedContents.addAll(invocation.getArgument(0));
+              }
+              return invocation.getArgument(0);
+            });
+    var checkpointCaptor = ArgumentCaptor.forClass(BulkOperationExecutionChunk.class);
+    when(executionChunkRepository.save(checkpointCaptor.capture()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    ReflectionTestUtils.setField(commitWindowExecutor, "windowSize", 1);
+    ReflectionTestUtils.setField(commitCheckpointService, "checkpointInterval", 2);
+    // buffered contents are stored by checkpoints only
+    ReflectionTestUtils.setField(executionContentSink, "batchSize", 1000);
+    ReflectionTestUtils.setField(executionContentSink, "flushIntervalMs", 60_000L);
+    try {
+      // The instance is stopped while the results of the fourth record are written
+      when(remoteFileSystemClient.writer(anyString()))
+          .thenAnswer(invocation -> new KillingWriter("user-3", killed));
+
+      assertThrows(CommitKilledError.class, () -> bulkOperationService.commit(operation));
+
+      assertThat(updates.keySet(), hasSize(4));
+      var checkpoint = checkpointCaptor.getValue();
+      assertThat(checkpoint.getBulkOperationExecutionId(), equalTo(executionId));
+      assertThat(checkpoint.getLastRecordIndex(), is(1));
+
+      var committedIdentifiers =
+          savedContents.stream().map(BulkOperationExecutionContent::getIdentifier).toList();
+      // markers are stored with the checkpoint, the ones of the third and fourth record are lost
+      assertThat(committedIdentifiers, contains("user-0", "user-1"));
+      killed.set(false);
+      when(executionChunkRepository.findFirstByBulkOperationExecutionIdOrderByLastRecordIndexDesc(
+              executionId))
+          .thenReturn(Optional.of(checkpoint));
+      when(executionContentRepository.findIdentifiersByBulkOperationIdAndStateWithoutError(
+              bulkOperationId, StateType.PROCESSED))
+          .thenReturn(committedIdentifiers);
+      var resultWriters = new HashMap<String, StringWriter>();
+      when(remoteFileSystemClient.writer(anyString()))
+          .thenAnswer(
+              invocation ->
+                  resultWriters.computeIfAbsent(
+                      invocation.getArgument(0), path -> new StringWriter()));
+
+      var interruptedExecution =
+          BulkOperationExecution.builder()
+              .id(executionId)
+              .bulkOperationId(bulkOperationId)
+              .processedRecords(0)
+              .status(StatusType.ACTIVE)
+              .build();
+      when(executionRepository.claimStaleExecution(
+              eq(executionId), any(LocalDateTime.class), any(LocalDateTime.class)))
+          .thenReturn(1, 0);
+
+      bulkOperationService.resumeCommit(operation, interruptedExecution);
+
+      assertThat(updates.keySet(), hasSize(6));
+      assertThat(updates.get("user-0"), is(1));
+      assertThat(updates.get("user-2"), is(2));
+      assertThat(updates.get("user-3"), is(2));
+      assertThat(updates.get("user-5"), is(1));
+      assertThat(operation.getCommittedNumOfRecords(), is(6));
+      var resultJson =
+          resultWriters.get(
+              bulkOperationId + "/json/" + LocalDate.now() + "-Changed-Records-identifiers.json");
+      assertThat(resultJson.toString().lines().toList(), hasSize(6));
+      verify(errorService, never())
+          .saveError(any(UUID.class), anyString(), anyString(), any(ErrorType.class));
+
+      // the execution has been claimed by the resumed commit already
+      bulkOperationService.resumeCommit(operation, interruptedExecution);
+
+      assertTrue(updates.values().stream().allMatch(count -> count <= 2));
+      assertThat(updates.get("user-5"), is(1));
+    } finally {
+      ReflectionTestUtils.setField(commitWindowExecutor, "windowSize", 4);
+      ReflectionTestUtils.setField(commitCheckpointService, "checkpointInterval", 1000);
+      ReflectionTestUtils.setField(executionContentSink, "batchSize", 2);
+      ReflectionTestUtils.setField(executionContentSink, "flushIntervalMs", 200L);
+    }
+  }
+
   @Test
   @SneakyThrows
   void shouldUpdateStatusesWhenCommitChangesFails() {
@@ -2697,4 +2937,42 @@ class BulkOperationServiceTest extends BaseTest {
     // Assert that subject value was modified
     assertEquals(subjectValueModified, result.getSubject().getFirst().getValue());
   }
+
+  private static class CommitKilledError extends Error {}
+
+  /** Writer of the instance which is stopped as soon as the record is written. */
+  private static class KillingWriter extends StringWriter {
+    private final String identifier;
+    private final AtomicBoolean killed;
+
+    private KillingWriter(String identifier, AtomicBoolean killed) {
+      this.identifier = identifier;
+      this.killed = killed;
+    }
+
+    @Override
+    public void write(String str) {
+      kill(str);
+      super.write(str);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      kill(str.substring(off, off + len));
+      super.write(str, off, len);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      kill(new String(cbuf, off, len));
+      super.write(cbuf, off, len);
+    }
+
+    private void kill(String str) {
+      if (str.contains(identifier)) {
+        killed.set(true);
+        throw new CommitKilledError();
+      }
+    }
+  }
 }
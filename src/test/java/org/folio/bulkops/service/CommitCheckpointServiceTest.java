@@ -0,0 +1,130 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.bulkops.domain.bean.StatusType;
+import org.folio.bulkops.domain.entity.BulkOperationExecution;
+import org.folio.bulkops.domain.entity.BulkOperationExecutionChunk;
+import org.folio.bulkops.repository.BulkOperationExecutionChunkRepository;
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.folio.bulkops.repository.BulkOperationExecutionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CommitCheckpointServiceTest {
+  private final BulkOperationExecutionRepository executionRepository =
+      mock(BulkOperationExecutionRepository.class);
+  private final BulkOperationExecutionChunkRepository executionChunkRepository =
+      mock(BulkOperationExecutionChunkRepository.class);
+  private final BulkOperationExecutionContentRepository executionContentRepository =
+      mock(BulkOperationExecutionContentRepository.class);
+  private final UUID bulkOperationId = UUID.randomUUID();
+  private CommitCheckpointService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new CommitCheckpointService(
+            executionRepository, executionChunkRepository, executionContentRepository);
+    ReflectionTestUtils.setField(service, "checkpointInterval", 100);
+    ReflectionTestUtils.setField(service, "resumeTimeoutMs", 60_000L);
+    service.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  void shouldResumeAfterLastCheckpoint() {
+    var executionId = UUID.randomUUID();
+    when(executionChunkRepository.findFirstByBulkOperationExecutionIdOrderByLastRecordIndexDesc(
+            executionId))
+        .thenReturn(Optional.of(chunk(executionId, 199, LocalDateTime.now())));
+
+    assertThat(service.getResumeIndex(executionId)).isEqualTo(200);
+    assertThat(service.getResumeIndex(UUID.randomUUID())).isZero();
+    assertThat(service.isDue(99)).isFalse();
+    assertThat(service.isDue(100)).isTrue();
+  }
+
+  @Test
+  void shouldFindStaleActiveExecutionOnly() {
+    var stale = execution(StatusType.ACTIVE, LocalDateTime.now().minusHours(2));
+    var alive =
+        execution(StatusType.ACTIVE, LocalDateTime.now().minusHours(1))
+            .withHeartbeat(LocalDateTime.now());
+    var completed = execution(StatusType.COMPLETED, LocalDateTime.now().minusHours(3));
+    when(executionRepository.findAllByBulkOperationId(bulkOperationId))
+        .thenReturn(List.of(completed, stale));
+
+    assertThat(service.findInterruptedExecution(bulkOperationId)).contains(stale);
+
+    when(executionRepository.findAllByBulkOperationId(bulkOperationId))
+        .thenReturn(List.of(stale, alive));
+
+    assertThat(service.findInterruptedExecution(bulkOperationId)).isEmpty();
+  }
+
+  @Test
+  void shouldClaimOnlyStaleExecution() {
+    var execution = execution(StatusType.ACTIVE, LocalDateTime.now().minusHours(2));
+    var deadline = ArgumentCaptor.forClass(LocalDateTime.class);
+    when(executionRepository.claimStaleExecution(
+            eq(execution.getId()), any(LocalDateTime.class), deadline.capture()))
+        .thenReturn(1, 0);
+
+    assertThat(service.claim(execution)).isTrue();
+    assertThat(service.claim(execution)).isFalse();
+    assertThat(deadline.getValue()).isBefore(LocalDateTime.now().minusSeconds(59));
+  }
+
+  @Test
+  void shouldRenewHeartbeatUntilClosed() {
+    ReflectionTestUtils.setField(service, "resumeTimeoutMs", 30L);
+    var execution = execution(StatusType.ACTIVE, LocalDateTime.now());
+
+    try (var heartbeat = service.startHeartbeat(execution)) {
+      verify(executionRepository, timeout(1000).atLeast(3))
+          .updateHeartbeat(eq(execution.getId()), any(LocalDateTime.class));
+    }
+    clearInvocations(executionRepository);
+
+    verify(executionRepository, after(100).never())
+        .updateHeartbeat(any(UUID.class), any(LocalDateTime.class));
+  }
+
+  private BulkOperationExecution execution(StatusType status, LocalDateTime startTime) {
+    return BulkOperationExecution.builder()
+        .id(UUID.randomUUID())
+        .bulkOperationId(bulkOperationId)
+        .status(status)
+        .startTime(startTime)
+        .build();
+  }
+
+  private BulkOperationExecutionChunk chunk(
+      UUID executionId, int lastRecordIndex, LocalDateTime endTime) {
+    return BulkOperationExecutionChunk.builder()
+        .bulkOperationExecutionId(executionId)
+        .lastRecordIndex(lastRecordIndex)
+        .endTime(endTime)
+        .build();
+  }
+}
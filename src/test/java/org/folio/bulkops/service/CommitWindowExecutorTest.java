@@ -0,0 +1,120 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CommitWindowExecutorTest {
+
+  private CommitWindowExecutor commitWindowExecutor;
+
+  @BeforeEach
+  void setUp() {
+    commitWindowExecutor = new CommitWindowExecutor();
+    ReflectionTestUtils.setField(commitWindowExecutor, "workers", 4);
+    ReflectionTestUtils.setField(commitWindowExecutor, "windowSize", 8);
+    ReflectionTestUtils.setField(commitWindowExecutor, "maxConcurrentPerTenant", 2);
+    commitWindowExecutor.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    commitWindowExecutor.shutdown();
+  }
+
+  @Test
+  void shouldHandOverResultsInSubmissionOrder() {
+    var results = new ArrayList<Integer>();
+    try (var window = commitWindowExecutor.<Integer>openWindow(results::add)) {
+      IntStream.range(0, 100)
+          .forEach(
+              i ->
+                  window.submit(
+                      "diku",
+                      () -> {
+                        sleep(ThreadLocalRandom.current().nextInt(3));
+                        return i;
+                      }));
+      window.drain();
+    }
+
+    assertThat(results).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+  }
+
+  @Test
+  void shouldLimitConcurrentUpdatesPerTenant() {
+    var inProgress = new AtomicInteger();
+    var maxInProgress = new AtomicInteger();
+    List<Integer> results = new ArrayList<>();
+    try (var window = commitWindowExecutor.<Integer>openWindow(results::add)) {
+      IntStream.range(0, 30)
+          .forEach(
+              i ->
+                  window.submit(
+                      "member",
+                      () -> {
+                        maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                        sleep(5);
+                        inProgress.decrementAndGet();
+                        return i;
+                      }));
+      window.drain();
+    }
+
+    assertThat(results).hasSize(30);
+    assertThat(maxInProgress.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldLimitTasksInFlightToSizeOfWindow() {
+    var inProgress = new AtomicInteger();
+    var maxInProgress = new AtomicInteger();
+    List<Integer> results = new ArrayList<>();
+    try (var window = commitWindowExecutor.<Integer>openWindow(1, results::add)) {
+      IntStream.range(0, 10)
+          .forEach(
+              i ->
+                  window.submit(
+                      "diku",
+                      () -> {
+                        maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                        sleep(2);
+                        inProgress.decrementAndGet();
+                        return i;
+                      }));
+      window.drain();
+    }
+
+    assertThat(results).containsExactlyElementsOf(IntStream.range(0, 10).boxed().toList());
+    assertThat(maxInProgress.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRethrowUnexpectedTaskFailure() {
+    try (var window = commitWindowExecutor.<Integer>openWindow(i -> {})) {
+      window.submit(
+          "diku",
+          () -> {
+            throw new IllegalStateException("failure");
+          });
+      assertThrows(IllegalStateException.class, window::drain);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
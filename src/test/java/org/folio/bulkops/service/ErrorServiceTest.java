@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static wiremock.org.hamcrest.MatcherAssert.assertThat;
@@ -26,10 +27,11 @@ import static wiremock.org.hamcrest.Matchers.equalTo;
 import static wiremock.org.hamcrest.Matchers.hasSize;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -60,7 +62,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -129,17 +130,16 @@ class ErrorServiceTest extends BaseTest {
 
       var expectedFileName =
           bulkOperationId + "/" + LocalDate.now() + "-Committing-changes-Errors-records.csv";
-      when(remoteFileSystemClient.put(any(), eq(expectedFileName))).thenReturn(expectedFileName);
+      var writer = new StringWriter();
+      when(remoteFileSystemClient.writer(expectedFileName)).thenReturn(writer);
 
       var result =
           errorService.uploadErrorsToStorage(
               bulkOperationId, ERROR_COMMITTING_FILE_NAME_PREFIX, null);
       assertThat(result, equalTo(expectedFileName));
 
-      var streamCaptor = ArgumentCaptor.forClass(InputStream.class);
-      verify(remoteFileSystemClient).put(streamCaptor.capture(), eq(expectedFileName));
-      var actual = new String(streamCaptor.getValue().readAllBytes());
-      var actualArr = actual.split("\n");
+      verify(remoteFileSystemClient, never()).put(any(), any());
+      var actualArr = writer.toString().split("\n");
       Arrays.sort(actualArr);
       var expectedArr =
           new String[] {"ERROR,123,Error message 123", "WARNING,456,Error message 456"};
@@ -225,7 +225,7 @@ class ErrorServiceTest extends BaseTest {
 
       mockErrorsData(statusType, operationId);
 
-      var actual = errorService.getErrorsCsvByBulkOperationId(operationId, 0, null).split(LF);
+      var actual = errorsCsv(operationId, null).split(LF);
       Arrays.sort(expected);
       Arrays.sort(actual);
 
@@ -256,7 +256,7 @@ class ErrorServiceTest extends BaseTest {
 
       assertThrows(
           NotFoundException.class,
-          () -> errorService.getErrorsCsvByBulkOperationId(operationId, 0, ErrorType.ERROR));
+          () -> errorsCsv(operationId, ErrorType.ERROR));
 
       bulkOperationRepository.deleteById(operationId);
     }
@@ -283,13 +283,13 @@ class ErrorServiceTest extends BaseTest {
       mockErrorsData(COMPLETED_WITH_ERRORS, operationId);
 
       if (committedErrors == 1) {
-        executionContentRepository.save(
+        errorService.saveError(
             BulkOperationExecutionContent.builder()
                 .bulkOperationId(operationId)
                 .identifier("123")
                 .errorMessage("No match found")
                 .build());
-        executionContentRepository.save(
+        errorService.saveError(
             BulkOperationExecutionContent.builder()
                 .bulkOperationId(operationId)
                 .identifier("456")
@@ -326,14 +326,14 @@ class ErrorServiceTest extends BaseTest {
       mockErrorsData(COMPLETED_WITH_ERRORS, operationId);
 
       if (committedErrors == 1) {
-        executionContentRepository.save(
+        errorService.saveError(
             BulkOperationExecutionContent.builder()
                 .bulkOperationId(operationId)
                 .identifier("123")
                 .errorType(ErrorType.ERROR)
                 .errorMessage("No match found")
                 .build());
-        executionContentRepository.save(
+        errorService.saveError(
             BulkOperationExecutionContent.builder()
                 .bulkOperationId(operationId)
                 .identifier("456")
@@ -369,7 +369,7 @@ class ErrorServiceTest extends BaseTest {
               + "1028b1eb-0b9d-4fe9-a458-2f0a8570cf9c";
       var message = format(CSV_MSG_ERROR_TEMPLATE_OPTIMISTIC_LOCKING, 2, 1);
 
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(operationId)
               .identifier("789")
@@ -522,21 +522,21 @@ class ErrorServiceTest extends BaseTest {
               .linkToCommittedRecordsErrorsCsvFile("link")
               .dataExportJobId(UUID.randomUUID())
               .build());
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(bulkOperationId)
               .identifier("123")
               .errorMessage(format("%s %s", "message", "link"))
               .errorType(ErrorType.ERROR)
               .build());
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(bulkOperationId)
               .identifier("456")
               .errorMessage(format("%s %s", "message", "link"))
               .errorType(ErrorType.ERROR)
               .build());
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(bulkOperationId)
               .identifier("789")
@@ -568,7 +568,7 @@ class ErrorServiceTest extends BaseTest {
               .linkToCommittedRecordsErrorsCsvFile("link")
               .dataExportJobId(UUID.randomUUID())
               .build());
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(bulkOperationId)
               .identifier("123")
@@ -626,7 +626,7 @@ class ErrorServiceTest extends BaseTest {
               .linkToCommittedRecordsErrorsCsvFile("link")
               .dataExportJobId(UUID.randomUUID())
               .build());
-      executionContentRepository.save(bulkOperationExecContent);
+      errorService.saveError(bulkOperationExecContent);
       assertEquals(
           1,
           executionContentRepository.countByBulkOperationIdAndErrorType(
@@ -676,7 +676,7 @@ class ErrorServiceTest extends BaseTest {
               .committedNumOfWarnings(1)
               .dataExportJobId(UUID.randomUUID())
               .build());
-      executionContentRepository.save(bulkOperationExecContent);
+      errorService.saveError(bulkOperationExecContent);
 
       var actualNumErrors =
           errorService
@@ -686,20 +686,99 @@ class ErrorServiceTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldPageExecutionErrorsInOrderOfTypeAndKeepCountersOfOperation() {
+    try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
+      bulkOperationRepository.save(
+          BulkOperation.builder()
+              .id(bulkOperationId)
+              .status(COMPLETED_WITH_ERRORS)
+              .committedNumOfErrors(3)
+              .committedNumOfWarnings(2)
+              .dataExportJobId(UUID.randomUUID())
+              .build());
+      var types =
+          Arrays.asList(
+              ErrorType.WARNING,
+              null,
+              ErrorType.ERROR,
+              ErrorType.WARNING,
+              ErrorType.ERROR,
+              ErrorType.ERROR);
+      for (var i = 0; i < types.size(); i++) {
+        errorService.saveError(
+            BulkOperationExecutionContent.builder()
+                .bulkOperationId(bulkOperationId)
+                .identifier(String.valueOf(i))
+                .errorMessage("message " + i)
+                .errorType(types.get(i))
+                .build());
+      }
+
+      var pages = new ArrayList<Error>();
+      for (var offset = 0; offset < types.size(); offset += 2) {
+        var errors =
+            errorService.getErrorsPreviewByBulkOperationId(bulkOperationId, 2, offset, null);
+        assertThat(errors.getTotalRecords(), equalTo(6));
+        pages.addAll(errors.getErrors());
+      }
+      var repeated = errorService.getErrorsPreviewByBulkOperationId(bulkOperationId, 2, 2, null);
+      var followingLastError =
+          errorService.getErrorsPreviewByBulkOperationId(
+              bulkOperationId, 2, 0, null, pages.get(2).getId());
+
+      assertThat(
+          pages.stream().map(Error::getType).toList(),
+          contains(
+              ErrorType.ERROR,
+              ErrorType.ERROR,
+              ErrorType.ERROR,
+              ErrorType.WARNING,
+              ErrorType.WARNING,
+              null));
+      assertEquals(6, pages.stream().map(Error::getMessage).distinct().count());
+      assertEquals(pages.subList(2, 4), repeated.getErrors());
+      assertEquals(pages.subList(3, 5), followingLastError.getErrors());
+      assertEquals(6, followingLastError.getTotalRecords());
+      assertEquals(
+          pages.subList(3, 5),
+          errorService
+              .getErrorsPreviewByBulkOperationId(bulkOperationId, 10, 0, ErrorType.WARNING)
+              .getErrors());
+      assertEquals(3, errorService.getCommittedNumOfErrors(bulkOperationId));
+      assertEquals(2, errorService.getCommittedNumOfWarnings(bulkOperationId));
+
+      errorService.deleteErrorsByBulkOperationId(bulkOperationId);
+
+      assertEquals(0, errorService.getCommittedNumOfErrors(bulkOperationId));
+      assertThat(
+          errorService
+              .getErrorsPreviewByBulkOperationId(bulkOperationId, 2, 2, null)
+              .getTotalRecords(),
+          equalTo(0));
+    }
+  }
+
+  private String errorsCsv(UUID operationId, ErrorType errorType) throws IOException {
+    var writer = new StringWriter();
+    errorService.writeErrorsCsvByBulkOperationId(operationId, 0, errorType, writer);
+    return writer.toString();
+  }
+
   private void mockErrorsData(OperationStatusType statusType, UUID operationId) throws IOException {
     if (DATA_MODIFICATION == statusType || COMPLETED_WITH_ERRORS == statusType) {
       when(remoteFileSystemClient.get(any()))
           .thenReturn(Files.newInputStream(Paths.get("src/test/resources/files/errors.csv")));
       when(remoteFileSystemClient.getNumOfLines(any())).thenReturn(2);
     } else {
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(operationId)
               .identifier("123")
               .errorMessage("No match found")
               .errorType(ErrorType.ERROR)
               .build());
-      executionContentRepository.save(
+      errorService.saveError(
           BulkOperationExecutionContent.builder()
               .bulkOperationId(operationId)
               .identifier("456")
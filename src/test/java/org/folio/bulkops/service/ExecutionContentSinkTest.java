@@ -0,0 +1,225 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.folio.bulkops.domain.bean.StateType;
+import org.folio.bulkops.domain.dto.ErrorType;
+import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ExecutionContentSinkTest {
+
+  private final UUID bulkOperationId = UUID.randomUUID();
+  private BulkOperationExecutionContentRepository executionContentRepository;
+  private PlatformTransactionManager transactionManager;
+  private ExecutionContentSink executionContentSink;
+
+  @BeforeEach
+  void setUp() {
+    executionContentRepository = mock(BulkOperationExecutionContentRepository.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    executionContentSink =
+        new ExecutionContentSink(
+            executionContentRepository, new TransactionTemplate(transactionManager));
+    ReflectionTestUtils.setField(executionContentSink, "batchSize", 1000);
+    ReflectionTestUtils.setField(executionContentSink, "flushIntervalMs", 60_000L);
+    executionContentSink.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executionContentSink.shutdown();
+  }
+
+  @Test
+  void shouldSaveImmediatelyWithoutOpenBuffer() {
+    var content = content("1", StateType.PROCESSED);
+
+    executionContentSink.save(content);
+
+    verify(executionContentRepository).save(content);
+  }
+
+  @Test
+  void shouldSaveBufferedContentsInOneBatchOnClose() {
+    var saved = captureBatches();
+
+    try (var buffer = executionContentSink.open(bulkOperationId)) {
+      executionContentSink.save(content("1", StateType.PROCESSED));
+      executionContentSink.save(content("2", StateType.FAILED));
+      verify(executionContentRepository, never()).saveAll(anyList());
+    }
+
+    verify(executionContentRepository, never()).save(any());
+    assertThat(saved).hasSize(1);
+    assertThat(saved.getFirst())
+        .extracting(BulkOperationExecutionContent::getIdentifier)
+        .containsExactly("1", "2");
+  }
+
+  @Test
+  void shouldSkipDuplicatesWithoutQueryingPerRecord() {
+    when(executionContentRepository.findIdentifiersByBulkOperationIdAndIdentifierIn(
+            bulkOperationId, Set.of("1", "2", "3")))
+        .thenReturn(List.of("1"));
+    var saved = captureBatches();
+
+    try (var buffer = executionContentSink.open(bulkOperationId)) {
+      executionContentSink.saveIfAbsent(content("1", StateType.FAILED));
+      executionContentSink.save(content("2", StateType.PROCESSED));
+      executionContentSink.saveIfAbsent(content("2", StateType.FAILED));
+      executionContentSink.saveIfAbsent(content("3", StateType.FAILED));
+    }
+
+    verify(executionContentRepository, never())
+        .findFirstByBulkOperationIdAndIdentifier(any(), any());
+    verify(executionContentRepository)
+        .findIdentifiersByBulkOperationIdAndIdentifierIn(any(), anyCollection());
+    assertThat(saved.getFirst())
+        .extracting(BulkOperationExecutionContent::getIdentifier)
+        .containsExactly("2", "3");
+  }
+
+  @Test
+  void shouldNotQueryStoredIdentifiersWithoutContentsSavedIfAbsent() {
+    captureBatches();
+
+    try (var buffer = executionContentSink.open(bulkOperationId)) {
+      executionContentSink.save(content("1", StateType.PROCESSED));
+    }
+
+    verify(executionContentRepository, never())
+        .findIdentifiersByBulkOperationIdAndIdentifierIn(any(), anyCollection());
+  }
+
+  @Test
+  void shouldQueryDuplicatesWithoutOpenBuffer() {
+    when(executionContentRepository.findFirstByBulkOperationIdAndIdentifier(bulkOperationId, "1"))
+        .thenReturn(Optional.of(new BulkOperationExecutionContent()));
+
+    executionContentSink.saveIfAbsent(content("1", StateType.FAILED));
+
+    verify(executionContentRepository, never()).save(any());
+  }
+
+  @Test
+  void shouldFlushInBackgroundWhenBatchIsFull() {
+    ReflectionTestUtils.setField(executionContentSink, "batchSize", 2);
+    var saved = captureBatches();
+
+    try (var buffer = executionContentSink.open(bulkOperationId)) {
+      executionContentSink.save(content("1", StateType.PROCESSED));
+      executionContentSink.save(content("2", StateType.PROCESSED));
+      await().untilAsserted(() -> assertThat(saved).hasSize(1));
+      executionContentSink.save(content("3", StateType.PROCESSED));
+    }
+
+    assertThat(saved).hasSize(2);
+    assertThat(saved.getLast())
+        .extracting(BulkOperationExecutionContent::getIdentifier)
+        .containsExactly("3");
+  }
+
+  @Test
+  void shouldCountErrorsOncePerBatchAndType() {
+    captureBatches();
+
+    try (var buffer = executionContentSink.open(bulkOperationId)) {
+      executionContentSink.save(error("1", ErrorType.ERROR));
+      executionContentSink.save(content("2", StateType.PROCESSED));
+      executionContentSink.save(error("3", ErrorType.WARNING));
+      executionContentSink.save(error("4", ErrorType.ERROR));
+    }
+
+    verify(executionContentRepository).incrementErrorCounter(bulkOperationId, "ERROR", 2);
+    verify(executionContentRepository).incrementErrorCounter(bulkOperationId, "WARNING", 1);
+    verify(executionContentRepository, times(2))
+        .incrementErrorCounter(any(), anyString(), anyLong());
+  }
+
+  @Test
+  void shouldCountErrorsInTransactionSavingThem() {
+    captureBatches();
+    doThrow(new IllegalStateException("database is down"))
+        .when(executionContentRepository)
+        .incrementErrorCounter(any(), anyString(), anyLong());
+
+    var buffer = executionContentSink.open(bulkOperationId);
+    executionContentSink.save(error("1", ErrorType.ERROR));
+
+    assertThatThrownBy(buffer::close).isInstanceOf(IllegalStateException.class);
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+  }
+
+  @Test
+  void shouldKeepContentsWhenFlushFails() {
+    doThrow(new IllegalStateException("database is down"))
+        .when(executionContentRepository)
+        .saveAll(anyList());
+
+    var buffer = executionContentSink.open(bulkOperationId);
+    executionContentSink.save(content("1", StateType.PROCESSED));
+
+    assertThatThrownBy(buffer::close).isInstanceOf(IllegalStateException.class);
+    ArgumentCaptor<List<BulkOperationExecutionContent>> captor = ArgumentCaptor.captor();
+    verify(executionContentRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).hasSize(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<BulkOperationExecutionContent>> captureBatches() {
+    var batches = new ArrayList<List<BulkOperationExecutionContent>>();
+    when(executionContentRepository.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              var batch =
+                  new ArrayList<>((List<BulkOperationExecutionContent>) invocation.getArgument(0));
+              synchronized (batches) {
+                batches.add(batch);
+              }
+              return batch;
+            });
+    return batches;
+  }
+
+  private BulkOperationExecutionContent error(String identifier, ErrorType errorType) {
+    var content = content(identifier, StateType.FAILED);
+    content.setErrorMessage("error " + identifier);
+    content.setErrorType(errorType);
+    return content;
+  }
+
+  private BulkOperationExecutionContent content(String identifier, StateType state) {
+    return BulkOperationExecutionContent.builder()
+        .bulkOperationId(bulkOperationId)
+        .identifier(identifier)
+        .state(state)
+        .build();
+  }
+}
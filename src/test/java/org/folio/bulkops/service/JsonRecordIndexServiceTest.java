@@ -0,0 +1,126 @@
+package org.folio.bulkops.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.util.JsonRecordIndex;
+import org.folio.s3.exception.S3ClientException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JsonRecordIndexServiceTest {
+  private static final String PATH = "operation/json/matched.json";
+  private static final String INDEX_PATH = PATH + JsonRecordIndex.INDEX_FILE_SUFFIX;
+  private static final Object VERSION = List.of("REVIEW_CHANGES", 250);
+
+  private RemoteFileSystemClient remoteFileSystemClient;
+  private JsonRecordIndexService jsonRecordIndexService;
+
+  @BeforeEach
+  void setUp() {
+    remoteFileSystemClient = mock(RemoteFileSystemClient.class);
+    jsonRecordIndexService = new JsonRecordIndexService(remoteFileSystemClient);
+    ReflectionTestUtils.setField(jsonRecordIndexService, "maxSize", 10L);
+    ReflectionTestUtils.setField(jsonRecordIndexService, "expireAfterWriteMinutes", 2L);
+    jsonRecordIndexService.init();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldStoreIndexWhenWriterIsClosed() {
+    try (var writer = jsonRecordIndexService.indexingWriter(new StringWriter(), PATH)) {
+      writer.write(content(250));
+    }
+
+    var captor = ArgumentCaptor.forClass(InputStream.class);
+    verify(remoteFileSystemClient).put(captor.capture(), eq(INDEX_PATH));
+    var index = JsonRecordIndex.read(captor.getValue());
+    assertThat(index.getNumberOfRecords()).isEqualTo(250);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSkipBytesUpToIndexedRecord() {
+    var content = content(250);
+    var builder = new JsonRecordIndex.Builder();
+    var bytes = content.getBytes(UTF_8);
+    builder.accept(bytes, 0, bytes.length);
+    when(remoteFileSystemClient.get(INDEX_PATH))
+        .thenReturn(new ByteArrayInputStream(builder.build().toBytes()));
+    when(remoteFileSystemClient.get(PATH)).thenReturn(new ByteArrayInputStream(bytes));
+
+    try (var positioned = jsonRecordIndexService.open(PATH, VERSION, 210)) {
+      assertThat(positioned.recordsToSkip()).isEqualTo(10);
+      var rest = new String(positioned.stream().readAllBytes(), UTF_8);
+      assertThat(rest).startsWith(record(200));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadIndexOncePerVersion() {
+    var bytes = content(250).getBytes(UTF_8);
+    var builder = new JsonRecordIndex.Builder();
+    builder.accept(bytes, 0, bytes.length);
+    var indexBytes = builder.build().toBytes();
+    when(remoteFileSystemClient.get(INDEX_PATH))
+        .thenAnswer(invocation -> new ByteArrayInputStream(indexBytes));
+    when(remoteFileSystemClient.get(PATH))
+        .thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+
+    for (var recordNumber : List.of(0L, 100L, 200L)) {
+      jsonRecordIndexService.open(PATH, VERSION, recordNumber).close();
+    }
+    jsonRecordIndexService.open(PATH, List.of("COMPLETED", 250), 0).close();
+
+    verify(remoteFileSystemClient, times(2)).get(INDEX_PATH);
+    verify(remoteFileSystemClient, never()).exists(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadFromBeginningWithoutIndex() {
+    when(remoteFileSystemClient.get(INDEX_PATH)).thenThrow(new S3ClientException("not found"));
+    when(remoteFileSystemClient.get(PATH))
+        .thenReturn(new ByteArrayInputStream(content(5).getBytes(UTF_8)));
+
+    try (var positioned = jsonRecordIndexService.open(PATH, VERSION, 3)) {
+      assertThat(positioned.recordsToSkip()).isEqualTo(3);
+      assertThat(new String(positioned.stream().readAllBytes(), UTF_8)).startsWith(record(0));
+    }
+    verify(remoteFileSystemClient, never()).exists(any());
+  }
+
+  @Test
+  void shouldIgnoreMissingWriter() {
+    assertThat(jsonRecordIndexService.indexingWriter(null, PATH)).isNull();
+    verify(remoteFileSystemClient, never()).put(any(), any());
+  }
+
+  private String content(int numberOfRecords) {
+    var sb = new StringBuilder();
+    for (var i = 0; i < numberOfRecords; i++) {
+      sb.append(record(i)).append('\n');
+    }
+    return sb.toString();
+  }
+
+  private String record(int number) {
+    return "{\"id\":\"" + number + "\",\"title\":\"Ærøskøbing\"}";
+  }
+}
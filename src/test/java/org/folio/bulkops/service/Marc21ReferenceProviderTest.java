@@ -0,0 +1,95 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.service.Marc21ReferenceProvider.GENERAL_NOTE;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.SneakyThrows;
+import org.folio.bulkops.client.MappingRulesClient;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.marc4j.marc.impl.DataFieldImpl;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class Marc21ReferenceProviderTest {
+  private static final String ACQUISITION_NOTE = "Immediate Source of Acquisition note";
+
+  @Mock private MappingRulesClient mappingRulesClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private Marc21ReferenceProvider referenceProvider;
+
+  @BeforeEach
+  void setUp() {
+    referenceProvider = new Marc21ReferenceProvider(mappingRulesClient, folioExecutionContext);
+    ReflectionTestUtils.setField(referenceProvider, "mappingRulesExpireAfterWriteMinutes", 10L);
+    referenceProvider.init();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFetchMappingRulesOncePerTenant() {
+    when(mappingRulesClient.getMarcBibMappingRules()).thenReturn(mappingRules());
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+
+    referenceProvider.updateMappingRules();
+    referenceProvider.updateMappingRules();
+
+    assertThat(referenceProvider.getNoteTypeByTag("541")).isEqualTo(ACQUISITION_NOTE);
+    assertThat(referenceProvider.getSubfieldsByTag("541")).isEqualTo("abcdefhno35");
+    assertThat(referenceProvider.isStaffOnlyNote(new DataFieldImpl("541", '0', ' '))).isTrue();
+    verify(mappingRulesClient).getMarcBibMappingRules();
+
+    when(folioExecutionContext.getTenantId()).thenReturn("college");
+
+    assertThat(referenceProvider.getNoteTypeByTag("541")).isEqualTo(ACQUISITION_NOTE);
+    verify(mappingRulesClient, times(2)).getMarcBibMappingRules();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFetchMappingRulesAgainWhenInvalidated() {
+    when(mappingRulesClient.getMarcBibMappingRules()).thenReturn(mappingRules());
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    referenceProvider.updateMappingRules();
+
+    referenceProvider.invalidateMappingRules();
+    referenceProvider.updateMappingRules();
+
+    assertThat(referenceProvider.getNoteTypeByTag("541")).isEqualTo(ACQUISITION_NOTE);
+    verify(mappingRulesClient, times(2)).getMarcBibMappingRules();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUseDefaultsUntilMappingRulesAreLoaded() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(mappingRulesClient.getMarcBibMappingRules())
+        .thenThrow(new IllegalStateException("Not available"))
+        .thenReturn(mappingRules());
+
+    assertThat(referenceProvider.getNoteTypeByTag("541")).isEqualTo(GENERAL_NOTE);
+    assertThat(referenceProvider.getSubfieldsByTag("541")).isEqualTo("a");
+
+    referenceProvider.updateMappingRules();
+
+    assertThat(referenceProvider.getNoteTypeByTag("541")).isEqualTo(ACQUISITION_NOTE);
+  }
+
+  @SneakyThrows
+  private static JsonNode mappingRules() {
+    return new ObjectMapper()
+        .readTree(Files.readString(Path.of("src/test/resources/files/mappingRulesResponse.json")));
+  }
+}
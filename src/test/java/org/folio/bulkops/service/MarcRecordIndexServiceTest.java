@@ -0,0 +1,155 @@
+package org.folio.bulkops.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.util.MarcRecordIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.mockito.ArgumentCaptor;
+
+class MarcRecordIndexServiceTest {
+  private static final String PATH = "operation/marc/matched.mrc";
+  private static final String INDEX_PATH = PATH + MarcRecordIndex.INDEX_FILE_SUFFIX;
+
+  @TempDir Path tempDir;
+
+  private RemoteFileSystemClient remoteFileSystemClient;
+  private MarcRecordIndexService marcRecordIndexService;
+
+  @BeforeEach
+  void setUp() {
+    remoteFileSystemClient = mock(RemoteFileSystemClient.class);
+    marcRecordIndexService = new MarcRecordIndexService(remoteFileSystemClient);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldStoreIndexWhenWriterIsClosedAndReadOnlyIndexedRecords() {
+    var content = new StringWriter();
+    try (var writer =
+        new MarcRemoteStorageWriter(marcRecordIndexService.indexingWriter(content, PATH))) {
+      for (var i = 0; i < 50; i++) {
+        writer.writeRecord(marcRecord(i));
+      }
+    }
+    var captor = ArgumentCaptor.forClass(InputStream.class);
+    verify(remoteFileSystemClient).put(captor.capture(), eq(INDEX_PATH));
+    var index = captor.getValue().readAllBytes();
+    assertThat(MarcRecordIndex.read(new ByteArrayInputStream(index)).size()).isEqualTo(50);
+    mockFile(content.toString().getBytes(UTF_8), index);
+
+    var records = marcRecordIndexService.findRecords(PATH, List.of("hrid42", "hrid7", "none"));
+
+    assertThat(records).containsOnlyKeys("hrid7", "hrid42");
+    assertThat(title(records.get("hrid7"))).isEqualTo("Заглавие 7");
+    assertThat(title(records.get("hrid42"))).isEqualTo("Заглавие 42");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldIndexLocalFile() {
+    var localFile =
+        Files.copy(Path.of("src/test/resources/files/preview.mrc"), tempDir.resolve("file.mrc"));
+    var expected = readAll(Files.readAllBytes(localFile));
+    marcRecordIndexService.indexLocalFile(localFile, PATH);
+
+    var captor = ArgumentCaptor.forClass(InputStream.class);
+    verify(remoteFileSystemClient).put(captor.capture(), eq(INDEX_PATH));
+    mockFile(Files.readAllBytes(localFile), captor.getValue().readAllBytes());
+    var last = expected.getLast();
+
+    var records = marcRecordIndexService.findRecords(PATH, List.of(last.getControlNumber()));
+
+    assertThat(records.get(last.getControlNumber())).hasToString(last.toString());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadWholeFileIfIndexDoesNotMatchFile() {
+    var builder = new MarcRecordIndex.Builder();
+    var indexed = marcBytes(marcRecord(1), marcRecord(2));
+    builder.accept(indexed, 0, indexed.length);
+    when(remoteFileSystemClient.exists(INDEX_PATH)).thenReturn(true);
+    when(remoteFileSystemClient.get(INDEX_PATH))
+        .thenReturn(new ByteArrayInputStream(builder.build().toBytes()));
+    var actual = marcBytes(marcRecord(3), marcRecord(2));
+    when(remoteFileSystemClient.get(PATH))
+        .thenAnswer(invocation -> new ByteArrayInputStream(actual));
+
+    var records = marcRecordIndexService.findRecords(PATH, List.of("hrid2"));
+
+    assertThat(title(records.get("hrid2"))).isEqualTo("Заглавие 2");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadWholeFileWithoutIndex() {
+    var bytes = marcBytes(marcRecord(1), marcRecord(2), marcRecord(3));
+    when(remoteFileSystemClient.get(PATH)).thenReturn(new ByteArrayInputStream(bytes));
+
+    var records = marcRecordIndexService.findRecords(PATH, List.of("hrid3", "hrid1"));
+
+    assertThat(records).containsOnlyKeys("hrid1", "hrid3");
+    verify(remoteFileSystemClient, never()).get(INDEX_PATH);
+  }
+
+  private void mockFile(byte[] content, byte[] index) {
+    when(remoteFileSystemClient.exists(INDEX_PATH)).thenReturn(true);
+    when(remoteFileSystemClient.get(INDEX_PATH)).thenReturn(new ByteArrayInputStream(index));
+    when(remoteFileSystemClient.get(PATH)).thenReturn(new ByteArrayInputStream(content));
+  }
+
+  private static Record marcRecord(int number) {
+    var factory = MarcFactory.newInstance();
+    var marcRecord = factory.newRecord("00000nam a2200000 a 4500");
+    marcRecord.addVariableField(factory.newControlField("001", "hrid" + number));
+    var title = factory.newDataField("245", '1', '0');
+    title.addSubfield(factory.newSubfield('a', "Заглавие " + number));
+    marcRecord.addVariableField(title);
+    return marcRecord;
+  }
+
+  @SneakyThrows
+  private static byte[] marcBytes(Record... marcRecords) {
+    var content = new StringWriter();
+    try (var writer = new MarcRemoteStorageWriter(content)) {
+      for (var marcRecord : marcRecords) {
+        writer.writeRecord(marcRecord);
+      }
+    }
+    return content.toString().getBytes(UTF_8);
+  }
+
+  private static List<Record> readAll(byte[] bytes) {
+    var reader = new MarcStreamReader(new ByteArrayInputStream(bytes));
+    var records = new ArrayList<Record>();
+    while (reader.hasNext()) {
+      records.add(reader.next());
+    }
+    return records;
+  }
+
+  private static String title(Record marcRecord) {
+    return ((DataField) marcRecord.getVariableField("245")).getSubfield('a').getData();
+  }
+}
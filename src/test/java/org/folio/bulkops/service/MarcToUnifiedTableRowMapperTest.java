@@ -3,8 +3,12 @@ package org.folio.bulkops.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_CLASSIFICATION;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_ELECTRONIC_ACCESS;
+import static org.folio.bulkops.domain.bean.Instance.INSTANCE_HRID;
+import static org.folio.bulkops.domain.bean.Instance.INSTANCE_INDEX_TITLE;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_PUBLICATION;
+import static org.folio.bulkops.domain.bean.Instance.INSTANCE_RESOURCE_TITLE;
 import static org.folio.bulkops.domain.bean.Instance.INSTANCE_SUBJECT;
+import static org.folio.bulkops.service.Marc21ReferenceProvider.GENERAL_NOTE;
 import static org.folio.bulkops.util.Constants.DATE_TIME_CONTROL_FIELD;
 import static org.folio.bulkops.util.Constants.NON_PRINTING_DELIMITER;
 import static org.mockito.Mockito.when;
@@ -420,4 +424,27 @@ class MarcToUnifiedTableRowMapperTest extends BaseTest {
             "Publisher;Publisher role;Place of publication;Publication date\n"
                 + "Penguin Books;-;London;2023");
   }
+
+  @Test
+  void shouldMapRecordByCompiledLayoutOnlyToColumnsOfLayout() {
+    var marcRecord = new RecordImpl();
+    marcRecord.setLeader(new LeaderImpl("04295nam a22004573a 4500"));
+    marcRecord.addVariableField(new ControlFieldImpl("001", "in00000000001"));
+    var title = new DataFieldImpl("245", '1', '0');
+    title.addSubfield(new SubfieldImpl('a', "Sample title"));
+    marcRecord.addVariableField(title);
+    var note = new DataFieldImpl("500", ' ', ' ');
+    note.addSubfield(new SubfieldImpl('a', "Sample note"));
+    marcRecord.addVariableField(note);
+    var headers = List.of(INSTANCE_HRID, INSTANCE_RESOURCE_TITLE, GENERAL_NOTE);
+
+    var layout = marcToUnifiedTableRowMapper.compile(headers);
+    var rowData = marcToUnifiedTableRowMapper.processRecord(marcRecord, layout, false);
+
+    assertThat(layout.positionOf(GENERAL_NOTE)).isEqualTo(2);
+    assertThat(layout.positionOf(INSTANCE_INDEX_TITLE)).isEqualTo(-1);
+    assertThat(rowData).containsExactly("in00000000001", "Sample title", "Sample note");
+    assertThat(marcToUnifiedTableRowMapper.processRecord(marcRecord, headers, false))
+        .isEqualTo(rowData);
+  }
 }
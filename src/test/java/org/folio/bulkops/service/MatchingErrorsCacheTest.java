@@ -0,0 +1,98 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingErrorsCacheTest {
+  private static final String PATH = "operation/matching-errors.csv";
+  private static final String CONTENT =
+      "ERROR,1,No match found\nWARNING,2,Duplicate entry\nERROR,3,Invalid, format\n"
+          + "ERROR,4,Не найдено\r\nWARNING,5,Last line";
+
+  @Mock private RemoteFileSystemClient remoteFileSystemClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @InjectMocks private MatchingErrorsCache matchingErrorsCache;
+
+  private final UUID operationId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(matchingErrorsCache, "maxSize", 10L);
+    ReflectionTestUtils.setField(matchingErrorsCache, "expireAfterAccessMinutes", 10L);
+    matchingErrorsCache.init();
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+  }
+
+  @AfterEach
+  void tearDown() {
+    matchingErrorsCache.shutdown();
+  }
+
+  @Test
+  void shouldReadPagesOfAllLinesFromIndexedCopy() throws IOException {
+    mockFile();
+
+    var first = matchingErrorsCache.read(operationId, PATH, null, 0, 2);
+    var second = matchingErrorsCache.read(operationId, PATH, null, 2, 2);
+    var last = matchingErrorsCache.read(operationId, PATH, null, 4, 2);
+
+    assertThat(first.total()).isEqualTo(5);
+    assertThat(first.lines())
+        .containsExactly("ERROR,1,No match found", "WARNING,2,Duplicate entry");
+    assertThat(second.lines()).containsExactly("ERROR,3,Invalid, format", "ERROR,4,Не найдено");
+    assertThat(last.lines()).containsExactly("WARNING,5,Last line");
+    verify(remoteFileSystemClient, times(1)).get(PATH);
+  }
+
+  @Test
+  void shouldReadPagesOfLinesOfErrorType() throws IOException {
+    mockFile();
+
+    var errors = matchingErrorsCache.read(operationId, PATH, "ERROR", 1, 10);
+    var warnings = matchingErrorsCache.read(operationId, PATH, "WARNING", 0, 1);
+    var unknown = matchingErrorsCache.read(operationId, PATH, "OTHER", 0, 10);
+
+    assertThat(errors.total()).isEqualTo(3);
+    assertThat(errors.lines()).containsExactly("ERROR,3,Invalid, format", "ERROR,4,Не найдено");
+    assertThat(warnings.total()).isEqualTo(2);
+    assertThat(warnings.lines()).containsExactly("WARNING,2,Duplicate entry");
+    assertThat(unknown.total()).isZero();
+    assertThat(unknown.lines()).isEmpty();
+  }
+
+  @Test
+  void shouldDownloadFileAgainOnceOperationIsEvicted() throws IOException {
+    mockFile();
+    matchingErrorsCache.read(operationId, PATH, null, 0, 1);
+
+    matchingErrorsCache.evict(operationId);
+    var lines = matchingErrorsCache.read(operationId, PATH, "WARNING", 1, 1);
+
+    assertThat(lines.lines()).containsExactly("WARNING,5,Last line");
+    verify(remoteFileSystemClient, times(2)).get(PATH);
+  }
+
+  private void mockFile() {
+    when(remoteFileSystemClient.get(PATH))
+        .thenAnswer(
+            invocation -> new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+  }
+}
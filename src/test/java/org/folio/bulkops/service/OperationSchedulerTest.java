@@ -0,0 +1,116 @@
+package org.folio.bulkops.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OperationSchedulerTest {
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private OperationScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    scheduler.shutdown();
+  }
+
+  @Test
+  void shouldLimitConcurrentOperationsPerTenant() {
+    scheduler = scheduler(4, 2);
+    var started = new AtomicInteger();
+    for (var i = 0; i < 4; i++) {
+      scheduler.execute("diku", blocking(started::incrementAndGet));
+    }
+    scheduler.execute("college", blocking(started::incrementAndGet));
+
+    await().atMost(5, SECONDS).untilAsserted(() -> assertThat(started.get()).isEqualTo(3));
+    assertThat(scheduler.getRunning()).isEqualTo(3);
+    assertThat(scheduler.getQueueDepth("diku")).isEqualTo(2);
+    assertThat(scheduler.getQueueDepth("college")).isZero();
+    assertThat(gauge("queued", "diku")).isEqualTo(2);
+    assertThat(gauge("running", null)).isEqualTo(3);
+
+    release.countDown();
+
+    await().atMost(5, SECONDS).untilAsserted(() -> assertThat(scheduler.getRunning()).isZero());
+    assertThat(started.get()).isEqualTo(5);
+    assertThat(gauge("queued", "diku")).isZero();
+    assertThat(gauge("queued", "college")).isZero();
+  }
+
+  @Test
+  void shouldLetTenantsTakeTurns() {
+    scheduler = scheduler(1, 1);
+    List<String> executed = new CopyOnWriteArrayList<>();
+    scheduler.execute("diku", blocking(() -> executed.add("diku-1")));
+    await().atMost(5, SECONDS).until(() -> scheduler.getRunning() == 1);
+    scheduler.execute("diku", () -> executed.add("diku-2"));
+    scheduler.execute("diku", () -> executed.add("diku-3"));
+    scheduler.execute("college", () -> executed.add("college-1"));
+
+    assertThat(scheduler.getQueueDepth("diku") + scheduler.getQueueDepth("college")).isEqualTo(3);
+    release.countDown();
+
+    await().atMost(5, SECONDS).until(() -> executed.size() == 4);
+    assertThat(executed).containsExactly("diku-1", "diku-2", "college-1", "diku-3");
+  }
+
+  @Test
+  void shouldUseTenantOfExecutionContextAndSurviveFailedOperations() {
+    scheduler = scheduler(1, 1);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var executed = new AtomicInteger();
+
+    scheduler.execute(
+        () -> {
+          throw new IllegalStateException("Failed");
+        });
+    scheduler.execute(executed::incrementAndGet);
+
+    await().atMost(5, SECONDS).until(() -> executed.get() == 1);
+    assertThat(gauge("wait.average", null)).isNotNegative();
+    assertThat(gauge("wait.longest", null)).isZero();
+  }
+
+  private OperationScheduler scheduler(int workers, int maxConcurrentPerTenant) {
+    var operationScheduler = new OperationScheduler(folioExecutionContext, meterRegistry);
+    ReflectionTestUtils.setField(operationScheduler, "workers", workers);
+    ReflectionTestUtils.setField(
+        operationScheduler, "maxConcurrentPerTenant", maxConcurrentPerTenant);
+    operationScheduler.init();
+    return operationScheduler;
+  }
+
+  private double gauge(String name, String tenantId) {
+    var search = meterRegistry.get("bulkops.operations." + name);
+    return (tenantId == null ? search : search.tag("tenant", tenantId)).gauge().value();
+  }
+
+  private Runnable blocking(Runnable runnable) {
+    return () -> {
+      runnable.run();
+      awaitRelease();
+    };
+  }
+
+  @SneakyThrows
+  private void awaitRelease() {
+    release.await();
+  }
+}
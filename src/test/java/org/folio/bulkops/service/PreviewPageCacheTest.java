@@ -0,0 +1,64 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.bulkops.domain.dto.BulkOperationStep;
+import org.folio.bulkops.domain.dto.OperationStatusType;
+import org.folio.bulkops.domain.dto.UnifiedTable;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PreviewPageCacheTest {
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private final AtomicInteger builtPages = new AtomicInteger();
+  private PreviewPageCache previewPageCache;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    previewPageCache = new PreviewPageCache(folioExecutionContext);
+    ReflectionTestUtils.setField(previewPageCache, "maxSize", 10L);
+    ReflectionTestUtils.setField(previewPageCache, "expireAfterWriteMinutes", 2L);
+    previewPageCache.init();
+  }
+
+  @Test
+  void shouldMissPagesOfPreviousRunOfOperation() {
+    var operation =
+        BulkOperation.builder()
+            .id(UUID.randomUUID())
+            .status(OperationStatusType.REVIEW_CHANGES)
+            .linkToModifiedRecordsJsonPreviewFile("preview.json")
+            .endTime(LocalDateTime.now())
+            .build();
+
+    getEditPreview(operation);
+    getEditPreview(operation);
+    assertThat(builtPages).hasValue(1);
+
+    // another instance ran the data modification again and stored the new state
+    operation.setEndTime(operation.getEndTime().plusMinutes(1));
+    getEditPreview(operation);
+    assertThat(builtPages).hasValue(2);
+  }
+
+  private UnifiedTable getEditPreview(BulkOperation operation) {
+    return previewPageCache.get(
+        operation,
+        BulkOperationStep.EDIT,
+        0,
+        10,
+        () -> {
+          builtPages.incrementAndGet();
+          return new UnifiedTable();
+        });
+  }
+}
@@ -11,6 +11,7 @@ import static org.folio.bulkops.domain.dto.OperationStatusType.FAILED;
 import static org.folio.bulkops.domain.dto.OperationStatusType.RETRIEVING_RECORDS;
 import static org.folio.bulkops.domain.dto.OperationStatusType.SAVED_IDENTIFIERS;
 import static org.folio.bulkops.service.QueryService.QUERY_FILENAME_TEMPLATE;
+import static org.folio.bulkops.util.Constants.SRS_MISSING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -35,6 +36,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.StringWriter;
@@ -43,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -54,14 +57,18 @@ import org.folio.bulkops.domain.dto.ApproachType;
 import org.folio.bulkops.domain.dto.EntityType;
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
+import org.folio.bulkops.exception.MarcValidationException;
 import org.folio.bulkops.exception.UploadFromQueryException;
 import org.folio.bulkops.processor.permissions.check.PermissionsValidator;
 import org.folio.bulkops.repository.BulkOperationRepository;
+import org.folio.bulkops.service.SrsService.MarcJson;
 import org.folio.bulkops.util.CsvHelper;
 import org.folio.bulkops.util.FqmContentFetcher;
 import org.folio.querytool.domain.dto.QueryDetails;
 import org.folio.querytool.domain.dto.QueryDetails.StatusEnum;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -70,6 +77,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
@@ -85,11 +93,18 @@ class QueryServiceTest {
   @Mock private FqmContentFetcher fqmContentFetcher;
   @Mock private LocalReferenceDataService localReferenceDataService;
   @Mock private SrsService srsService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private BulkOperationMetrics bulkOperationMetrics;
 
+  private OperationScheduler operationScheduler;
   private QueryService service;
 
   @BeforeEach
   void setUp() {
+    operationScheduler = new OperationScheduler(folioExecutionContext, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(operationScheduler, "workers", 2);
+    ReflectionTestUtils.setField(operationScheduler, "maxConcurrentPerTenant", 2);
+    operationScheduler.init();
     ObjectMapper objectMapper = new ObjectMapper();
     service =
         new QueryService(
@@ -98,10 +113,19 @@ class QueryServiceTest {
             objectMapper,
             permissionsValidator,
             remoteFileSystemClient,
+            new JsonRecordIndexService(remoteFileSystemClient),
+            new MarcRecordIndexService(remoteFileSystemClient),
             queryClient,
             fqmContentFetcher,
             localReferenceDataService,
-            srsService);
+            srsService,
+            operationScheduler,
+            bulkOperationMetrics);
+  }
+
+  @AfterEach
+  void tearDown() {
+    operationScheduler.shutdown();
   }
 
   @Test
@@ -157,10 +181,14 @@ class QueryServiceTest {
             mapper,
             permissionsValidator,
             remoteFileSystemClient,
+            new JsonRecordIndexService(remoteFileSystemClient),
+            new MarcRecordIndexService(remoteFileSystemClient),
             queryClient,
             fqmContentFetcher,
             localReferenceDataService,
-            srsService);
+            srsService,
+            operationScheduler,
+            bulkOperationMetrics);
 
     var contents = new ArrayList<BulkOperationExecutionContent>();
     try (MockedStatic<CsvHelper> csvHelper = mockStatic(CsvHelper.class)) {
@@ -189,6 +217,84 @@ class QueryServiceTest {
     verify(bulkOperationRepository).updateExecutionCounters(operation.getId(), 2, 2);
   }
 
+  @Test
+  void processAsyncQueryResult_shouldFetchMarcRecordsOfMarcInstancesInBatch() throws Exception {
+    var operation =
+        BulkOperation.builder()
+            .id(randomUUID())
+            .entityType(EntityType.INSTANCE_MARC)
+            .approach(QUERY)
+            .build();
+    var resultMrcWriter = new StringWriter();
+    when(remoteFileSystemClient.writer(anyString())).thenReturn(new StringWriter());
+    when(remoteFileSystemClient.writer("matched.mrc")).thenReturn(resultMrcWriter);
+
+    var rec1 = mock(BulkOperationsEntity.class);
+    when(rec1.getRecordBulkOperationEntity()).thenReturn(rec1);
+    when(rec1.getId()).thenReturn("id-1");
+    when(rec1.isMarcInstance()).thenReturn(true);
+    var rec2 = mock(BulkOperationsEntity.class);
+    when(rec2.getRecordBulkOperationEntity()).thenReturn(rec2);
+    when(rec2.getId()).thenReturn("id-2");
+    when(rec2.isMarcInstance()).thenReturn(true);
+
+    @SuppressWarnings("unchecked")
+    var iterator = (MappingIterator<BulkOperationsEntity>) mock(MappingIterator.class);
+    when(iterator.hasNext()).thenReturn(true, true, false);
+    when(iterator.next()).thenReturn(rec1, rec2);
+    var mapper = mock(ObjectMapper.class);
+    when(mapper.createParser(any(InputStream.class))).thenReturn(mock(JsonParser.class));
+    when(mapper.readValues(any(JsonParser.class), any(Class.class))).thenReturn(iterator);
+    when(mapper.writeValueAsString(any())).thenReturn("{}");
+    when(srsService.getMarcJsonStrings(List.of("id-1", "id-2")))
+        .thenReturn(
+            Map.of(
+                "id-1",
+                new MarcJson("marc-1", null),
+                "id-2",
+                new MarcJson(null, new MarcValidationException(SRS_MISSING))));
+
+    var queryService =
+        new QueryService(
+            bulkOperationRepository,
+            errorService,
+            mapper,
+            permissionsValidator,
+            remoteFileSystemClient,
+            new JsonRecordIndexService(remoteFileSystemClient),
+            new MarcRecordIndexService(remoteFileSystemClient),
+            queryClient,
+            fqmContentFetcher,
+            localReferenceDataService,
+            srsService,
+            operationScheduler,
+            bulkOperationMetrics);
+    ReflectionTestUtils.setField(queryService, "srsBatchSize", 100);
+
+    var contents = new ArrayList<BulkOperationExecutionContent>();
+    try (MockedStatic<CsvHelper> csvHelper = mockStatic(CsvHelper.class)) {
+      queryService.processAsyncQueryResult(
+          new ByteArrayInputStream("[]".getBytes()),
+          "trigger.csv",
+          "matched.csv",
+          "matched.json",
+          "matched.mrc",
+          operation,
+          contents);
+    }
+
+    assertThat(resultMrcWriter.toString()).isEqualTo("marc-1");
+    assertThat(operation.getMatchedNumOfRecords()).isEqualTo(1);
+    assertThat(contents)
+        .singleElement()
+        .satisfies(
+            content -> {
+              assertThat(content.getIdentifier()).isEqualTo("id-2");
+              assertThat(content.getErrorMessage()).isEqualTo(SRS_MISSING);
+            });
+    verify(srsService, never()).getMarcJsonString(anyString());
+  }
+
   @Test
   void processAsyncQueryResult_shouldUpdateCountersEvery100Records_andAtEnd() throws Exception {
     var bulkOperationId = randomUUID();
@@ -244,10 +350,14 @@ class QueryServiceTest {
             mapper,
             permissionsValidator,
             remoteFileSystemClient,
+            new JsonRecordIndexService(remoteFileSystemClient),
+            new MarcRecordIndexService(remoteFileSystemClient),
             queryClient,
             fqmContentFetcher,
             localReferenceDataService,
-            srsService);
+            srsService,
+            operationScheduler,
+            bulkOperationMetrics);
 
     var contents = new ArrayList<BulkOperationExecutionContent>();
     try (MockedStatic<CsvHelper> csvHelper = mockStatic(CsvHelper.class)) {
@@ -316,10 +426,14 @@ class QueryServiceTest {
             mapper,
             permissionsValidator,
             remoteFileSystemClient,
+            new JsonRecordIndexService(remoteFileSystemClient),
+            new MarcRecordIndexService(remoteFileSystemClient),
             queryClient,
             fqmContentFetcher,
             localReferenceDataService,
-            srsService);
+            srsService,
+            operationScheduler,
+            bulkOperationMetrics);
 
     var contents = new ArrayList<BulkOperationExecutionContent>();
     try (MockedStatic<CsvHelper> csvHelper = mockStatic(CsvHelper.class)) {
@@ -6,23 +6,28 @@ import static org.folio.bulkops.util.Constants.MSG_NO_ADMINISTRATIVE_CHANGE_REQU
 import static org.folio.bulkops.util.Constants.MSG_NO_CHANGE_REQUIRED;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 import org.folio.bulkops.BaseTest;
+import org.folio.bulkops.domain.bean.BulkOperationsEntity;
 import org.folio.bulkops.domain.bean.ExtendedInstance;
 import org.folio.bulkops.domain.bean.ExtendedItem;
 import org.folio.bulkops.domain.bean.HoldingsRecord;
@@ -99,6 +104,62 @@ class RecordUpdateServiceTest extends BaseTest {
         .saveError(any(UUID.class), anyString(), anyString(), eq(ErrorType.WARNING));
   }
 
+  @Test
+  void shouldMapFailuresOfBatchUpdateToRecordErrors() {
+    var holdingsId = "cb475fa9-aa07-4bbf-8382-b0b1426f9a20";
+    var unchanged = Item.builder().id(UUID.randomUUID().toString()).barcode("barcode1").build();
+    var updated = Item.builder().id(UUID.randomUUID().toString()).barcode("barcode2").build();
+    var conflicting =
+        Item.builder()
+            .id(UUID.randomUUID().toString())
+            .barcode("barcode3")
+            .holdingsRecordId(holdingsId)
+            .build();
+    var originals =
+        List.<BulkOperationsEntity>of(
+            ExtendedItem.builder().entity(unchanged).build(),
+            ExtendedItem.builder().entity(updated).build(),
+            ExtendedItem.builder().entity(conflicting).build());
+    var modified =
+        List.<BulkOperationsEntity>of(
+            ExtendedItem.builder().entity(unchanged).build(),
+            ExtendedItem.builder().entity(updated.withItemLevelCallNumber("call number")).build(),
+            ExtendedItem.builder()
+                .entity(conflicting.withItemLevelCallNumber("call number"))
+                .build());
+    var operation =
+        BulkOperation.builder()
+            .id(UUID.randomUUID())
+            .identifierType(IdentifierType.ID)
+            .entityType(EntityType.ITEM)
+            .build();
+
+    when(ruleService.getRules(any(UUID.class))).thenReturn(new BulkOperationRuleCollection());
+    when(holdingsStorageClient.getHoldingById(holdingsId))
+        .thenReturn(
+            HoldingsRecord.builder().instanceId("f3e3bd0f-1d95-4f25-9df1-7eb39a2957e3").build());
+    doReturn(Arrays.asList(null, new RecordConflictException("Conflict")))
+        .when(itemUpdateProcessor)
+        .updateRecords(anyList(), any(BulkOperationRuleCollection.class));
+
+    var results = recordUpdateService.updateEntities(originals, modified, operation);
+
+    assertEquals(originals.get(0), results.get(0).entity());
+    assertEquals(modified.get(1), results.get(1).entity());
+    assertNull(results.get(1).exception());
+    assertNull(results.get(2).entity());
+    assertThat(results.get(2).exception(), Matchers.instanceOf(OptimisticLockingException.class));
+    assertEquals(1, operation.getCommittedNumOfRecords());
+    verify(itemUpdateProcessor, times(0))
+        .updateRecord(any(ExtendedItem.class), any(BulkOperationRuleCollection.class));
+    verify(errorService)
+        .saveError(
+            operation.getId(),
+            unchanged.getIdentifier(IdentifierType.ID),
+            MSG_NO_CHANGE_REQUIRED,
+            ErrorType.WARNING);
+  }
+
   @Test
   void testUpdateNonModifiedEntity() {
     var original = Item.builder().id(UUID.randomUUID().toString()).barcode("barcode").build();
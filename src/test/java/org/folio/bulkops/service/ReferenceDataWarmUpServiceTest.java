@@ -0,0 +1,131 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.bulkops.client.LoanTypeClient;
+import org.folio.bulkops.client.LocationClient;
+import org.folio.bulkops.client.MaterialTypeClient;
+import org.folio.bulkops.client.StatisticalCodeClient;
+import org.folio.bulkops.configs.CacheProperties;
+import org.folio.bulkops.configs.TenantScopedKeyGenerator;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.ItemLocationCollection;
+import org.folio.bulkops.domain.bean.LoanTypeCollection;
+import org.folio.bulkops.domain.bean.MaterialTypeCollection;
+import org.folio.bulkops.domain.bean.StatisticalCode;
+import org.folio.bulkops.domain.bean.StatisticalCodeCollection;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class ReferenceDataWarmUpServiceTest {
+
+  private LocationClient locationClient;
+  private LoanTypeClient loanTypeClient;
+  private MaterialTypeClient materialTypeClient;
+  private StatisticalCodeClient statisticalCodeClient;
+  private FolioExecutionContext folioExecutionContext;
+  private ConcurrentMapCacheManager cacheManager;
+  private TenantScopedKeyGenerator keyGenerator;
+  private ReferenceDataWarmUpService referenceDataWarmUpService;
+
+  @BeforeEach
+  void setUp() {
+    locationClient = mock(LocationClient.class);
+    loanTypeClient = mock(LoanTypeClient.class);
+    materialTypeClient = mock(MaterialTypeClient.class);
+    statisticalCodeClient = mock(StatisticalCodeClient.class);
+    folioExecutionContext = mock(FolioExecutionContext.class);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    cacheManager = new ConcurrentMapCacheManager();
+    keyGenerator =
+        new TenantScopedKeyGenerator(folioExecutionContext, mock(FolioModuleMetadata.class));
+    referenceDataWarmUpService =
+        new ReferenceDataWarmUpService(
+            locationClient,
+            loanTypeClient,
+            materialTypeClient,
+            statisticalCodeClient,
+            cacheManager,
+            keyGenerator,
+            new CacheProperties(),
+            folioExecutionContext,
+            mock(FolioModuleMetadata.class));
+
+    when(locationClient.getByQuery(anyString(), anyLong()))
+        .thenReturn(
+            new ItemLocationCollection()
+                .withLocations(List.of(ItemLocation.builder().id("location").build())));
+    when(loanTypeClient.getByQuery(anyString(), anyLong())).thenReturn(new LoanTypeCollection());
+    when(materialTypeClient.getByQuery(anyString(), anyLong()))
+        .thenReturn(new MaterialTypeCollection());
+    when(statisticalCodeClient.getByQuery(anyString(), anyLong()))
+        .thenReturn(
+            new StatisticalCodeCollection()
+                .withStatisticalCodes(List.of(StatisticalCode.builder().id("code").build())));
+  }
+
+  @Test
+  void shouldPutWholeTablesUnderKeysOfCachedLookups() {
+    referenceDataWarmUpService.warmUp("diku");
+
+    var locations = cacheManager.getCache("locations");
+    assertThat(locations.get(keyGenerator.keyFor("location", "diku"))).isNotNull();
+    assertThat(locations.get(keyGenerator.keyFor("location", null))).isNotNull();
+    var statisticalCodes = cacheManager.getCache("holdingsStatisticalCodeNames");
+    assertThat(statisticalCodes.get(keyGenerator.keyFor("code", "diku"))).isNotNull();
+  }
+
+  @Test
+  void shouldPutEntriesOfMemberTenantForLookupsFromCentralTenant() {
+    when(folioExecutionContext.getTenantId()).thenReturn("central");
+
+    referenceDataWarmUpService.warmUp("member");
+
+    var locations = cacheManager.getCache("locations");
+    assertThat(locations.get(keyGenerator.keyFor("location", "member"))).isNotNull();
+    assertThat(locations.get(keyGenerator.keyInTenant("member", "location", "member")))
+        .isNotNull();
+    assertThat(locations.get(keyGenerator.keyInTenant("member", "location", null))).isNotNull();
+    assertThat(locations.get(keyGenerator.keyFor("location", null))).isNull();
+  }
+
+  @Test
+  void shouldNotReloadTablesWarmedUpRecently() {
+    referenceDataWarmUpService.warmUp("diku");
+    referenceDataWarmUpService.warmUp("diku");
+
+    verify(locationClient, times(1)).getByQuery(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldRetryAfterFailure() {
+    when(loanTypeClient.getByQuery(anyString(), anyLong()))
+        .thenThrow(new IllegalStateException("unavailable"))
+        .thenReturn(new LoanTypeCollection());
+
+    referenceDataWarmUpService.warmUp("diku");
+    referenceDataWarmUpService.warmUp("diku");
+
+    verify(locationClient, times(2)).getByQuery(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldSkipUsers() {
+    referenceDataWarmUpService.warmUp(BulkOperation.builder().entityType(EntityType.USER).build());
+
+    verifyNoInteractions(locationClient);
+  }
+}
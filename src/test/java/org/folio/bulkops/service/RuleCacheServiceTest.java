@@ -0,0 +1,45 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RuleCacheServiceTest {
+  @Mock private RuleService ruleService;
+  @InjectMocks private RuleCacheService ruleCacheService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(ruleCacheService, "maxSize", 10L);
+    ReflectionTestUtils.setField(ruleCacheService, "expireAfterAccessMinutes", 10L);
+    ruleCacheService.init();
+  }
+
+  @Test
+  void shouldReadRulesOnceUntilEvicted() {
+    var operationId = UUID.randomUUID();
+    var rules = new BulkOperationRuleCollection().totalRecords(1);
+    when(ruleService.getRules(operationId)).thenReturn(rules);
+
+    assertThat(ruleCacheService.getRules(operationId)).isSameAs(rules);
+    assertThat(ruleCacheService.getRules(operationId)).isSameAs(rules);
+    verify(ruleService, times(1)).getRules(operationId);
+
+    ruleCacheService.evict(operationId);
+    ruleCacheService.getRules(operationId);
+
+    verify(ruleService, times(2)).getRules(operationId);
+  }
+}
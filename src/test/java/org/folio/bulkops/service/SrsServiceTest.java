@@ -2,10 +2,16 @@ package org.folio.bulkops.service;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.bulkops.domain.dto.OperationStatusType.COMPLETED_WITH_ERRORS;
 import static org.folio.bulkops.util.Constants.ERROR_COMMITTING_FILE_NAME_PREFIX;
+import static org.folio.bulkops.util.Constants.MULTIPLE_SRS;
+import static org.folio.bulkops.util.Constants.SRS_MISSING;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,12 +24,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.folio.bulkops.BaseTest;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.client.SrsClient;
 import org.folio.bulkops.domain.bean.GetParsedRecordsBatchRequestBody;
 import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.exception.MarcValidationException;
 import org.folio.bulkops.repository.BulkOperationExecutionRepository;
 import org.folio.bulkops.repository.BulkOperationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +46,8 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 
 class SrsServiceTest extends BaseTest {
   @MockitoBean private SrsClient srsClient;
@@ -89,9 +99,60 @@ class SrsServiceTest extends BaseTest {
     srsService.retrieveMarcInstancesFromSrs(List.of(UUID.randomUUID().toString()), operation);
 
     verify(marcWriter).writeRecord(any(Record.class));
-    verify(bulkOperationRepository, times(2)).save(bulkOperationCaptor.capture());
-    assertThat(bulkOperationCaptor.getAllValues().get(1).getStatus())
-        .isEqualTo(COMPLETED_WITH_ERRORS);
+    verify(bulkOperationRepository).incrementProcessedNumOfRecords(operationId, 1);
+    verify(bulkOperationRepository).save(bulkOperationCaptor.capture());
+    assertThat(bulkOperationCaptor.getValue().getStatus()).isEqualTo(COMPLETED_WITH_ERRORS);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFetchRecordsInChunksAndWriteThemInOrder() {
+    var operationId = UUID.randomUUID();
+    var operation = BulkOperation.builder().id(operationId).build();
+    var instanceIds = IntStream.range(0, 250).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+    var marcWriter = Mockito.mock(MarcRemoteStorageWriter.class);
+    when(remoteFileSystemClient.marcWriter(anyString())).thenReturn(marcWriter);
+    var response =
+        objectMapper.readTree(
+            Files.readString(Path.of("src/test/resources/files/srs_batch_response.json")));
+    when(srsClient.getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              var ids =
+                  invocation
+                      .<GetParsedRecordsBatchRequestBody>getArgument(0)
+                      .getConditions()
+                      .getIds();
+              var copy = (ObjectNode) response.deepCopy();
+              var srsRecord = (ObjectNode) copy.get("records").get(0);
+              var content = (ObjectNode) srsRecord.get("parsedRecord").get("content");
+              ((ObjectNode) content.get("fields").get(0)).put("001", ids.getFirst());
+              // first chunks complete last
+              Thread.sleep(instanceIds.size() - instanceIds.indexOf(ids.getFirst()));
+              return copy;
+            });
+    when(executionRepository.findByBulkOperationId(any(UUID.class))).thenReturn(Optional.empty());
+    when(instanceReferenceService.getAllInstanceNoteTypes()).thenReturn(Collections.emptyList());
+    when(marcToUnifiedTableRowMapperHelper.fetchContributorType(any(DataField.class)))
+        .thenReturn(EMPTY);
+    when(remoteFileSystemClient.writer(anyString())).thenReturn(new StringWriter());
+
+    srsService.retrieveMarcInstancesFromSrs(instanceIds, operation);
+
+    verify(srsClient, times(3))
+        .getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class));
+    var recordCaptor = ArgumentCaptor.forClass(Record.class);
+    verify(marcWriter, times(3)).writeRecord(recordCaptor.capture());
+    assertThat(recordCaptor.getAllValues())
+        .extracting(Record::getControlNumber)
+        .containsExactly(instanceIds.get(0), instanceIds.get(100), instanceIds.get(200));
+    var processedCaptor = ArgumentCaptor.forClass(Integer.class);
+    verify(bulkOperationRepository, atLeastOnce())
+        .incrementProcessedNumOfRecords(eq(operationId), processedCaptor.capture());
+    assertThat(processedCaptor.getAllValues().stream().mapToInt(Integer::intValue).sum())
+        .isEqualTo(250);
+    verify(bulkOperationRepository, never()).findById(operationId);
   }
 
   @SneakyThrows
@@ -111,4 +172,52 @@ class SrsServiceTest extends BaseTest {
 
     assertThat(operation.getLinkToCommittedRecordsMarcFile()).isNull();
   }
+
+  @Test
+  @SneakyThrows
+  void shouldFetchMarcRecordsOfInstancesWithOneRequest() {
+    var instanceId = "04f60709-25b3-40a1-b880-79ee2def69eb";
+    var missingInstanceId = UUID.randomUUID().toString();
+    when(srsClient.getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class)))
+        .thenReturn(
+            objectMapper.readTree(
+                Files.readString(Path.of("src/test/resources/files/srs_batch_response.json"))));
+
+    var marcJsons = srsService.getMarcJsonStrings(List.of(instanceId, missingInstanceId));
+
+    assertThat(marcJsons.get(instanceId).get()).isNotEmpty();
+    var missing = marcJsons.get(missingInstanceId);
+    assertThatThrownBy(missing::get)
+        .isInstanceOf(MarcValidationException.class)
+        .hasMessage(SRS_MISSING);
+    verify(srsClient).getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReportMultipleRecordsOfInstance() {
+    var instanceId = "04f60709-25b3-40a1-b880-79ee2def69eb";
+    var response =
+        (ObjectNode)
+            objectMapper.readTree(
+                Files.readString(Path.of("src/test/resources/files/srs_batch_response.json")));
+    var records = (ArrayNode) response.get("records");
+    records.add(((ObjectNode) records.get(0).deepCopy()).put("id", "second"));
+    when(srsClient.getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class)))
+        .thenReturn(response);
+
+    var marcJson = srsService.getMarcJsonStrings(List.of(instanceId)).get(instanceId);
+
+    assertThatThrownBy(marcJson::get)
+        .isInstanceOf(MarcValidationException.class)
+        .hasMessage(MULTIPLE_SRS.formatted("5b0423d5-42e2-47a8-92d1-0a30c03388de, second"));
+  }
+
+  @Test
+  void shouldReturnNoMarcRecordsIfBatchRequestFails() {
+    when(srsClient.getParsedRecordsInBatch(any(GetParsedRecordsBatchRequestBody.class)))
+        .thenThrow(new IllegalStateException("unavailable"));
+
+    assertThat(srsService.getMarcJsonStrings(List.of(UUID.randomUUID().toString()))).isEmpty();
+  }
 }
@@ -0,0 +1,91 @@
+package org.folio.bulkops.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.util.Constants.NON_PRINTING_DELIMITER;
+import static org.folio.bulkops.util.Constants.UTF_8_BOM;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Test;
+
+class CsvDownloadStreamsTest {
+
+  @Test
+  void shouldRemoveAllOccurrencesOfByte() throws IOException {
+    var content = "\u001fa\u001f\u001fb,c\u001f\n\u001f".getBytes(StandardCharsets.UTF_8);
+
+    try (var in =
+        CsvDownloadStreams.withoutByte(
+            new ByteArrayInputStream(content), (byte) NON_PRINTING_DELIMITER)) {
+      assertThat(in.readAllBytes())
+          .isEqualTo(ArrayUtils.removeAllOccurrences(content, (byte) NON_PRINTING_DELIMITER));
+    }
+  }
+
+  @Test
+  void shouldReadContentOfRemovedBytesOnlyAsEndOfStream() throws IOException {
+    var content = new byte[] {(byte) NON_PRINTING_DELIMITER, (byte) NON_PRINTING_DELIMITER};
+
+    try (var in =
+        CsvDownloadStreams.withoutByte(
+            new ByteArrayInputStream(content), (byte) NON_PRINTING_DELIMITER)) {
+      assertThat(in.read(new byte[2], 0, 2)).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void shouldPrependUtf8BomOnlyIfMissing() throws IOException {
+    try (var in = CsvDownloadStreams.withUtf8Bom(new ByteArrayInputStream("a".getBytes()))) {
+      assertThat(in.readAllBytes()).isEqualTo(ArrayUtils.addAll(UTF_8_BOM, (byte) 'a'));
+    }
+    var withBom = ArrayUtils.addAll(UTF_8_BOM, (byte) 'a');
+    try (var in = CsvDownloadStreams.withUtf8Bom(new ByteArrayInputStream(withBom))) {
+      assertThat(in.readAllBytes()).isEqualTo(withBom);
+    }
+    try (var in = CsvDownloadStreams.withUtf8Bom(InputStream.nullInputStream())) {
+      assertThat(in.readAllBytes()).isEqualTo(UTF_8_BOM);
+    }
+  }
+
+  @Test
+  void shouldTransformLinesInOrderAsTheyAreRead() throws IOException {
+    var headers = new ArrayList<Boolean>();
+    var content = "h1,h2\n\"a\nb\",c\nd,e\n";
+
+    try (var in =
+        CsvDownloadStreams.transformLines(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+            (line, header) -> {
+              headers.add(header);
+              return new String[] {line[1], line[0].replace("\n", " ")};
+            })) {
+      assertThat(headers).isEmpty();
+      assertThat((char) in.read()).isEqualTo('h');
+      assertThat(headers).containsExactly(true);
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo("2,h1\nc,a b\ne,d\n");
+    }
+    assertThat(headers).containsExactly(true, false, false);
+  }
+
+  @Test
+  void shouldCloseSourceWithTransformedStream() throws IOException {
+    var closed = new AtomicBoolean();
+    var source =
+        new ByteArrayInputStream("a".getBytes()) {
+          @Override
+          public void close() {
+            closed.set(true);
+          }
+        };
+
+    CsvDownloadStreams.transformLines(source, (line, header) -> line).close();
+
+    assertThat(closed).isTrue();
+  }
+}
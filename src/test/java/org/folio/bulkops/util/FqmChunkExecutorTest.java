@@ -0,0 +1,183 @@
+package org.folio.bulkops.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FqmChunkExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private FqmChunkExecutor fqmChunkExecutor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    fqmChunkExecutor = new FqmChunkExecutor(meterRegistry);
+    ReflectionTestUtils.setField(fqmChunkExecutor, "poolSize", 4);
+    fqmChunkExecutor.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fqmChunkExecutor.shutdown();
+  }
+
+  @Test
+  void shouldHandOverChunksInOrder() throws Exception {
+    var results = new ArrayList<Integer>();
+
+    fqmChunkExecutor.execute(chunks(50, new AtomicInteger()), 3, 5, true, results::add);
+
+    assertThat(results).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    assertThat(meterRegistry.get("bulkops.fqm.chunks.latency").timer().count()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldHandOverAllChunksInCompletionOrder() throws Exception {
+    var results = new ArrayList<Integer>();
+
+    fqmChunkExecutor.execute(chunks(50, new AtomicInteger()), 3, 5, false, results::add);
+
+    assertThat(results)
+        .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 50).boxed().toList());
+  }
+
+  @Test
+  void shouldNotRequestMoreChunksThanPrefetchWindow() throws Exception {
+    var requested = new AtomicInteger();
+    var consumed = new AtomicInteger();
+    var maxAhead = new AtomicInteger();
+
+    fqmChunkExecutor.execute(
+        chunks(30, requested),
+        4,
+        2,
+        true,
+        i -> {
+          maxAhead.accumulateAndGet(requested.get() - consumed.get(), Math::max);
+          consumed.incrementAndGet();
+        });
+
+    assertThat(consumed.get()).isEqualTo(30);
+    assertThat(maxAhead.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldLimitParallelChunksOfOperation() throws Exception {
+    var inProgress = new AtomicInteger();
+    var maxInProgress = new AtomicInteger();
+    List<Callable<Integer>> chunks =
+        IntStream.range(0, 20)
+            .<Callable<Integer>>mapToObj(
+                i ->
+                    () -> {
+                      maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                      sleep(5);
+                      inProgress.decrementAndGet();
+                      return i;
+                    })
+            .toList();
+
+    fqmChunkExecutor.execute(chunks, 2, 10, true, i -> {});
+
+    assertThat(maxInProgress.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldRethrowChunkFailure() {
+    List<Callable<Integer>> chunks =
+        List.of(
+            () -> 1,
+            () -> {
+              throw new IllegalStateException("failure");
+            },
+            () -> 3);
+
+    var exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> fqmChunkExecutor.execute(chunks, 2, 2, true, i -> {}));
+    assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRunChunksInContextOfSubmittingTenant() throws Exception {
+    // stands in for the FOLIO context, which pool threads inherit from the thread creating them
+    var tenant = new InheritableThreadLocal<String>();
+    ReflectionTestUtils.setField(fqmChunkExecutor, "poolSize", 1);
+    fqmChunkExecutor.shutdown();
+    fqmChunkExecutor.init();
+    var tenants = List.of("tenant_a", "tenant_b", "tenant_a");
+    var seenTenants = new ArrayList<String>();
+
+    try (var contextManager = mockStatic(FolioExecutionScopeExecutionContextManager.class)) {
+      contextManager
+          .when(
+              () ->
+                  FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext(
+                      any()))
+          .thenAnswer(
+              invocation -> {
+                Runnable task = invocation.getArgument(0);
+                var submittingTenant = tenant.get();
+                return (Runnable)
+                    () -> {
+                      var previous = tenant.get();
+                      tenant.set(submittingTenant);
+                      try {
+                        task.run();
+                      } finally {
+                        tenant.set(previous);
+                      }
+                    };
+              });
+
+      for (var tenantId : tenants) {
+        tenant.set(tenantId);
+        List<Callable<String>> chunks =
+            IntStream.range(0, 3).<Callable<String>>mapToObj(i -> tenant::get).toList();
+        fqmChunkExecutor.execute(chunks, 1, 2, true, seenTenants::add);
+      }
+    }
+
+    var expectedTenants =
+        tenants.stream().flatMap(tenantId -> Collections.nCopies(3, tenantId).stream()).toList();
+    assertThat(seenTenants).containsExactlyElementsOf(expectedTenants);
+  }
+
+  private List<Callable<Integer>> chunks(int count, AtomicInteger requested) {
+    return IntStream.range(0, count)
+        .<Callable<Integer>>mapToObj(
+            i ->
+                () -> {
+                  requested.incrementAndGet();
+                  sleep(ThreadLocalRandom.current().nextInt(3));
+                  return i;
+                })
+        .toList();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
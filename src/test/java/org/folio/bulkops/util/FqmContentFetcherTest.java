@@ -50,8 +50,10 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,6 +64,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 import org.apache.commons.collections4.SetUtils;
 import org.folio.bulkops.BaseTest;
@@ -173,6 +178,46 @@ class FqmContentFetcherTest {
     }
   }
 
+  @Test
+  void fetchShouldHandOverFirstChunkBeforeLastChunkIsFetched() throws IOException {
+    final var queryId = randomUUID();
+    var data = getMockedQueryDetails(0, Integer.MAX_VALUE);
+    final var total = data.getContent().size();
+    final var lastOffset = ((total + chunkSize - 1) / chunkSize - 1) * chunkSize;
+    var firstChunkRead = new CountDownLatch(1);
+    var lastChunkWaited = new AtomicBoolean();
+
+    when(folioExecutionContext.getTenantId()).thenReturn("test_tenant");
+    IntStream.range(0, (total + chunkSize - 1) / chunkSize - 1)
+        .forEach(
+            chunk ->
+                when(queryClient.getQuery(queryId, chunk * chunkSize, chunkSize))
+                    .thenReturn(getMockedQueryDetails(chunk * chunkSize, chunkSize)));
+    when(queryClient.getQuery(queryId, lastOffset, total - lastOffset))
+        .thenAnswer(
+            invocation -> {
+              lastChunkWaited.set(firstChunkRead.await(10, TimeUnit.SECONDS));
+              return getMockedQueryDetails(lastOffset, total - lastOffset);
+            });
+    var bulkOperation =
+        BulkOperation.builder()
+            .id(randomUUID())
+            .fqlQueryId(queryId)
+            .entityType(EntityType.INSTANCE)
+            .build();
+
+    try (var reader =
+        new BufferedReader(
+            new InputStreamReader(
+                fqmContentFetcher.fetch(bulkOperation, total, new ArrayList<>()),
+                StandardCharsets.UTF_8))) {
+      assertThat(reader.readLine()).isNotEmpty();
+      firstChunkRead.countDown();
+      assertThat(reader.lines().count()).isEqualTo(total - 1);
+    }
+    assertThat(lastChunkWaited).isTrue();
+  }
+
   @Test
   void fetchShouldProcessMultipleIdentifiersChunksInParallel() throws IOException {
 
@@ -350,11 +395,10 @@ class FqmContentFetcherTest {
             .fqlQueryId(queryId)
             .build();
 
-    Exception exception =
-        assertThrows(
-            FqmFetcherException.class,
-            () -> fqmContentFetcher.fetch(bulkOperation, total, contents));
+    var is = fqmContentFetcher.fetch(bulkOperation, total, contents);
+    Exception exception = assertThrows(IOException.class, is::readAllBytes);
 
+    assertThat(exception.getCause()).isInstanceOf(FqmFetcherException.class);
     assertThat(exception.getCause().getCause()).isInstanceOf(HttpServerErrorException.class);
   }
 
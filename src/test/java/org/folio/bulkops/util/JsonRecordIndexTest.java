@@ -0,0 +1,76 @@
+package org.folio.bulkops.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonRecordIndexTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3, 5, 9, 10, 11, 24})
+  @SneakyThrows
+  void shouldPositionAtRequestedRecord(int recordNumber) {
+    var records = records(25);
+    var bytes = new ByteArrayOutputStream();
+    var indexRef = new AtomicReference<JsonRecordIndex>();
+    try (var writer =
+        new JsonRecordIndexingWriter(new OutputStreamWriter(bytes, UTF_8), 10, indexRef::set)) {
+      for (var rec : records) {
+        writer.write(rec + "\n");
+      }
+    }
+    var index = JsonRecordIndex.read(new ByteArrayInputStream(indexRef.get().toBytes()));
+
+    var content = bytes.toByteArray();
+    var fromOffset =
+        new String(
+                content,
+                (int) index.offsetOf(recordNumber),
+                content.length - (int) index.offsetOf(recordNumber),
+                UTF_8)
+            .split("\n");
+
+    assertThat(index.getNumberOfRecords()).isEqualTo(25);
+    assertThat(fromOffset[(int) index.recordsToSkip(recordNumber)])
+        .isEqualTo(records.get(recordNumber));
+  }
+
+  @Test
+  void shouldIndexRecordsWithoutTrailingLineBreak() {
+    var builder = new JsonRecordIndex.Builder(1);
+    builder.accept("{\"a\":1}\n{\"a\":2}".getBytes(UTF_8), 0, 15);
+
+    var index = builder.build();
+
+    assertThat(index.getNumberOfRecords()).isEqualTo(2);
+    assertThat(index.offsetOf(1)).isEqualTo(8);
+    assertThat(index.recordsToSkip(1)).isZero();
+  }
+
+  @Test
+  void shouldStartFromBeginningForEmptyIndex() {
+    var index = new JsonRecordIndex.Builder().build();
+
+    assertThat(index.offsetOf(7)).isZero();
+    assertThat(index.recordsToSkip(7)).isEqualTo(7);
+  }
+
+  private List<String> records(int count) {
+    var records = new ArrayList<String>();
+    for (var i = 0; i < count; i++) {
+      // multibyte characters and surrogate pairs must be accounted as UTF-8
+      records.add("{\"id\":" + i + ",\"title\":\"Zürich € 📚 " + i + "\"}");
+    }
+    return records;
+  }
+}